@@ -13,6 +13,12 @@ plugins {
      */
     id("com.github.johnrengelman.shadow") version "8.1.1"
     id("org.danilopianini.gradle-java-qa") version "1.96.0"
+
+    /*
+     * Adds the "jmh" source set (src/jmh/java) and the task to run its benchmarks.
+     * Launch the "jmh" task: the results will be found in build/results/jmh
+     */
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 java {
@@ -48,6 +54,59 @@ tasks.test {
     useJUnitPlatform()
 }
 
+jmh {
+    // Records the allocation rate of every benchmark
+    profilers.add("gc")
+    warmupIterations.set(3)
+    iterations.set(5)
+    fork.set(1)
+    resultFormat.set("JSON")
+}
+
+/*
+ * Computes again the policy of the optimal CPU for the standard deck.
+ * Launch the "generatePolicy" task after changing the rules of a round.
+ */
+tasks.register<JavaExec>("generatePolicy") {
+    classpath = sourceSets.main.get().runtimeClasspath
+    mainClass.set("jvmt.model.simulation.impl.PolicyBits")
+    args("src/main/resources/policy/standard.policy")
+    maxHeapSize = "2g"
+}
+
+/*
+ * Tunes the weights of the heuristic CPUs, resuming from the last checkpoint.
+ * Launch the "tuneCpu" task: the presets will be found in build/tuning/presets.properties
+ */
+tasks.register<JavaExec>("tuneCpu") {
+    classpath = sourceSets.main.get().runtimeClasspath
+    mainClass.set("jvmt.model.simulation.impl.WeightTunerImpl")
+    args("build/tuning/presets.properties", "build/tuning/checkpoints")
+}
+
+/*
+ * Trains the strategy of the rounds by counterfactual regret minimization.
+ * Launch the "trainCfr" task: the strategy will be found in build/cfr/standard.strategy
+ */
+tasks.register<JavaExec>("trainCfr") {
+    classpath = sourceSets.main.get().runtimeClasspath
+    mainClass.set("jvmt.model.simulation.impl.CfrTrainerImpl")
+    args("build/cfr/standard.strategy")
+    doFirst {
+        mkdir("build/cfr")
+    }
+}
+
+/*
+ * Learns again the table of the learned CPU by self-play, printing the episodes per second.
+ * Launch the "trainQLearning" task after changing the rules of a round.
+ */
+tasks.register<JavaExec>("trainQLearning") {
+    classpath = sourceSets.main.get().runtimeClasspath
+    mainClass.set("jvmt.model.simulation.impl.QLearningTrainerImpl")
+    args("src/main/resources/qlearning/standard.qtable")
+}
+
 tasks {
     jar {
         enabled = false
@@ -0,0 +1,92 @@
+package jvmt.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import jvmt.model.card.api.Deck;
+import jvmt.model.card.impl.DeckFactoryImpl;
+import jvmt.model.common.api.RandomSource;
+import jvmt.model.common.impl.SplittableRandomSource;
+
+/**
+ * Benchmarks the creation of the decks.
+ * 
+ * @author Emir Wanes Aouioua
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DeckBenchmark {
+
+    /**
+     * The random source of the benchmarks that don't depend on the number of
+     * players or on the size of the deck, so that they run only once.
+     */
+    @State(Scope.Thread)
+    public static class RandomState {
+
+        private static final long SEED = 42L;
+
+        private RandomSource random;
+
+        /**
+         * Creates the random source.
+         */
+        @Setup(Level.Trial)
+        public void setUp() {
+            this.random = new SplittableRandomSource(SEED);
+        }
+    }
+
+    /**
+     * Builds the standard deck, as done at every game start.
+     * 
+     * @param state the state of the benchmark.
+     * @return the built deck.
+     */
+    @Benchmark
+    public Deck standardDeck(final RandomState state) {
+        return new DeckFactoryImpl(state.random).standardDeck();
+    }
+
+    /**
+     * Builds a deck of the size of the benchmark.
+     * 
+     * @param state the state of the benchmark.
+     * @return the built deck.
+     */
+    @Benchmark
+    public Deck sizedDeck(final ModelState state) {
+        return state.newDeck();
+    }
+
+    /**
+     * Creates a shuffled copy of the deck, as done at every round start.
+     * 
+     * @param state the state of the benchmark.
+     * @return the shuffled copy.
+     */
+    @Benchmark
+    public Deck shuffledCopy(final ModelState state) {
+        return state.getDeck().getShuffledCopy(state.getRandom());
+    }
+
+    /**
+     * Creates a shuffled copy of the compact version of the deck, as done at
+     * every round start of the simulated games.
+     * 
+     * @param state the state of the benchmark.
+     * @return the shuffled copy.
+     */
+    @Benchmark
+    public Deck compactShuffledCopy(final ModelState state) {
+        return state.getCompactDeck().getShuffledCopy(state.getRandom());
+    }
+}
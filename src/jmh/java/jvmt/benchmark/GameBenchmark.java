@@ -0,0 +1,39 @@
+package jvmt.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import jvmt.model.simulation.api.GameRecord;
+import jvmt.model.simulation.impl.HeadlessGameRunner;
+
+/**
+ * Benchmarks a whole game played by CPUs only, from the creation of the
+ * settings to the leaderboard. Run it with 8 players to measure the heaviest
+ * game allowed.
+ * 
+ * @author Emir Wanes Aouioua
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class GameBenchmark {
+
+    private final HeadlessGameRunner runner = new HeadlessGameRunner();
+
+    /**
+     * Plays a whole game.
+     * 
+     * @param state the state of the benchmark.
+     * @return the record of the game.
+     */
+    @Benchmark
+    public GameRecord fullGame(final ModelState state) {
+        return this.runner.play(state.newSettings(), 0);
+    }
+}
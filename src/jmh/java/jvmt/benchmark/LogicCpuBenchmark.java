@@ -0,0 +1,57 @@
+package jvmt.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import jvmt.model.player.api.LogicCpu;
+import jvmt.model.player.api.PlayerChoice;
+import jvmt.model.player.impl.LogicCpuImpl;
+
+/**
+ * Benchmarks the choice of a CPU on a round in progress.
+ * 
+ * @author Emir Wanes Aouioua
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class LogicCpuBenchmark {
+
+    /**
+     * The logic of the benchmarked CPU.
+     */
+    @State(Scope.Thread)
+    public static class CpuState {
+
+        private LogicCpu logic;
+
+        /**
+         * Creates the logic of the CPU.
+         * 
+         * @param model the state of the model.
+         */
+        @Setup(Level.Trial)
+        public void setUp(final ModelState model) {
+            this.logic = new LogicCpuImpl(model.getSettings());
+        }
+    }
+
+    /**
+     * Makes the CPU choose whether to stay or to leave.
+     * 
+     * @param model the state of the model.
+     * @param cpu   the CPU.
+     * @return the choice of the CPU.
+     */
+    @Benchmark
+    public PlayerChoice cpuChoice(final ModelState model, final CpuState cpu) {
+        return cpu.logic.cpuChoice(model.getMidRoundState());
+    }
+}
@@ -0,0 +1,199 @@
+package jvmt.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import jvmt.model.card.api.Card;
+import jvmt.model.card.api.Deck;
+import jvmt.model.card.impl.CompactDeck;
+import jvmt.model.card.impl.DeckFactoryImpl;
+import jvmt.model.card.impl.DeckImpl;
+import jvmt.model.card.impl.TrapCard;
+import jvmt.model.common.api.RandomSource;
+import jvmt.model.common.impl.SplittableRandomSource;
+import jvmt.model.game.api.GameSettings;
+import jvmt.model.game.impl.GameSettingsImpl;
+import jvmt.model.player.api.CpuDifficulty;
+import jvmt.model.player.api.Player;
+import jvmt.model.round.api.RoundState;
+import jvmt.model.round.api.roundeffect.endcondition.EndCondition;
+import jvmt.model.round.api.roundeffect.gemmodifier.GemModifier;
+import jvmt.model.round.impl.RoundStateImpl;
+import jvmt.model.round.impl.roundeffect.endcondition.EndConditionFactoryImpl;
+import jvmt.model.round.impl.roundeffect.gemmodifier.GemModifierFactoryImpl;
+import jvmt.utils.CommonUtils;
+
+/**
+ * The state shared by all the benchmarks of the model.
+ * <p>
+ * Every benchmark runs with every combination of number of players and size
+ * of the deck. Decks bigger than the standard one are made of several standard
+ * decks. All the randomness comes from a fixed seed, so every run measures the
+ * same games.
+ * </p>
+ * 
+ * @author Emir Wanes Aouioua
+ */
+@State(Scope.Thread)
+public class ModelState {
+
+    /**
+     * The number of cards of the standard deck.
+     */
+    public static final int STANDARD_DECK_SIZE = 35;
+
+    private static final long SEED = 42L;
+
+    @Param({ "3", "5", "8" })
+    private int players;
+
+    @Param({ "35", "70", "140" })
+    private int deckSize;
+
+    private RandomSource random;
+    private Deck deck;
+    private CompactDeck compactDeck;
+    private EndCondition endCondition;
+    private GemModifier gemModifier;
+    private GameSettings settings;
+    private RoundState midRoundState;
+
+    /**
+     * Builds the deck, the settings and a round state in the middle of a round.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        if (this.deckSize % STANDARD_DECK_SIZE != 0) {
+            throw new IllegalArgumentException("The deck size must be a multiple of " + STANDARD_DECK_SIZE);
+        }
+        this.random = new SplittableRandomSource(SEED);
+        this.endCondition = new EndConditionFactoryImpl().standard();
+        this.gemModifier = new GemModifierFactoryImpl().standard();
+        this.deck = this.newDeck();
+        this.compactDeck = CompactDeck.of(this.deck, this.random);
+        this.settings = this.newSettings();
+        this.midRoundState = this.newMidRoundState();
+    }
+
+    /**
+     * Creates a new deck of {@code deckSize} cards.
+     * 
+     * @return a new deck.
+     */
+    public Deck newDeck() {
+        final DeckFactoryImpl factory = new DeckFactoryImpl(this.random);
+        final List<Card> cards = new ArrayList<>(this.deckSize);
+        for (int copy = 0; copy < this.deckSize / STANDARD_DECK_SIZE; copy++) {
+            final Deck standard = factory.standardDeck();
+            while (standard.hasNext()) {
+                cards.add(standard.next());
+            }
+        }
+        return new DeckImpl(cards);
+    }
+
+    /**
+     * Creates new settings for a game of {@code players} CPUs, played with the
+     * deck of this state.
+     * 
+     * @return new settings, with new players.
+     */
+    public GameSettings newSettings() {
+        return new GameSettingsImpl(List.of(), this.players,
+                this.deck,
+                this.endCondition,
+                this.gemModifier,
+                CpuDifficulty.NORMAL,
+                GameSettingsImpl.MIN_ROUNDS,
+                this.random.split());
+    }
+
+    /**
+     * Creates a round state where about half of the deck has been drawn, one
+     * trap per type at most, so that the round is not over.
+     * 
+     * @return a round state in the middle of a round.
+     */
+    private RoundState newMidRoundState() {
+        final List<Player> roundPlayers = CommonUtils.generatePlayerList(this.players);
+        final RoundState state = new RoundStateImpl(roundPlayers, this.deck.getShuffledCopy(this.random));
+        final Deck path = state.getDeck();
+        while (path.numberOfRemainingCards() > this.deckSize / 2) {
+            final Card card = path.next();
+            if (!(card instanceof final TrapCard trap) || state.getTrapOccurrences(trap.getTypeTrap()) == 0) {
+                state.addCardToPath(card);
+            }
+        }
+        return state;
+    }
+
+    /**
+     * Returns the random source of the benchmarks.
+     * 
+     * @return the random source.
+     */
+    public RandomSource getRandom() {
+        return this.random;
+    }
+
+    /**
+     * Returns the deck of {@code deckSize} cards, never drawn from.
+     * 
+     * @return the deck.
+     */
+    public Deck getDeck() {
+        return this.deck;
+    }
+
+    /**
+     * Returns the deck of {@code deckSize} cards stored as a
+     * {@link CompactDeck}, never drawn from.
+     * 
+     * @return the compact deck.
+     */
+    public CompactDeck getCompactDeck() {
+        return this.compactDeck;
+    }
+
+    /**
+     * Returns the standard end condition.
+     * 
+     * @return the end condition.
+     */
+    public EndCondition getEndCondition() {
+        return this.endCondition;
+    }
+
+    /**
+     * Returns the settings of a CPU only game.
+     * 
+     * @return the settings.
+     */
+    public GameSettings getSettings() {
+        return this.settings;
+    }
+
+    /**
+     * Returns a round state in the middle of a round. It must not be modified.
+     * 
+     * @return the round state.
+     */
+    public RoundState getMidRoundState() {
+        return this.midRoundState;
+    }
+
+    /**
+     * Returns the number of players of the benchmark.
+     * 
+     * @return the number of players.
+     */
+    public int getPlayers() {
+        return this.players;
+    }
+}
@@ -0,0 +1,29 @@
+package jvmt.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+
+/**
+ * Benchmarks the standard end condition on a round in progress.
+ * 
+ * @author Emir Wanes Aouioua
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RoundEffectBenchmark {
+
+    /**
+     * Checks whether the round is over.
+     * 
+     * @param state the state of the benchmark.
+     * @return whether the round is over.
+     */
+    @Benchmark
+    public boolean isEndConditionMet(final ModelState state) {
+        return state.getEndCondition().isEndConditionMet(state.getMidRoundState());
+    }
+}
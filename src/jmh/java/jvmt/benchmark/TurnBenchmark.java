@@ -0,0 +1,107 @@
+package jvmt.benchmark;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import jvmt.model.player.api.Player;
+import jvmt.model.round.api.Round;
+import jvmt.model.round.api.turn.Turn;
+import jvmt.model.round.impl.RoundImpl;
+import jvmt.utils.CommonUtils;
+
+/**
+ * Benchmarks the first turn of a round: the draw phase followed by the end of
+ * the turn, with nobody leaving.
+ * <p>
+ * A single turn takes less than a microsecond, too little to prepare a new
+ * round before every call without measuring the preparation too. So every
+ * iteration plays a batch of {@value #TURNS} turns, prepared beforehand, and
+ * reports the time of the whole batch.
+ * </p>
+ * 
+ * @author Emir Wanes Aouioua
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(batchSize = TurnBenchmark.TURNS)
+@Measurement(batchSize = TurnBenchmark.TURNS)
+public class TurnBenchmark {
+
+    /**
+     * The number of turns played by every iteration.
+     */
+    public static final int TURNS = 5000;
+
+    /**
+     * The first turns of new rounds, prepared before every iteration so that
+     * every turn starts from an empty path.
+     */
+    @State(Scope.Thread)
+    public static class TurnState {
+
+        private List<Player> players;
+        private final Turn[] turns = new Turn[TURNS];
+        private int next;
+
+        /**
+         * Creates the players of the rounds.
+         * 
+         * @param model the state of the model.
+         */
+        @Setup(Level.Trial)
+        public void setUpPlayers(final ModelState model) {
+            this.players = CommonUtils.generatePlayerList(model.getPlayers());
+        }
+
+        /**
+         * Starts the rounds of the next batch and their first turns.
+         * 
+         * @param model the state of the model.
+         */
+        @Setup(Level.Iteration)
+        public void setUpTurns(final ModelState model) {
+            for (int i = 0; i < TURNS; i++) {
+                final Round round = new RoundImpl(this.players,
+                        model.getDeck().getShuffledCopy(model.getRandom()),
+                        model.getSettings().getRoundEffect());
+                this.turns[i] = round.next();
+            }
+            this.next = 0;
+        }
+
+        /**
+         * Returns the next prepared turn.
+         * 
+         * @return a turn that hasn't been played.
+         */
+        Turn nextTurn() {
+            return this.turns[this.next++];
+        }
+    }
+
+    /**
+     * Plays a whole turn.
+     * 
+     * @param state the prepared turns.
+     * @return the played turn.
+     */
+    @Benchmark
+    public Turn drawAndEndTurn(final TurnState state) {
+        final Turn turn = state.nextTurn();
+        turn.executeDrawPhase();
+        turn.endTurn(Set.of());
+        return turn;
+    }
+}
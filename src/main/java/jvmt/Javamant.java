@@ -2,6 +2,7 @@ package jvmt;
 
 import jvmt.controller.MainControllerImpl;
 import jvmt.controller.api.MainController;
+import jvmt.view.page.utility.AssetPreloader;
 
 /**
  * Entry point of the Javamant application.
@@ -21,11 +22,14 @@ public final class Javamant {
     /**
      * Starts the Javamant application by creating a {@link MainController}
      * instance and calling {@link MainController#startApp()}.
+     * The images of the application start being decoded in the background
+     * before the pages are built.
      * 
      * @param args command line arguments. Not used in this application.
      */
     public static void main(final String[] args) {
-        final MainController ctrl = new MainControllerImpl();
+        final AssetPreloader preloader = AssetPreloader.start(AssetPreloader.IMAGES_ROOT);
+        final MainController ctrl = new MainControllerImpl(preloader);
         ctrl.startApp();
     }
 }
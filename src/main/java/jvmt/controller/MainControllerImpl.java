@@ -2,6 +2,7 @@ package jvmt.controller;
 
 import java.util.EnumMap;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 
 import jvmt.controller.api.MainController;
@@ -22,6 +23,7 @@ import jvmt.view.page.impl.SwingGameplayPage;
 import jvmt.view.page.impl.SwingHomePage;
 import jvmt.view.page.impl.SwingLeaderboardPage;
 import jvmt.view.page.impl.SwingSettingsPage;
+import jvmt.view.page.utility.AssetPreloader;
 import jvmt.view.window.api.Window;
 import jvmt.view.window.impl.SwingWindow;
 
@@ -71,11 +73,17 @@ public class MainControllerImpl implements MainController {
      * Constructs the {@code MainControllerImpl}.
      * Initializes the window, the navigator, the pages
      * and the controllers that do not require user input.
+     * 
+     * @param preloader the preloader of the images, which the gameplay page
+     *                  waits for before the game starts.
+     * 
+     * @throws NullPointerException if {@code preloader} is null.
      */
-    public MainControllerImpl() {
+    public MainControllerImpl(final AssetPreloader preloader) {
+        Objects.requireNonNull(preloader);
         this.window = new SwingWindow();
         this.navigator = new PageNavigatorImpl(this.window);
-        this.pages = this.createPages();
+        this.pages = this.createPages(preloader);
         this.setupNavigator();
         this.createStartupControllers();
     }
@@ -84,13 +92,14 @@ public class MainControllerImpl implements MainController {
      * Creates all the pages in the application and returns them
      * as a map linking each {@link PageId} to a specific page.
      * 
+     * @param preloader the preloader of the images.
      * @return a map containing all the application pages.
      */
-    private Map<PageId, Page> createPages() {
+    private Map<PageId, Page> createPages(final AssetPreloader preloader) {
         return Map.of(
                 PageId.MENU, new SwingHomePage(),
                 PageId.SETTINGS, new SwingSettingsPage(),
-                PageId.GAMEPLAY, new SwingGameplayPage((SwingWindow) this.window),
+                PageId.GAMEPLAY, new SwingGameplayPage((SwingWindow) this.window, preloader),
                 PageId.LEADERBOARD, new SwingLeaderboardPage());
     }
 
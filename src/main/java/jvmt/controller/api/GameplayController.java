@@ -1,10 +1,12 @@
 package jvmt.controller.api;
 
 import java.awt.Image;
+import java.net.URL;
 import java.util.List;
 import java.util.Optional;
 
 import jvmt.controller.impl.GameplayControllerImpl;
+import jvmt.model.round.api.RiskEstimate;
 import jvmt.view.window.api.Window;
 
 /**
@@ -65,6 +67,14 @@ public interface GameplayController {
      */
     int getPathGems();
 
+    /**
+     * Getter for the risk of drawing the next card of the current round.
+     * 
+     * @return the estimate of the next card, assuming that the other players
+     *         stay.
+     */
+    RiskEstimate getNextCardRisk();
+
     /**
      * Getter for the game's gem modifier description.
      * 
@@ -107,6 +117,14 @@ public interface GameplayController {
      */
     Optional<Image> getDrawnCardImage();
 
+    /**
+     * Getter for the image resource of the drawn card, which identifies the
+     * image in a {@link jvmt.view.page.utility.CardImageCache}.
+     * 
+     * @return the image resource of the drawn card.
+     */
+    URL getDrawnCardImagePath();
+
     /**
      * Executes the turn's draw phase.
      */
@@ -129,6 +147,30 @@ public interface GameplayController {
      */
     void executeDecisionPhase(Window toBlockWindow);
 
+    /**
+     * Checks if all the players of the game are CPUs.
+     * 
+     * @return true if there are no real players in the game.
+     */
+    boolean areAllPlayersCpus();
+
+    /**
+     * Plays a whole turn of a game made only of CPUs: the draw phase, the
+     * decision phase, the end of the round if it's over and the advance to the
+     * next turn if the game isn't over.
+     * <p>
+     * Unlike the single phases, it doesn't refresh the page, so it can be
+     * called outside the event dispatch thread as long as the page doesn't
+     * read the game at the same time.
+     * </p>
+     * 
+     * @return the image resource of the card drawn in the turn.
+     * 
+     * @throws IllegalStateException if there are real players in the game or
+     *                               if the game is over.
+     */
+    URL playCpuTurn();
+
     /**
      * Method for checking if the game can continue.
      * It checks if another turn or another round exists.
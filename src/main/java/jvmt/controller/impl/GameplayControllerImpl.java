@@ -1,15 +1,14 @@
 package jvmt.controller.impl;
 
 import java.awt.Image;
-import java.io.IOException;
+import java.net.URL;
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 
-import javax.imageio.ImageIO;
-
 import jvmt.controller.api.GameAwarePageController;
 import jvmt.controller.api.GameplayController;
 import jvmt.controller.navigator.api.PageId;
@@ -21,11 +20,13 @@ import jvmt.model.player.api.PlayerChoice;
 import jvmt.model.player.impl.PlayerCpu;
 import jvmt.model.round.api.Round;
 import jvmt.model.round.api.RoundPlayersManager;
+import jvmt.model.round.api.RiskEstimate;
 import jvmt.model.round.api.RoundState;
 import jvmt.model.round.api.turn.Turn;
 import jvmt.view.modal.api.Modal;
 import jvmt.view.modal.impl.SwingPlayerChoiceModal;
 import jvmt.view.page.api.ControllerAwarePage;
+import jvmt.view.page.utility.CardImageCache;
 import jvmt.view.window.api.Window;
 import jvmt.view.window.impl.SwingWindow;
 
@@ -123,7 +124,7 @@ public class GameplayControllerImpl extends GameAwarePageController implements G
      */
     @Override
     public int getRedeemableRelicsNumber() {
-        return this.currentRound.getState().getRedeemableRelics().size();
+        return this.currentRound.getState().getRedeemableRelicsCount();
     }
 
     /**
@@ -134,6 +135,17 @@ public class GameplayControllerImpl extends GameAwarePageController implements G
         return this.currentRound.getState().getPathGems();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public RiskEstimate getNextCardRisk() {
+        return this.getGame()
+                .getSettings()
+                .getRiskOracle()
+                .estimate(this.currentRound.getState());
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -187,7 +199,7 @@ public class GameplayControllerImpl extends GameAwarePageController implements G
      */
     @Override
     public int getDrawnCardsNumber() {
-        return this.currentRound.getState().getDrawCards().size();
+        return this.currentRound.getState().getDrawnCardsCount();
     }
 
     /**
@@ -195,14 +207,16 @@ public class GameplayControllerImpl extends GameAwarePageController implements G
      */
     @Override
     public Optional<Image> getDrawnCardImage() {
+        return CardImageCache.getImage(this.getDrawnCardImagePath()).map(Image.class::cast);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public URL getDrawnCardImagePath() {
         final Card card = this.currentTurn.getDrawnCard().get();
-        Optional<Image> img;
-        try {
-            img = Optional.of(ImageIO.read(card.getImagePath()));
-        } catch (final IOException e) {
-            img = Optional.empty();
-        }
-        return img;
+        return card.getImagePath();
     }
 
     /**
@@ -228,6 +242,49 @@ public class GameplayControllerImpl extends GameAwarePageController implements G
     @Override
     public void executeDecisionPhase(final Window toBlockWindow) {
         Objects.requireNonNull(toBlockWindow);
+        this.decide(Optional.of(toBlockWindow));
+        this.getPage().refresh();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean areAllPlayersCpus() {
+        return this.getGame().getSettings().getNumberOfRealPlayers() == 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public URL playCpuTurn() {
+        if (!this.areAllPlayersCpus()) {
+            throw new IllegalStateException("Only the games without real players can be played by the CPUs.");
+        }
+        if (!this.canGameContinue()) {
+            throw new IllegalStateException("The game is over.");
+        }
+        this.currentTurn.executeDrawPhase();
+        final URL drawnCard = this.getDrawnCardImagePath();
+        this.decide(Optional.empty());
+        if (!this.canRoundContinue()) {
+            this.endRound();
+        }
+        if (this.canGameContinue()) {
+            this.nextTurn();
+        }
+        return drawnCard;
+    }
+
+    /**
+     * Executes the decision phase, asking the real players for their choice
+     * through a modal that blocks the given window.
+     * 
+     * @param toBlockWindow the main application window, needed only if there
+     *                      are real players.
+     */
+    private void decide(final Optional<Window> toBlockWindow) {
         if (!this.canRoundContinue()) { // If the round is over the decision phase won't be executed.
             return;
         }
@@ -235,16 +292,20 @@ public class GameplayControllerImpl extends GameAwarePageController implements G
         final RoundPlayersManager pManager = state.getRoundPlayersManager();
         final List<Player> activePlayers = pManager.getActivePlayers();
         final Set<Player> exitingThisTurn = new HashSet<>();
+        // All the CPUs choose at once, on the round state at the start of the phase.
+        final List<PlayerCpu> activeCpus = new ArrayList<>();
+        for (final Player player : activePlayers) {
+            if (Objects.requireNonNull(player) instanceof final PlayerCpu playerCpu) {
+                activeCpus.add(playerCpu);
+            }
+        }
+        PlayerCpu.chooseCpus(state, activeCpus);
         for (final Player player : activePlayers) {
-            Objects.requireNonNull(player);
-            if (player instanceof final PlayerCpu playerCpu) {
-                // If the player is a CPU, his choice is automatically made.
-                playerCpu.chooseCpu(state);
-            } else {
+            if (!(player instanceof PlayerCpu)) {
                 // If the player is not a CPU, a choice window will appear for him to make his
                 // choice.
                 final Modal<PlayerChoice> choiceModal = new SwingPlayerChoiceModal(
-                        (SwingWindow) toBlockWindow,
+                        (SwingWindow) toBlockWindow.orElseThrow(),
                         player.getName());
                 choiceModal.waitUserInput();
                 player.choose(choiceModal.getUserInput());
@@ -255,7 +316,6 @@ public class GameplayControllerImpl extends GameAwarePageController implements G
             }
         }
         this.currentTurn.endTurn(exitingThisTurn);
-        this.getPage().refresh();
     }
 
     /**
@@ -279,6 +339,14 @@ public class GameplayControllerImpl extends GameAwarePageController implements G
      */
     @Override
     public void advance() {
+        this.nextTurn();
+        this.getPage().refresh();
+    }
+
+    /**
+     * Moves to the next turn, starting a new round if the current one is over.
+     */
+    private void nextTurn() {
         // If the round can't continue and there are more rounds to play, a new round is
         // created.
         if (!this.currentRound.hasNext() && this.getGame().hasNext()) {
@@ -288,7 +356,6 @@ public class GameplayControllerImpl extends GameAwarePageController implements G
         if (this.currentRound.hasNext()) {
             this.currentTurn = this.currentRound.next();
         }
-        this.getPage().refresh();
     }
 
     /**
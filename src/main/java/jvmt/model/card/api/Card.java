@@ -1,7 +1,9 @@
 package jvmt.model.card.api;
 
 import java.net.URL;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Is the basis for all cards in the game.
@@ -13,6 +15,9 @@ import java.util.Objects;
  */
 public class Card {
 
+    // Image URLs already resolved, so that every image is looked up only once
+    private static final Map<String, URL> IMAGE_URLS = new ConcurrentHashMap<>();
+
     private final String name;
     private final TypeCard type;
     private final URL imageUrl;
@@ -33,7 +38,7 @@ public class Card {
         this.type = Objects.requireNonNull(type, "The card type cannot be null.");
         final String sourceImagePath = "/imageCard/" + imagePath;
         this.imageUrl = Objects.requireNonNull(
-                Card.class.getResource(sourceImagePath),
+                IMAGE_URLS.computeIfAbsent(sourceImagePath, Card.class::getResource),
                 "Image resource not found at path: " + sourceImagePath);
     }
 
@@ -2,6 +2,8 @@ package jvmt.model.card.api;
 
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
 
 /**
  * Represents the game deck,
@@ -93,6 +95,13 @@ public interface Deck extends Iterator<Card> {
      */
     int totSpecialCardInDeck();
 
+    /**
+     * Returns the statistics of the deck at creation.
+     * 
+     * @return an immutable snapshot of the composition of the deck.
+     */
+    DeckStatistics getStatistics();
+
     /**
      * Returns a new {@code Deck} instance containing the same cards as this deck
      * but in a random order.
@@ -100,5 +109,19 @@ public interface Deck extends Iterator<Card> {
      *
      * @return a shuffled copy of this deck
      */
-    Deck getShuffledCopy();
+    default Deck getShuffledCopy() {
+        return getShuffledCopy(ThreadLocalRandom.current());
+    }
+
+    /**
+     * Returns a new {@code Deck} instance containing the same cards as this deck
+     * but in an order chosen with the given source of randomness.
+     * The original deck remains unmodified.
+     *
+     * @param random the source of randomness used to shuffle the copy
+     * @return a shuffled copy of this deck
+     * 
+     * @throws NullPointerException if {@code random} is null
+     */
+    Deck getShuffledCopy(RandomGenerator random);
 }
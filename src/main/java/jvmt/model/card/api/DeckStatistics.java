@@ -0,0 +1,29 @@
+package jvmt.model.card.api;
+
+/**
+ * Immutable snapshot of the composition of a {@link Deck} at the moment of its
+ * creation.
+ * <p>
+ * The statistics don't change while cards are drawn, so they can be computed
+ * once and shared by every shuffled copy of the same deck.
+ * </p>
+ * 
+ * @see Deck#getStatistics()
+ * 
+ * @param deckSize       the number of cards in the deck.
+ * @param relicCards     the number of relic cards in the deck.
+ * @param treasureCards  the number of treasure cards in the deck.
+ * @param trapCards      the number of trap cards in the deck.
+ * @param trapCardTypes  the number of distinct types of trap cards in the deck.
+ * @param specialCards   the number of special cards in the deck.
+ * 
+ * @author Andrea La Tosa
+ */
+public record DeckStatistics(
+        int deckSize,
+        int relicCards,
+        int treasureCards,
+        int trapCards,
+        int trapCardTypes,
+        int specialCards) {
+}
@@ -0,0 +1,176 @@
+package jvmt.model.card.impl;
+
+import java.util.List;
+import java.util.Objects;
+
+import jvmt.model.card.api.Card;
+import jvmt.model.card.api.TypeCard;
+import jvmt.model.card.api.TypeTrapCard;
+
+/**
+ * Encodes the kinds of card as small integer codes, so that decks and
+ * compositions of decks can be stored in primitive arrays.
+ * <p>
+ * Two cards have the same code if and only if they are equal: one code for
+ * each type of trap, one for the relics, one for the special cards and one
+ * for each possible gem value of a treasure. Codes go from zero to
+ * {@link #COUNT} excluded.
+ * </p>
+ * 
+ * @see CompactDeck
+ * 
+ * @author Andrea La Tosa
+ */
+public final class CardCodes {
+
+    /**
+     * The code of the relic cards.
+     */
+    public static final int RELIC = TypeTrapCard.values().length;
+
+    /**
+     * The code of the special cards.
+     */
+    public static final int SPECIAL = RELIC + 1;
+
+    private static final int FIRST_TREASURE = SPECIAL + 1;
+    private static final TypeTrapCard[] TRAP_TYPES = TypeTrapCard.values();
+    private static final int[] TREASURE_VALUES = TreasureCard.getPossibleGemValues().stream()
+            .mapToInt(Integer::intValue)
+            .toArray();
+
+    /**
+     * The number of different codes.
+     */
+    public static final int COUNT = FIRST_TREASURE + TREASURE_VALUES.length;
+
+    private CardCodes() {
+        // utility class
+    }
+
+    /**
+     * Returns the code of the given card.
+     * 
+     * @param card the card to encode.
+     * @return the code of the card.
+     * 
+     * @throws NullPointerException if {@code card} is null.
+     */
+    public static int of(final Card card) {
+        Objects.requireNonNull(card);
+        return switch (card.getType()) {
+            case TRAP -> trap(((TrapCard) card).getTypeTrap());
+            case TREASURE -> treasure(((TreasureCard) card).getGemValue());
+            case RELIC -> RELIC;
+            case SPECIAL -> SPECIAL;
+        };
+    }
+
+    /**
+     * Returns the code of the trap cards of the given type.
+     * 
+     * @param type the type of trap.
+     * @return the code of the traps of that type.
+     */
+    public static int trap(final TypeTrapCard type) {
+        return type.ordinal();
+    }
+
+    /**
+     * Returns the code of the treasure cards with the given gem value.
+     * 
+     * @param gemValue the gem value of the treasure.
+     * @return the code of the treasures with that value.
+     * 
+     * @throws IllegalArgumentException if no treasure can have that gem value.
+     */
+    public static int treasure(final int gemValue) {
+        for (int i = 0; i < TREASURE_VALUES.length; i++) {
+            if (TREASURE_VALUES[i] == gemValue) {
+                return FIRST_TREASURE + i;
+            }
+        }
+        throw new IllegalArgumentException("Invalid gem value for treasure card: " + gemValue);
+    }
+
+    /**
+     * Returns the type of the cards with the given code.
+     * 
+     * @param code a card code.
+     * @return the type of the cards with that code.
+     */
+    public static TypeCard typeOf(final int code) {
+        checkCode(code);
+        if (code < RELIC) {
+            return TypeCard.TRAP;
+        } else if (code == RELIC) {
+            return TypeCard.RELIC;
+        } else if (code == SPECIAL) {
+            return TypeCard.SPECIAL;
+        }
+        return TypeCard.TREASURE;
+    }
+
+    /**
+     * Checks whether the given code is the code of a trap.
+     * 
+     * @param code a card code.
+     * @return true if the code belongs to a trap, false otherwise.
+     */
+    public static boolean isTrap(final int code) {
+        return code >= 0 && code < RELIC;
+    }
+
+    /**
+     * Checks whether the given code is the code of a treasure.
+     * 
+     * @param code a card code.
+     * @return true if the code belongs to a treasure, false otherwise.
+     */
+    public static boolean isTreasure(final int code) {
+        return code >= FIRST_TREASURE && code < COUNT;
+    }
+
+    /**
+     * Returns the type of trap of the given trap code.
+     * 
+     * @param code the code of a trap.
+     * @return the type of the trap.
+     * 
+     * @throws IllegalArgumentException if the code is not the code of a trap.
+     */
+    public static TypeTrapCard trapTypeOf(final int code) {
+        if (!isTrap(code)) {
+            throw new IllegalArgumentException("Not a trap code: " + code);
+        }
+        return TRAP_TYPES[code];
+    }
+
+    /**
+     * Returns the gem value of the given treasure code.
+     * 
+     * @param code the code of a treasure.
+     * @return the gem value of the treasure.
+     * 
+     * @throws IllegalArgumentException if the code is not the code of a treasure.
+     */
+    public static int treasureGemValue(final int code) {
+        if (!isTreasure(code)) {
+            throw new IllegalArgumentException("Not a treasure code: " + code);
+        }
+        return TREASURE_VALUES[code - FIRST_TREASURE];
+    }
+
+    /**
+     * Checks that the given code is valid.
+     * 
+     * @param code a card code.
+     * 
+     * @throws IllegalArgumentException if the code is out of range.
+     */
+    private static void checkCode(final int code) {
+        if (code < 0 || code >= COUNT) {
+            throw new IllegalArgumentException("Invalid card code: " + code);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package jvmt.model.card.impl;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import jvmt.model.card.api.TypeTrapCard;
+
+/**
+ * Holds the canonical instances of the cards that have no state.
+ * <p>
+ * Trap cards and treasure cards are immutable, and two of them with the same
+ * trap type or gem value are equal, so every deck can share the same instance
+ * instead of creating a new card, and resolving its image, for every copy.
+ * Relic cards are not kept here, since every relic can be redeemed on its own.
+ * </p>
+ * 
+ * @author Andrea La Tosa
+ */
+public final class CardRegistry {
+
+    private static final Map<TypeTrapCard, TrapCard> TRAPS;
+    private static final Map<Integer, TreasureCard> TREASURES;
+
+    static {
+        final Map<TypeTrapCard, TrapCard> traps = new EnumMap<>(TypeTrapCard.class);
+        for (final TypeTrapCard typeTrap : TypeTrapCard.values()) {
+            traps.put(typeTrap, new TrapCard(typeTrap.toString(), typeTrap));
+        }
+        TRAPS = traps;
+        final Map<Integer, TreasureCard> treasures = new HashMap<>();
+        for (final int gemValue : TreasureCard.getPossibleGemValues()) {
+            treasures.put(gemValue, new TreasureCard(gemValue + " gems", gemValue));
+        }
+        TREASURES = Map.copyOf(treasures);
+    }
+
+    private CardRegistry() {
+        // utility class
+    }
+
+    /**
+     * Returns the shared trap card of the given type.
+     * 
+     * @param typeTrap the type of trap.
+     * @return the trap card of that type.
+     * 
+     * @throws NullPointerException if {@code typeTrap} is null.
+     */
+    public static TrapCard trap(final TypeTrapCard typeTrap) {
+        return TRAPS.get(Objects.requireNonNull(typeTrap, "typeTrap cannot be null."));
+    }
+
+    /**
+     * Returns the shared treasure card with the given gem value.
+     * 
+     * @param gemValue the gem value of the treasure.
+     * @return the treasure card with that gem value.
+     * 
+     * @throws IllegalArgumentException if no treasure card can have that gem
+     *                                  value.
+     */
+    public static TreasureCard treasure(final int gemValue) {
+        final TreasureCard treasure = TREASURES.get(gemValue);
+        if (treasure == null) {
+            throw new IllegalArgumentException("Invalid gem value for treasure card: " + gemValue);
+        }
+        return treasure;
+    }
+}
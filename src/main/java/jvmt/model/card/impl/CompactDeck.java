@@ -0,0 +1,392 @@
+package jvmt.model.card.impl;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+
+import jvmt.model.card.api.Card;
+import jvmt.model.card.api.Deck;
+import jvmt.model.card.api.DeckStatistics;
+import jvmt.model.card.api.TypeTrapCard;
+
+/**
+ * A {@link Deck} stored in primitive arrays, meant for bulk simulations.
+ * <p>
+ * Every card of the deck occupies a slot, described by its
+ * {@link CardCodes code} and by its gem value, kept in a side table. The
+ * order of the deck is a permutation of the slots, so shuffling and
+ * resetting the deck only move integers around and never allocate.
+ * The {@link Card} of each slot is kept in a table filled when the deck is
+ * created, so the copies of a deck, which share the table, can be used on
+ * different threads. Simulations that only need the codes can use
+ * {@link #nextCode()} and never touch the cards at all.
+ * </p>
+ * <p>
+ * Like {@link DeckImpl}, the shuffled copies of a deck share its cards, and
+ * the cards are drawn from the end of the order.
+ * A compact deck is not thread-safe.
+ * </p>
+ * 
+ * @see CardCodes
+ * @see DeckImpl
+ * 
+ * @author Andrea La Tosa
+ */
+public final class CompactDeck implements Deck {
+
+    // Immutable tables, shared by all the copies of a deck
+    private final byte[] codes;
+    private final int[] gems;
+    private final Card[] cards;
+    private final DeckStatistics statistics;
+    private final int[] initialCodeCounts;
+
+    // State of this deck
+    private final int[] order;
+    private final int[] remainingCodeCounts;
+    private int remaining;
+
+    /**
+     * Creates a compact deck with the given cards, in the same order.
+     * 
+     * @param cards the cards of the deck. The last card is the first one to be
+     *              drawn.
+     * 
+     * @throws NullPointerException     if {@code cards} or any card is null.
+     * @throws IllegalArgumentException if a card is a special card, which can't
+     *                                  be encoded.
+     */
+    public CompactDeck(final List<Card> cards) {
+        Objects.requireNonNull(cards);
+        final int size = cards.size();
+        this.codes = new byte[size];
+        this.gems = new int[size];
+        this.cards = new Card[size];
+        this.order = new int[size];
+        this.initialCodeCounts = new int[CardCodes.COUNT];
+        for (int slot = 0; slot < size; slot++) {
+            final Card card = Objects.requireNonNull(cards.get(slot));
+            final int code = CardCodes.of(card);
+            if (code == CardCodes.SPECIAL) {
+                throw new IllegalArgumentException("Special cards can't be stored in a compact deck.");
+            }
+            this.codes[slot] = (byte) code;
+            // The cards keep their identity, since relics can be redeemed
+            this.cards[slot] = card;
+            if (card instanceof final RelicCard relic) {
+                this.gems[slot] = relic.getGemValue();
+            } else if (card instanceof final TreasureCard treasure) {
+                this.gems[slot] = treasure.getGemValue();
+            }
+            this.order[slot] = slot;
+            this.initialCodeCounts[code]++;
+        }
+        this.statistics = computeStatistics(this.initialCodeCounts, size);
+        this.remainingCodeCounts = this.initialCodeCounts.clone();
+        this.remaining = size;
+    }
+
+    /**
+     * Creates a copy of a deck that contains only some of its slots.
+     * 
+     * @param source the deck whose tables are shared.
+     * @param order  the slots of the new deck, owned by the new deck.
+     */
+    private CompactDeck(final CompactDeck source, final int[] order) {
+        this.codes = source.codes;
+        this.gems = source.gems;
+        this.cards = source.cards;
+        this.order = order;
+        this.remaining = order.length;
+        this.remainingCodeCounts = new int[CardCodes.COUNT];
+        for (final int slot : order) {
+            this.remainingCodeCounts[this.codes[slot]]++;
+        }
+        if (order.length == source.statistics.deckSize()) {
+            this.initialCodeCounts = source.initialCodeCounts;
+            this.statistics = source.statistics;
+        } else {
+            this.initialCodeCounts = this.remainingCodeCounts.clone();
+            this.statistics = computeStatistics(this.initialCodeCounts, order.length);
+        }
+    }
+
+    /**
+     * Creates a compact deck with the cards left in the given deck, in random
+     * order.
+     * 
+     * @param deck the deck to copy. It is not modified.
+     * @return a compact deck with the same remaining cards.
+     * 
+     * @throws NullPointerException     if {@code deck} is null.
+     * @throws IllegalArgumentException if the deck contains special cards.
+     */
+    public static CompactDeck of(final Deck deck) {
+        return of(deck, ThreadLocalRandom.current());
+    }
+
+    /**
+     * Creates a compact deck with the cards left in the given deck, shuffled
+     * with the given source of randomness.
+     * 
+     * @param deck   the deck to copy. It is not modified.
+     * @param random the source of randomness.
+     * @return a compact deck with the same remaining cards.
+     * 
+     * @throws NullPointerException     if {@code deck} or {@code random} is
+     *                                  null.
+     * @throws IllegalArgumentException if the deck contains special cards.
+     */
+    public static CompactDeck of(final Deck deck, final RandomGenerator random) {
+        if (deck instanceof final CompactDeck compact) {
+            return (CompactDeck) compact.getShuffledCopy(random);
+        }
+        final Deck copy = Objects.requireNonNull(deck).getShuffledCopy(random);
+        final List<Card> cards = new ArrayList<>(copy.numberOfRemainingCards());
+        while (copy.hasNext()) {
+            cards.add(copy.next());
+        }
+        return new CompactDeck(cards);
+    }
+
+    /**
+     * Computes the statistics of a deck from the number of cards of each code.
+     * 
+     * @param codeCounts the number of cards of each code.
+     * @param size       the number of cards of the deck.
+     * @return the statistics of the deck.
+     */
+    private static DeckStatistics computeStatistics(final int[] codeCounts, final int size) {
+        final Set<TypeTrapCard> trapTypes = EnumSet.noneOf(TypeTrapCard.class);
+        int traps = 0;
+        int treasures = 0;
+        for (int code = 0; code < CardCodes.COUNT; code++) {
+            if (codeCounts[code] > 0 && CardCodes.isTrap(code)) {
+                trapTypes.add(CardCodes.trapTypeOf(code));
+                traps += codeCounts[code];
+            } else if (CardCodes.isTreasure(code)) {
+                treasures += codeCounts[code];
+            }
+        }
+        return new DeckStatistics(size, codeCounts[CardCodes.RELIC], treasures, traps,
+                trapTypes.size(), codeCounts[CardCodes.SPECIAL]);
+    }
+
+    /**
+     * Returns the code of the next card to be drawn without removing it from
+     * the deck.
+     * 
+     * @return the code of the next card.
+     * 
+     * @throws NoSuchElementException if the deck has no cards.
+     */
+    public int peekCode() {
+        return this.codes[this.peekSlot()];
+    }
+
+    /**
+     * Draws the next card, returning only its code.
+     * 
+     * @return the code of the drawn card.
+     * 
+     * @throws NoSuchElementException if the deck has no cards.
+     */
+    public int nextCode() {
+        return this.codes[this.drawSlot()];
+    }
+
+    /**
+     * Returns the gem value of the next card to be drawn, without removing it
+     * from the deck.
+     * 
+     * @return the gem value of the next card, or zero if it is not a treasure or
+     *         a relic.
+     * 
+     * @throws NoSuchElementException if the deck has no cards.
+     */
+    public int peekGemValue() {
+        return this.gems[this.peekSlot()];
+    }
+
+    /**
+     * Returns how many cards with the given code are still in the deck.
+     * 
+     * @param code a card code.
+     * @return the number of remaining cards with that code.
+     * 
+     * @see CardCodes
+     */
+    public int remainingOfCode(final int code) {
+        return this.remainingCodeCounts[code];
+    }
+
+    /**
+     * Returns how many cards with the given code were in the deck at creation.
+     * 
+     * @param code a card code.
+     * @return the number of cards with that code in the full deck.
+     * 
+     * @see CardCodes
+     */
+    public int initialOfCode(final int code) {
+        return this.initialCodeCounts[code];
+    }
+
+    /**
+     * Shuffles in place the cards that are still in the deck, using the
+     * Fisher-Yates algorithm.
+     * 
+     * @param random the source of randomness.
+     * 
+     * @throws NullPointerException if {@code random} is null.
+     */
+    public void shuffle(final RandomGenerator random) {
+        Objects.requireNonNull(random);
+        for (int i = this.remaining - 1; i > 0; i--) {
+            final int j = random.nextInt(i + 1);
+            final int slot = this.order[i];
+            this.order[i] = this.order[j];
+            this.order[j] = slot;
+        }
+    }
+
+    /**
+     * Puts all the drawn cards back into the deck, without allocating anything.
+     * The cards are back in the order they had before being drawn, so the deck
+     * should usually be shuffled afterwards.
+     */
+    public void reset() {
+        this.remaining = this.order.length;
+        System.arraycopy(this.initialCodeCounts, 0, this.remainingCodeCounts, 0, CardCodes.COUNT);
+    }
+
+    /**
+     * Returns the slot of the next card.
+     * 
+     * @return the slot of the next card.
+     */
+    private int peekSlot() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("A card is requested, but the deck has no cards.");
+        }
+        return this.order[this.remaining - 1];
+    }
+
+    /**
+     * Removes the next card from the deck.
+     * 
+     * @return the slot of the removed card.
+     */
+    private int drawSlot() {
+        final int slot = this.peekSlot();
+        this.remaining--;
+        this.remainingCodeCounts[this.codes[slot]]--;
+        return slot;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int numberOfRemainingCards() {
+        return this.remaining;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Card peekCard() {
+        return this.cards[this.peekSlot()];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Card next() {
+        return this.cards[this.drawSlot()];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean hasNext() {
+        return this.remaining > 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int deckSize() {
+        return this.statistics.deckSize();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int totRelicCardsInDeck() {
+        return this.statistics.relicCards();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int totTreasureCardsInDeck() {
+        return this.statistics.treasureCards();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int totTrapCardsInDeck() {
+        return this.statistics.trapCards();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int totTrapCardTypesInDeck() {
+        return this.statistics.trapCardTypes();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int totSpecialCardInDeck() {
+        return this.statistics.specialCards();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public DeckStatistics getStatistics() {
+        return this.statistics;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Deck getShuffledCopy(final RandomGenerator random) {
+        Objects.requireNonNull(random);
+        final int[] copyOrder = new int[this.remaining];
+        System.arraycopy(this.order, 0, copyOrder, 0, this.remaining);
+        final CompactDeck copy = new CompactDeck(this, copyOrder);
+        copy.shuffle(random);
+        return copy;
+    }
+}
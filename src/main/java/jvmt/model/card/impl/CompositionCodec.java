@@ -0,0 +1,190 @@
+package jvmt.model.card.impl;
+
+import java.util.List;
+import java.util.Objects;
+
+import jvmt.model.card.api.Card;
+import jvmt.model.card.api.Deck;
+
+/**
+ * Packs the composition of what is left of a deck in a single {@code long}.
+ * <p>
+ * A composition is the number of cards of each {@link CardCodes code}. The
+ * codec is built for a full deck and packs any part of it in mixed radix, with
+ * one digit for each code, going from zero to the number of cards of that code
+ * in the full deck. Two parts of the deck get the same number if and only if
+ * they have the same composition.
+ * </p>
+ * 
+ * @see CardCodes
+ * 
+ * @author Andrea La Tosa
+ */
+public final class CompositionCodec {
+
+    /**
+     * The value returned when a composition can't be packed.
+     */
+    public static final long NOT_PACKABLE = -1;
+
+    private final int[] initialCounts;
+    // weight of each code, empty if the compositions don't fit a long
+    private final long[] weights;
+
+    /**
+     * Creates a codec for the given composition of a full deck.
+     * 
+     * @param initialCounts the number of cards of each code in the full deck.
+     * 
+     * @throws NullPointerException     if {@code initialCounts} is null.
+     * @throws IllegalArgumentException if {@code initialCounts} doesn't have a
+     *                                  count for each code.
+     */
+    public CompositionCodec(final int[] initialCounts) {
+        if (Objects.requireNonNull(initialCounts).length != CardCodes.COUNT) {
+            throw new IllegalArgumentException("There must be a count for each card code.");
+        }
+        this.initialCounts = initialCounts.clone();
+        this.weights = computeWeights(this.initialCounts);
+    }
+
+    /**
+     * Creates a codec for the cards left in the given deck.
+     * 
+     * @param deck the deck. It is not modified.
+     * @return the codec of the deck.
+     * 
+     * @throws NullPointerException if {@code deck} is null.
+     */
+    public static CompositionCodec of(final Deck deck) {
+        return new CompositionCodec(countCodes(deck));
+    }
+
+    /**
+     * Counts the cards of each code left in the given deck.
+     * 
+     * @param deck the deck. It is not modified.
+     * @return the number of cards of each code.
+     * 
+     * @throws NullPointerException if {@code deck} is null.
+     */
+    public static int[] countCodes(final Deck deck) {
+        final Deck copy = Objects.requireNonNull(deck).getShuffledCopy();
+        final int[] counts = new int[CardCodes.COUNT];
+        while (copy.hasNext()) {
+            counts[CardCodes.of(copy.next())]++;
+        }
+        return counts;
+    }
+
+    /**
+     * Returns the number of cards with the given code in the full deck.
+     * 
+     * @param code a card code.
+     * @return the number of cards with that code.
+     */
+    public int initialOfCode(final int code) {
+        return this.initialCounts[code];
+    }
+
+    /**
+     * Checks whether every part of the full deck can be packed.
+     * 
+     * @return true if the compositions fit in a {@code long}, false otherwise.
+     */
+    public boolean isPackable() {
+        return this.weights.length > 0;
+    }
+
+    /**
+     * Packs the given composition.
+     * 
+     * @param counts the number of cards of each code.
+     * @return the packed composition, or {@link #NOT_PACKABLE} if it is not part
+     *         of the full deck or the compositions don't fit in a {@code long}.
+     */
+    public long pack(final int[] counts) {
+        if (!this.isPackable()) {
+            return NOT_PACKABLE;
+        }
+        long packed = 0;
+        for (int code = 0; code < CardCodes.COUNT; code++) {
+            if (counts[code] < 0 || counts[code] > this.initialCounts[code]) {
+                return NOT_PACKABLE;
+            }
+            packed += counts[code] * this.weights[code];
+        }
+        return packed;
+    }
+
+    /**
+     * Packs the composition of the full deck without the given cards.
+     * 
+     * @param drawn the cards drawn from the full deck.
+     * @return the packed composition, or {@link #NOT_PACKABLE} if the cards
+     *         can't all come from the full deck.
+     */
+    public long packRemaining(final List<? extends Card> drawn) {
+        final int[] counts = this.initialCounts.clone();
+        for (final Card card : drawn) {
+            counts[CardCodes.of(card)]--;
+        }
+        return this.pack(counts);
+    }
+
+    /**
+     * Unpacks a composition.
+     * 
+     * @param packed the packed composition.
+     * @param counts where the number of cards of each code is written.
+     * 
+     * @throws IllegalStateException if the compositions don't fit in a
+     *                               {@code long}.
+     */
+    public void unpack(final long packed, final int[] counts) {
+        if (!this.isPackable()) {
+            throw new IllegalStateException("The compositions of this deck can't be packed.");
+        }
+        for (int code = 0; code < CardCodes.COUNT; code++) {
+            counts[code] = (int) (packed / this.weights[code] % (this.initialCounts[code] + 1));
+        }
+    }
+
+    /**
+     * Returns how much the packed composition changes when a card with the
+     * given code is removed.
+     * 
+     * @param code a card code.
+     * @return the weight of the code.
+     * 
+     * @throws IllegalStateException if the compositions don't fit in a
+     *                               {@code long}.
+     */
+    public long weightOf(final int code) {
+        if (!this.isPackable()) {
+            throw new IllegalStateException("The compositions of this deck can't be packed.");
+        }
+        return this.weights[code];
+    }
+
+    /**
+     * Computes the weight of each code in the packed compositions.
+     * 
+     * @param initialCounts the number of cards of each code in the full deck.
+     * @return the weights, or an empty array if the compositions don't fit in a
+     *         {@code long}.
+     */
+    private static long[] computeWeights(final int[] initialCounts) {
+        final long[] weights = new long[CardCodes.COUNT];
+        long weight = 1;
+        try {
+            for (int code = 0; code < CardCodes.COUNT; code++) {
+                weights[code] = weight;
+                weight = Math.multiplyExact(weight, initialCounts[code] + 1);
+            }
+        } catch (final ArithmeticException e) {
+            return new long[0];
+        }
+        return weights;
+    }
+}
@@ -4,6 +4,8 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
 
 import jvmt.model.card.api.Card;
 import jvmt.model.card.api.Deck;
@@ -18,12 +20,27 @@ import jvmt.model.card.api.TypeTrapCard;
 public class DeckBuilderImpl implements DeckBuilder {
 
     private final List<Card> deck = new ArrayList<>();
+    // The source of randomness for the gems of the relics and the shuffle
+    private final RandomGenerator random;
     // This variable prevents changes from being made after the build() call
     private boolean isBuilt;
 
     /** Default constructor. */
     public DeckBuilderImpl() {
-        // this constructor is empty on purpose.
+        this(new SplittableRandom());
+    }
+
+    /**
+     * Creates a builder that uses the given source of randomness for the gem
+     * values of the relics and for {@link #shuffle()}, so that the same source
+     * always builds the same deck.
+     * 
+     * @param random the source of randomness.
+     * 
+     * @throws NullPointerException if {@code random} is null.
+     */
+    public DeckBuilderImpl(final RandomGenerator random) {
+        this.random = Objects.requireNonNull(random, "random cannot be null.");
     }
 
     /**
@@ -50,7 +67,7 @@ public class DeckBuilderImpl implements DeckBuilder {
     public DeckBuilder addTrap(final TypeTrapCard typeTrap) {
         checkNotBuilt();
         Objects.requireNonNull(typeTrap, "typeTrap cannot be null.");
-        deck.add(new TrapCard(typeTrap.toString(), typeTrap));
+        deck.add(CardRegistry.trap(typeTrap));
         return this;
     }
 
@@ -66,8 +83,9 @@ public class DeckBuilderImpl implements DeckBuilder {
             throw new IllegalArgumentException("numTrap must be greater than zero.");
         }
 
+        final TrapCard trap = CardRegistry.trap(typeTrap);
         for (int i = 1; i <= numTrap; i++) {
-            deck.add(new TrapCard(typeTrap.toString() + " " + Integer.toString(i), typeTrap));
+            deck.add(trap);
         }
         return this;
     }
@@ -83,7 +101,7 @@ public class DeckBuilderImpl implements DeckBuilder {
             throw new IllegalArgumentException("gemValue must be greater than zero.");
         }
 
-        deck.add(new TreasureCard(gemValue + " gems", gemValue));
+        deck.add(CardRegistry.treasure(gemValue));
         return this;
     }
 
@@ -101,9 +119,9 @@ public class DeckBuilderImpl implements DeckBuilder {
             throw new IllegalArgumentException("numTreasure must be greater then zero.");
         }
 
+        final TreasureCard treasure = CardRegistry.treasure(gemValue);
         for (int i = 1; i <= numTreasure; i++) {
-            deck.add(new TreasureCard("Treasure " + gemValue
-                    + " gems" + " " + i, gemValue));
+            deck.add(treasure);
         }
         return this;
     }
@@ -114,7 +132,7 @@ public class DeckBuilderImpl implements DeckBuilder {
     @Override
     public DeckBuilder addRelic() {
         checkNotBuilt();
-        deck.add(new RelicCard("Relic"));
+        deck.add(new RelicCard("Relic", this.random));
         return this;
     }
 
@@ -130,7 +148,7 @@ public class DeckBuilderImpl implements DeckBuilder {
         }
 
         for (int i = 1; i <= numRelic; i++) {
-            deck.add(new RelicCard("Relic " + Integer.toString(i)));
+            deck.add(new RelicCard("Relic " + Integer.toString(i), this.random));
         }
         return this;
     }
@@ -141,7 +159,7 @@ public class DeckBuilderImpl implements DeckBuilder {
     @Override
     public DeckBuilder shuffle() {
         checkNotBuilt();
-        Collections.shuffle(this.deck);
+        Collections.shuffle(this.deck, this.random);
         return this;
     }
 
@@ -1,6 +1,11 @@
 package jvmt.model.card.impl;
 
 import java.util.Map;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+import java.util.random.RandomGenerator;
 
 import jvmt.model.card.api.Deck;
 import jvmt.model.card.api.DeckBuilder;
@@ -14,9 +19,26 @@ import jvmt.model.card.api.TypeTrapCard;
  */
 public final class DeckFactoryImpl implements DeckFactory {
 
+    // Gives the source of randomness of each new deck
+    private final Supplier<RandomGenerator> randomFactory;
+
     /** Default constructor. */
     public DeckFactoryImpl() {
-        // this constructor is empty on purpose.
+        this.randomFactory = SplittableRandom::new;
+    }
+
+    /**
+     * Creates a factory whose decks are built and shuffled with the given
+     * source of randomness, so that the same source always gives the same
+     * decks. The factory is then not meant to be shared between threads.
+     * 
+     * @param random the source of randomness.
+     * 
+     * @throws NullPointerException if {@code random} is null.
+     */
+    public DeckFactoryImpl(final RandomGenerator random) {
+        Objects.requireNonNull(random);
+        this.randomFactory = () -> random;
     }
 
     /**
@@ -26,7 +48,8 @@ public final class DeckFactoryImpl implements DeckFactory {
     public Deck standardDeck() {
         // In this map, the key represent the gems of the card to be created
         // and the values indicate the number of cards to create.
-        final Map<Integer, Integer> treasureStandardDeck = Map.ofEntries(
+        // The entries are sorted so that the deck is always built in the same order
+        final Map<Integer, Integer> treasureStandardDeck = new TreeMap<>(Map.ofEntries(
                 Map.entry(1, 1),
                 Map.entry(2, 1),
                 Map.entry(3, 1),
@@ -38,13 +61,13 @@ public final class DeckFactoryImpl implements DeckFactory {
                 Map.entry(13, 1),
                 Map.entry(14, 1),
                 Map.entry(15, 1),
-                Map.entry(17, 1));
+                Map.entry(17, 1)));
         // the number of cards per trap type in the standard deck.
         final int numberPerTrapStandardDeck = 3;
         // the number of relic in the standard deck.
         final int numberRelicStandardDeck = 5;
 
-        final DeckBuilder deckBuilder = new DeckBuilderImpl();
+        final DeckBuilder deckBuilder = new DeckBuilderImpl(this.randomFactory.get());
 
         // adds treasure cards to the deck.
         for (final Map.Entry<Integer, Integer> entry : treasureStandardDeck.entrySet()) {
@@ -7,9 +7,11 @@ import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Set;
+import java.util.random.RandomGenerator;
 
 import jvmt.model.card.api.Card;
 import jvmt.model.card.api.Deck;
+import jvmt.model.card.api.DeckStatistics;
 import jvmt.model.card.api.TypeTrapCard;
 
 /**
@@ -22,12 +24,7 @@ public final class DeckImpl implements Deck {
     private final List<Card> deck;
 
     //Deck statistics
-    private int totRelic;
-    private int totTreasure;
-    private int totTrap;
-    private int totSpecial;
-    private final Set<TypeTrapCard> totTrapTypes;
-    private final int initialDeckSize;
+    private final DeckStatistics statistics;
 
     /**
      * Creates the deck for the round and sets its statistics.
@@ -39,33 +36,49 @@ public final class DeckImpl implements Deck {
     public DeckImpl(final List<Card> deck) {
         this.deck = new ArrayList<>(
             Objects.requireNonNull(deck, "deck must not be null"));
-        this.initialDeckSize = deck.size();
-        totTrapTypes = EnumSet.noneOf(TypeTrapCard.class);
-        calculateStatistics();
+        this.statistics = calculateStatistics(this.deck);
+    }
+
+    /**
+     * Creates a deck whose statistics are already known, without counting
+     * its cards again.
+     * 
+     * @param deck       the cards of the deck, already copied
+     * @param statistics the statistics of the cards
+     */
+    private DeckImpl(final List<Card> deck, final DeckStatistics statistics) {
+        this.deck = deck;
+        this.statistics = statistics;
     }
 
     // This method calculates statistics for the deck
-    private void calculateStatistics() {
-        for (final Card card : deck) {
+    private static DeckStatistics calculateStatistics(final List<Card> cards) {
+        int totRelic = 0;
+        int totTreasure = 0;
+        int totTrap = 0;
+        int totSpecial = 0;
+        final Set<TypeTrapCard> totTrapTypes = EnumSet.noneOf(TypeTrapCard.class);
+        for (final Card card : cards) {
             switch (card.getType()) {
                 case TREASURE -> {
-                    this.totTreasure++;
+                    totTreasure++;
                 }
                 case TRAP -> {
                     // Used to eliminate the warning of an unsafe cast
                     assert card instanceof TrapCard : "Expected TrapCard instance for TRAP type";
 
-                    this.totTrapTypes.add(((TrapCard) card).getTypeTrap());
-                    this.totTrap++;
+                    totTrapTypes.add(((TrapCard) card).getTypeTrap());
+                    totTrap++;
                 }
                 case RELIC -> {
-                    this.totRelic++;
+                    totRelic++;
                 }
                 case SPECIAL -> {
-                    this.totSpecial++;
+                    totSpecial++;
                 }
             }
         }
+        return new DeckStatistics(cards.size(), totRelic, totTreasure, totTrap, totTrapTypes.size(), totSpecial);
     }
 
     /**
@@ -115,7 +128,7 @@ public final class DeckImpl implements Deck {
      */
     @Override
     public int deckSize() {
-        return this.initialDeckSize;
+        return this.statistics.deckSize();
     }
 
     /**
@@ -123,7 +136,7 @@ public final class DeckImpl implements Deck {
      */
     @Override
     public int totRelicCardsInDeck() {
-        return this.totRelic;
+        return this.statistics.relicCards();
     }
 
     /**
@@ -131,7 +144,7 @@ public final class DeckImpl implements Deck {
      */
     @Override
     public int totTreasureCardsInDeck() {
-        return this.totTreasure;
+        return this.statistics.treasureCards();
     }
 
     /**
@@ -139,7 +152,7 @@ public final class DeckImpl implements Deck {
      */
     @Override
     public int totTrapCardsInDeck() {
-        return this.totTrap;
+        return this.statistics.trapCards();
     }
 
     /**
@@ -147,7 +160,7 @@ public final class DeckImpl implements Deck {
      */
     @Override
     public int totTrapCardTypesInDeck() {
-        return this.totTrapTypes.size();
+        return this.statistics.trapCardTypes();
     }
 
     /**
@@ -155,17 +168,32 @@ public final class DeckImpl implements Deck {
      */
     @Override
     public int totSpecialCardInDeck() {
-        return this.totSpecial;
+        return this.statistics.specialCards();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public DeckStatistics getStatistics() {
+        return this.statistics;
     }
 
     /**
      * {@inheritDoc}
+     * <p>
+     * If no card has been drawn yet the copy shares the statistics of this deck
+     * instead of counting its cards again.
+     * </p>
      */
     @Override
-    public Deck getShuffledCopy() {
+    public Deck getShuffledCopy(final RandomGenerator random) {
+        Objects.requireNonNull(random);
         final List<Card> cards = new ArrayList<>(this.deck);
-        Collections.shuffle(cards);
-        return new DeckImpl(cards);
+        Collections.shuffle(cards, random);
+        return cards.size() == this.statistics.deckSize()
+                ? new DeckImpl(cards, this.statistics)
+                : new DeckImpl(cards);
     }
 
 }
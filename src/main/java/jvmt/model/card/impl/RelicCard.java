@@ -1,7 +1,9 @@
 package jvmt.model.card.impl;
 
 import java.util.List;
-import java.util.Random;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
 
 import jvmt.model.card.api.CardWithGem;
 import jvmt.model.card.api.TypeCard;
@@ -20,8 +22,6 @@ public final class RelicCard extends CardWithGem {
     // Is the path for the image of the relic cards.
     private static final String IMAGE_RELIC_PATH = "relic/Relic.png";
 
-    private static final Random RND = new Random();
-
     private static final int HASHCODE_BASE = 17;
 
     /*
@@ -42,12 +42,68 @@ public final class RelicCard extends CardWithGem {
      * @see TypeCard
      */
     public RelicCard(final String name) {
+        this(name, ThreadLocalRandom.current());
+    }
+
+    /**
+     * Creates a new relic card with a gem value chosen from a predefined list
+     * with the given source of randomness.
+     * 
+     * @param name   the name of the card
+     * @param random the source of randomness used to choose the gem value
+     * 
+     * @throws NullPointerException if {@code name} or {@code random} is null
+     * 
+     * @see TypeCard
+     */
+    public RelicCard(final String name, final RandomGenerator random) {
         // The value of gems gets randomly chosen from the values inside the list
         super(
                 name,
                 TypeCard.RELIC,
                 IMAGE_RELIC_PATH,
-                POSSIBLE_RELIC_GEM.get(RND.nextInt(POSSIBLE_RELIC_GEM.size())));
+                POSSIBLE_RELIC_GEM.get(Objects.requireNonNull(random).nextInt(POSSIBLE_RELIC_GEM.size())));
+    }
+
+    /**
+     * Creates a new relic card with the given gem value.
+     * 
+     * @param name     the name of the card
+     * @param gemValue the gem value of the card
+     * 
+     * @throws NullPointerException     if {@code name} is null
+     * @throws IllegalArgumentException if {@code gemValue} is not one of the
+     *                                  possible gem values of a relic
+     * 
+     * @see #getPossibleGemValues()
+     */
+    public RelicCard(final String name, final int gemValue) {
+        super(name, TypeCard.RELIC, IMAGE_RELIC_PATH, validateGemValue(gemValue));
+    }
+
+    /**
+     * Returns all the gem values that a relic card can have.
+     * 
+     * @return the possible gem values, sorted in ascending order.
+     */
+    public static List<Integer> getPossibleGemValues() {
+        return POSSIBLE_RELIC_GEM;
+    }
+
+    /**
+     * Checks that the given value can be the gem value of a relic.
+     * 
+     * @param gemValue the value to check
+     * 
+     * @return the same {@code gemValue}
+     * 
+     * @throws IllegalArgumentException if the value is not a possible gem value.
+     */
+    private static int validateGemValue(final int gemValue) {
+        if (!POSSIBLE_RELIC_GEM.contains(gemValue)) {
+            throw new IllegalArgumentException("Invalid gem value for relic card: " + gemValue);
+        }
+        return gemValue;
     }
 
     /**
@@ -1,6 +1,7 @@
 package jvmt.model.card.impl;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -52,6 +53,15 @@ public final class TreasureCard extends CardWithGem {
         super(name, TypeCard.TREASURE, validateGemValueAndGetPath(gemValue), gemValue);
     }
 
+    /**
+     * Returns all the gem values that a treasure card can have.
+     * 
+     * @return the possible gem values, sorted in ascending order.
+     */
+    public static List<Integer> getPossibleGemValues() {
+        return POSSIBLE_GEM_VALUES.stream().sorted().toList();
+    }
+
     /**
      * Checks that the number of gems to be associated with the card is present in
      * the set and, if so,
@@ -0,0 +1,34 @@
+package jvmt.model.common.api;
+
+import java.util.random.RandomGenerator;
+
+import jvmt.model.common.impl.SplittableRandomSource;
+
+/**
+ * Represents the source of all the randomness of a game.
+ * <p>
+ * A random source can be split into new sources that are statistically
+ * independent of it, so that every component, game or worker thread can own
+ * its stream of random values. If the first source is created from a seed, all
+ * the sources split from it produce the same values on every run, as long as
+ * they are split in the same order.
+ * </p>
+ * <p>
+ * Random sources are not meant to be shared between threads: a thread that
+ * needs random values should use its own split.
+ * </p>
+ * 
+ * @see SplittableRandomSource
+ * 
+ * @author Emir Wanes Aouioua
+ */
+public interface RandomSource extends RandomGenerator {
+
+    /**
+     * Creates a new random source, independent of this one. This source
+     * advances its state.
+     * 
+     * @return a new random source.
+     */
+    RandomSource split();
+}
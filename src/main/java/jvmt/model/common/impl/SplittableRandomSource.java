@@ -0,0 +1,94 @@
+package jvmt.model.common.impl;
+
+import java.util.SplittableRandom;
+
+import jvmt.model.common.api.RandomSource;
+
+/**
+ * Implementation of the {@link RandomSource} interface backed by a
+ * {@link SplittableRandom}.
+ * 
+ * @see RandomSource
+ * 
+ * @author Emir Wanes Aouioua
+ */
+public final class SplittableRandomSource implements RandomSource {
+
+    private final SplittableRandom random;
+
+    /**
+     * Creates a random source whose values are different on every run.
+     */
+    public SplittableRandomSource() {
+        this(new SplittableRandom());
+    }
+
+    /**
+     * Creates a random source that produces the same values on every run.
+     * 
+     * @param seed the seed of the source.
+     */
+    public SplittableRandomSource(final long seed) {
+        this(new SplittableRandom(seed));
+    }
+
+    private SplittableRandomSource(final SplittableRandom random) {
+        this.random = random;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public RandomSource split() {
+        return new SplittableRandomSource(this.random.split());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long nextLong() {
+        return this.random.nextLong();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int nextInt() {
+        return this.random.nextInt();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int nextInt(final int bound) {
+        return this.random.nextInt(bound);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int nextInt(final int origin, final int bound) {
+        return this.random.nextInt(origin, bound);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double nextDouble() {
+        return this.random.nextDouble();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean nextBoolean() {
+        return this.random.nextBoolean();
+    }
+}
@@ -3,9 +3,12 @@ package jvmt.model.game.api;
 import java.util.List;
 
 import jvmt.model.card.api.Deck;
+import jvmt.model.card.api.DeckStatistics;
+import jvmt.model.common.api.RandomSource;
 import jvmt.model.game.impl.GameSettingsImpl;
 import jvmt.model.player.api.CpuDifficulty;
 import jvmt.model.player.api.Player;
+import jvmt.model.round.api.RiskOracle;
 import jvmt.model.round.api.roundeffect.RoundEffect;
 import jvmt.model.round.api.roundeffect.endcondition.EndCondition;
 import jvmt.model.round.api.roundeffect.gemmodifier.GemModifier;
@@ -43,12 +46,25 @@ public interface GameSettings {
      int getNumberOfRealPlayers();
 
      /**
-      * Getter for the chosen deck.
+      * Creates a new shuffled copy of the chosen deck.
+      * <p>
+      * A new deck is built on every call, so this method is meant to be called
+      * only when a round starts. Anyone interested in the composition of the deck
+      * should use {@link #getDeckStatistics()} instead.
+      * </p>
       * 
       * @return the shuffled chosen deck.
       */
      Deck getDeck();
 
+     /**
+      * Getter for the statistics of the chosen deck, computed once when the
+      * settings are created.
+      * 
+      * @return an immutable snapshot of the composition of the chosen deck.
+      */
+     DeckStatistics getDeckStatistics();
+
      /**
       * Getter for the chosen end condition.
       * 
@@ -70,6 +86,25 @@ public interface GameSettings {
       */
      RoundEffect getRoundEffect();
 
+     /**
+      * Tells whether the rounds are played with the standard end condition and
+      * without modifying the gems, the rules the precomputed strategies of the
+      * CPUs are made for.
+      * 
+      * @return true if the chosen end condition and gem modifier are the
+      *         standard ones, false otherwise.
+      */
+     boolean hasStandardRules();
+
+     /**
+      * Getter for the oracle of the risk of the next card, for the rounds played
+      * with the chosen deck and end condition. The same oracle is shared by the
+      * whole game, so that what it learns is reused.
+      * 
+      * @return the oracle of the risk of the next card.
+      */
+     RiskOracle getRiskOracle();
+
      /**
       * Getter for the chosen difficulty of the CPUs.
       * 
@@ -77,6 +112,18 @@ public interface GameSettings {
       */
      CpuDifficulty getCpuDifficulty();
 
+     /**
+      * Getter for the source of all the randomness of the game: the order of the
+      * players, the shuffle of the deck and the choices of the CPUs.
+      * <p>
+      * The source is not thread-safe: it is meant to be used only by the thread
+      * that plays the game.
+      * </p>
+      * 
+      * @return the random source of the game.
+      */
+     RandomSource getRandomSource();
+
      /**
       * Getter for the chosen number of rounds.
       * 
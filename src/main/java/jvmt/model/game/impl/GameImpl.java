@@ -23,6 +23,7 @@ import jvmt.model.round.impl.roundeffect.RoundEffectImpl;
 public class GameImpl implements Game {
 
     private final GameSettings settings;
+    private final boolean reuseTurns;
     private int currentRound;
 
     /**
@@ -33,8 +34,23 @@ public class GameImpl implements Game {
      * @throws NullPointerException if @param settings is null.
      */
     public GameImpl(final GameSettings settings) {
+        this(settings, false);
+    }
+
+    /**
+     * Constructor of the method, that lets the rounds reuse the same turn object
+     * for all their turns (see {@link RoundImpl}).
+     * 
+     * @param settings   the game's settings.
+     * @param reuseTurns whether every round returns the same turn object for all
+     *                   its turns.
+     * 
+     * @throws NullPointerException if @param settings is null.
+     */
+    public GameImpl(final GameSettings settings, final boolean reuseTurns) {
         Objects.requireNonNull(settings);
         this.settings = settings;
+        this.reuseTurns = reuseTurns;
     }
 
     /**
@@ -61,7 +77,9 @@ public class GameImpl implements Game {
                 this.settings.getDeck(),
                 new RoundEffectImpl(
                         this.settings.getRoundEndCondition(),
-                        this.settings.getRoundGemModifier()));
+                        this.settings.getRoundGemModifier()),
+                this.reuseTurns,
+                !this.hasNext());
     }
 
     /**
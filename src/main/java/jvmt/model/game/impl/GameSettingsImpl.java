@@ -6,15 +6,22 @@ import java.util.List;
 import java.util.Objects;
 
 import jvmt.model.card.api.Deck;
+import jvmt.model.card.api.DeckStatistics;
+import jvmt.model.common.api.RandomSource;
+import jvmt.model.common.impl.SplittableRandomSource;
 import jvmt.model.game.api.GameSettings;
 import jvmt.model.player.api.CpuDifficulty;
 import jvmt.model.player.api.Player;
 import jvmt.model.player.impl.PlayerCpu;
 import jvmt.model.player.impl.PlayerInRound;
+import jvmt.model.round.api.RiskOracle;
 import jvmt.model.round.api.roundeffect.RoundEffect;
 import jvmt.model.round.api.roundeffect.endcondition.EndCondition;
 import jvmt.model.round.api.roundeffect.gemmodifier.GemModifier;
+import jvmt.model.round.impl.RiskOracleImpl;
 import jvmt.model.round.impl.roundeffect.RoundEffectImpl;
+import jvmt.model.round.impl.roundeffect.endcondition.EndConditionFactoryImpl;
+import jvmt.model.round.impl.roundeffect.gemmodifier.GemModifierFactoryImpl;
 
 /**
  * The implementation of the {@link GameSettings} interface.
@@ -77,14 +84,25 @@ public class GameSettingsImpl implements GameSettings {
      */
     private static final int MAX_PLAYERS_NAME_CHR = 12;
 
+    // The rules are built anew for every game, so they are told by their description
+    private static final String STANDARD_END_CONDITION = new EndConditionFactoryImpl().standard().getDescription();
+    private static final String STANDARD_GEM_MODIFIER = new GemModifierFactoryImpl().standard().getDescription();
+
     private final int numberOfCpu;
     private final int numberRealPlayers;
     private final int totalNumberOfPlayers;
-    private final Deck deck;
+    /**
+     * The deck chosen in the settings. It is never drawn from: every round
+     * plays with a shuffled copy of it.
+     */
+    private final Deck deckTemplate;
+    private final DeckStatistics deckStatistics;
     private final EndCondition endCondition;
     private final GemModifier gemModifier;
     private final CpuDifficulty cpuDifficulty;
     private final int nRounds;
+    private final RandomSource randomSource;
+    private final RiskOracle riskOracle;
     /**
      * List of strings that contain the players' names.
      */
@@ -121,27 +139,68 @@ public class GameSettingsImpl implements GameSettings {
             final GemModifier gemModifier,
             final CpuDifficulty cpuDifficulty,
             final int nRound) {
+        this(listNamePlayers, numberOfCpu, deck, endCondition, gemModifier, cpuDifficulty, nRound,
+                new SplittableRandomSource());
+    }
+
+    /**
+     * Constructor of the method, creates the list of players of the game after
+     * making sure the game settings are acceptable.
+     * All the randomness of the game comes from the given source, so a source
+     * created from a seed always gives the same game.
+     * 
+     * @param listNamePlayers the list of the players' names.
+     * @param numberOfCpu     the number of CPU players.
+     * @param deck            the chosen deck.
+     * @param endCondition    the chosen end condition.
+     * @param gemModifier     the chosen gem modifier.
+     * @param cpuDifficulty   the chosen difficulty of the CPUs.
+     * @param nRound          the chosen number of rounds.
+     * @param randomSource    the source of randomness of the game.
+     * 
+     * @throws NullPointerException         if @param listNamePlayers is null.
+     * @throws NullPointerException         if @param deck is null.
+     * @throws NullPointerException         if @param endCondition is null.
+     * @throws NullPointerException         if @param gemModifier is null.
+     * @throws NullPointerException         if @param cpuDifficulty is null.
+     * @throws NullPointerException         if @param randomSource is null.
+     * @throws InvalidGameSettingsException if the list of errors isn't empty
+     *                                      (the settings aren't acceptable).
+     */
+    public GameSettingsImpl(final List<String> listNamePlayers,
+            final int numberOfCpu,
+            final Deck deck,
+            final EndCondition endCondition,
+            final GemModifier gemModifier,
+            final CpuDifficulty cpuDifficulty,
+            final int nRound,
+            final RandomSource randomSource) {
         Objects.requireNonNull(listNamePlayers);
         Objects.requireNonNull(deck);
         Objects.requireNonNull(endCondition);
         Objects.requireNonNull(gemModifier);
         Objects.requireNonNull(cpuDifficulty);
+        Objects.requireNonNull(randomSource);
 
         this.listNamePlayers = new ArrayList<>(listNamePlayers);
         this.numberOfCpu = numberOfCpu;
         this.numberRealPlayers = listNamePlayers.size();
         this.totalNumberOfPlayers = this.numberRealPlayers + this.numberOfCpu;
-        this.deck = deck;
+        this.deckTemplate = deck;
+        this.deckStatistics = deck.getStatistics();
         this.endCondition = endCondition;
         this.gemModifier = gemModifier;
         this.cpuDifficulty = cpuDifficulty;
         this.nRounds = nRound;
+        this.randomSource = randomSource;
 
         final List<String> errors = this.getSettingsErrors();
         if (!errors.isEmpty()) {
             throw new InvalidGameSettingsException(errors);
         }
 
+        // The CPUs look for the oracle when they are created
+        this.riskOracle = new RiskOracleImpl(deck, endCondition);
         this.players = this.createPlayers();
     }
 
@@ -205,7 +264,15 @@ public class GameSettingsImpl implements GameSettings {
      */
     @Override
     public Deck getDeck() {
-        return this.deck.getShuffledCopy();
+        return this.deckTemplate.getShuffledCopy(this.randomSource);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public DeckStatistics getDeckStatistics() {
+        return this.deckStatistics;
     }
 
     /**
@@ -232,6 +299,23 @@ public class GameSettingsImpl implements GameSettings {
         return new RoundEffectImpl(this.endCondition, this.gemModifier);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean hasStandardRules() {
+        return STANDARD_END_CONDITION.equals(this.endCondition.getDescription())
+                && STANDARD_GEM_MODIFIER.equals(this.gemModifier.getDescription());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public RiskOracle getRiskOracle() {
+        return this.riskOracle;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -240,6 +324,14 @@ public class GameSettingsImpl implements GameSettings {
         return this.cpuDifficulty;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public RandomSource getRandomSource() {
+        return this.randomSource;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -331,7 +423,7 @@ public class GameSettingsImpl implements GameSettings {
         final List<Player> listAllPlayers = new ArrayList<>();
         listAllPlayers.addAll(createRealPlayers());
         listAllPlayers.addAll(createCpuPlayers());
-        Collections.shuffle(listAllPlayers);
+        Collections.shuffle(listAllPlayers, this.randomSource);
         return listAllPlayers;
     }
 
@@ -24,5 +24,40 @@ public enum CpuDifficulty {
      * In this difficulty traps and relics weight the most,
      * gems on the path and active players weight the less.
      */
-    HARD
+    HARD,
+    /**
+     * Represents the expert difficulty.
+     * In this difficulty the CPU plays the rest of the round many times
+     * with the cards left in the deck, and chooses whether to exit by
+     * comparing the gems it expects to bring home.
+     */
+    EXPERT,
+    /**
+     * Represents the master difficulty.
+     * In this difficulty the CPU searches a tree of the possible draws and
+     * choices of the other players, which it keeps for the whole round;
+     * in the last round of a game with the standard rules it plays to win
+     * the game.
+     */
+    MASTER,
+    /**
+     * Represents the optimal difficulty.
+     * In this difficulty the CPU looks up its choice in a policy computed
+     * in advance for the standard deck, which is the best one when the
+     * other players stay.
+     */
+    OPTIMAL,
+    /**
+     * Represents the learned difficulty.
+     * In this difficulty the CPU takes the choice with the most gems
+     * expected by a table learned by playing many rounds against itself.
+     */
+    LEARNED,
+    /**
+     * Represents the strategic difficulty.
+     * In this difficulty the CPU plays a mixed strategy trained by making
+     * the players of a round play against each other, which takes into
+     * account that the gems and the relics are shared by who exits together.
+     */
+    STRATEGIC
 }
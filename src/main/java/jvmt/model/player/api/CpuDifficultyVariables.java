@@ -13,6 +13,7 @@ import jvmt.model.player.impl.LogicCpuImpl;
  * @param weightCards   weighted value for the cards drawn.
  * @param weightRelics  weighted value for the relic cards.
  * @param weightPlayers weighted value for the players.
+ * @param weightRisk    weighted value for the risk of the next card.
  * @param minBl         minimum borderline value.
  * @param maxBl         maximum borderline value.
  * 
@@ -24,6 +25,7 @@ public record CpuDifficultyVariables(
         double weightCards,
         double weightRelics,
         double weightPlayers,
+        double weightRisk,
         double minBl,
         double maxBl) {
 }
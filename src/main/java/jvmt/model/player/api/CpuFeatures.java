@@ -0,0 +1,31 @@
+package jvmt.model.player.api;
+
+import jvmt.model.player.impl.LogicCpuImpl;
+
+/**
+ * Record containing the normalized round informations a CPU takes into
+ * account when choosing whether to stay or exit.
+ * They only depend on the round state and on the deck of the game, so they
+ * are computed once per turn and shared by all the CPUs of the game.
+ * 
+ * @see LogicCpuImpl
+ * @see CpuDifficultyVariables
+ * 
+ * @param normGems    normalized value of the gems on path.
+ * @param normTraps   normalized value of the trap cards drawn.
+ * @param normCards   normalized value of the cards drawn.
+ * @param normRelics  normalized value of the relic cards that can be redeemed.
+ * @param normPlayers normalized value of the players still in the round.
+ * @param bustRisk    exact probability that the next card ends the round,
+ *                    zero when the difficulty doesn't take it into account.
+ * 
+ * @author Filippo Gaggi
+ */
+public record CpuFeatures(
+        double normGems,
+        double normTraps,
+        double normCards,
+        double normRelics,
+        double normPlayers,
+        double bustRisk) {
+}
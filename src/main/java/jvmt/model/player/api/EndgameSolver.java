@@ -0,0 +1,72 @@
+package jvmt.model.player.api;
+
+import java.util.Map;
+import java.util.Optional;
+
+import jvmt.model.player.impl.EndgameSolverImpl;
+import jvmt.model.round.api.RoundState;
+
+/**
+ * Chooses the moves of the players in the last round of the game, where the
+ * gems brought home only matter in how they change the final standings.
+ * <p>
+ * Instead of the gems a player expects to bring home, the solver maximizes the
+ * probability that the player ends the game with more gems in the chest than
+ * everybody else, looking at the chests of all the players of the round: a
+ * player far behind has to take risks that a leader should avoid.
+ * </p>
+ * 
+ * @see EndgameSolverImpl
+ * @see PlayerChoice
+ * 
+ * @author Filippo Gaggi
+ */
+public interface EndgameSolver {
+
+    /**
+     * Returns the probability that an active player wins the game by taking
+     * the given choice in the current state of the last round.
+     * <p>
+     * A tie with the best of the other players counts as half a win.
+     * </p>
+     * 
+     * @param state  the current state of the round.
+     * @param player the active player that has to choose.
+     * @param choice the choice of the player.
+     * @return the probability of winning the game, empty if the round can't
+     *         be searched.
+     * 
+     * @throws NullPointerException     if any of the arguments is null.
+     * @throws IllegalArgumentException if {@code player} is not active in the
+     *                                  round.
+     */
+    Optional<Double> getWinProbability(RoundState state, Player player, PlayerChoice choice);
+
+    /**
+     * Returns the choice that maximizes the probability that an active player
+     * wins the game, staying when both choices are equally good.
+     * 
+     * @param state  the current state of the round.
+     * @param player the active player that has to choose.
+     * @return the best choice, empty if the round can't be searched.
+     * 
+     * @throws NullPointerException     if {@code state} or {@code player} is
+     *                                  null.
+     * @throws IllegalArgumentException if {@code player} is not active in the
+     *                                  round.
+     */
+    Optional<PlayerChoice> choose(RoundState state, Player player);
+
+    /**
+     * Returns the best choice of every active player of the round.
+     * 
+     * @param state the current state of the round.
+     * @return the best choice of each active player whose decision could be
+     *         searched.
+     * 
+     * @throws NullPointerException if {@code state} is null.
+     * 
+     * @see #choose(RoundState, Player)
+     */
+    Map<Player, PlayerChoice> solve(RoundState state);
+}
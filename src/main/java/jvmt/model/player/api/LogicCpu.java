@@ -1,5 +1,9 @@
 package jvmt.model.player.api;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
 import jvmt.model.player.impl.LogicCpuImpl;
 import jvmt.model.round.api.RoundState;
 
@@ -26,4 +30,72 @@ public interface LogicCpu {
      * @return a PlayerChoice that represents the CPU choice.
      */
     PlayerChoice cpuChoice(RoundState state);
+
+    /**
+     * This method computes the normalized round informations used by the CPU to
+     * take its choice.
+     * 
+     * @param state the round state.
+     * 
+     * @throws NullPointerException     if @param state is null.
+     * @throws IllegalArgumentException if there aren't active players.
+     * 
+     * @return the features of the round state.
+     */
+    CpuFeatures computeFeatures(RoundState state);
+
+    /**
+     * This method returns the CPU's choice at the end of the turn, given the
+     * features already computed from the round state, possibly by another CPU of
+     * the same game.
+     * 
+     * @param features the features of the round state.
+     * 
+     * @throws NullPointerException if @param features is null.
+     * 
+     * @return a PlayerChoice that represents the CPU choice.
+     * 
+     * @see #computeFeatures(RoundState)
+     */
+    PlayerChoice cpuChoice(CpuFeatures features);
+
+    /**
+     * This method returns the CPU's choice at the end of the turn, given the
+     * round state and its features, already computed by a CPU of the same game.
+     * CPUs that only need the features don't look at the state.
+     * 
+     * @param state    the round state.
+     * @param features the features of the round state.
+     * 
+     * @throws NullPointerException if @param state or @param features is null.
+     * 
+     * @return a PlayerChoice that represents the CPU choice.
+     */
+    default PlayerChoice cpuChoice(final RoundState state, final CpuFeatures features) {
+        Objects.requireNonNull(state);
+        return this.cpuChoice(features);
+    }
+
+    /**
+     * This method returns the choices of all the given CPUs at the end of the
+     * turn. The round informations are computed only once, by this CPU, and
+     * shared by all the CPUs, which must belong to the same game: every CPU
+     * decides on the same round state, as if they all chose at the same time.
+     * 
+     * @param state the round state.
+     * @param cpus  the CPUs that have to choose.
+     * 
+     * @throws NullPointerException if @param state or @param cpus is null.
+     * 
+     * @return the choices of the CPUs, in the same order.
+     */
+    default List<PlayerChoice> cpuChoices(final RoundState state, final List<? extends LogicCpu> cpus) {
+        Objects.requireNonNull(cpus);
+        final CpuFeatures features = this.computeFeatures(state);
+        final List<PlayerChoice> choices = new ArrayList<>(cpus.size());
+        for (final LogicCpu cpu : cpus) {
+            choices.add(cpu.cpuChoice(state, features));
+        }
+        return choices;
+    }
 }
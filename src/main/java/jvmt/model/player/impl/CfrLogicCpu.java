@@ -0,0 +1,158 @@
+package jvmt.model.player.impl;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Random;
+import java.util.random.RandomGenerator;
+
+import jvmt.model.game.api.GameSettings;
+import jvmt.model.player.api.CpuDifficulty;
+import jvmt.model.player.api.CpuFeatures;
+import jvmt.model.player.api.LogicCpu;
+import jvmt.model.player.api.PlayerChoice;
+import jvmt.model.round.api.RoundState;
+import jvmt.model.simulation.api.CfrStrategy;
+import jvmt.model.simulation.api.CfrTrainer;
+import jvmt.model.simulation.impl.CfrStrategyImpl;
+
+/**
+ * Implementation of the {@link LogicCpu} interface for the
+ * {@link CpuDifficulty#STRATEGIC} difficulty, that plays a strategy trained by
+ * a {@link CfrTrainer}.
+ * <p>
+ * The strategy is mixed: in the same state the CPU sometimes stays and
+ * sometimes exits, with the probabilities of the strategy, so the other
+ * players can't count on its choice.
+ * </p>
+ * <p>
+ * The strategy shipped with the game is trained with the standard deck and
+ * rules: if the game is played with other rules, or the strategy is missing,
+ * the CPU falls back to the weighted heuristics of {@link LogicCpuImpl}.
+ * </p>
+ * 
+ * @see LogicCpu
+ * @see CfrStrategy
+ * 
+ * @author Filippo Gaggi
+ */
+public final class CfrLogicCpu implements LogicCpu {
+
+    private final LogicCpu fallback;
+    private final Optional<CfrStrategy> strategy;
+    private final RandomGenerator rand;
+
+    /**
+     * Initializes the CPU's logic with the strategy trained for the standard
+     * deck, shipped with the game.
+     * 
+     * @param settings the game settings.
+     * 
+     * @throws NullPointerException if {@link settings} is null.
+     */
+    public CfrLogicCpu(final GameSettings settings) {
+        this(new LogicCpuImpl(settings), standardStrategy(settings), settings.getRandomSource().split());
+    }
+
+    /**
+     * Initializes the CPU's logic with the strategy trained for the standard
+     * deck, second constructor that gives in input the seed of the Random
+     * object in order to facilitate testing.
+     * 
+     * @param settings the game settings.
+     * @param seed     seed for the Random object.
+     * 
+     * @throws NullPointerException if {@link settings} is null.
+     */
+    public CfrLogicCpu(final GameSettings settings, final int seed) {
+        this(new LogicCpuImpl(settings, seed), standardStrategy(settings), new Random(seed));
+    }
+
+    /**
+     * Initializes the CPU's logic.
+     * 
+     * @param settings the game settings.
+     * @param strategy the trained strategy.
+     * 
+     * @throws NullPointerException if {@link settings} or {@link strategy} is
+     *                              null.
+     */
+    public CfrLogicCpu(final GameSettings settings, final CfrStrategy strategy) {
+        this(new LogicCpuImpl(settings), Optional.of(strategy), settings.getRandomSource().split());
+    }
+
+    /**
+     * Initializes the CPU's logic, second constructor that gives in input
+     * the seed of the Random object in order to facilitate testing.
+     * 
+     * @param settings the game settings.
+     * @param strategy the trained strategy.
+     * @param seed     seed for the Random object.
+     * 
+     * @throws NullPointerException if {@link settings} or {@link strategy} is
+     *                              null.
+     */
+    public CfrLogicCpu(final GameSettings settings, final CfrStrategy strategy, final int seed) {
+        this(new LogicCpuImpl(settings, seed), Optional.of(strategy), new Random(seed));
+    }
+
+    private CfrLogicCpu(final LogicCpu fallback, final Optional<CfrStrategy> strategy, final RandomGenerator rand) {
+        this.fallback = fallback;
+        this.strategy = strategy;
+        this.rand = rand;
+    }
+
+    private static Optional<CfrStrategy> standardStrategy(final GameSettings settings) {
+        // The shipped strategy would give wrong choices under other rules
+        return settings.hasStandardRules() ? CfrStrategyImpl.standard() : Optional.empty();
+    }
+
+    /**
+     * Tells whether the CPU has a strategy for the rules of the game.
+     * 
+     * @return true if the choices come from the strategy, false if they always
+     *         come from the heuristics.
+     */
+    public boolean hasStrategy() {
+        return this.strategy.isPresent();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public PlayerChoice cpuChoice(final RoundState state) {
+        if (this.strategy.isEmpty()) {
+            return this.fallback.cpuChoice(state);
+        }
+        return this.rand.nextDouble() < this.strategy.get().getExitProbability(state)
+                ? PlayerChoice.EXIT
+                : PlayerChoice.STAY;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public PlayerChoice cpuChoice(final RoundState state, final CpuFeatures features) {
+        Objects.requireNonNull(features);
+        return this.cpuChoice(state);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CpuFeatures computeFeatures(final RoundState state) {
+        return this.fallback.computeFeatures(state);
+    }
+
+    /**
+     * {@inheritDoc}
+     * The strategy needs the round state, so this choice comes from the
+     * heuristics.
+     */
+    @Override
+    public PlayerChoice cpuChoice(final CpuFeatures features) {
+        return this.fallback.cpuChoice(features);
+    }
+}
@@ -0,0 +1,646 @@
+package jvmt.model.player.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+import jvmt.model.card.api.Card;
+import jvmt.model.card.impl.CardCodes;
+import jvmt.model.card.impl.CompositionCodec;
+import jvmt.model.card.impl.RelicCard;
+import jvmt.model.player.api.EndgameSolver;
+import jvmt.model.player.api.Player;
+import jvmt.model.player.api.PlayerChoice;
+import jvmt.model.round.api.RiskOracle;
+import jvmt.model.round.api.RoundPlayersManager;
+import jvmt.model.round.api.RoundState;
+import jvmt.utils.CommonUtils;
+
+/**
+ * Implementation of {@link EndgameSolver} based on a memoized search over the
+ * next cards of the round.
+ * <p>
+ * A state of the search is made of the composition of the deck, the gems in
+ * the sacks of the active players, the gems and relics left on the path, the
+ * players still active and the best total of the players that already left.
+ * The values of the states searched to the end of the round are kept for the
+ * whole round, so the states met again in the next turns are not searched
+ * twice.
+ * </p>
+ * <p>
+ * The search is deepened one card at a time. Past the cards it looks at, the
+ * players still active are assumed to draw one more card and leave all
+ * together: the probability that the card ends the round and the gems it
+ * brings on average, the numbers a {@link RiskOracle} gives, tell who is
+ * likely to be ahead at the end. The choice is the one of the deepest search
+ * completed within the given number of states, so the solver always chooses,
+ * and early in the round it only looks a few cards ahead.
+ * </p>
+ * <p>
+ * The other players are assumed to leave all together, in each turn, with the
+ * probability that {@link MctsLogicCpu} gives to a player leaving; the relics
+ * that will be drawn are worth the average value of a relic, and the gems are
+ * not changed by the modifier of the round.
+ * </p>
+ * <p>
+ * The search follows the standard rules of the game, where the round ends on
+ * the second trap of a type, so it must only be used in games with the
+ * standard end condition and gem modifier.
+ * </p>
+ * 
+ * @see EndgameSolver
+ * @see RiskOracle
+ * 
+ * @author Filippo Gaggi
+ */
+public final class EndgameSolverImpl implements EndgameSolver {
+
+    /**
+     * The default number of states that can be searched for a single decision.
+     */
+    public static final int DEFAULT_MAX_STATES = 10_000;
+
+    private static final int ACTIVE = -1;
+    private static final int NOBODY = -1;
+    private static final double TIE = 0.5;
+    // Bits of each field of a state packed in a long, besides the composition
+    private static final int PLAYER_BITS = 3;
+    private static final int MASK_BITS = 8;
+    private static final int GEMS_BITS = 10;
+    private static final int MAX_GEMS = (1 << GEMS_BITS) - 2;
+
+    private final int maxStates;
+    private final int relicValue;
+    // Created the first time a decision is searched: the values of the states
+    // searched to the end of the round, and the ones of the current depth
+    private ValueTable values;
+    private ValueTable estimates;
+    private final int[] counts = new int[CardCodes.COUNT];
+    // Informations about the round that is being solved
+    private final List<Player> roundPlayers = new ArrayList<>();
+    private RoundState solvedState;
+    private int[] chests = new int[0];
+    private CompositionCodec codec;
+    private int self;
+    private int remaining;
+    private int potential;
+    private int searchedStates;
+    // The cards left when the decision is taken, and how many are looked at
+    private int rootRemaining;
+    private int depth;
+    // How many times the value of a state was estimated in the current search
+    private int estimatedStates;
+
+    /**
+     * Creates a solver that searches at most {@link #DEFAULT_MAX_STATES} states
+     * for each decision.
+     */
+    public EndgameSolverImpl() {
+        this(DEFAULT_MAX_STATES);
+    }
+
+    /**
+     * Creates a solver that searches at most the given number of states for
+     * each decision.
+     * 
+     * @param maxStates the number of new states that can be searched for a
+     *                  decision.
+     * 
+     * @throws IllegalArgumentException if {@code maxStates} is not positive.
+     */
+    public EndgameSolverImpl(final int maxStates) {
+        if (maxStates <= 0) {
+            throw new IllegalArgumentException("The solver must be able to search at least one state.");
+        }
+        this.maxStates = maxStates;
+        this.relicValue = (int) Math.round(RelicCard.getPossibleGemValues().stream()
+                .mapToInt(Integer::intValue)
+                .average()
+                .orElse(0));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized Optional<Double> getWinProbability(
+            final RoundState state,
+            final Player player,
+            final PlayerChoice choice) {
+        CommonUtils.requireNonNulls(state, player, choice);
+        if (!this.prepare(state, player)) {
+            return Optional.empty();
+        }
+        return this.search(state).map(values -> values[choice == PlayerChoice.EXIT ? 1 : 0]);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized Optional<PlayerChoice> choose(final RoundState state, final Player player) {
+        CommonUtils.requireNonNulls(state, player);
+        if (!this.prepare(state, player)) {
+            return Optional.empty();
+        }
+        return this.search(state).map(values -> values[1] > values[0] ? PlayerChoice.EXIT : PlayerChoice.STAY);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized Map<Player, PlayerChoice> solve(final RoundState state) {
+        Objects.requireNonNull(state);
+        final Map<Player, PlayerChoice> choices = new LinkedHashMap<>();
+        for (final Player player : state.getRoundPlayersManager().getActivePlayers()) {
+            this.choose(state, player).ifPresent(choice -> choices.put(player, choice));
+        }
+        return choices;
+    }
+
+    /*
+     * Reads the round, if it's not the one already known, and the current
+     * composition of the deck. Returns false if the compositions of the deck
+     * or the gems of the players can't be packed.
+     */
+    private boolean prepare(final RoundState state, final Player player) {
+        final RoundPlayersManager manager = state.getRoundPlayersManager();
+        if (!manager.getActivePlayers().contains(player)) {
+            throw new IllegalArgumentException("Only an active player can choose.");
+        }
+        if (state != this.solvedState) {
+            this.startRound(state);
+        }
+        if (!this.codec.isPackable() || this.roundPlayers.indexOf(player) < 0
+                || this.roundPlayers.size() > 1 << PLAYER_BITS) {
+            return false;
+        }
+        this.self = this.roundPlayers.indexOf(player);
+        this.searchedStates = 0;
+        for (int code = 0; code < CardCodes.COUNT; code++) {
+            this.counts[code] = this.codec.initialOfCode(code);
+        }
+        for (final Card card : state.getDrawCards()) {
+            this.counts[CardCodes.of(card)]--;
+        }
+        this.remaining = 0;
+        this.potential = 0;
+        for (int code = 0; code < CardCodes.COUNT; code++) {
+            this.remaining += this.counts[code];
+            this.potential += this.counts[code] * this.gemsOf(code);
+        }
+        int gems = player.getSackGems() + state.getPathGems() + this.potential;
+        for (final RelicCard relic : state.getRedeemableRelics()) {
+            gems += relic.getGemValue();
+        }
+        // All the gems of a state must fit in their bits
+        if (Arrays.stream(this.chests).max().orElse(0) + gems > MAX_GEMS) {
+            return false;
+        }
+        this.rootRemaining = this.remaining;
+        if (this.values == null) {
+            this.values = new ValueTable(this.maxStates / 2);
+            this.estimates = new ValueTable(this.maxStates / 2);
+        } else if (this.values.isFull()) {
+            // The states of the past turns are not likely to be met again
+            this.values.clear();
+        }
+        return true;
+    }
+
+    /*
+     * Searches one more card at a time, until the end of the round is reached
+     * or the states run out. Returns the values of staying and exiting given
+     * by the deepest search completed, empty if not even the next card could
+     * be searched.
+     */
+    private Optional<double[]> search(final RoundState state) {
+        double[] completed = null;
+        for (this.depth = 1; this.depth <= this.rootRemaining; this.depth++) {
+            // The estimated values only hold for the depth they were searched at
+            this.estimates.clear();
+            this.estimatedStates = 0;
+            final double stay = this.rootValue(state, false);
+            final double exit = this.rootValue(state, true);
+            if (this.isAbandoned()) {
+                break;
+            }
+            completed = new double[] {stay, exit};
+            if (this.estimatedStates == 0) {
+                // The search reached the end of the round everywhere
+                break;
+            }
+        }
+        return Optional.ofNullable(completed);
+    }
+
+    /*
+     * Once a search is abandoned the values of the states left open are not
+     * stored, since they depend on states that were not searched. The values
+     * of the states searched completely are kept, so the search goes on from
+     * them in the next turns.
+     */
+    private boolean isAbandoned() {
+        return this.searchedStates > this.maxStates;
+    }
+
+    private void startRound(final RoundState state) {
+        final RoundPlayersManager manager = state.getRoundPlayersManager();
+        this.solvedState = state;
+        if (this.values != null) {
+            this.values.clear();
+        }
+        this.roundPlayers.clear();
+        this.roundPlayers.addAll(manager.getActivePlayers());
+        this.roundPlayers.addAll(manager.getExitedPlayers());
+        this.chests = new int[this.roundPlayers.size()];
+        for (int i = 0; i < this.chests.length; i++) {
+            this.chests[i] = this.roundPlayers.get(i).getChestGems();
+        }
+        final int[] initial = CompositionCodec.countCodes(state.getDeck());
+        for (final Card card : state.getDrawCards()) {
+            initial[CardCodes.of(card)]++;
+        }
+        this.codec = new CompositionCodec(initial);
+    }
+
+    private double rootValue(final RoundState state, final boolean selfExits) {
+        int mask = 0;
+        int best = NOBODY;
+        for (int i = 0; i < this.roundPlayers.size(); i++) {
+            final Player player = this.roundPlayers.get(i);
+            if (player.getChoice() == PlayerChoice.STAY) {
+                mask |= i == this.self ? 0 : 1 << i;
+            } else {
+                // The sacks of the players that left go in their chests
+                best = Math.max(best, this.chests[i] + player.getSackGems());
+            }
+        }
+        int relics = 0;
+        for (final RelicCard relic : state.getRedeemableRelics()) {
+            relics += relic.getGemValue();
+        }
+        final int sack = this.roundPlayers.get(this.self).getSackGems();
+        return this.afterChoices(this.codec.pack(this.counts), mask, sack, state.getPathGems(), relics, best,
+                ACTIVE, selfExits);
+    }
+
+    /*
+     * The probability of winning once the card of a turn is drawn, before the
+     * players choose.
+     */
+    private double decision(
+            final long composition,
+            final int mask,
+            final int sack,
+            final int path,
+            final int relics,
+            final int best,
+            final int selfFinal) {
+        final long key = this.pack(mask, sack, path, relics, best, selfFinal);
+        final double known = this.values.get(composition, key);
+        if (!Double.isNaN(known)) {
+            return known;
+        }
+        final double estimated = this.estimates.get(composition, key);
+        if (!Double.isNaN(estimated)) {
+            this.estimatedStates++;
+            return estimated;
+        }
+        this.searchedStates++;
+        if (this.isAbandoned()) {
+            // The value doesn't matter anymore
+            return 0;
+        }
+        final int estimatedBefore = this.estimatedStates;
+        double value = this.afterChoices(composition, mask, sack, path, relics, best, selfFinal, false);
+        if (selfFinal == ACTIVE) {
+            value = Math.max(value, this.afterChoices(composition, mask, sack, path, relics, best, selfFinal, true));
+        }
+        if (!this.isAbandoned()) {
+            (this.estimatedStates == estimatedBefore ? this.values : this.estimates).put(composition, key, value);
+        }
+        return value;
+    }
+
+    /*
+     * The probability of winning once the players took their choices: the
+     * players that leave share the path, then the next card is drawn.
+     */
+    private double afterChoices(
+            final long composition,
+            final int mask,
+            final int sack,
+            final int path,
+            final int relics,
+            final int best,
+            final int selfFinal,
+            final boolean selfExits) {
+        final double exitProbability = mask == 0 ? 0 : this.othersExitProbability();
+        double value = 0;
+        if (exitProbability > 0) {
+            value += exitProbability
+                    * this.afterExits(composition, mask, sack, path, relics, best, selfFinal, selfExits, mask);
+        }
+        if (exitProbability < 1) {
+            value += (1 - exitProbability)
+                    * this.afterExits(composition, mask, sack, path, relics, best, selfFinal, selfExits, 0);
+        }
+        return value;
+    }
+
+    private double afterExits(
+            final long composition,
+            final int mask,
+            final int sack,
+            final int path,
+            final int relics,
+            final int best,
+            final int selfFinal,
+            final boolean selfExits,
+            final int exiting) {
+        final int leaving = Integer.bitCount(exiting) + (selfExits ? 1 : 0);
+        int nextPath = path;
+        int nextRelics = relics;
+        int nextBest = best;
+        int nextSelf = selfFinal;
+        if (leaving > 0) {
+            // A player that leaves alone takes all the relics
+            final int share = path / leaving + (leaving == 1 ? relics : 0);
+            nextPath = path % leaving;
+            nextRelics = leaving == 1 ? 0 : relics;
+            for (int i = 0; i < this.chests.length; i++) {
+                if ((exiting & 1 << i) != 0) {
+                    nextBest = Math.max(nextBest, this.chests[i] + sack + share);
+                }
+            }
+            if (selfExits) {
+                nextSelf = this.chests[this.self] + sack + share;
+            }
+        }
+        final int nextMask = mask & ~exiting;
+        final int bound = sack + nextPath + nextRelics + this.potential;
+        if (nextSelf == ACTIVE) {
+            if (this.chests[this.self] + bound < nextBest) {
+                return 0;
+            }
+        } else if (nextMask == 0 || nextSelf < nextBest) {
+            return outcome(nextSelf, nextBest);
+        } else if (nextSelf > nextBest && nextSelf > this.bestChest(nextMask) + bound) {
+            // Nobody can reach the gems of the player anymore
+            return 1;
+        }
+        return this.draw(composition, nextMask, sack, nextPath, nextRelics, nextBest, nextSelf);
+    }
+
+    /*
+     * The probability of winning before the next card is drawn.
+     */
+    private double draw(
+            final long composition,
+            final int mask,
+            final int sack,
+            final int path,
+            final int relics,
+            final int best,
+            final int selfFinal) {
+        if (this.remaining <= 1) {
+            // The last card ends the round, and the active players lose their sacks
+            return this.lose(mask, best, selfFinal);
+        }
+        final int active = Integer.bitCount(mask) + (selfFinal == ACTIVE ? 1 : 0);
+        if (this.rootRemaining - this.remaining >= this.depth) {
+            this.searchedStates++;
+            this.estimatedStates++;
+            return this.estimate(mask, sack, path, relics, best, selfFinal, active);
+        }
+        final int total = this.remaining;
+        double value = 0;
+        for (int code = 0; code < CardCodes.COUNT; code++) {
+            final int count = this.counts[code];
+            if (count == 0) {
+                continue;
+            }
+            if (this.busts(code)) {
+                value += count * this.lose(mask, best, selfFinal);
+                continue;
+            }
+            final int gems = this.gemsOf(code);
+            this.counts[code]--;
+            this.remaining--;
+            this.potential -= gems;
+            final long next = composition - this.codec.weightOf(code);
+            if (CardCodes.isTreasure(code)) {
+                value += count * this.decision(next, mask, sack + gems / active, path + gems % active, relics, best,
+                        selfFinal);
+            } else {
+                value += count * this.decision(next, mask, sack, path, relics + gems, best, selfFinal);
+            }
+            this.counts[code]++;
+            this.remaining++;
+            this.potential += gems;
+        }
+        return value / total;
+    }
+
+    /*
+     * The probability of winning past the cards searched: the active players
+     * draw one more card and, if the round goes on, leave all together with
+     * the average gems of the card. The players in the lead at that point win.
+     */
+    private double estimate(
+            final int mask,
+            final int sack,
+            final int path,
+            final int relics,
+            final int best,
+            final int selfFinal,
+            final int active) {
+        int busting = 0;
+        double treasures = 0;
+        double drawnRelics = 0;
+        for (int code = 0; code < CardCodes.COUNT; code++) {
+            if (this.busts(code)) {
+                busting += this.counts[code];
+            } else if (CardCodes.isTreasure(code)) {
+                treasures += this.counts[code] * this.gemsOf(code);
+            } else if (code == CardCodes.RELIC) {
+                drawnRelics += this.counts[code] * this.gemsOf(code);
+            }
+        }
+        final int safe = this.remaining - busting;
+        double value = busting * this.lose(mask, best, selfFinal);
+        if (safe > 0) {
+            // The gems of the card, if it doesn't end the round
+            final double share = sack + (path + treasures / safe) / active
+                    + (active == 1 ? relics + drawnRelics / safe : 0);
+            final double self = selfFinal == ACTIVE ? this.chests[this.self] + share : selfFinal;
+            final double others = mask == 0 ? best : Math.max(best, this.bestChest(mask) + share);
+            value += safe * outcome(self, others);
+        }
+        return value / this.remaining;
+    }
+
+    /*
+     * The other players leave all together, with the probability the MCTS of
+     * the master difficulty gives to a player: the traps on the path over the
+     * types of trap in the deck. Nobody stays for the last card.
+     */
+    private double othersExitProbability() {
+        if (this.remaining <= 1) {
+            return 1;
+        }
+        int drawnTraps = 0;
+        int trapTypes = 0;
+        for (int code = 0; code < CardCodes.COUNT; code++) {
+            if (CardCodes.isTrap(code) && this.codec.initialOfCode(code) > 0) {
+                drawnTraps += this.codec.initialOfCode(code) - this.counts[code];
+                trapTypes++;
+            }
+        }
+        return trapTypes == 0 ? 0 : Math.min(1.0, (double) drawnTraps / trapTypes);
+    }
+
+    private double lose(final int mask, final int best, final int selfFinal) {
+        final int gems = selfFinal == ACTIVE ? this.chests[this.self] : selfFinal;
+        return outcome(gems, Math.max(best, this.bestChest(mask)));
+    }
+
+    private int bestChest(final int mask) {
+        int best = NOBODY;
+        for (int i = 0; i < this.chests.length; i++) {
+            if ((mask & 1 << i) != 0) {
+                best = Math.max(best, this.chests[i]);
+            }
+        }
+        return best;
+    }
+
+    private boolean busts(final int code) {
+        return CardCodes.isTrap(code) && this.counts[code] < this.codec.initialOfCode(code);
+    }
+
+    private int gemsOf(final int code) {
+        if (CardCodes.isTreasure(code)) {
+            return CardCodes.treasureGemValue(code);
+        }
+        return code == CardCodes.RELIC ? this.relicValue : 0;
+    }
+
+    private static double outcome(final double gems, final double best) {
+        if (gems > best) {
+            return 1;
+        }
+        return gems == best ? TIE : 0;
+    }
+
+    private long pack(
+            final int mask,
+            final int sack,
+            final int path,
+            final int relics,
+            final int best,
+            final int selfFinal) {
+        long key = this.self;
+        key = key << MASK_BITS | mask;
+        key = key << GEMS_BITS | sack;
+        key = key << GEMS_BITS | path;
+        key = key << GEMS_BITS | relics;
+        key = key << GEMS_BITS | best + 1;
+        return key << GEMS_BITS | selfFinal + 1;
+    }
+
+    /*
+     * An open addressing table of the values of the states, which grows with
+     * the states searched in the round.
+     */
+    private static final class ValueTable {
+
+        // No packed state has all the bits set
+        private static final long EMPTY = -1;
+        private static final long MIX = 0x9E3779B97F4A7C15L;
+        private static final int INITIAL_LENGTH = 1 << 12;
+
+        private final int maxSize;
+        private long[] compositions;
+        private long[] keys;
+        private double[] values;
+        private int shift;
+        private int size;
+
+        ValueTable(final int maxSize) {
+            this.maxSize = maxSize;
+            this.allocate(INITIAL_LENGTH);
+        }
+
+        double get(final long composition, final long key) {
+            for (int slot = this.slotOf(composition, key);; slot = slot + 1 & this.keys.length - 1) {
+                if (this.keys[slot] == EMPTY) {
+                    return Double.NaN;
+                } else if (this.keys[slot] == key && this.compositions[slot] == composition) {
+                    return this.values[slot];
+                }
+            }
+        }
+
+        void put(final long composition, final long key, final double value) {
+            if (this.size >= this.keys.length / 2) {
+                this.grow();
+            }
+            int slot = this.slotOf(composition, key);
+            while (this.keys[slot] != EMPTY
+                    && (this.keys[slot] != key || this.compositions[slot] != composition)) {
+                slot = slot + 1 & this.keys.length - 1;
+            }
+            if (this.keys[slot] == EMPTY) {
+                this.size++;
+            }
+            this.compositions[slot] = composition;
+            this.keys[slot] = key;
+            this.values[slot] = value;
+        }
+
+        /*
+         * Tells whether the table keeps more states than it should between two
+         * searches.
+         */
+        boolean isFull() {
+            return this.size >= this.maxSize;
+        }
+
+        void clear() {
+            Arrays.fill(this.keys, EMPTY);
+            this.size = 0;
+        }
+
+        private void grow() {
+            final long[] oldCompositions = this.compositions;
+            final long[] oldKeys = this.keys;
+            final double[] oldValues = this.values;
+            this.allocate(oldKeys.length * 2);
+            this.size = 0;
+            for (int slot = 0; slot < oldKeys.length; slot++) {
+                if (oldKeys[slot] != EMPTY) {
+                    this.put(oldCompositions[slot], oldKeys[slot], oldValues[slot]);
+                }
+            }
+        }
+
+        private void allocate(final int length) {
+            this.compositions = new long[length];
+            this.keys = new long[length];
+            this.values = new double[length];
+            this.shift = Long.SIZE - Integer.numberOfTrailingZeros(length);
+            Arrays.fill(this.keys, EMPTY);
+        }
+
+        private int slotOf(final long composition, final long key) {
+            return (int) (((composition * MIX) ^ key) * MIX >>> this.shift);
+        }
+    }
+}
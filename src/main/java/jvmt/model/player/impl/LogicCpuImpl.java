@@ -3,12 +3,17 @@ package jvmt.model.player.impl;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Random;
+import java.util.random.RandomGenerator;
 
+import jvmt.model.card.api.DeckStatistics;
 import jvmt.model.game.api.GameSettings;
 import jvmt.model.player.api.CpuDifficulty;
+import jvmt.model.player.api.CpuFeatures;
 import jvmt.model.player.api.CpuDifficultyVariables;
 import jvmt.model.player.api.LogicCpu;
 import jvmt.model.player.api.PlayerChoice;
+import jvmt.model.round.api.RoundPlayersManager;
+import jvmt.model.round.api.RiskOracle;
 import jvmt.model.round.api.RoundState;
 
 /**
@@ -37,13 +42,21 @@ public class LogicCpuImpl implements LogicCpu {
          * the round informations.
          */
         private static final Map<CpuDifficulty, CpuDifficultyVariables> DIFFICULTY_VARIABLES = Map.of(
-                        CpuDifficulty.EASY, new CpuDifficultyVariables(0.60, 0.05, 0.15, 0, 0.20, 0.4, 0.7),
-                        CpuDifficulty.NORMAL, new CpuDifficultyVariables(0.25, 0.20, 0.15, 0.20, 0.20, 0.5, 0.7),
-                        CpuDifficulty.HARD, new CpuDifficultyVariables(0.05, 0.50, 0.15, 0.30, 0, 0.5, 0.7));
-        private final GameSettings settings;
+                        CpuDifficulty.EASY, new CpuDifficultyVariables(0.60, 0.05, 0.15, 0, 0.20, 0, 0.4, 0.7),
+                        CpuDifficulty.NORMAL, new CpuDifficultyVariables(0.25, 0.20, 0.15, 0.20, 0.20, 0, 0.5, 0.7),
+                        CpuDifficulty.HARD, new CpuDifficultyVariables(0.05, 0.50, 0.15, 0.30, 0, 0, 0.5, 0.7),
+                        // used when the expert and master CPUs have no time to play the round,
+                        // and when the optimal, learned and strategic CPUs know nothing of the state
+                        CpuDifficulty.EXPERT, new CpuDifficultyVariables(0.05, 0.25, 0.15, 0.30, 0, 0.25, 0.5, 0.7),
+                        CpuDifficulty.MASTER, new CpuDifficultyVariables(0.05, 0.25, 0.15, 0.30, 0, 0.25, 0.5, 0.7),
+                        CpuDifficulty.OPTIMAL, new CpuDifficultyVariables(0.05, 0.25, 0.15, 0.30, 0, 0.25, 0.5, 0.7),
+                        CpuDifficulty.LEARNED, new CpuDifficultyVariables(0.05, 0.25, 0.15, 0.30, 0, 0.25, 0.5, 0.7),
+                        CpuDifficulty.STRATEGIC, new CpuDifficultyVariables(0.05, 0.25, 0.15, 0.30, 0, 0.25, 0.5, 0.7));
+        private final DeckStatistics deckStatistics;
         private final CpuDifficulty difficulty;
         private final CpuDifficultyVariables config;
-        private final Random rand;
+        private final RandomGenerator rand;
+        private final RiskOracle riskOracle;
 
         /**
          * Initializes the CPU's logic.
@@ -54,10 +67,12 @@ public class LogicCpuImpl implements LogicCpu {
          */
         public LogicCpuImpl(final GameSettings settings) {
                 Objects.requireNonNull(settings);
-                this.settings = settings;
+                this.deckStatistics = settings.getDeckStatistics();
+                this.riskOracle = settings.getRiskOracle();
                 this.difficulty = settings.getCpuDifficulty();
                 this.config = DIFFICULTY_VARIABLES.get(this.difficulty);
-                this.rand = new Random();
+                // Every CPU gets its own stream, split from the one of the game
+                this.rand = settings.getRandomSource().split();
         }
 
         /**
@@ -72,18 +87,76 @@ public class LogicCpuImpl implements LogicCpu {
          */
         public LogicCpuImpl(final GameSettings settings, final int seed) {
                 Objects.requireNonNull(settings);
-                this.settings = settings;
+                this.deckStatistics = settings.getDeckStatistics();
+                this.riskOracle = settings.getRiskOracle();
                 this.difficulty = settings.getCpuDifficulty();
                 this.config = DIFFICULTY_VARIABLES.get(this.difficulty);
                 this.rand = new Random(seed);
         }
 
+        /**
+         * Initializes the CPU's logic with the given weights instead of the ones
+         * of the difficulty, in order to try new weights.
+         * 
+         * @throws NullPointerException if {@link settings} or {@link variables} is
+         *                              null.
+         * 
+         * @param settings  the game settings.
+         * @param variables the weights used to take the choices.
+         */
+        public LogicCpuImpl(final GameSettings settings, final CpuDifficultyVariables variables) {
+                Objects.requireNonNull(settings);
+                this.deckStatistics = settings.getDeckStatistics();
+                this.riskOracle = settings.getRiskOracle();
+                this.difficulty = settings.getCpuDifficulty();
+                this.config = Objects.requireNonNull(variables);
+                this.rand = settings.getRandomSource().split();
+        }
+
+        /**
+         * Getter for the weights used by the CPUs of the given difficulty.
+         * 
+         * @throws NullPointerException if {@link difficulty} is null.
+         * 
+         * @param difficulty the CPU difficulty.
+         * @return the weights of the difficulty.
+         */
+        public static CpuDifficultyVariables getDifficultyVariables(final CpuDifficulty difficulty) {
+                return DIFFICULTY_VARIABLES.get(Objects.requireNonNull(difficulty));
+        }
+
         /**
          * {@inheritDoc}
          */
         @Override
         public PlayerChoice cpuChoice(final RoundState state) {
-                final double score = calculateScore(Objects.requireNonNull(state));
+                return cpuChoice(computeFeatures(state));
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public CpuFeatures computeFeatures(final RoundState state) {
+                Objects.requireNonNull(state);
+                if (state.getRoundPlayersManager().getActivePlayersCount() == 0) {
+                        throw new IllegalArgumentException("There must be at least one active player.");
+                }
+                return new CpuFeatures(
+                                calculateNormGems(state),
+                                calculateNormTraps(state),
+                                calculateNormCards(state),
+                                calculateNormRelics(state),
+                                calculateNormPlayers(state),
+                                calculateBustRisk(state));
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public PlayerChoice cpuChoice(final CpuFeatures features) {
+                final double score = calculateScore(Objects.requireNonNull(features));
                 final double borderline = calculateBorderline();
                 return (score >= borderline) ? PlayerChoice.EXIT : PlayerChoice.STAY;
         }
@@ -104,7 +177,7 @@ public class LogicCpuImpl implements LogicCpu {
          */
         private double calculateNormGems(final RoundState state) {
                 Objects.requireNonNull(state);
-                return state.getPathGems() / (state.getRoundPlayersManager().getActivePlayers().size() * 2.0);
+                return state.getPathGems() / (state.getRoundPlayersManager().getActivePlayersCount() * 2.0);
         }
 
         /**
@@ -121,7 +194,7 @@ public class LogicCpuImpl implements LogicCpu {
          */
         private double calculateNormTraps(final RoundState state) {
                 Objects.requireNonNull(state);
-                return state.getDrawnTraps().size() / (double) this.settings.getDeck().totTrapCardTypesInDeck();
+                return state.getDrawnTrapsCount() / (double) this.deckStatistics.trapCardTypes();
         }
 
         /**
@@ -138,8 +211,8 @@ public class LogicCpuImpl implements LogicCpu {
          */
         private double calculateNormCards(final RoundState state) {
                 Objects.requireNonNull(state);
-                final int remainingCards = this.settings.getDeck().deckSize() - state.getDrawCards().size();
-                return 1.0 - (remainingCards / (double) this.settings.getDeck().deckSize());
+                final int remainingCards = this.deckStatistics.deckSize() - state.getDrawnCardsCount();
+                return 1.0 - (remainingCards / (double) this.deckStatistics.deckSize());
         }
 
         /**
@@ -157,7 +230,7 @@ public class LogicCpuImpl implements LogicCpu {
          */
         private double calculateNormRelics(final RoundState state) {
                 Objects.requireNonNull(state);
-                return state.getRedeemableRelics().size() * 2.0 / this.settings.getDeck().totRelicCardsInDeck();
+                return state.getRedeemableRelicsCount() * 2.0 / this.deckStatistics.relicCards();
         }
 
         /**
@@ -175,37 +248,41 @@ public class LogicCpuImpl implements LogicCpu {
          */
         private double calculateNormPlayers(final RoundState state) {
                 Objects.requireNonNull(state);
-                return 1.0 - (state.getRoundPlayersManager().getExitedPlayers().size()
-                                / (double) (state.getRoundPlayersManager().getExitedPlayers().size()
-                                                + state.getRoundPlayersManager().getActivePlayers().size()));
+                final RoundPlayersManager playersManager = state.getRoundPlayersManager();
+                final int exitedPlayers = playersManager.getExitedPlayersCount();
+                return 1.0 - (exitedPlayers
+                                / (double) (exitedPlayers + playersManager.getActivePlayersCount()));
+        }
+
+        /**
+         * This method returns the exact probability that the next card ends the
+         * round, as given by the oracle of the game.
+         * It is only asked for when the difficulty gives it some weight, and is
+         * zero otherwise.
+         * 
+         * @param state the round state.
+         * 
+         * @return the probability that the next card ends the round.
+         */
+        private double calculateBustRisk(final RoundState state) {
+                return this.config.weightRisk() == 0 ? 0 : this.riskOracle.estimate(state).bustProbability();
         }
 
         /**
          * Returns the score calculated by the sum of the products
          * of the normalized round informations for their weights.
          * 
-         * @throws NullPointerException     if {@link state} is null.
-         * @throws IllegalArgumentException if there aren't active players.
-         * 
-         * @param state the round state.
+         * @param features the normalized round informations.
          * 
          * @return the score calculated.
          */
-        private double calculateScore(final RoundState state) {
-                Objects.requireNonNull(state);
-                if (state.getRoundPlayersManager().getActivePlayers().isEmpty()) {
-                        throw new IllegalArgumentException("There must be at least one active player.");
-                }
-                final double normPlayers = calculateNormPlayers(state);
-                final double normCards = calculateNormCards(state);
-                final double normGems = calculateNormGems(state);
-                final double normTraps = calculateNormTraps(state);
-                final double normRelics = calculateNormRelics(state);
-                return (config.weightGems() * normGems)
-                                + (config.weightTraps() * normTraps)
-                                + (config.weightCards() * normCards)
-                                + (config.weightRelics() * normRelics)
-                                + (config.weightPlayers() * normPlayers);
+        private double calculateScore(final CpuFeatures features) {
+                return (config.weightGems() * features.normGems())
+                                + (config.weightTraps() * features.normTraps())
+                                + (config.weightCards() * features.normCards())
+                                + (config.weightRelics() * features.normRelics())
+                                + (config.weightPlayers() * features.normPlayers())
+                                + (config.weightRisk() * features.bustRisk());
         }
 
         /**
@@ -0,0 +1,469 @@
+package jvmt.model.player.impl;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.random.RandomGenerator;
+
+import jvmt.model.card.api.Card;
+import jvmt.model.card.impl.CardCodes;
+import jvmt.model.common.api.RandomSource;
+import jvmt.model.common.impl.SplittableRandomSource;
+import jvmt.model.game.api.GameSettings;
+import jvmt.model.player.api.CpuDifficulty;
+import jvmt.model.player.api.CpuFeatures;
+import jvmt.model.player.api.LogicCpu;
+import jvmt.model.player.api.Player;
+import jvmt.model.player.api.PlayerChoice;
+import jvmt.model.round.api.RoundState;
+import jvmt.model.round.api.roundeffect.RoundEffect;
+import jvmt.model.round.impl.turn.TurnImpl;
+import jvmt.utils.CommonUtils;
+
+/**
+ * Implementation of the {@link LogicCpu} interface for the
+ * {@link CpuDifficulty#MASTER} difficulty, based on a Monte Carlo tree search
+ * over what the CPU can see of the round.
+ * <p>
+ * Every node of the tree stands for what the CPU knows when it has to choose.
+ * Staying leads to a new node for each card that can be drawn next and each
+ * number of other players exiting in the same turn. The order of the deck is
+ * unknown, so every iteration of the search shuffles the cards left in a copy
+ * of the round and follows the tree along that order. The other players exit
+ * with a probability that grows with the traps on the path, like the
+ * heuristics of {@link LogicCpuImpl} do.
+ * </p>
+ * <p>
+ * The tree is kept between the turns of a round: when the CPU has to choose
+ * again, the node matching the card drawn and the players who left becomes
+ * the new root, and the rest of the tree is released. The nodes come from a
+ * bounded pool, so the tree never grows beyond a given size.
+ * </p>
+ * <p>
+ * The search runs on the workers of a {@link ForkJoinPool} that share the
+ * tree, using virtual losses to spread over different branches, and stops
+ * when the time budget of the decision runs out; the CPUs that choose
+ * together in a decision phase split a single budget. If no iteration could be
+ * completed the CPU falls back to the weighted heuristics of
+ * {@link LogicCpuImpl}.
+ * </p>
+ * 
+ * @see LogicCpu
+ * @see RolloutLogicCpu
+ * 
+ * @author Filippo Gaggi
+ */
+public final class MctsLogicCpu implements LogicCpu {
+
+    /**
+     * The default maximum time a decision can take.
+     */
+    public static final Duration DEFAULT_TIME_BUDGET = Duration.ofMillis(40);
+
+    /**
+     * The default maximum number of iterations of the search for a decision.
+     */
+    public static final int DEFAULT_MAX_ITERATIONS = 5_000;
+
+    /**
+     * The default maximum number of nodes of the tree.
+     */
+    public static final int DEFAULT_MAX_NODES = 50_000;
+
+    private static final double EXPLORATION = Math.sqrt(2);
+    // keeps the CPU from staying until the deck runs out in the play-outs
+    private static final double MIN_PLAYOUT_EXIT_PROBABILITY = 0.1;
+
+    private final GameSettings settings;
+    private final LogicCpu fallback;
+    private final RandomSource random;
+    private final long budgetNanos;
+    private final int maxIterations;
+    private final MctsNodePool nodes;
+    private final ForkJoinPool pool;
+    // what the CPU knew at the root of the tree, to find the next root
+    private MctsNode root;
+    private int rootDrawnCards;
+    private int rootActivePlayers;
+
+    /**
+     * Initializes the CPU's logic with the default limits.
+     * 
+     * @param settings the game settings.
+     * 
+     * @throws NullPointerException if {@link settings} is null.
+     */
+    public MctsLogicCpu(final GameSettings settings) {
+        this(settings, DEFAULT_TIME_BUDGET, DEFAULT_MAX_ITERATIONS, DEFAULT_MAX_NODES);
+    }
+
+    /**
+     * Initializes the CPU's logic, second constructor that gives in input
+     * the seed of the random sources in order to facilitate testing.
+     * 
+     * @param settings the game settings.
+     * @param seed     seed for the random sources.
+     * 
+     * @throws NullPointerException if {@link settings} is null.
+     */
+    public MctsLogicCpu(final GameSettings settings, final int seed) {
+        this(settings, new LogicCpuImpl(settings, seed), new SplittableRandomSource(seed),
+                DEFAULT_TIME_BUDGET, DEFAULT_MAX_ITERATIONS, DEFAULT_MAX_NODES);
+    }
+
+    /**
+     * Initializes the CPU's logic with the given limits. Smaller limits make
+     * the CPU weaker but faster and lighter.
+     * 
+     * @param settings      the game settings.
+     * @param timeBudget    the maximum time a decision can take.
+     * @param maxIterations the maximum number of iterations of the search for a
+     *                      decision.
+     * @param maxNodes      the maximum number of nodes of the tree.
+     * 
+     * @throws NullPointerException     if {@link settings} or
+     *                                  {@link timeBudget} is null.
+     * @throws IllegalArgumentException if {@link timeBudget} is negative, or
+     *                                  {@link maxIterations} or
+     *                                  {@link maxNodes} is not positive.
+     */
+    public MctsLogicCpu(
+            final GameSettings settings,
+            final Duration timeBudget,
+            final int maxIterations,
+            final int maxNodes) {
+        this(settings, new LogicCpuImpl(settings), settings.getRandomSource().split(),
+                timeBudget, maxIterations, maxNodes);
+    }
+
+    private MctsLogicCpu(
+            final GameSettings settings,
+            final LogicCpu fallback,
+            final RandomSource random,
+            final Duration timeBudget,
+            final int maxIterations,
+            final int maxNodes) {
+        Objects.requireNonNull(timeBudget);
+        if (timeBudget.isNegative() || maxIterations <= 0) {
+            throw new IllegalArgumentException("The time budget and the number of iterations must be positive.");
+        }
+        this.settings = Objects.requireNonNull(settings);
+        this.fallback = fallback;
+        this.random = random;
+        this.budgetNanos = timeBudget.toNanos();
+        this.maxIterations = maxIterations;
+        this.nodes = new MctsNodePool(maxNodes);
+        this.pool = ForkJoinPool.commonPool();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public PlayerChoice cpuChoice(final RoundState state) {
+        Objects.requireNonNull(state);
+        return this.choose(state, System.nanoTime() + this.budgetNanos);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * All the CPUs share the time budget of a single decision, so the phase
+     * doesn't take longer with more CPUs: every CPU of this difficulty searches
+     * for its share of the budget.
+     * </p>
+     */
+    @Override
+    public List<PlayerChoice> cpuChoices(final RoundState state, final List<? extends LogicCpu> cpus) {
+        CommonUtils.requireNonNulls(state, cpus);
+        return RoundSimulations.chooseWithinBudget(state, cpus, MctsLogicCpu.class, this.budgetNanos,
+                MctsLogicCpu::choose);
+    }
+
+    /**
+     * Searches the tree until the deadline, or until all the iterations are
+     * done, and takes the choice.
+     * 
+     * @param state    the round state.
+     * @param deadline the time, as given by {@link System#nanoTime()}, after
+     *                 which no iteration is started.
+     * @return the choice of the CPU.
+     */
+    private PlayerChoice choose(final RoundState state, final long deadline) {
+        if (state.getRoundPlayersManager().getActivePlayersCount() == 0) {
+            throw new IllegalArgumentException("There must be at least one active player.");
+        }
+        this.moveRoot(state);
+        final MctsNode searchRoot = this.root;
+        final int visitsBefore = searchRoot.getVisits();
+        final double exploration = EXPLORATION
+                * Math.max(1, RoundSimulations.exitValue(state, this.settings.getRoundEffect(), 0, 0));
+
+        // The workers never touch the real round, whose getters aren't thread-safe
+        final RoundSimulations.Snapshot snapshot = RoundSimulations.snapshot(state, this.random);
+
+        final AtomicInteger iterations = new AtomicInteger(this.maxIterations);
+        final int tasks = this.pool.getParallelism();
+        final List<ForkJoinTask<?>> running = new ArrayList<>(tasks);
+        for (int t = 0; t < tasks; t++) {
+            final RandomSource taskRandom = this.random.split();
+            running.add(this.pool.submit(() -> {
+                final RoundEffect effect = this.settings.getRoundEffect();
+                while (System.nanoTime() - deadline < 0 && iterations.getAndDecrement() > 0) {
+                    this.iterate(searchRoot, snapshot, effect, taskRandom, exploration);
+                }
+            }));
+        }
+        for (final ForkJoinTask<?> task : running) {
+            task.join();
+        }
+        if (searchRoot.getVisits() == visitsBefore) {
+            return this.fallback.cpuChoice(state);
+        }
+        return searchRoot.mostVisited();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CpuFeatures computeFeatures(final RoundState state) {
+        return this.fallback.computeFeatures(state);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The features alone aren't enough to search the round, so this method uses
+     * the weighted heuristics of {@link LogicCpuImpl}.
+     * </p>
+     */
+    @Override
+    public PlayerChoice cpuChoice(final CpuFeatures features) {
+        return this.fallback.cpuChoice(features);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The features are ignored and the round is searched from the state.
+     * </p>
+     */
+    @Override
+    public PlayerChoice cpuChoice(final RoundState state, final CpuFeatures features) {
+        return this.cpuChoice(state);
+    }
+
+    /**
+     * Returns the number of nodes of the search tree currently kept.
+     * 
+     * @return the number of nodes of the tree.
+     */
+    public int getTreeSize() {
+        return this.nodes.inUse();
+    }
+
+    /**
+     * Returns the number of visits of the root of the tree, which include the
+     * ones of the previous turns of the round when the tree was kept.
+     * 
+     * @return the number of visits of the root, zero before the first search.
+     */
+    public int getRootVisits() {
+        return this.root == null ? 0 : this.root.getVisits();
+    }
+
+    /**
+     * Sets the root of the tree for the given state. If the state follows the
+     * one of the current root by a turn in which the CPU stayed, the node of
+     * what happened in that turn becomes the root; otherwise the search starts
+     * over.
+     * 
+     * @param state the round state.
+     */
+    private void moveRoot(final RoundState state) {
+        final int drawnCards = state.getDrawnCardsCount();
+        final int activePlayers = state.getRoundPlayersManager().getActivePlayersCount();
+        MctsNode next = null;
+        if (this.root != null
+                && drawnCards == this.rootDrawnCards + 1
+                && activePlayers <= this.rootActivePlayers) {
+            final Card drawn = state.getDrawCards().get(drawnCards - 1);
+            next = this.root.removeChild(outcome(this.rootActivePlayers - activePlayers, drawn));
+        }
+        if (this.root != null) {
+            this.nodes.release(this.root);
+        }
+        // With the whole old tree released, a node is always available
+        this.root = next != null ? next : this.nodes.acquire();
+        this.rootDrawnCards = drawnCards;
+        this.rootActivePlayers = activePlayers;
+    }
+
+    /**
+     * Runs one iteration of the search: follows the tree along a random order
+     * of the deck, expands it by a node and plays the rest of the round with
+     * the default policy.
+     * 
+     * @param searchRoot  the root of the tree.
+     * @param snapshot    the snapshot of the real round state.
+     * @param effect      the effect of the round, owned by the caller.
+     * @param random      the source of randomness of the iteration.
+     * @param exploration the weight of the exploration term.
+     */
+    private void iterate(
+            final MctsNode searchRoot,
+            final RoundSimulations.Snapshot snapshot,
+            final RoundEffect effect,
+            final RandomGenerator random,
+            final double exploration) {
+        final RoundState copy = snapshot.copyState(random);
+        final Player player = copy.getRoundPlayersManager().getActivePlayers().get(0);
+        final TurnImpl turn = new TurnImpl(player, copy, effect);
+        final List<MctsNode> visited = new ArrayList<>();
+        final List<PlayerChoice> choices = new ArrayList<>();
+        MctsNode node = searchRoot;
+        int takenRelics = 0;
+        double reward;
+        while (true) {
+            final PlayerChoice choice = node.select(exploration);
+            visited.add(node);
+            choices.add(choice);
+            final int othersExiting = this.sampleOthersExiting(copy, random);
+            if (choice == PlayerChoice.EXIT) {
+                reward = RoundSimulations.exitValue(copy, effect, othersExiting, takenRelics);
+                break;
+            }
+            takenRelics = othersExiting == 1 ? RoundSimulations.relicGems(copy) : takenRelics;
+            RoundSimulations.exitPlayers(copy, effect, othersExiting);
+            if (!this.drawCard(copy, effect, turn, player)) {
+                // The round is over and the gems in the sack are lost
+                reward = 0;
+                break;
+            }
+            final int outcome = outcome(othersExiting, copy.getDrawCards().get(copy.getDrawnCardsCount() - 1));
+            MctsNode child = node.getChild(outcome);
+            if (child == null) {
+                final MctsNode fresh = this.nodes.acquire();
+                if (fresh != null) {
+                    child = node.addChild(outcome, fresh);
+                    if (child != fresh) {
+                        // Another worker expanded the same outcome first
+                        this.nodes.release(fresh);
+                    }
+                }
+                if (child == null || child == fresh) {
+                    reward = this.playOut(copy, effect, turn, player, random, takenRelics);
+                    break;
+                }
+            }
+            node = child;
+        }
+        for (int i = 0; i < visited.size(); i++) {
+            visited.get(i).update(choices.get(i), reward);
+        }
+    }
+
+    /**
+     * Plays the rest of the round from the given copy with the default policy,
+     * in which every player, the CPU included, exits with the same probability
+     * as the other players in the tree. The CPU exits at least with
+     * a small probability, even when there are no traps on the path.
+     * 
+     * @param copy        the copy of the round state.
+     * @param effect      the effect of the round.
+     * @param turn        the turn used to draw the cards.
+     * @param player      the CPU in the copy.
+     * @param random      the source of randomness.
+     * @param takenRelics the gems of the relics taken by the other players.
+     * @return the gems brought home by the CPU.
+     */
+    private int playOut(
+            final RoundState copy,
+            final RoundEffect effect,
+            final TurnImpl turn,
+            final Player player,
+            final RandomGenerator random,
+            final int takenRelics) {
+        int taken = takenRelics;
+        while (true) {
+            final int othersExiting = this.sampleOthersExiting(copy, random);
+            if (random.nextDouble() < Math.max(MIN_PLAYOUT_EXIT_PROBABILITY, this.exitProbability(copy))) {
+                return RoundSimulations.exitValue(copy, effect, othersExiting, taken);
+            }
+            taken = othersExiting == 1 ? RoundSimulations.relicGems(copy) : taken;
+            RoundSimulations.exitPlayers(copy, effect, othersExiting);
+            if (!this.drawCard(copy, effect, turn, player)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Draws the next card in the copy of a round.
+     * 
+     * @param copy   the copy of the round state.
+     * @param effect the effect of the round.
+     * @param turn   the turn used to draw the card.
+     * @param player the CPU in the copy.
+     * @return true if the round goes on after the card, false otherwise.
+     */
+    private boolean drawCard(
+            final RoundState copy,
+            final RoundEffect effect,
+            final TurnImpl turn,
+            final Player player) {
+        if (!copy.getDeck().hasNext()) {
+            return false;
+        }
+        turn.restart(player);
+        turn.executeDrawPhase();
+        return !effect.isEndConditionMet(copy);
+    }
+
+    /**
+     * Samples how many of the other active players exit in this turn.
+     * 
+     * @param copy   the copy of the round state.
+     * @param random the source of randomness.
+     * @return the number of other players exiting.
+     */
+    private int sampleOthersExiting(final RoundState copy, final RandomGenerator random) {
+        final double probability = this.exitProbability(copy);
+        final int others = copy.getRoundPlayersManager().getActivePlayersCount() - 1;
+        int exiting = 0;
+        for (int i = 0; i < others; i++) {
+            if (random.nextDouble() < probability) {
+                exiting++;
+            }
+        }
+        return exiting;
+    }
+
+    /**
+     * Returns the probability that a player exits in the given state: the
+     * number of traps on the path over the number of types of trap in the deck.
+     * 
+     * @param state the round state.
+     * @return the probability of exiting.
+     */
+    private double exitProbability(final RoundState state) {
+        final int trapTypes = this.settings.getDeckStatistics().trapCardTypes();
+        return trapTypes == 0 ? 0 : Math.min(1.0, state.getDrawnTrapsCount() / (double) trapTypes);
+    }
+
+    /**
+     * Returns the key of the node reached by staying in a turn.
+     * 
+     * @param othersExiting the number of other players that exited.
+     * @param drawn         the card drawn after that.
+     * @return the key of the outcome.
+     */
+    private static int outcome(final int othersExiting, final Card drawn) {
+        return othersExiting * CardCodes.COUNT + CardCodes.of(drawn);
+    }
+}
@@ -0,0 +1,154 @@
+package jvmt.model.player.impl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import jvmt.model.player.api.PlayerChoice;
+
+/**
+ * A node of the search tree of {@link MctsLogicCpu}.
+ * <p>
+ * A node stands for what the CPU knows when it has to choose: the cards on the
+ * path and the players still in the round. It holds the statistics of both
+ * choices, and the nodes reached by staying, one for each number of other
+ * players exiting together with each card that can be drawn next.
+ * </p>
+ * <p>
+ * The nodes are shared between the search workers, so all methods are
+ * synchronized. While a worker is going through a choice, the choice counts as
+ * a visit that brought nothing home (virtual loss), so the other workers
+ * prefer to explore elsewhere.
+ * </p>
+ * 
+ * @see MctsNodePool
+ * 
+ * @author Filippo Gaggi
+ */
+final class MctsNode {
+
+    private static final PlayerChoice[] CHOICES = PlayerChoice.values();
+
+    private final int[] visits = new int[CHOICES.length];
+    private final int[] virtualLosses = new int[CHOICES.length];
+    private final double[] rewards = new double[CHOICES.length];
+    private final Map<Integer, MctsNode> children = new HashMap<>();
+
+    /**
+     * Selects the choice to go through with the UCB1 formula, and adds a
+     * virtual loss to it. A choice never tried is always selected first.
+     * 
+     * @param exploration the weight of the exploration term.
+     * @return the selected choice.
+     */
+    synchronized PlayerChoice select(final double exploration) {
+        int total = 0;
+        for (final PlayerChoice choice : CHOICES) {
+            total += this.visits[choice.ordinal()] + this.virtualLosses[choice.ordinal()];
+        }
+        final double logTotal = Math.log(Math.max(1, total));
+        PlayerChoice best = null;
+        double bestBound = Double.NEGATIVE_INFINITY;
+        for (final PlayerChoice choice : CHOICES) {
+            final int n = this.visits[choice.ordinal()] + this.virtualLosses[choice.ordinal()];
+            final double bound = n == 0
+                    ? Double.POSITIVE_INFINITY
+                    : this.rewards[choice.ordinal()] / n + exploration * Math.sqrt(logTotal / n);
+            if (bound > bestBound) {
+                best = choice;
+                bestBound = bound;
+            }
+        }
+        this.virtualLosses[best.ordinal()]++;
+        return best;
+    }
+
+    /**
+     * Removes the virtual loss of a choice and records its actual reward.
+     * 
+     * @param choice the choice gone through.
+     * @param reward the gems brought home after the choice.
+     */
+    synchronized void update(final PlayerChoice choice, final double reward) {
+        this.virtualLosses[choice.ordinal()]--;
+        this.visits[choice.ordinal()]++;
+        this.rewards[choice.ordinal()] += reward;
+    }
+
+    /**
+     * Returns the choice that has been visited the most, staying on ties.
+     * 
+     * @return the most visited choice.
+     */
+    synchronized PlayerChoice mostVisited() {
+        return this.visits[PlayerChoice.EXIT.ordinal()] > this.visits[PlayerChoice.STAY.ordinal()]
+                ? PlayerChoice.EXIT
+                : PlayerChoice.STAY;
+    }
+
+    /**
+     * Returns the total number of completed visits of this node.
+     * 
+     * @return the number of visits.
+     */
+    synchronized int getVisits() {
+        int total = 0;
+        for (final int n : this.visits) {
+            total += n;
+        }
+        return total;
+    }
+
+    /**
+     * Returns the node reached by staying with the given outcome.
+     * 
+     * @param outcome the outcome of the turn, as given by
+     *                {@link MctsLogicCpu}.
+     * @return the node, or null if it has not been expanded yet.
+     */
+    synchronized MctsNode getChild(final int outcome) {
+        return this.children.get(outcome);
+    }
+
+    /**
+     * Adds the node reached by staying with the given outcome, unless another
+     * worker added it first.
+     * 
+     * @param outcome the outcome of the turn.
+     * @param child   the new node.
+     * @return the node of the outcome, which is {@code child} only if it has
+     *         been added.
+     */
+    synchronized MctsNode addChild(final int outcome, final MctsNode child) {
+        final MctsNode previous = this.children.putIfAbsent(outcome, child);
+        return previous == null ? child : previous;
+    }
+
+    /**
+     * Removes the node reached by staying with the given outcome.
+     * 
+     * @param outcome the outcome of the turn.
+     * @return the removed node, or null if it had not been expanded.
+     */
+    synchronized MctsNode removeChild(final int outcome) {
+        return this.children.remove(outcome);
+    }
+
+    /**
+     * Clears the statistics of this node so that it can be used again.
+     * 
+     * @return the children this node had, which are no longer part of it.
+     */
+    synchronized Collection<MctsNode> reset() {
+        final List<MctsNode> detached = new ArrayList<>(this.children.values());
+        this.children.clear();
+        for (final PlayerChoice choice : CHOICES) {
+            this.visits[choice.ordinal()] = 0;
+            this.virtualLosses[choice.ordinal()] = 0;
+            this.rewards[choice.ordinal()] = 0;
+        }
+        return detached;
+    }
+}
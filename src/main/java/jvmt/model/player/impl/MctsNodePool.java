@@ -0,0 +1,79 @@
+package jvmt.model.player.impl;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * A bounded pool of the nodes of a search tree.
+ * <p>
+ * At most {@code capacity} nodes can be in use at the same time: once they
+ * are all taken the tree stops growing, and the search carries on with the
+ * nodes it already has. Released nodes are kept and given out again, so a
+ * tree reused across many turns doesn't keep allocating.
+ * </p>
+ * 
+ * @see MctsNode
+ * 
+ * @author Filippo Gaggi
+ */
+final class MctsNodePool {
+
+    private final int capacity;
+    private final Deque<MctsNode> free = new ArrayDeque<>();
+    private int inUse;
+
+    /**
+     * Creates an empty pool.
+     * 
+     * @param capacity the maximum number of nodes in use at the same time.
+     * 
+     * @throws IllegalArgumentException if {@code capacity} is not positive.
+     */
+    MctsNodePool(final int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("The capacity of the pool must be positive.");
+        }
+        this.capacity = capacity;
+    }
+
+    /**
+     * Takes a node from the pool.
+     * 
+     * @return a node with no statistics and no children, or null if all the
+     *         nodes are in use.
+     */
+    synchronized MctsNode acquire() {
+        if (this.inUse == this.capacity) {
+            return null;
+        }
+        this.inUse++;
+        return this.free.isEmpty() ? new MctsNode() : this.free.pop();
+    }
+
+    /**
+     * Gives back a node and all the nodes below it.
+     * 
+     * @param root the root of the subtree to release.
+     */
+    synchronized void release(final MctsNode root) {
+        final Deque<MctsNode> pending = new ArrayDeque<>();
+        pending.push(root);
+        while (!pending.isEmpty()) {
+            final MctsNode node = pending.pop();
+            for (final MctsNode child : node.reset()) {
+                pending.push(child);
+            }
+            this.free.push(node);
+            this.inUse--;
+        }
+    }
+
+    /**
+     * Returns the number of nodes in use.
+     * 
+     * @return the number of nodes in use.
+     */
+    synchronized int inUse() {
+        return this.inUse;
+    }
+}
@@ -1,25 +1,46 @@
 package jvmt.model.player.impl;
 
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import jvmt.model.game.api.GameSettings;
+import jvmt.model.player.api.CpuDifficulty;
+import jvmt.model.player.api.EndgameSolver;
 import jvmt.model.player.api.LogicCpu;
+import jvmt.model.player.api.PlayerChoice;
 import jvmt.model.round.api.RoundState;
 
 /**
  * Represents a CPU player during a round.
  * This class extends {@link PlayerInRound}.
+ * <p>
+ * At the {@link CpuDifficulty#MASTER} difficulty, in the last round of a game
+ * with the standard rules the CPU plays to win the game rather than to bring
+ * home the most gems, through an {@link EndgameSolver}; its logic is used when
+ * the round can't be searched.
+ * </p>
  * 
  * @see PlayerInRound
  * @see LogicCpu
+ * @see EndgameSolver
  * 
  * @author Filippo Gaggi
  */
 @SuppressFBWarnings(value = "EQ_DOESNT_OVERRIDE_EQUALS", justification = "PlayerCpu uses equals inherited by PlayerInRound")
 public class PlayerCpu extends PlayerInRound {
 
+    // The difficulties that look at the standings in the last round
+    private static final Set<CpuDifficulty> ENDGAME_DIFFICULTIES = EnumSet.of(CpuDifficulty.MASTER);
+
     private final LogicCpu logic;
+    // null if the CPU doesn't look at the standings in the last round
+    private final EndgameSolver endgame;
 
     /**
      * Initializes the CPU player's informations.
@@ -33,7 +54,15 @@ public class PlayerCpu extends PlayerInRound {
     public PlayerCpu(final String name, final GameSettings settings) {
         super(Objects.requireNonNull(name));
         Objects.requireNonNull(settings);
-        this.logic = new LogicCpuImpl(settings);
+        this.logic = switch (settings.getCpuDifficulty()) {
+            case EXPERT -> new RolloutLogicCpu(settings);
+            case MASTER -> new MctsLogicCpu(settings);
+            case OPTIMAL -> new PolicyLogicCpu(settings);
+            case LEARNED -> new QLearningLogicCpu(settings);
+            case STRATEGIC -> new CfrLogicCpu(settings);
+            default -> new LogicCpuImpl(settings);
+        };
+        this.endgame = createEndgameSolver(settings);
     }
 
     /**
@@ -52,7 +81,31 @@ public class PlayerCpu extends PlayerInRound {
     public PlayerCpu(final String name, final GameSettings settings, final int seed) {
         super(Objects.requireNonNull(name));
         Objects.requireNonNull(settings);
-        this.logic = new LogicCpuImpl(settings, seed);
+        this.logic = switch (settings.getCpuDifficulty()) {
+            case EXPERT -> new RolloutLogicCpu(settings, seed);
+            case MASTER -> new MctsLogicCpu(settings, seed);
+            case OPTIMAL -> new PolicyLogicCpu(settings, seed);
+            case LEARNED -> new QLearningLogicCpu(settings, seed);
+            case STRATEGIC -> new CfrLogicCpu(settings, seed);
+            default -> new LogicCpuImpl(settings, seed);
+        };
+        this.endgame = createEndgameSolver(settings);
+    }
+
+    /**
+     * Initializes the CPU player's informations with the given logic, in order
+     * to make CPUs with different logics play the same game.
+     * 
+     * @param name  a string representing the CPU player's name.
+     * @param logic the logic of the CPU player.
+     * 
+     * @throws NullPointerException if @param name is null.
+     * @throws NullPointerException if @param logic is null.
+     */
+    public PlayerCpu(final String name, final LogicCpu logic) {
+        super(Objects.requireNonNull(name));
+        this.logic = Objects.requireNonNull(logic);
+        this.endgame = null;
     }
 
     /**
@@ -64,6 +117,63 @@ public class PlayerCpu extends PlayerInRound {
      */
     public void chooseCpu(final RoundState state) {
         Objects.requireNonNull(state);
-        choose(logic.cpuChoice(state));
+        choose(this.endgameChoice(state).orElseGet(() -> logic.cpuChoice(state)));
+    }
+
+    /**
+     * Method for making all the given CPU players take their choice at the same
+     * time: the round informations are computed once and shared by all of them.
+     * The logics of the CPUs whose choice is given by their endgame solver are
+     * not asked at all.
+     * 
+     * @param state the current game state.
+     * @param cpus  the CPU players that have to choose, all of the same game.
+     * 
+     * @throws NullPointerException if @param state or @param cpus is null.
+     * 
+     * @see LogicCpu#cpuChoices(RoundState, List)
+     */
+    public static void chooseCpus(final RoundState state, final List<PlayerCpu> cpus) {
+        Objects.requireNonNull(state);
+        Objects.requireNonNull(cpus);
+        if (cpus.isEmpty()) {
+            return;
+        }
+        // The logic of a CPU isn't asked when its endgame choice is known
+        final List<PlayerChoice> choices = new ArrayList<>(cpus.size());
+        final List<LogicCpu> logics = new ArrayList<>(cpus.size());
+        for (final PlayerCpu cpu : cpus) {
+            final Optional<PlayerChoice> endgameChoice = cpu.endgameChoice(state);
+            choices.add(endgameChoice.orElse(null));
+            if (endgameChoice.isEmpty()) {
+                logics.add(cpu.logic);
+            }
+        }
+        if (!logics.isEmpty()) {
+            final Iterator<PlayerChoice> logicChoices = logics.get(0).cpuChoices(state, logics).iterator();
+            for (int i = 0; i < choices.size(); i++) {
+                if (choices.get(i) == null) {
+                    choices.set(i, logicChoices.next());
+                }
+            }
+        }
+        // Every CPU has to choose before any of them leaves the round
+        for (int i = 0; i < cpus.size(); i++) {
+            cpus.get(i).choose(choices.get(i));
+        }
+    }
+
+    private Optional<PlayerChoice> endgameChoice(final RoundState state) {
+        if (this.endgame == null || !state.isLastRound()) {
+            return Optional.empty();
+        }
+        return this.endgame.choose(state, this);
+    }
+
+    private static EndgameSolver createEndgameSolver(final GameSettings settings) {
+        // The solver only knows the standard end condition and gem modifier
+        return ENDGAME_DIFFICULTIES.contains(settings.getCpuDifficulty()) && settings.hasStandardRules()
+                ? new EndgameSolverImpl()
+                : null;
     }
 }
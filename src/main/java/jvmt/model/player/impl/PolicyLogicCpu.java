@@ -0,0 +1,189 @@
+package jvmt.model.player.impl;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import jvmt.model.card.api.Card;
+import jvmt.model.card.impl.CardCodes;
+import jvmt.model.card.impl.CompositionCodec;
+import jvmt.model.game.api.GameSettings;
+import jvmt.model.player.api.CpuDifficulty;
+import jvmt.model.player.api.CpuFeatures;
+import jvmt.model.player.api.LogicCpu;
+import jvmt.model.player.api.PlayerChoice;
+import jvmt.model.round.api.RoundState;
+import jvmt.model.simulation.impl.PolicyBits;
+
+/**
+ * Implementation of the {@link LogicCpu} interface for the
+ * {@link CpuDifficulty#OPTIMAL} difficulty, based on a precomputed policy.
+ * <p>
+ * The CPU looks up its choice in the {@link PolicyBits} of the deck, memory
+ * mapped from a file, so a decision takes constant time and doesn't allocate
+ * anything. The policy is the best one against players that stay: its choices
+ * are optimal when the CPU is the last to leave the round.
+ * </p>
+ * <p>
+ * The cards drawn since the last decision are added to the index of the state,
+ * so the path is read only once per round. The policy is computed with the
+ * standard rules: if the game is played with other rules or a different deck,
+ * or the round is in a state the policy doesn't know, the CPU falls back to
+ * the weighted heuristics of {@link LogicCpuImpl}.
+ * </p>
+ * 
+ * @see LogicCpu
+ * @see PolicyBits
+ * 
+ * @author Filippo Gaggi
+ */
+public final class PolicyLogicCpu implements LogicCpu {
+
+    private final LogicCpu fallback;
+    private final PolicyBits policy;
+    private final int[] radixes;
+    private final int[] drawnCounts = new int[CardCodes.COUNT];
+    private RoundState trackedState;
+    private List<? extends Card> trackedCards;
+    private int trackedCount;
+    private long trackedIndex;
+    private boolean trackedKnown;
+
+    /**
+     * Initializes the CPU's logic with the policy of the standard deck shipped
+     * with the game.
+     * 
+     * @param settings the game settings.
+     * 
+     * @throws NullPointerException if {@link settings} is null.
+     */
+    public PolicyLogicCpu(final GameSettings settings) {
+        this(settings, new LogicCpuImpl(settings), PolicyBits.standard());
+    }
+
+    /**
+     * Initializes the CPU's logic, second constructor that gives in input
+     * the seed of the fallback logic in order to facilitate testing.
+     * 
+     * @param settings the game settings.
+     * @param seed     seed for the fallback logic.
+     * 
+     * @throws NullPointerException if {@link settings} is null.
+     */
+    public PolicyLogicCpu(final GameSettings settings, final int seed) {
+        this(settings, new LogicCpuImpl(settings, seed), PolicyBits.standard());
+    }
+
+    /**
+     * Initializes the CPU's logic with the given policy.
+     * 
+     * @param settings the game settings.
+     * @param policy   the policy of the deck of the game.
+     * 
+     * @throws NullPointerException if {@link settings} or {@link policy} is
+     *                              null.
+     */
+    public PolicyLogicCpu(final GameSettings settings, final PolicyBits policy) {
+        this(settings, new LogicCpuImpl(settings), Optional.of(policy));
+    }
+
+    private PolicyLogicCpu(final GameSettings settings, final LogicCpu fallback, final Optional<PolicyBits> policy) {
+        Objects.requireNonNull(settings);
+        this.fallback = fallback;
+        // A policy computed for another deck or other rules would give wrong choices
+        this.policy = policy
+                .filter(p -> settings.hasStandardRules())
+                .filter(p -> Arrays.equals(p.getInitialCounts(), CompositionCodec.countCodes(settings.getDeck())))
+                .orElse(null);
+        this.radixes = new int[CardCodes.COUNT];
+        if (this.policy != null) {
+            final int[] initialCounts = this.policy.getInitialCounts();
+            for (int code = 0; code < CardCodes.COUNT; code++) {
+                this.radixes[code] = CardCodes.isTrap(code) ? Math.min(initialCounts[code], 1) + 1
+                        : initialCounts[code] + 1;
+            }
+        }
+    }
+
+    /**
+     * Tells whether the CPU has a policy for the deck and the rules of the game.
+     * 
+     * @return true if the choices come from the policy, false if they always
+     *         come from the heuristics.
+     */
+    public boolean hasPolicy() {
+        return this.policy != null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public PlayerChoice cpuChoice(final RoundState state) {
+        Objects.requireNonNull(state);
+        final int activePlayers = state.getRoundPlayersManager().getActivePlayersCount();
+        if (activePlayers == 0) {
+            throw new IllegalArgumentException("There must be at least one active player.");
+        }
+        if (this.policy == null || activePlayers > this.policy.getMaxPlayers() || !this.track(state)) {
+            return this.fallback.cpuChoice(state);
+        }
+        return this.policy.getChoice(activePlayers, this.trackedIndex);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public PlayerChoice cpuChoice(final RoundState state, final CpuFeatures features) {
+        Objects.requireNonNull(features);
+        return this.cpuChoice(state);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CpuFeatures computeFeatures(final RoundState state) {
+        return this.fallback.computeFeatures(state);
+    }
+
+    /**
+     * {@inheritDoc}
+     * The policy needs the cards on the path, so this choice comes from the
+     * heuristics.
+     */
+    @Override
+    public PlayerChoice cpuChoice(final CpuFeatures features) {
+        return this.fallback.cpuChoice(features);
+    }
+
+    /**
+     * Brings the index of the state up to date with the cards drawn since the
+     * last decision, starting over when the round changed.
+     * 
+     * @param state the round state.
+     * @return true if the policy knows the state.
+     */
+    private boolean track(final RoundState state) {
+        final List<? extends Card> cards = state.getDrawCards();
+        if (state != this.trackedState || cards != this.trackedCards || cards.size() < this.trackedCount) {
+            this.trackedState = state;
+            this.trackedCards = cards;
+            this.trackedCount = 0;
+            this.trackedIndex = 0;
+            this.trackedKnown = true;
+            Arrays.fill(this.drawnCounts, 0);
+        }
+        while (this.trackedCount < cards.size()) {
+            final int code = CardCodes.of(cards.get(this.trackedCount));
+            this.drawnCounts[code]++;
+            this.trackedKnown &= this.drawnCounts[code] < this.radixes[code];
+            this.trackedIndex += this.policy.weightOf(code);
+            this.trackedCount++;
+        }
+        return this.trackedKnown
+                && this.trackedCount + state.getDeck().numberOfRemainingCards() == this.policy.getDeckSize();
+    }
+}
@@ -0,0 +1,120 @@
+package jvmt.model.player.impl;
+
+import java.util.Objects;
+import java.util.Optional;
+
+import jvmt.model.game.api.GameSettings;
+import jvmt.model.player.api.CpuDifficulty;
+import jvmt.model.player.api.CpuFeatures;
+import jvmt.model.player.api.LogicCpu;
+import jvmt.model.player.api.PlayerChoice;
+import jvmt.model.round.api.RoundState;
+import jvmt.model.simulation.api.QTable;
+import jvmt.model.simulation.impl.QTableImpl;
+
+/**
+ * Implementation of the {@link LogicCpu} interface for the
+ * {@link CpuDifficulty#LEARNED} difficulty, based on a {@link QTable}.
+ * <p>
+ * The CPU computes the same features as {@link LogicCpuImpl}, adds the gems
+ * in the sacks of the players still in the round and takes the choice with
+ * the most gems expected by the table. In the states the table never saw,
+ * and when the table is missing, the CPU falls back to the weighted
+ * heuristics of {@link LogicCpuImpl}.
+ * </p>
+ * 
+ * @see LogicCpu
+ * @see QTable
+ * 
+ * @author Filippo Gaggi
+ */
+public final class QLearningLogicCpu implements LogicCpu {
+
+    private final LogicCpu fallback;
+    private final Optional<QTable> table;
+
+    /**
+     * Initializes the CPU's logic with the table learned for the standard
+     * deck, shipped with the game.
+     * 
+     * @param settings the game settings.
+     * 
+     * @throws NullPointerException if {@link settings} is null.
+     */
+    public QLearningLogicCpu(final GameSettings settings) {
+        this(new LogicCpuImpl(settings), QTableImpl.standard());
+    }
+
+    /**
+     * Initializes the CPU's logic, second constructor that gives in input
+     * the seed of the fallback logic in order to facilitate testing.
+     * 
+     * @param settings the game settings.
+     * @param seed     seed for the fallback logic.
+     * 
+     * @throws NullPointerException if {@link settings} is null.
+     */
+    public QLearningLogicCpu(final GameSettings settings, final int seed) {
+        this(new LogicCpuImpl(settings, seed), QTableImpl.standard());
+    }
+
+    /**
+     * Initializes the CPU's logic with the given table.
+     * 
+     * @param settings the game settings.
+     * @param table    the learned table.
+     * 
+     * @throws NullPointerException if {@link settings} or {@link table} is
+     *                              null.
+     */
+    public QLearningLogicCpu(final GameSettings settings, final QTable table) {
+        this(new LogicCpuImpl(settings), Optional.of(table));
+    }
+
+    private QLearningLogicCpu(final LogicCpu fallback, final Optional<QTable> table) {
+        this.fallback = fallback;
+        this.table = table;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public PlayerChoice cpuChoice(final RoundState state) {
+        return this.cpuChoice(state, this.computeFeatures(state));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public PlayerChoice cpuChoice(final RoundState state, final CpuFeatures features) {
+        Objects.requireNonNull(features);
+        if (Objects.requireNonNull(state).getRoundPlayersManager().getActivePlayersCount() == 0) {
+            throw new IllegalArgumentException("There must be at least one active player.");
+        }
+        // The players still in the round have the same gems in their sacks
+        final int sackGems = state.getRoundPlayersManager().getActivePlayers().get(0).getSackGems();
+        return this.table
+                .flatMap(t -> t.getBestChoice(features, sackGems))
+                .orElseGet(() -> this.fallback.cpuChoice(features));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CpuFeatures computeFeatures(final RoundState state) {
+        return this.fallback.computeFeatures(state);
+    }
+
+    /**
+     * {@inheritDoc}
+     * The table needs the gems in the sacks, so this choice comes from the
+     * heuristics.
+     */
+    @Override
+    public PlayerChoice cpuChoice(final CpuFeatures features) {
+        return this.fallback.cpuChoice(features);
+    }
+}
@@ -0,0 +1,311 @@
+package jvmt.model.player.impl;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import jvmt.model.common.api.RandomSource;
+import jvmt.model.common.impl.SplittableRandomSource;
+import jvmt.model.game.api.GameSettings;
+import jvmt.model.player.api.CpuDifficulty;
+import jvmt.model.player.api.CpuFeatures;
+import jvmt.model.player.api.LogicCpu;
+import jvmt.model.player.api.Player;
+import jvmt.model.player.api.PlayerChoice;
+import jvmt.model.round.api.RoundState;
+import jvmt.model.round.api.roundeffect.RoundEffect;
+import jvmt.model.round.impl.turn.TurnImpl;
+import jvmt.utils.CommonUtils;
+
+/**
+ * Implementation of the {@link LogicCpu} interface for the
+ * {@link CpuDifficulty#EXPERT} difficulty, based on Monte Carlo rollouts.
+ * <p>
+ * To take a choice the CPU copies the round state and plays the rest of the
+ * round many times, each time with the cards left in the deck in a different
+ * random order. In every rollout the other players stay, and the CPU checks
+ * what it would bring home by exiting after each of the next few cards.
+ * The CPU exits if exiting now is worth at least as much as the best of
+ * those horizons, on average.
+ * </p>
+ * <p>
+ * The rollouts are split among the workers of a {@link ForkJoinPool} and stop
+ * when the time budget of the decision runs out, so a decision never takes
+ * much longer than the budget; the CPUs that choose together in a decision
+ * phase split a single budget. If no rollout could be played the CPU falls
+ * back to the weighted heuristics of {@link LogicCpuImpl}.
+ * </p>
+ * 
+ * @see LogicCpu
+ * @see LogicCpuImpl
+ * 
+ * @author Filippo Gaggi
+ */
+public final class RolloutLogicCpu implements LogicCpu {
+
+    /**
+     * The default maximum time a decision can take.
+     */
+    public static final Duration DEFAULT_TIME_BUDGET = Duration.ofMillis(40);
+
+    /**
+     * The default maximum number of rollouts played for a decision.
+     */
+    public static final int DEFAULT_MAX_ROLLOUTS = 2_000;
+
+    /**
+     * The maximum number of cards after which the CPU considers exiting.
+     */
+    private static final int MAX_HORIZON = 8;
+
+    private final GameSettings settings;
+    private final LogicCpu fallback;
+    private final RandomSource random;
+    private final long budgetNanos;
+    private final int maxRollouts;
+    private final ForkJoinPool pool;
+
+    /**
+     * Initializes the CPU's logic with the default time budget and number of
+     * rollouts.
+     * 
+     * @param settings the game settings.
+     * 
+     * @throws NullPointerException if {@link settings} is null.
+     */
+    public RolloutLogicCpu(final GameSettings settings) {
+        this(settings, DEFAULT_TIME_BUDGET, DEFAULT_MAX_ROLLOUTS);
+    }
+
+    /**
+     * Initializes the CPU's logic, second constructor that gives in input
+     * the seed of the random sources in order to facilitate testing.
+     * 
+     * @param settings the game settings.
+     * @param seed     seed for the random sources.
+     * 
+     * @throws NullPointerException if {@link settings} is null.
+     */
+    public RolloutLogicCpu(final GameSettings settings, final int seed) {
+        this(settings, new LogicCpuImpl(settings, seed), new SplittableRandomSource(seed),
+                DEFAULT_TIME_BUDGET, DEFAULT_MAX_ROLLOUTS, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Initializes the CPU's logic with the given limits for every decision.
+     * Smaller limits make the CPU weaker but faster.
+     * 
+     * @param settings    the game settings.
+     * @param timeBudget  the maximum time a decision can take.
+     * @param maxRollouts the maximum number of rollouts played for a decision.
+     * 
+     * @throws NullPointerException     if {@link settings} or
+     *                                  {@link timeBudget} is null.
+     * @throws IllegalArgumentException if {@link timeBudget} is negative or
+     *                                  {@link maxRollouts} is not positive.
+     */
+    public RolloutLogicCpu(final GameSettings settings, final Duration timeBudget, final int maxRollouts) {
+        this(settings, new LogicCpuImpl(settings), settings.getRandomSource().split(),
+                timeBudget, maxRollouts, ForkJoinPool.commonPool());
+    }
+
+    private RolloutLogicCpu(
+            final GameSettings settings,
+            final LogicCpu fallback,
+            final RandomSource random,
+            final Duration timeBudget,
+            final int maxRollouts,
+            final ForkJoinPool pool) {
+        Objects.requireNonNull(timeBudget);
+        if (timeBudget.isNegative() || maxRollouts <= 0) {
+            throw new IllegalArgumentException("The time budget and the number of rollouts must be positive.");
+        }
+        this.settings = Objects.requireNonNull(settings);
+        this.fallback = fallback;
+        this.random = random;
+        this.budgetNanos = timeBudget.toNanos();
+        this.maxRollouts = maxRollouts;
+        this.pool = pool;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public PlayerChoice cpuChoice(final RoundState state) {
+        Objects.requireNonNull(state);
+        return this.choose(state, System.nanoTime() + this.budgetNanos);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * All the CPUs share the time budget of a single decision, so the phase
+     * doesn't take longer with more CPUs: every CPU of this difficulty plays
+     * the round for its share of the budget.
+     * </p>
+     */
+    @Override
+    public List<PlayerChoice> cpuChoices(final RoundState state, final List<? extends LogicCpu> cpus) {
+        CommonUtils.requireNonNulls(state, cpus);
+        return RoundSimulations.chooseWithinBudget(state, cpus, RolloutLogicCpu.class, this.budgetNanos,
+                RolloutLogicCpu::choose);
+    }
+
+    /**
+     * Plays the rest of the round until the deadline, or until all the
+     * rollouts are played, and takes the choice.
+     * 
+     * @param state    the round state.
+     * @param deadline the time, as given by {@link System#nanoTime()}, after
+     *                 which no rollout is started.
+     * @return the choice of the CPU.
+     */
+    private PlayerChoice choose(final RoundState state, final long deadline) {
+        if (state.getRoundPlayersManager().getActivePlayersCount() == 0) {
+            throw new IllegalArgumentException("There must be at least one active player.");
+        }
+        final int horizons = Math.min(MAX_HORIZON, state.getDeck().numberOfRemainingCards());
+        final int tasks = this.pool.getParallelism();
+        // The workers never touch the real round, whose getters aren't thread-safe
+        final RoundSimulations.Snapshot snapshot = RoundSimulations.snapshot(state, this.random);
+
+        final List<ForkJoinTask<RolloutResult>> running = new ArrayList<>(tasks);
+        for (int t = 0; t < tasks; t++) {
+            // Every task gets its share of the rollouts and its own random source
+            final int rollouts = this.maxRollouts / tasks + (t < this.maxRollouts % tasks ? 1 : 0);
+            final RandomSource taskRandom = this.random.split();
+            running.add(this.pool.submit(() -> playRollouts(snapshot, horizons, rollouts, deadline, taskRandom)));
+        }
+        final RolloutResult total = new RolloutResult(horizons);
+        for (final ForkJoinTask<RolloutResult> task : running) {
+            total.add(task.join());
+        }
+        if (total.rollouts == 0) {
+            return this.fallback.cpuChoice(state);
+        }
+        final double exitNow = RoundSimulations.exitValue(state, this.settings.getRoundEffect(), 0, 0);
+        return exitNow >= total.bestMeanStayValue() ? PlayerChoice.EXIT : PlayerChoice.STAY;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CpuFeatures computeFeatures(final RoundState state) {
+        return this.fallback.computeFeatures(state);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The features alone aren't enough to play the round, so this method uses
+     * the weighted heuristics of {@link LogicCpuImpl}.
+     * </p>
+     */
+    @Override
+    public PlayerChoice cpuChoice(final CpuFeatures features) {
+        return this.fallback.cpuChoice(features);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The features are ignored and the rest of the round is played from the
+     * state.
+     * </p>
+     */
+    @Override
+    public PlayerChoice cpuChoice(final RoundState state, final CpuFeatures features) {
+        return this.cpuChoice(state);
+    }
+
+    /**
+     * Plays rollouts from the given state until the given number is reached or
+     * the deadline expires.
+     * 
+     * @param snapshot the snapshot of the real round state.
+     * @param horizons the number of horizons to evaluate.
+     * @param rollouts the maximum number of rollouts to play.
+     * @param deadline the time, as given by {@link System#nanoTime()}, after
+     *                 which no rollout is started.
+     * @param random   the source of randomness of the rollouts.
+     * @return the values collected by the rollouts.
+     */
+    private RolloutResult playRollouts(
+            final RoundSimulations.Snapshot snapshot,
+            final int horizons,
+            final int rollouts,
+            final long deadline,
+            final RandomSource random) {
+        // Round effects cache their results, so every task has its own
+        final RoundEffect effect = this.settings.getRoundEffect();
+        final RolloutResult result = new RolloutResult(horizons);
+        while (result.rollouts < rollouts && System.nanoTime() - deadline < 0) {
+            final RoundState copy = snapshot.copyState(random);
+            final Player player = copy.getRoundPlayersManager().getActivePlayers().get(0);
+            final TurnImpl turn = new TurnImpl(player, copy, effect);
+            for (int h = 0; h < horizons; h++) {
+                if (effect.isEndConditionMet(copy) || !copy.getDeck().hasNext()) {
+                    // The round is over and the gems in the sack are lost
+                    break;
+                }
+                turn.restart(player);
+                turn.executeDrawPhase();
+                if (!effect.isEndConditionMet(copy)) {
+                    result.stayValues[h] += RoundSimulations.exitValue(copy, effect, 0, 0);
+                }
+            }
+            result.rollouts++;
+        }
+        return result;
+    }
+
+    /**
+     * The values collected by some rollouts. For every horizon it holds the sum
+     * of the gems brought home by staying for that many cards and then exiting,
+     * zero when the round ended first.
+     */
+    private static final class RolloutResult {
+
+        private final double[] stayValues;
+        private int rollouts;
+
+        /**
+         * Creates an empty result.
+         * 
+         * @param horizons the number of horizons.
+         */
+        RolloutResult(final int horizons) {
+            this.stayValues = new double[horizons];
+        }
+
+        /**
+         * Adds the values of another result to this one.
+         * 
+         * @param other the result to add.
+         */
+        void add(final RolloutResult other) {
+            for (int h = 0; h < this.stayValues.length; h++) {
+                this.stayValues[h] += other.stayValues[h];
+            }
+            this.rollouts += other.rollouts;
+        }
+
+        /**
+         * Returns the mean value of the best horizon.
+         * 
+         * @return the mean gems brought home by staying, with the best horizon.
+         */
+        double bestMeanStayValue() {
+            double best = 0;
+            for (final double value : this.stayValues) {
+                best = Math.max(best, value / this.rollouts);
+            }
+            return best;
+        }
+    }
+}
@@ -0,0 +1,238 @@
+package jvmt.model.player.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+import jvmt.model.card.api.Card;
+import jvmt.model.card.api.Deck;
+import jvmt.model.card.impl.RelicCard;
+import jvmt.model.player.api.CpuFeatures;
+import jvmt.model.player.api.LogicCpu;
+import jvmt.model.player.api.Player;
+import jvmt.model.player.api.PlayerChoice;
+import jvmt.model.round.api.RoundState;
+import jvmt.model.round.api.roundeffect.RoundEffect;
+import jvmt.model.round.impl.RoundStateImpl;
+
+/**
+ * Utilities shared by the CPU logics that play the rest of a round on a copy
+ * of its state.
+ * <p>
+ * The copies share the cards on the path with the real round, so the
+ * simulations must never redeem a relic: they keep track of the relics taken
+ * by someone else on their own.
+ * </p>
+ * 
+ * @see RolloutLogicCpu
+ * @see MctsLogicCpu
+ * 
+ * @author Filippo Gaggi
+ */
+final class RoundSimulations {
+
+    private RoundSimulations() {
+        // utility class
+    }
+
+    /**
+     * Reads what the simulations need of the round state. It must be called on
+     * the thread that owns the state, before the simulations are handed to
+     * other threads: the getters of the round may update its internal state.
+     * 
+     * @param state  the state to read.
+     * @param random the source of randomness used to shuffle the deck.
+     * @return the snapshot of the state.
+     */
+    static Snapshot snapshot(final RoundState state, final RandomGenerator random) {
+        final List<Player> actives = state.getRoundPlayersManager().getActivePlayers();
+        final List<String> names = new ArrayList<>(actives.size());
+        final int[] sackGems = new int[actives.size()];
+        for (int i = 0; i < actives.size(); i++) {
+            names.add(actives.get(i).getName());
+            sackGems[i] = actives.get(i).getSackGems();
+        }
+        return new Snapshot(names, sackGems, List.copyOf(state.getDrawCards()), state.getPathGems(),
+                state.getDeck().getShuffledCopy(random), state.isLastRound());
+    }
+
+    /**
+     * Returns the gems an active player would bring home by exiting from the
+     * given state together with {@code othersExiting} other players. All active
+     * players hold the same gems in their sacks, since they all got the same
+     * share of every treasure.
+     * 
+     * @param state         the round state.
+     * @param effect        the effect of the round.
+     * @param othersExiting the number of other players exiting in the same turn.
+     * @param takenRelics   the gems of the relics on the path that somebody
+     *                      else already took during the simulation.
+     * @return the gems brought home by exiting.
+     */
+    static int exitValue(
+            final RoundState state,
+            final RoundEffect effect,
+            final int othersExiting,
+            final int takenRelics) {
+        final int sack = state.getRoundPlayersManager().getActivePlayers().get(0).getSackGems();
+        final int share = effect.applyGemModifier(state, state.getPathGems() / (othersExiting + 1));
+        return othersExiting == 0 ? sack + share + relicGems(state) - takenRelics : sack + share;
+    }
+
+    /**
+     * Makes the given number of active players exit from the copy of a round,
+     * sharing the gems on the path among them as at the end of a turn.
+     * 
+     * @param state   the copy of the round state.
+     * @param effect  the effect of the round.
+     * @param exiting the number of players that exit.
+     */
+    static void exitPlayers(final RoundState state, final RoundEffect effect, final int exiting) {
+        if (exiting == 0) {
+            return;
+        }
+        final int pathGems = state.getPathGems();
+        final int reward = effect.applyGemModifier(state, pathGems / exiting);
+        final List<Player> actives = state.getRoundPlayersManager().getActivePlayers();
+        // The last players leave, so the first one is still active if anybody is
+        for (int i = actives.size() - exiting; i < actives.size(); i++) {
+            actives.get(i).addSackGems(reward);
+            actives.get(i).exit();
+        }
+        state.setPathGems(pathGems % exiting);
+    }
+
+    /**
+     * Returns the total gems of the relics that have not been redeemed in the
+     * real round.
+     * 
+     * @param state the round state.
+     * @return the gems of the redeemable relics.
+     */
+    static int relicGems(final RoundState state) {
+        int gems = 0;
+        for (final RelicCard relic : state.getRedeemableRelics()) {
+            gems += relic.getGemValue();
+        }
+        return gems;
+    }
+
+    /**
+     * Takes the choices of all the CPUs of a decision phase within a single
+     * time budget, so that the phase doesn't take longer when more CPUs play
+     * the round: every CPU of the given type gets an even share of the budget
+     * left when it starts to choose. The other CPUs choose from the features
+     * of the state, computed once.
+     * 
+     * @param <T>         the type of the CPUs that play the round.
+     * @param state       the round state.
+     * @param cpus        the CPUs that have to choose.
+     * @param type        the class of the CPUs that play the round.
+     * @param budgetNanos the time budget of the whole phase, in nanoseconds.
+     * @param search      the choice of a CPU that plays the round before a
+     *                    deadline.
+     * @return the choices of the CPUs, in the same order.
+     */
+    static <T extends LogicCpu> List<PlayerChoice> chooseWithinBudget(
+            final RoundState state,
+            final List<? extends LogicCpu> cpus,
+            final Class<T> type,
+            final long budgetNanos,
+            final TimedSearch<T> search) {
+        final long deadline = System.nanoTime() + budgetNanos;
+        int searches = 0;
+        for (final LogicCpu cpu : cpus) {
+            searches += type.isInstance(cpu) ? 1 : 0;
+        }
+        final List<PlayerChoice> choices = new ArrayList<>(cpus.size());
+        CpuFeatures features = null;
+        for (final LogicCpu cpu : cpus) {
+            if (type.isInstance(cpu)) {
+                final long now = System.nanoTime();
+                choices.add(search.choose(type.cast(cpu), state, now + Math.max(0, deadline - now) / searches));
+                searches--;
+            } else {
+                if (features == null) {
+                    features = cpu.computeFeatures(state);
+                }
+                choices.add(cpu.cpuChoice(state, features));
+            }
+        }
+        return choices;
+    }
+
+    /**
+     * The choice of a CPU that plays the rest of the round until a deadline.
+     * 
+     * @param <T> the type of the CPU.
+     */
+    @FunctionalInterface
+    interface TimedSearch<T extends LogicCpu> {
+
+        /**
+         * Returns the choice of the CPU.
+         * 
+         * @param cpu      the CPU that has to choose.
+         * @param state    the round state.
+         * @param deadline the time, as given by {@link System#nanoTime()}, after
+         *                 which the CPU stops playing the round.
+         * @return the choice of the CPU.
+         */
+        PlayerChoice choose(T cpu, RoundState state, long deadline);
+    }
+
+    /**
+     * The parts of a round state needed to play the rest of the round, read
+     * once by {@link RoundSimulations#snapshot(RoundState, RandomGenerator)}.
+     * <p>
+     * A snapshot is never changed after its creation, so any number of threads
+     * can make copies of the round from it at the same time.
+     * </p>
+     */
+    static final class Snapshot {
+
+        private final List<String> names;
+        private final int[] sackGems;
+        private final List<Card> path;
+        private final int pathGems;
+        private final Deck deck;
+        private final boolean lastRound;
+
+        private Snapshot(
+                final List<String> names,
+                final int[] sackGems,
+                final List<Card> path,
+                final int pathGems,
+                final Deck deck,
+                final boolean lastRound) {
+            this.names = names;
+            this.sackGems = sackGems;
+            this.path = path;
+            this.pathGems = pathGems;
+            this.deck = deck;
+            this.lastRound = lastRound;
+        }
+
+        /**
+         * Creates a copy of the round, with new players in place of the active
+         * ones and the cards left in the deck in a random order.
+         * 
+         * @param random the source of randomness used to shuffle the deck.
+         * @return the copy of the round state.
+         */
+        RoundState copyState(final RandomGenerator random) {
+            final List<Player> players = new ArrayList<>(this.names.size());
+            for (int i = 0; i < this.names.size(); i++) {
+                final Player copy = new PlayerInRound(this.names.get(i));
+                copy.addSackGems(this.sackGems[i]);
+                players.add(copy);
+            }
+            final RoundState copy = new RoundStateImpl(players, this.deck.getShuffledCopy(random), this.lastRound);
+            for (final Card card : this.path) {
+                copy.addCardToPath(card);
+            }
+            copy.setPathGems(this.pathGems);
+            return copy;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package jvmt.model.round.api;
+
+/**
+ * Record containing what can be known about the next card of a round before
+ * drawing it.
+ * 
+ * @see RiskOracle
+ * 
+ * @param bustProbability       the probability that the next card ends the
+ *                              round.
+ * @param expectedTreasureValue the expected gems of the next card if it is a
+ *                              treasure, zero otherwise.
+ * 
+ * @author Emir Wanes Aouioua
+ */
+public record RiskEstimate(double bustProbability, double expectedTreasureValue) {
+
+    /**
+     * The estimate of a round with no cards left to draw.
+     */
+    public static final RiskEstimate NO_CARDS = new RiskEstimate(0, 0);
+}
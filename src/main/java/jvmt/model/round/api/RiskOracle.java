@@ -0,0 +1,31 @@
+package jvmt.model.round.api;
+
+import jvmt.model.round.api.roundeffect.endcondition.EndCondition;
+
+/**
+ * Computes the exact risk of drawing the next card of a round, from the cards
+ * still in the deck.
+ * <p>
+ * The order of the deck is unknown to the players, but its composition is
+ * not: it is the composition of the deck of the game without the cards on the
+ * path. An oracle checks the {@link EndCondition} of the game against each kind
+ * of card that can be drawn next, so the probability is exact for any end
+ * condition, as long as the other players stay.
+ * </p>
+ * 
+ * @see RiskEstimate
+ * 
+ * @author Emir Wanes Aouioua
+ */
+public interface RiskOracle {
+
+    /**
+     * Returns the risk of drawing the next card in the given round state.
+     * 
+     * @param state the round state.
+     * @return the estimate of the next card.
+     * 
+     * @throws NullPointerException if {@code state} is null.
+     */
+    RiskEstimate estimate(RoundState state);
+}
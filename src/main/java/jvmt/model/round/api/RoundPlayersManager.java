@@ -30,7 +30,7 @@ public interface RoundPlayersManager extends Iterator<Player> {
      * who have not chosen to exit). The list respects the original turn
      * order.
      * 
-     * @return the list of active players in their turn order.
+     * @return an unmodifiable list of active players in their turn order.
      */
     List<Player> getActivePlayers();
 
@@ -39,10 +39,24 @@ public interface RoundPlayersManager extends Iterator<Player> {
      * who have chosen to stop exploring). The list respects the original turn
      * order.
      * 
-     * @return the list of exited players in their turn order.
+     * @return an unmodifiable list of exited players in their turn order.
      */
     List<Player> getExitedPlayers();
 
+    /**
+     * Returns the number of players who are still active in the current round.
+     * 
+     * @return the number of active players.
+     */
+    int getActivePlayersCount();
+
+    /**
+     * Returns the number of players who have exited the current round.
+     * 
+     * @return the number of exited players.
+     */
+    int getExitedPlayersCount();
+
     /**
      * {@inheritDoc}
      * 
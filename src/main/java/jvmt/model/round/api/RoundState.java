@@ -5,6 +5,7 @@ import java.util.List;
 import jvmt.model.round.api.roundeffect.RoundEffect;
 import jvmt.model.card.api.Card;
 import jvmt.model.card.api.Deck;
+import jvmt.model.card.api.TypeTrapCard;
 import jvmt.model.card.impl.RelicCard;
 import jvmt.model.card.impl.TrapCard;
 import jvmt.model.card.impl.TreasureCard;
@@ -72,6 +73,72 @@ public interface RoundState {
      */
     List<TreasureCard> getDrawnTreasures();
 
+    /**
+     * Returns the number of cards drawn during this round.
+     * 
+     * @return the number of drawn cards.
+     */
+    int getDrawnCardsCount();
+
+    /**
+     * Returns the number of relic cards drawn during this round.
+     * 
+     * @return the number of drawn relics.
+     */
+    int getDrawnRelicsCount();
+
+    /**
+     * Returns the number of drawn relic cards that have not been redeemed yet.
+     * 
+     * @return the number of redeemable relics in this round.
+     */
+    int getRedeemableRelicsCount();
+
+    /**
+     * Returns the number of trap cards drawn during this round.
+     * 
+     * @return the number of drawn traps.
+     */
+    int getDrawnTrapsCount();
+
+    /**
+     * Returns the number of treasure cards drawn during this round.
+     * 
+     * @return the number of drawn treasures.
+     */
+    int getDrawnTreasuresCount();
+
+    /**
+     * Returns how many times a trap card of the given type has been drawn during
+     * this round.
+     * 
+     * @param type the type of trap.
+     * @return the number of drawn traps of the given type.
+     */
+    int getTrapOccurrences(TypeTrapCard type);
+
+    /**
+     * Returns the highest number of times a single type of trap has been drawn
+     * during this round.
+     * 
+     * @return the occurrences of the most drawn type of trap, or zero if no trap
+     *         has been drawn.
+     */
+    int getMaxTrapOccurrences();
+
+    /**
+     * Returns how many times the given change has happened since the beginning
+     * of this round.
+     * <p>
+     * The count never decreases during a round, so two equal counts read at
+     * different times mean that the change didn't happen in between.
+     * </p>
+     * 
+     * @param change the kind of change.
+     * @return the number of times the change has happened in this round.
+     */
+    int getChangeCount(RoundStateChange change);
+
     /**
      * Returns the total number of gems left on the path to be divided among the
      * players who decide to leave during a turn.
@@ -80,6 +147,14 @@ public interface RoundState {
      */
     int getPathGems();
 
+    /**
+     * Returns whether this is the last round of the game, so that the gems
+     * brought home in this round decide the winner.
+     * 
+     * @return true if no round will be played after this one, false otherwise.
+     */
+    boolean isLastRound();
+
     /**
      * Returns the deck from which the cards are drawn during this round.
      * 
@@ -0,0 +1,77 @@
+package jvmt.model.round.api;
+
+import java.util.Objects;
+
+import jvmt.model.card.api.TypeCard;
+
+/**
+ * The kinds of changes that can happen to a {@link RoundState} while a round
+ * is played.
+ * <p>
+ * Objects that read the round state, such as end conditions and gem
+ * modifiers, use these changes to declare what their result depends on, so
+ * that it can be computed again only when one of those changes happens.
+ * </p>
+ * 
+ * @see RoundState#getChangeCount(RoundStateChange)
+ * 
+ * @author Emir Wanes Aouioua
+ */
+public enum RoundStateChange {
+
+    /**
+     * A treasure card has been added to the path.
+     */
+    TREASURE_DRAWN,
+
+    /**
+     * A trap card has been added to the path.
+     */
+    TRAP_DRAWN,
+
+    /**
+     * A relic card has been added to the path.
+     */
+    RELIC_DRAWN,
+
+    /**
+     * A special card has been added to the path.
+     */
+    SPECIAL_DRAWN,
+
+    /**
+     * A player has left the round.
+     */
+    PLAYER_EXITED,
+
+    /**
+     * The amount of gems left on the path has been set.
+     */
+    PATH_GEMS_CHANGED;
+
+    /**
+     * Returns the change that happens when a card of the given type is drawn.
+     * 
+     * @param type the type of the drawn card.
+     * @return the change caused by drawing the card.
+     * 
+     * @throws NullPointerException if {@code type} is null.
+     */
+    public static RoundStateChange cardDrawn(final TypeCard type) {
+        return switch (Objects.requireNonNull(type)) {
+            case TREASURE -> TREASURE_DRAWN;
+            case TRAP -> TRAP_DRAWN;
+            case RELIC -> RELIC_DRAWN;
+            case SPECIAL -> SPECIAL_DRAWN;
+        };
+    }
+
+    /**
+     * Checks whether this change is caused by drawing a card.
+     * 
+     * @return true if this change happens when a card is drawn, false otherwise.
+     */
+    public boolean isCardDrawn() {
+        return this != PLAYER_EXITED && this != PATH_GEMS_CHANGED;
+    }
+}
@@ -1,7 +1,11 @@
 package jvmt.model.round.api.roundeffect.endcondition;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 import jvmt.model.common.api.Describable;
 import jvmt.model.round.api.RoundState;
+import jvmt.model.round.api.RoundStateChange;
 
 /**
  * Models the variable end condition of the round. A round can continue as long
@@ -23,4 +27,18 @@ public interface EndCondition extends Describable {
      * @return true if the round must end, false otherwise.
      */
     boolean isEndConditionMet(RoundState state);
+
+    /**
+     * Returns the changes of the round state that can alter the result of this
+     * end condition.
+     * <p>
+     * Between two occurrences of these changes the result is assumed not to
+     * change, so it can be cached. By default every change is a dependency.
+     * </p>
+     * 
+     * @return the set of changes that this end condition depends on.
+     */
+    default Set<RoundStateChange> getDependencies() {
+        return EnumSet.allOf(RoundStateChange.class);
+    }
 }
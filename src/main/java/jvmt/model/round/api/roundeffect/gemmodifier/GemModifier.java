@@ -1,7 +1,11 @@
 package jvmt.model.round.api.roundeffect.gemmodifier;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 import jvmt.model.common.api.Describable;
 import jvmt.model.round.api.RoundState;
+import jvmt.model.round.api.RoundStateChange;
 
 /**
  * Represents a modifier applied to gems based on the state of the round.
@@ -30,4 +34,18 @@ public interface GemModifier extends Describable {
      * @return the modified amount of gems after applying the modifier's logic.
      */
     int applyGemModifier(RoundState state, int gems);
+
+    /**
+     * Returns the changes of the round state that can alter the result of this
+     * gem modifier.
+     * <p>
+     * Between two occurrences of these changes the result is assumed not to
+     * change, so it can be cached. By default every change is a dependency.
+     * </p>
+     * 
+     * @return the set of changes that this gem modifier depends on.
+     */
+    default Set<RoundStateChange> getDependencies() {
+        return EnumSet.allOf(RoundStateChange.class);
+    }
 }
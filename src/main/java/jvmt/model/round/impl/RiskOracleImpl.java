@@ -0,0 +1,236 @@
+package jvmt.model.round.impl;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import jvmt.model.card.api.Card;
+import jvmt.model.card.api.Deck;
+import jvmt.model.card.impl.CardCodes;
+import jvmt.model.card.impl.CompositionCodec;
+import jvmt.model.card.impl.DeckImpl;
+import jvmt.model.player.api.Player;
+import jvmt.model.round.api.RiskEstimate;
+import jvmt.model.round.api.RiskOracle;
+import jvmt.model.round.api.RoundPlayersManager;
+import jvmt.model.round.api.RoundState;
+import jvmt.model.round.api.RoundStateChange;
+import jvmt.model.round.api.roundeffect.endcondition.EndCondition;
+import jvmt.utils.CommonUtils;
+
+/**
+ * Implementation of {@link RiskOracle} for the rounds played with a given
+ * deck.
+ * <p>
+ * The cards left in the deck are counted by {@link CardCodes}: the counts of
+ * the last round state asked for are kept and updated with the cards drawn
+ * since, so they cost nothing while the round goes on. When the counts don't
+ * match the deck of the state, for example because the round doesn't play
+ * with the deck of the oracle, the deck of the state is counted instead.
+ * </p>
+ * <p>
+ * The estimates are memoized by a key made of the counts, packed in a single
+ * {@code long}, and of the other parts of the state the end condition depends
+ * on. Once a composition has been seen, its estimate is found in constant
+ * time. Only the estimates of tracked counts are memoized: the cards on the
+ * path are the ones missing from the deck of the oracle, so the counts also
+ * tell which traps were drawn, which isn't true of a deck counted instead.
+ * The methods are synchronized, so the oracle can be shared by all the
+ * players of a game.
+ * </p>
+ * 
+ * @author Emir Wanes Aouioua
+ */
+public final class RiskOracleImpl implements RiskOracle {
+
+    private final EndCondition endCondition;
+    private final boolean dependsOnPlayers;
+    private final boolean dependsOnPathGems;
+    // a card of each code, used to build the states after the next draw
+    private final Card[] representatives = new Card[CardCodes.COUNT];
+    private final CompositionCodec codec;
+    private final Map<CompositionKey, RiskEstimate> estimates = new HashMap<>();
+
+    private RoundState trackedState;
+    private int trackedCards;
+    private int trackedTotal;
+    private boolean trackedValid;
+    private final int[] trackedCounts = new int[CardCodes.COUNT];
+
+    /**
+     * Creates an oracle for the rounds played with a full copy of the given
+     * deck.
+     * 
+     * @param deck         the deck of the game. It is not modified.
+     * @param endCondition the end condition of the rounds.
+     * 
+     * @throws NullPointerException if {@code deck} or {@code endCondition} is
+     *                              null.
+     */
+    public RiskOracleImpl(final Deck deck, final EndCondition endCondition) {
+        CommonUtils.requireNonNulls(deck, endCondition);
+        this.endCondition = endCondition;
+        final Set<RoundStateChange> dependencies = endCondition.getDependencies();
+        this.dependsOnPlayers = dependencies.contains(RoundStateChange.PLAYER_EXITED);
+        this.dependsOnPathGems = dependencies.contains(RoundStateChange.PATH_GEMS_CHANGED);
+        final int[] initialCounts = new int[CardCodes.COUNT];
+        this.countCards(deck, initialCounts);
+        this.codec = new CompositionCodec(initialCounts);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized RiskEstimate estimate(final RoundState state) {
+        Objects.requireNonNull(state);
+        final int[] remaining = this.remainingCounts(state);
+        final long composition = this.codec.pack(remaining);
+        // Only the tracked counts tell which cards are on the path
+        if (composition == CompositionCodec.NOT_PACKABLE || remaining != this.trackedCounts) {
+            return this.computeEstimate(state, remaining);
+        }
+        final RoundPlayersManager players = state.getRoundPlayersManager();
+        final CompositionKey key = new CompositionKey(
+                composition,
+                this.dependsOnPlayers ? players.getActivePlayersCount() : 0,
+                this.dependsOnPlayers ? players.getExitedPlayersCount() : 0,
+                this.dependsOnPathGems ? state.getPathGems() : 0);
+        RiskEstimate estimate = this.estimates.get(key);
+        if (estimate == null) {
+            estimate = this.computeEstimate(state, remaining);
+            this.estimates.put(key, estimate);
+        }
+        return estimate;
+    }
+
+    /**
+     * Returns the number of cards of each code left in the deck of the state.
+     * 
+     * @param state the round state.
+     * @return the counts, which must not be modified.
+     */
+    private int[] remainingCounts(final RoundState state) {
+        final List<Card> path = state.getDrawCards();
+        if (state != this.trackedState || path.size() < this.trackedCards) {
+            this.trackedState = state;
+            this.trackedCards = 0;
+            this.trackedTotal = 0;
+            this.trackedValid = true;
+            for (int code = 0; code < CardCodes.COUNT; code++) {
+                this.trackedCounts[code] = this.codec.initialOfCode(code);
+                this.trackedTotal += this.trackedCounts[code];
+            }
+        }
+        for (; this.trackedCards < path.size(); this.trackedCards++) {
+            final int code = CardCodes.of(path.get(this.trackedCards));
+            this.trackedTotal--;
+            if (--this.trackedCounts[code] < 0) {
+                this.trackedValid = false;
+            }
+        }
+        if (this.trackedValid && this.trackedTotal == state.getDeck().numberOfRemainingCards()) {
+            return this.trackedCounts;
+        }
+        final int[] counts = new int[CardCodes.COUNT];
+        this.countCards(state.getDeck(), counts);
+        return counts;
+    }
+
+    /**
+     * Computes the estimate of the next card.
+     * 
+     * @param state     the round state.
+     * @param remaining the number of cards of each code left in the deck.
+     * @return the estimate of the next card.
+     */
+    private RiskEstimate computeEstimate(final RoundState state, final int[] remaining) {
+        int total = 0;
+        int busting = 0;
+        double treasureGems = 0;
+        for (int code = 0; code < CardCodes.COUNT; code++) {
+            if (remaining[code] == 0) {
+                continue;
+            }
+            total += remaining[code];
+            if (CardCodes.isTreasure(code)) {
+                treasureGems += remaining[code] * (double) CardCodes.treasureGemValue(code);
+            }
+            if (this.endsRound(state, remaining, code)) {
+                busting += remaining[code];
+            }
+        }
+        return total == 0
+                ? RiskEstimate.NO_CARDS
+                : new RiskEstimate(busting / (double) total, treasureGems / total);
+    }
+
+    /**
+     * Checks whether drawing a card with the given code ends the round, by
+     * building the state after the draw.
+     * 
+     * @param state     the round state.
+     * @param remaining the number of cards of each code left in the deck.
+     * @param drawn     the code of the card drawn.
+     * @return true if the round ends after the draw, false otherwise.
+     */
+    private boolean endsRound(final RoundState state, final int[] remaining, final int drawn) {
+        final List<Card> deck = new ArrayList<>();
+        for (int code = 0; code < CardCodes.COUNT; code++) {
+            final int count = code == drawn ? remaining[code] - 1 : remaining[code];
+            for (int i = 0; i < count; i++) {
+                deck.add(this.representatives[code]);
+            }
+        }
+        final RoundPlayersManager manager = state.getRoundPlayersManager();
+        final int exited = manager.getExitedPlayersCount();
+        final List<Player> players = CommonUtils.generatePlayerList(manager.getActivePlayersCount() + exited);
+        final RoundState next = new RoundStateImpl(players, new DeckImpl(deck), state.isLastRound());
+        // Players can only leave a round that has started
+        for (int i = players.size() - exited; i < players.size(); i++) {
+            players.get(i).exit();
+        }
+        for (final Card card : state.getDrawCards()) {
+            next.addCardToPath(card);
+        }
+        next.addCardToPath(this.representatives[drawn]);
+        next.setPathGems(state.getPathGems());
+        return this.endCondition.isEndConditionMet(next);
+    }
+
+    /**
+     * Counts the cards of each code left in a deck, and keeps a card of each
+     * code found.
+     * 
+     * @param deck   the deck to count. It is not modified.
+     * @param counts where the counts are added.
+     */
+    private void countCards(final Deck deck, final int[] counts) {
+        final Deck copy = deck.getShuffledCopy();
+        while (copy.hasNext()) {
+            final Card card = copy.next();
+            final int code = CardCodes.of(card);
+            counts[code]++;
+            if (this.representatives[code] == null) {
+                this.representatives[code] = card;
+            }
+        }
+    }
+
+    /**
+     * Key of a memoized estimate.
+     * 
+     * @param composition    the packed counts of the cards left in the deck.
+     * @param activePlayers  the active players, if the end condition depends on
+     *                       them.
+     * @param exitedPlayers  the exited players, if the end condition depends on
+     *                       them.
+     * @param pathGems       the gems on the path, if the end condition depends
+     *                       on them.
+     */
+    private record CompositionKey(long composition, int activePlayers, int exitedPlayers, int pathGems) {
+    }
+}
@@ -48,6 +48,8 @@ public class RoundImpl implements Round {
 
     private final RoundState state;
     private final RoundEffect effect;
+    private final boolean reuseTurns;
+    private TurnImpl turn;
     private int currentTurn;
 
     /**
@@ -72,11 +74,64 @@ public class RoundImpl implements Round {
             final List<Player> players,
             final Deck deck,
             final RoundEffect effect) {
+        this(players, deck, effect, false);
+    }
+
+    /**
+     * Creates a RoundImpl object, starting a new round, that can reuse the same
+     * {@link Turn} object for all its turns.
+     * <p>
+     * When {@code reuseTurns} is true, every call to {@link #next()} restarts and
+     * returns the same turn, so a turn must not be used anymore once the next one
+     * is requested. This is meant for simulations, where turns are played one
+     * after the other and nobody keeps them.
+     * </p>
+     * 
+     * @param players    the players who will play in this round.
+     * @param deck       the deck that will be used during this round.
+     * @param effect     the effect that is applied to this round that will
+     *                   determine its modifier for gems and end condition.
+     * @param reuseTurns whether the same turn object is returned for every turn.
+     * 
+     * @throws NullPointerException if {@code players}, {@code deck} or
+     *                              {@code effect} is null.
+     */
+    public RoundImpl(
+            final List<Player> players,
+            final Deck deck,
+            final RoundEffect effect,
+            final boolean reuseTurns) {
+        this(players, deck, effect, reuseTurns, false);
+    }
+
+    /**
+     * Creates a RoundImpl object, starting a new round, telling whether it is
+     * the last round of the game.
+     * 
+     * @param players    the players who will play in this round.
+     * @param deck       the deck that will be used during this round.
+     * @param effect     the effect that is applied to this round that will
+     *                   determine its modifier for gems and end condition.
+     * @param reuseTurns whether the same turn object is returned for every turn.
+     * @param lastRound  whether no round will be played after this one.
+     * 
+     * @throws NullPointerException if {@code players}, {@code deck} or
+     *                              {@code effect} is null.
+     * 
+     * @see RoundState#isLastRound()
+     */
+    public RoundImpl(
+            final List<Player> players,
+            final Deck deck,
+            final RoundEffect effect,
+            final boolean reuseTurns,
+            final boolean lastRound) {
         CommonUtils.requireNonNulls(players, deck, effect);
 
         players.forEach(Player::resetRoundPlayer);
-        this.state = new RoundStateImpl(players, deck);
+        this.state = new RoundStateImpl(players, deck, lastRound);
         this.effect = effect;
+        this.reuseTurns = reuseTurns;
     }
 
     /**
@@ -100,7 +155,15 @@ public class RoundImpl implements Round {
         }
         this.currentTurn++;
         final Player player = state.getRoundPlayersManager().next();
-        return new TurnImpl(player, state, effect);
+        if (!this.reuseTurns) {
+            return new TurnImpl(player, state, effect);
+        }
+        if (this.turn == null) {
+            this.turn = new TurnImpl(player, state, effect);
+        } else {
+            this.turn.restart(player);
+        }
+        return this.turn;
     }
 
     /**
@@ -118,8 +181,9 @@ public class RoundImpl implements Round {
          * Only players who are not active when the round ends can put their gems in the
          * chest
          */
-        final List<Player> players = this.state.getRoundPlayersManager().getExitedPlayers();
-        players.forEach(Player::addSackToChest);
+        for (final Player player : this.state.getRoundPlayersManager().getExitedPlayers()) {
+            player.addSackToChest();
+        }
     }
 
     /**
@@ -1,6 +1,8 @@
 package jvmt.model.round.impl;
 
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Objects;
@@ -16,6 +18,19 @@ import jvmt.model.round.api.RoundPlayersManager;
  * This implementation treats the list of players as a circular list in which
  * those found to be exited are skipped.
  * </p>
+ * <p>
+ * The seats of the active players are kept in a bitset, together with the
+ * number of active players. Since players leave the round by themselves, every
+ * query first checks the seats still marked as active: players who left are
+ * removed from the bitset, so the cost of a query only depends on how many
+ * players are still active. A player can't come back once they have left:
+ * players are reset only when a new round, with a new manager, starts.
+ * </p>
+ * <p>
+ * The lists of active and exited players are immutable snapshots that are
+ * built again only when someone leaves, so asking for them on every turn
+ * doesn't allocate.
+ * </p>
  * 
  * @see Player
  * @author Emir Wanes Aouioua
@@ -23,7 +38,11 @@ import jvmt.model.round.api.RoundPlayersManager;
 public final class RoundPlayersManagerImpl implements RoundPlayersManager {
 
     private final List<Player> players; // all players partecipating in the round
+    private final BitSet activeSeats;
+    private int activeCount;
     private int current;
+    private List<Player> activeSnapshot;
+    private List<Player> exitedSnapshot;
 
     /**
      * Constuct a RoundPlayersManagerImpl object based of a list of active players.
@@ -39,9 +58,14 @@ public final class RoundPlayersManagerImpl implements RoundPlayersManager {
 
         this.players = new ArrayList<>(players);
 
-        if (!this.getExitedPlayers().isEmpty()) {
-            throw new IllegalArgumentException("All players must be in active state at the beginning of a round.");
+        for (final Player player : this.players) {
+            if (player.getChoice() != PlayerChoice.STAY) {
+                throw new IllegalArgumentException("All players must be in active state at the beginning of a round.");
+            }
         }
+        this.activeSeats = new BitSet(this.players.size());
+        this.activeSeats.set(0, this.players.size());
+        this.activeCount = this.players.size();
     }
 
     /**
@@ -49,7 +73,7 @@ public final class RoundPlayersManagerImpl implements RoundPlayersManager {
      */
     @Override
     public boolean hasNext() {
-        return !this.getActivePlayers().isEmpty();
+        return this.getActivePlayersCount() > 0;
     }
 
     /**
@@ -57,19 +81,34 @@ public final class RoundPlayersManagerImpl implements RoundPlayersManager {
      */
     @Override
     public Player next() {
-        // tries to find the first active player from this.current
-        int checked = 0;
-        while (checked < players.size()) {
-            final Player candidate = players.get(this.current);
-            this.current = (this.current + 1) % players.size();
-            checked++;
-
-            if (candidate.getChoice() == PlayerChoice.STAY) {
-                return candidate;
-            }
+        this.removeExitedSeats();
+        if (this.activeCount == 0) {
+            throw new NoSuchElementException("No active players left.");
         }
+        // finds the first active seat from this.current, going around the table
+        int seat = this.activeSeats.nextSetBit(this.current);
+        if (seat < 0) {
+            seat = this.activeSeats.nextSetBit(0);
+        }
+        this.current = (seat + 1) % this.players.size();
+        return this.players.get(seat);
+    }
 
-        throw new NoSuchElementException("No active players left.");
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getActivePlayersCount() {
+        this.removeExitedSeats();
+        return this.activeCount;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getExitedPlayersCount() {
+        return this.players.size() - this.getActivePlayersCount();
     }
 
     /**
@@ -77,9 +116,8 @@ public final class RoundPlayersManagerImpl implements RoundPlayersManager {
      */
     @Override
     public List<Player> getActivePlayers() {
-        return this.players.stream()
-                .filter(p -> p.getChoice() == PlayerChoice.STAY)
-                .toList();
+        this.updateSnapshots();
+        return this.activeSnapshot;
     }
 
     /**
@@ -87,9 +125,45 @@ public final class RoundPlayersManagerImpl implements RoundPlayersManager {
      */
     @Override
     public List<Player> getExitedPlayers() {
-        final List<Player> exiting = new ArrayList<>(this.players);
-        exiting.removeAll(this.getActivePlayers());
-        return exiting;
+        this.updateSnapshots();
+        return this.exitedSnapshot;
+    }
+
+    /**
+     * Removes from the active seats the players who left the round since the
+     * last check, invalidating the snapshots if anyone did.
+     */
+    private void removeExitedSeats() {
+        for (int seat = this.activeSeats.nextSetBit(0); seat >= 0; seat = this.activeSeats.nextSetBit(seat + 1)) {
+            if (this.players.get(seat).getChoice() != PlayerChoice.STAY) {
+                this.activeSeats.clear(seat);
+                this.activeCount--;
+                this.activeSnapshot = null;
+                this.exitedSnapshot = null;
+            }
+        }
+    }
+
+    /**
+     * Builds the snapshots of the active and exited players again if someone
+     * left the round since they were last built.
+     */
+    private void updateSnapshots() {
+        this.removeExitedSeats();
+        if (this.activeSnapshot != null) {
+            return;
+        }
+        final List<Player> active = new ArrayList<>(this.activeCount);
+        final List<Player> exited = new ArrayList<>(this.players.size() - this.activeCount);
+        for (int seat = 0; seat < this.players.size(); seat++) {
+            if (this.activeSeats.get(seat)) {
+                active.add(this.players.get(seat));
+            } else {
+                exited.add(this.players.get(seat));
+            }
+        }
+        this.activeSnapshot = Collections.unmodifiableList(active);
+        this.exitedSnapshot = Collections.unmodifiableList(exited);
     }
 
 }
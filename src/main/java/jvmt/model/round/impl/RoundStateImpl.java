@@ -1,13 +1,16 @@
 package jvmt.model.round.impl;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
-import java.util.function.Function;
-import java.util.function.Predicate;
 
 import jvmt.model.card.api.Card;
 import jvmt.model.card.api.Deck;
+import jvmt.model.card.api.TypeCard;
+import jvmt.model.card.api.TypeTrapCard;
 import jvmt.model.player.api.Player;
 import jvmt.model.card.impl.RelicCard;
 import jvmt.model.card.impl.TrapCard;
@@ -15,6 +18,7 @@ import jvmt.model.card.impl.TreasureCard;
 import jvmt.model.round.api.Round;
 import jvmt.model.round.api.RoundPlayersManager;
 import jvmt.model.round.api.RoundState;
+import jvmt.model.round.api.RoundStateChange;
 import jvmt.utils.CommonUtils;
 
 /**
@@ -26,6 +30,11 @@ import jvmt.utils.CommonUtils;
  * via {@link RoundPlayersManager}, the cards drawn during the round,
  * the deck of card used for this round and the total gems on the path.
  * </p>
+ * <p>
+ * The drawn cards are also indexed by kind as soon as they are added to the
+ * path, so that counting them, or reading the occurrences of each type of trap,
+ * takes constant time and doesn't allocate anything.
+ * </p>
  * 
  * @see RoundPlayersManager
  * @see Round
@@ -37,7 +46,20 @@ public class RoundStateImpl implements RoundState {
 
     private final RoundPlayersManager playersManager;
     private final List<Card> drawnCards;
+    private final List<Card> drawnCardsView;
+    private final List<RelicCard> drawnRelics = new ArrayList<>();
+    private final List<TrapCard> drawnTraps = new ArrayList<>();
+    private final List<TreasureCard> drawnTreasures = new ArrayList<>();
+    private final List<RelicCard> redeemableRelics = new ArrayList<>();
+    private final Map<TypeTrapCard, Integer> trapOccurrences = new EnumMap<>(TypeTrapCard.class);
+    private final List<RelicCard> drawnRelicsView = Collections.unmodifiableList(this.drawnRelics);
+    private final List<TrapCard> drawnTrapsView = Collections.unmodifiableList(this.drawnTraps);
+    private final List<TreasureCard> drawnTreasuresView = Collections.unmodifiableList(this.drawnTreasures);
     private final Deck deck;
+    private final boolean lastRound;
+    private final int[] drawnByType = new int[TypeCard.values().length];
+    private int maxTrapOccurrences;
+    private int pathGemsChanges;
     private int pathGems;
 
     /**
@@ -57,80 +79,178 @@ public class RoundStateImpl implements RoundState {
      * @throws NullPointerException if {@code players} or {@code deck} is null.
      */
     public RoundStateImpl(final List<Player> players, final Deck deck) {
+        this(players, deck, false);
+    }
+
+    /**
+     * Initializes the round's state with the given list of players and deck to be
+     * used in the round, telling whether it is the last round of the game.
+     * 
+     * @param players   the players partecipating in the round.
+     * @param deck      the deck that will be used in this round.
+     * @param lastRound whether no round will be played after this one.
+     * 
+     * @throws NullPointerException if {@code players} or {@code deck} is null.
+     */
+    public RoundStateImpl(final List<Player> players, final Deck deck, final boolean lastRound) {
         CommonUtils.requireNonNulls(players, deck);
 
         this.playersManager = new RoundPlayersManagerImpl(players);
         this.deck = deck;
+        this.lastRound = lastRound;
         this.drawnCards = new ArrayList<>();
+        this.drawnCardsView = Collections.unmodifiableList(this.drawnCards);
     }
 
     /**
      * {@inheritDoc}
+     * 
+     * <p>
+     * The returned list is an unmodifiable view that grows as new cards are
+     * drawn.
+     * </p>
      */
     @Override
     public List<Card> getDrawCards() {
-        return new ArrayList<>(this.drawnCards);
+        return this.drawnCardsView;
     }
 
     /**
-     * Returns a list of cards from {@code drawnCards} that match a given
-     * filter and are transformed using the provided mapping function.
+     * {@inheritDoc}
      * 
-     * @param <T>    the target type of cards to be returned (must be {@code Card}
-     *               or an extension of it).
-     * @param filter a predicate used to select which cards are included.
-     * @param mapper a function that transforms each card to a {@code Card} or an
-     *               extension of it.
-     * @return a list of cards that satisfy the filter and are mapped to type
-     *         {@code T}
+     * <p>
+     * The returned list is an unmodifiable view that grows as new relics are
+     * drawn.
+     * </p>
      */
-    private <T extends Card> List<T> getDrawnFiltered(
-            final Predicate<Card> filter,
-            final Function<Card, T> mapper) {
-        return this.drawnCards.stream()
-                .filter(filter)
-                .map(mapper)
-                .toList();
+    @Override
+    public List<RelicCard> getDrawnRelics() {
+        return this.drawnRelicsView;
     }
 
     /**
      * {@inheritDoc}
+     * 
+     * <p>
+     * The returned list is an unmodifiable view that grows as new traps are
+     * drawn.
+     * </p>
      */
     @Override
-    public List<RelicCard> getDrawnRelics() {
-        return this.getDrawnFiltered(
-                c -> c instanceof RelicCard,
-                c -> (RelicCard) c);
+    public List<TrapCard> getDrawnTraps() {
+        return this.drawnTrapsView;
     }
 
     /**
      * {@inheritDoc}
+     * 
+     * <p>
+     * The returned list is an unmodifiable view that grows as new treasures are
+     * drawn.
+     * </p>
      */
     @Override
-    public List<TrapCard> getDrawnTraps() {
-        return this.getDrawnFiltered(
-                c -> c instanceof TrapCard,
-                c -> (TrapCard) c);
+    public List<TreasureCard> getDrawnTreasures() {
+        return this.drawnTreasuresView;
     }
 
     /**
      * {@inheritDoc}
+     * 
+     * <p>
+     * The returned list is a snapshot, so the relics can be redeemed while
+     * iterating over it.
+     * </p>
      */
     @Override
-    public List<TreasureCard> getDrawnTreasures() {
-        return this.getDrawnFiltered(
-                c -> c instanceof TreasureCard,
-                c -> (TreasureCard) c);
+    public List<RelicCard> getRedeemableRelics() {
+        this.pruneRedeemedRelics();
+        return List.copyOf(this.redeemableRelics);
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public List<RelicCard> getRedeemableRelics() {
-        return this.getDrawnRelics().stream()
-                .filter(r -> !r.isRedeemed())
-                .toList();
+    public int getDrawnCardsCount() {
+        return this.drawnCards.size();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getDrawnRelicsCount() {
+        return this.drawnRelics.size();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getRedeemableRelicsCount() {
+        this.pruneRedeemedRelics();
+        return this.redeemableRelics.size();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getDrawnTrapsCount() {
+        return this.drawnTraps.size();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getDrawnTreasuresCount() {
+        return this.drawnTreasures.size();
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * @throws NullPointerException if {@code type} is null.
+     */
+    @Override
+    public int getTrapOccurrences(final TypeTrapCard type) {
+        return this.trapOccurrences.getOrDefault(Objects.requireNonNull(type), 0);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getMaxTrapOccurrences() {
+        return this.maxTrapOccurrences;
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * @throws NullPointerException if {@code change} is null.
+     */
+    @Override
+    public int getChangeCount(final RoundStateChange change) {
+        return switch (Objects.requireNonNull(change)) {
+            case TREASURE_DRAWN -> this.drawnByType[TypeCard.TREASURE.ordinal()];
+            case TRAP_DRAWN -> this.drawnByType[TypeCard.TRAP.ordinal()];
+            case RELIC_DRAWN -> this.drawnByType[TypeCard.RELIC.ordinal()];
+            case SPECIAL_DRAWN -> this.drawnByType[TypeCard.SPECIAL.ordinal()];
+            case PLAYER_EXITED -> this.playersManager.getExitedPlayersCount();
+            case PATH_GEMS_CHANGED -> this.pathGemsChanges;
+        };
+    }
+
+    /**
+     * Removes from the redeemable-relic index the relics that have been redeemed
+     * since they were drawn. Relics are redeemed only when players leave, so this
+     * rarely has anything to remove.
+     */
+    private void pruneRedeemedRelics() {
+        this.redeemableRelics.removeIf(RelicCard::isRedeemed);
     }
 
     /**
@@ -141,6 +261,14 @@ public class RoundStateImpl implements RoundState {
         return this.pathGems;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isLastRound() {
+        return this.lastRound;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -160,12 +288,29 @@ public class RoundStateImpl implements RoundState {
     /**
      * {@inheritDoc}
      * 
+     * <p>
+     * The card is also added to the index of its kind.
+     * </p>
+     * 
      * @throws NullPointerException if {@code card} is null.
      */
     @Override
     public void addCardToPath(final Card card) {
         Objects.requireNonNull(card);
         this.drawnCards.add(card);
+        this.drawnByType[card.getType().ordinal()]++;
+        if (card instanceof final RelicCard relic) {
+            this.drawnRelics.add(relic);
+            if (!relic.isRedeemed()) {
+                this.redeemableRelics.add(relic);
+            }
+        } else if (card instanceof final TrapCard trap) {
+            this.drawnTraps.add(trap);
+            final int occurrences = this.trapOccurrences.merge(trap.getTypeTrap(), 1, Integer::sum);
+            this.maxTrapOccurrences = Math.max(this.maxTrapOccurrences, occurrences);
+        } else if (card instanceof final TreasureCard treasure) {
+            this.drawnTreasures.add(treasure);
+        }
     }
 
     /**
@@ -179,5 +324,6 @@ public class RoundStateImpl implements RoundState {
             throw new IllegalArgumentException("Path's gem amount can't be negative.");
         }
         this.pathGems = gems;
+        this.pathGemsChanges++;
     }
 }
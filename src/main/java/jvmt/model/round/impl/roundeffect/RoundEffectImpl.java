@@ -7,6 +7,8 @@ import jvmt.utils.CommonUtils;
 
 import java.util.Objects;
 
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+
 import jvmt.model.round.api.RoundState;
 
 /**
@@ -16,6 +18,13 @@ import jvmt.model.round.api.RoundState;
  * under which a round ends and {@link GemModifier} to apply an alteration to
  * the number of base gems earned by players.
  * </p>
+ * <p>
+ * The results of the end condition and of the gem modifier are cached and
+ * computed again only when the round state goes through one of the changes
+ * they declare as dependencies, so asking for them several times in the same
+ * turn costs constant time. For this reason a round effect should not be
+ * shared between threads.
+ * </p>
  * 
  * @see RoundEffect
  * @see GemModifier
@@ -23,10 +32,22 @@ import jvmt.model.round.api.RoundState;
  * 
  * @author Emir Wanes Aouioua
  */
+@SuppressFBWarnings(value = "EI_EXPOSE_REP2", justification = "The round state is only kept as the key of the cached results")
 public class RoundEffectImpl implements RoundEffect {
 
     private final EndCondition endCondition;
     private final GemModifier gemModifier;
+    private final RoundStateVersion endConditionVersion;
+    private final RoundStateVersion gemModifierVersion;
+
+    private RoundState endConditionState;
+    private long endConditionStateVersion;
+    private boolean endConditionMet;
+
+    private RoundState gemModifierState;
+    private long gemModifierStateVersion;
+    private int gemModifierInput;
+    private int gemModifierOutput;
 
     /**
      * Constructor for the round effect. This implementation delegates control of
@@ -46,6 +67,8 @@ public class RoundEffectImpl implements RoundEffect {
         CommonUtils.requireNonNulls(endCondition, gemModifier);
         this.endCondition = endCondition;
         this.gemModifier = gemModifier;
+        this.endConditionVersion = new RoundStateVersion(endCondition.getDependencies());
+        this.gemModifierVersion = new RoundStateVersion(gemModifier.getDependencies());
     }
 
     /**
@@ -61,7 +84,13 @@ public class RoundEffectImpl implements RoundEffect {
     @Override
     public boolean isEndConditionMet(final RoundState state) {
         Objects.requireNonNull(state);
-        return this.endCondition.isEndConditionMet(state);
+        final long version = this.endConditionVersion.of(state);
+        if (state != this.endConditionState || version != this.endConditionStateVersion) {
+            this.endConditionMet = this.endCondition.isEndConditionMet(state);
+            this.endConditionState = state;
+            this.endConditionStateVersion = version;
+        }
+        return this.endConditionMet;
     }
 
     /**
@@ -77,7 +106,16 @@ public class RoundEffectImpl implements RoundEffect {
     @Override
     public int applyGemModifier(final RoundState state, final int gems) {
         Objects.requireNonNull(state);
-        return this.gemModifier.applyGemModifier(state, gems);
+        final long version = this.gemModifierVersion.of(state);
+        if (state != this.gemModifierState
+                || version != this.gemModifierStateVersion
+                || gems != this.gemModifierInput) {
+            this.gemModifierOutput = this.gemModifier.applyGemModifier(state, gems);
+            this.gemModifierState = state;
+            this.gemModifierStateVersion = version;
+            this.gemModifierInput = gems;
+        }
+        return this.gemModifierOutput;
     }
 
     /**
@@ -0,0 +1,56 @@
+package jvmt.model.round.impl.roundeffect;
+
+import java.util.Set;
+
+import jvmt.model.card.api.Deck;
+import jvmt.model.round.api.RoundState;
+import jvmt.model.round.api.RoundStateChange;
+
+/**
+ * Computes a version number of a {@link RoundState} that changes only when one
+ * of a given set of {@link RoundStateChange}s happens.
+ * <p>
+ * The version is the sum of the counts of the watched changes. Every count
+ * only grows during a round, so the sum changes exactly when at least one of
+ * them does. When a card-drawn change is watched, the cards taken from the
+ * deck are counted too, so that drawing a card without adding it to the path
+ * is noticed as well.
+ * </p>
+ * 
+ * @see RoundState#getChangeCount(RoundStateChange)
+ * 
+ * @author Emir Wanes Aouioua
+ */
+final class RoundStateVersion {
+
+    private final RoundStateChange[] dependencies;
+    private final boolean watchesDeck;
+
+    /**
+     * Creates a version counter over the given changes.
+     * 
+     * @param dependencies the changes to watch.
+     */
+    RoundStateVersion(final Set<RoundStateChange> dependencies) {
+        this.dependencies = dependencies.toArray(new RoundStateChange[0]);
+        this.watchesDeck = dependencies.stream().anyMatch(RoundStateChange::isCardDrawn);
+    }
+
+    /**
+     * Computes the current version of the given state.
+     * 
+     * @param state the state of the round.
+     * @return the version of the state with respect to the watched changes.
+     */
+    long of(final RoundState state) {
+        long version = 0;
+        for (final RoundStateChange change : this.dependencies) {
+            version += state.getChangeCount(change);
+        }
+        if (this.watchesDeck) {
+            final Deck deck = state.getDeck();
+            version += deck.deckSize() - deck.numberOfRemainingCards();
+        }
+        return version;
+    }
+}
@@ -1,14 +1,12 @@
 package jvmt.model.round.impl.roundeffect.endcondition;
 
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
+import java.util.EnumSet;
 import java.util.function.Predicate;
 
 import jvmt.model.round.api.RoundState;
+import jvmt.model.round.api.RoundStateChange;
 import jvmt.model.round.api.roundeffect.endcondition.EndCondition;
 import jvmt.model.round.api.roundeffect.endcondition.EndConditionFactory;
-import jvmt.model.card.impl.TrapCard;
 
 /**
  * Concrete implementation of {@link EndConditionFactory}.
@@ -44,6 +42,12 @@ public class EndConditionFactoryImpl implements EndConditionFactory {
      *                       round has ended.
      * @param description    the textual description of how the extra condition is
      *                       met.
+     *                       <p>
+     *                       The extra condition must depend only on the drawn
+     *                       cards and on the players who left, which are the
+     *                       changes that the returned condition declares as its
+     *                       dependencies.
+     *                       </p>
      * @return nn {@code EndCondition} that determines that the round is over if
      *         there are no more cards to draw, if there are no more active players,
      *         or if the extra end condition is met.
@@ -55,7 +59,8 @@ public class EndConditionFactoryImpl implements EndConditionFactory {
                 state -> !state.getRoundPlayersManager().hasNext()
                         || !state.getDeck().hasNext()
                         || extraCondition.test(state),
-                "The round ends when the deck is over, if all players leave, or if " + description);
+                "The round ends when the deck is over, if all players leave, or if " + description,
+                EnumSet.complementOf(EnumSet.of(RoundStateChange.PATH_GEMS_CHANGED)));
     }
 
     /**
@@ -64,7 +69,7 @@ public class EndConditionFactoryImpl implements EndConditionFactory {
     @Override
     public EndCondition firstTrapEnds() {
         return genericEndCondition(
-                state -> !state.getDrawnTraps().isEmpty(),
+                state -> state.getDrawnTrapsCount() > 0,
                 "a trap card is drawn");
     }
 
@@ -74,36 +79,17 @@ public class EndConditionFactoryImpl implements EndConditionFactory {
     @Override
     public EndCondition standard() {
         return genericEndCondition(
-                state -> computeTrapsOccurrences(state.getDrawnTraps())
-                        .values()
-                        .stream()
-                        .anyMatch(occ -> occ >= 2),
+                state -> state.getMaxTrapOccurrences() >= 2,
                 "two identical trap cards are drawn");
     }
 
-    /**
-     * Calculates the number of occurrences of trap cards in a list using a map that
-     * associates each trap with the number of times it was drawn.
-     * 
-     * @param traps the list of drawn traps.
-     * @return a map that associates each trap card in the list with the number of
-     *         times it appears.
-     */
-    private Map<TrapCard, Integer> computeTrapsOccurrences(final List<TrapCard> traps) {
-        final Map<TrapCard, Integer> occurrences = new HashMap<>();
-        for (final TrapCard trap : traps) {
-            occurrences.put(trap, occurrences.getOrDefault(trap, 0) + 1);
-        }
-        return occurrences;
-    }
-
     /**
      * {@inheritDoc}
      */
     @Override
     public EndCondition threeRelicsDrawn() {
         return genericEndCondition(
-                state -> state.getDrawnRelics().size() >= 3,
+                state -> state.getDrawnRelicsCount() >= 3,
                 "three relics are drawn");
     }
 }
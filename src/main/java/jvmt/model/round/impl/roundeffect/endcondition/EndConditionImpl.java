@@ -1,10 +1,14 @@
 package jvmt.model.round.impl.roundeffect.endcondition;
 
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import jvmt.model.common.api.Describable;
 import jvmt.model.round.api.RoundState;
+import jvmt.model.round.api.RoundStateChange;
 import jvmt.model.round.api.roundeffect.endcondition.EndCondition;
 import jvmt.utils.CommonUtils;
 
@@ -14,6 +18,8 @@ import jvmt.utils.CommonUtils;
  * @param condition   the predicate defining when the end condition is
  *                    met.
  * @param description a human readable explanation of this {@code condition}.
+ * @param dependencies the changes of the round state that can alter the result
+ *                     of {@code condition}.
  * 
  * @see RoundState
  * @see Describable
@@ -22,16 +28,33 @@ import jvmt.utils.CommonUtils;
  */
 public record EndConditionImpl(
         Predicate<RoundState> condition,
-        String description) implements EndCondition {
+        String description,
+        Set<RoundStateChange> dependencies) implements EndCondition {
 
     /**
-     * Constucts the {@code EndConditionImpl}.
+     * Constructs the {@code EndConditionImpl}.
      * 
      * @param condition   the predicate defining when the round should end.
      * @param description a human readable explanation of the effect end condition.
+     * @param dependencies the changes of the round state that can alter the
+     *                     result of {@code condition}.
      */
     public EndConditionImpl {
-        CommonUtils.requireNonNulls(condition, description);
+        CommonUtils.requireNonNulls(condition, description, dependencies);
+        final Set<RoundStateChange> copy = EnumSet.noneOf(RoundStateChange.class);
+        copy.addAll(dependencies);
+        dependencies = Collections.unmodifiableSet(copy);
+    }
+
+    /**
+     * Constructs the {@code EndConditionImpl} assuming that it depends on every
+     * change of the round state.
+     * 
+     * @param condition   the predicate defining when the round should end.
+     * @param description a human readable explanation of the effect end condition.
+     */
+    public EndConditionImpl(final Predicate<RoundState> condition, final String description) {
+        this(condition, description, EnumSet.allOf(RoundStateChange.class));
     }
 
     /**
@@ -51,6 +74,14 @@ public record EndConditionImpl(
         return this.description();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<RoundStateChange> getDependencies() {
+        return this.dependencies();
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -1,5 +1,8 @@
 package jvmt.model.round.impl.roundeffect.gemmodifier;
 
+import java.util.EnumSet;
+
+import jvmt.model.round.api.RoundStateChange;
 import jvmt.model.round.api.roundeffect.gemmodifier.GemModifier;
 import jvmt.model.round.api.roundeffect.gemmodifier.GemModifierFactory;
 
@@ -26,7 +29,8 @@ public class GemModifierFactoryImpl implements GemModifierFactory {
     public GemModifier standard() {
         return new GemModifierImpl(
                 (state, gems) -> gems,
-                "no modifiers applied to gems");
+                "no modifiers applied to gems",
+                EnumSet.noneOf(RoundStateChange.class));
     }
 
     /**
@@ -40,8 +44,9 @@ public class GemModifierFactoryImpl implements GemModifierFactory {
     @Override
     public GemModifier riskyReward(final int bonus) {
         return new GemModifierImpl(
-                (state, gems) -> gems + (state.getDrawnTraps().size() * bonus),
-                (bonus >= 0 ? "+" : "") + bonus + " gems for each trap card already drawn");
+                (state, gems) -> gems + (state.getDrawnTrapsCount() * bonus),
+                (bonus >= 0 ? "+" : "") + bonus + " gems for each trap card already drawn",
+                EnumSet.of(RoundStateChange.TRAP_DRAWN));
     }
 
     /**
@@ -56,7 +61,8 @@ public class GemModifierFactoryImpl implements GemModifierFactory {
     public GemModifier gemMultiplier(final double multiplier) {
         return new GemModifierImpl(
                 (state, gems) -> (int) (gems * multiplier),
-                "multiplier applied to gems [x" + multiplier + "]");
+                "multiplier applied to gems [x" + multiplier + "]",
+                EnumSet.noneOf(RoundStateChange.class));
     }
 
     /**
@@ -70,8 +76,9 @@ public class GemModifierFactoryImpl implements GemModifierFactory {
     @Override
     public GemModifier leftReward(final int leftBonus) {
         return new GemModifierImpl(
-                (state, gems) -> gems + (leftBonus * state.getRoundPlayersManager().getExitedPlayers().size()),
-                (leftBonus >= 0 ? "+" : "") + leftBonus + " gems for each player who exits the round");
+                (state, gems) -> gems + (leftBonus * state.getRoundPlayersManager().getExitedPlayersCount()),
+                (leftBonus >= 0 ? "+" : "") + leftBonus + " gems for each player who exits the round",
+                EnumSet.of(RoundStateChange.PLAYER_EXITED));
     }
 
 }
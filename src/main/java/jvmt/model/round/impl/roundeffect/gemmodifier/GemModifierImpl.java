@@ -1,10 +1,14 @@
 package jvmt.model.round.impl.roundeffect.gemmodifier;
 
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.BiFunction;
 
 import jvmt.model.common.api.Describable;
 import jvmt.model.round.api.RoundState;
+import jvmt.model.round.api.RoundStateChange;
 import jvmt.model.round.api.roundeffect.gemmodifier.GemModifier;
 import jvmt.utils.CommonUtils;
 
@@ -14,6 +18,8 @@ import jvmt.utils.CommonUtils;
  * @param modifier    the function that alters the amount of gems based on the
  *                    current game state.
  * @param description a human readable explanation of the modifier.
+ * @param dependencies the changes of the round state that can alter the result
+ *                     of {@code modifier}.
  * 
  * @see RoundState
  * @see Describable
@@ -22,7 +28,8 @@ import jvmt.utils.CommonUtils;
  */
 public record GemModifierImpl(
         BiFunction<RoundState, Integer, Integer> modifier,
-        String description) implements GemModifier {
+        String description,
+        Set<RoundStateChange> dependencies) implements GemModifier {
 
     /**
      * Constructs the {@code GemModifierImpl}.
@@ -30,9 +37,26 @@ public record GemModifierImpl(
      * @param modifier    the function that alters the amount of gems based on the
      *                    current game state.
      * @param description a human readable explanation of the modifier.
+     * @param dependencies the changes of the round state that can alter the
+     *                     result of {@code modifier}.
      */
     public GemModifierImpl {
-        CommonUtils.requireNonNulls(modifier, description);
+        CommonUtils.requireNonNulls(modifier, description, dependencies);
+        final Set<RoundStateChange> copy = EnumSet.noneOf(RoundStateChange.class);
+        copy.addAll(dependencies);
+        dependencies = Collections.unmodifiableSet(copy);
+    }
+
+    /**
+     * Constructs the {@code GemModifierImpl} assuming that it depends on every
+     * change of the round state.
+     * 
+     * @param modifier    the function that alters the amount of gems based on the
+     *                    current game state.
+     * @param description a human readable explanation of the modifier.
+     */
+    public GemModifierImpl(final BiFunction<RoundState, Integer, Integer> modifier, final String description) {
+        this(modifier, description, EnumSet.allOf(RoundStateChange.class));
     }
 
     /**
@@ -54,6 +78,14 @@ public record GemModifierImpl(
         return description();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<RoundStateChange> getDependencies() {
+        return this.dependencies();
+    }
+
     /**
      * {@inheritDoc}
      */
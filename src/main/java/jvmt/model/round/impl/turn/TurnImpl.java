@@ -1,6 +1,6 @@
 package jvmt.model.round.impl.turn;
 
-import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -40,6 +40,10 @@ import jvmt.model.player.api.Player;
  * <li>{@link IllegalArgumentException} if any players passed to
  * {@link #endTurn(Set)} have not left the round.</li>
  * </ul>
+ * <p>
+ * A turn object can be reused for the next turn of the same round through
+ * {@link #restart(Player)}, so that playing a turn doesn't allocate anything.
+ * </p>
  * 
  * @see Turn
  * @see RoundState
@@ -54,10 +58,11 @@ import jvmt.model.player.api.Player;
         "EI_EXPOSE_REP2" }, justification = "Internal mutable objects are part of the game logic and shared by design")
 public class TurnImpl implements Turn {
 
-    private final Player player;
     private final RoundState roundState;
     private final RoundEffect roundEffect;
-    private Optional<Card> drawnCard = Optional.empty();
+    private Player player;
+    // null until the card of this turn is drawn
+    private Card drawnCard;
 
     /**
      * Constructs a new {@code TurnImpl}.
@@ -79,6 +84,23 @@ public class TurnImpl implements Turn {
         this.roundEffect = roundEffect;
     }
 
+    /**
+     * Starts a new turn of the same round with this object, as if a new
+     * {@code TurnImpl} had been created for {@code player}.
+     * <p>
+     * Whoever still holds this turn will see the new one, so a turn can be
+     * restarted only by the owner of the round, once the previous turn is over.
+     * </p>
+     * 
+     * @param player the player that will play the new turn.
+     * 
+     * @throws NullPointerException if {@code player} is null.
+     */
+    public void restart(final Player player) {
+        this.player = Objects.requireNonNull(player);
+        this.drawnCard = null;
+    }
+
     /**
      * {@inheritDoc}
      * 
@@ -87,7 +109,7 @@ public class TurnImpl implements Turn {
      */
     @Override
     public void executeDrawPhase() {
-        if (this.drawnCard.isPresent()) {
+        if (this.drawnCard != null) {
             throw new IllegalStateException("A card has already been drawn this turn.");
         }
 
@@ -95,17 +117,18 @@ public class TurnImpl implements Turn {
         final Card card = deck.next();
 
         this.roundState.addCardToPath(card);
-        this.drawnCard = Optional.of(card);
+        this.drawnCard = card;
 
         /*
          * Note: future usage of special cards must be put here
          */
 
-        final RoundPlayersManager pm = this.roundState.getRoundPlayersManager();
-        final List<Player> actives = pm.getActivePlayers();
-        if (card instanceof TreasureCard && !actives.isEmpty()) {
-            final TreasureCard treasure = (TreasureCard) card;
-            this.divideGemsAmongPlayers(treasure.getGemValue(), actives);
+        if (card instanceof final TreasureCard treasure) {
+            final RoundPlayersManager pm = this.roundState.getRoundPlayersManager();
+            final List<Player> actives = pm.getActivePlayers();
+            if (!actives.isEmpty()) {
+                this.divideGemsAmongPlayers(treasure.getGemValue(), actives);
+            }
         }
     }
 
@@ -125,12 +148,14 @@ public class TurnImpl implements Turn {
      *                will be placed in the path
      * @param players the players to whom to divide the gems
      */
-    private void divideGemsAmongPlayers(final int gems, final List<Player> players) {
+    private void divideGemsAmongPlayers(final int gems, final Collection<Player> players) {
         final int reward = this.roundEffect.applyGemModifier(
                 roundState, gems / players.size());
         final int pathGems = gems % players.size();
 
-        players.forEach(a -> a.addSackGems(reward));
+        for (final Player player : players) {
+            player.addSackGems(reward);
+        }
         this.roundState.setPathGems(this.roundState.getPathGems() + pathGems);
     }
 
@@ -150,7 +175,7 @@ public class TurnImpl implements Turn {
 
         if (isAnyActive(playersExitingThisTurn)) {
             throw new IllegalArgumentException("Players passed to endTurn function must all have left the round.");
-        } else if (this.drawnCard.isEmpty()) {
+        } else if (this.drawnCard == null) {
             throw new IllegalStateException("A card must be drawn before a turn can end.");
         }
 
@@ -160,16 +185,13 @@ public class TurnImpl implements Turn {
 
         // Only one player exited. He is given all the available relics.
         if (playersExitingThisTurn.size() == 1) {
-            final Player exiting = playersExitingThisTurn.stream()
-                    .findFirst()
-                    .get();
-            this.giveAvailableRelicsToPlayer(exiting);
+            this.giveAvailableRelicsToPlayer(playersExitingThisTurn.iterator().next());
         }
 
         final int pathGems = this.roundState.getPathGems();
         // Resets the gems in the path so that they can be distributed.
         this.roundState.setPathGems(0);
-        this.divideGemsAmongPlayers(pathGems, new ArrayList<>(playersExitingThisTurn));
+        this.divideGemsAmongPlayers(pathGems, playersExitingThisTurn);
     }
 
     /**
@@ -179,12 +201,13 @@ public class TurnImpl implements Turn {
      * @param player the player whom will receives the relics.
      */
     private void giveAvailableRelicsToPlayer(final Player player) {
-        final List<RelicCard> relics = this.roundState.getRedeemableRelics();
-        relics.stream()
-                .forEach(r -> {
-                    player.addSackGems(r.getGemValue());
-                    r.redeemCard();
-                });
+        if (this.roundState.getRedeemableRelicsCount() == 0) {
+            return;
+        }
+        for (final RelicCard relic : this.roundState.getRedeemableRelics()) {
+            player.addSackGems(relic.getGemValue());
+            relic.redeemCard();
+        }
     }
 
     /**
@@ -215,7 +238,7 @@ public class TurnImpl implements Turn {
      */
     @Override
     public Optional<Card> getDrawnCard() {
-        return this.drawnCard;
+        return Optional.ofNullable(this.drawnCard);
     }
 
 }
@@ -0,0 +1,40 @@
+package jvmt.model.simulation.api;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import jvmt.model.round.api.RoundState;
+import jvmt.model.simulation.impl.CfrStrategyImpl;
+
+/**
+ * A mixed stay/exit strategy for the players of a round, trained by a
+ * {@link CfrTrainer}.
+ * 
+ * @see CfrStrategyImpl
+ * @see CfrTrainer
+ * 
+ * @author Emir Wanes Aouioua
+ */
+public interface CfrStrategy {
+
+    /**
+     * Returns the probability with which the active players of a round exit.
+     * 
+     * @param state the round state.
+     * @return the probability of exiting, from zero to one.
+     * 
+     * @throws NullPointerException     if {@code state} is null.
+     * @throws IllegalArgumentException if there are no active players.
+     */
+    double getExitProbability(RoundState state);
+
+    /**
+     * Writes the strategy in a file, with one byte for every information set.
+     * 
+     * @param file the file to write, replaced if it exists.
+     * @throws IOException if the file can't be written.
+     * 
+     * @throws NullPointerException if {@code file} is null.
+     */
+    void writeTo(Path file) throws IOException;
+}
@@ -0,0 +1,46 @@
+package jvmt.model.simulation.api;
+
+import jvmt.model.simulation.impl.CfrTrainerImpl;
+
+/**
+ * Trains a stay/exit strategy by counterfactual regret minimization, making
+ * the players of a round play against each other.
+ * <p>
+ * Unlike a policy that only looks at the cards, the strategy takes into
+ * account that the gems on the path and the relics are shared among the
+ * players who exit together, and converges towards a strategy that no player
+ * would want to change alone.
+ * </p>
+ * 
+ * @see CfrTrainerImpl
+ * @see CfrStrategy
+ * 
+ * @author Emir Wanes Aouioua
+ */
+public interface CfrTrainer {
+
+    /**
+     * Plays the given number of training rounds, going on from the previous
+     * ones.
+     * 
+     * @param iterations the number of rounds to play.
+     * 
+     * @throws IllegalArgumentException if {@code iterations} is negative.
+     */
+    void train(long iterations);
+
+    /**
+     * Getter for the number of training rounds played so far.
+     * 
+     * @return the number of rounds played.
+     */
+    long getIterations();
+
+    /**
+     * Returns the average strategy of the rounds played so far. Later training
+     * doesn't change the returned strategy.
+     * 
+     * @return the trained strategy.
+     */
+    CfrStrategy getStrategy();
+}
@@ -0,0 +1,60 @@
+package jvmt.model.simulation.api;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Immutable summary of a single game played by a {@link GameSimulator}.
+ * 
+ * @see GameSimulator
+ * 
+ * @param gameIndex   the index of the game inside its simulation, starting from
+ *                    zero.
+ * @param playerNames the names of the players sorted by score, the winner
+ *                    first.
+ * @param chestGems   the gems in the chests of the players, in the same order
+ *                    as {@code playerNames}.
+ * @param rounds      the number of rounds played.
+ * @param turns       the total number of turns played in all rounds.
+ * 
+ * @author Emir Wanes Aouioua
+ */
+public record GameRecord(
+        long gameIndex,
+        List<String> playerNames,
+        List<Integer> chestGems,
+        int rounds,
+        int turns) {
+
+    /**
+     * Creates a new record, copying the given lists.
+     * 
+     * @param gameIndex   the index of the game inside its simulation.
+     * @param playerNames the names of the players sorted by score.
+     * @param chestGems   the gems in the chests of the players.
+     * @param rounds      the number of rounds played.
+     * @param turns       the total number of turns played.
+     * 
+     * @throws NullPointerException     if {@code playerNames} or
+     *                                  {@code chestGems} is null.
+     * @throws IllegalArgumentException if the two lists have different sizes.
+     */
+    public GameRecord {
+        playerNames = List.copyOf(Objects.requireNonNull(playerNames));
+        chestGems = List.copyOf(Objects.requireNonNull(chestGems));
+        if (playerNames.size() != chestGems.size()) {
+            throw new IllegalArgumentException("Every player must have exactly one chest.");
+        }
+    }
+
+    /**
+     * Getter for the name of the player with the most gems.
+     * In case of a tie the player that comes first in the leaderboard is
+     * returned.
+     * 
+     * @return the name of the winner of the game.
+     */
+    public String winner() {
+        return this.playerNames.get(0);
+    }
+}
@@ -0,0 +1,36 @@
+package jvmt.model.simulation.api;
+
+import java.util.stream.Stream;
+
+import jvmt.model.simulation.impl.GameSimulatorImpl;
+
+/**
+ * Plays complete games without any user interface, using CPU players only.
+ * <p>
+ * Games are played in parallel and their results are made available as soon
+ * as they are ready, in the form of immutable {@link GameRecord}s.
+ * </p>
+ * 
+ * @see GameSimulatorImpl
+ * @see GameRecord
+ * 
+ * @author Emir Wanes Aouioua
+ */
+public interface GameSimulator {
+
+    /**
+     * Plays {@code games} complete games.
+     * <p>
+     * The games are played lazily while the returned stream is consumed, so
+     * the stream should be closed if it is not consumed entirely.
+     * The records are returned in completion order, which is not necessarily
+     * the order of their {@link GameRecord#gameIndex()}.
+     * </p>
+     * 
+     * @param games the number of games to play.
+     * @return a stream with one record for each played game.
+     * 
+     * @throws IllegalArgumentException if {@code games} is negative.
+     */
+    Stream<GameRecord> simulate(long games);
+}
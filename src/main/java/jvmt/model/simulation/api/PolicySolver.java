@@ -0,0 +1,31 @@
+package jvmt.model.simulation.api;
+
+import jvmt.model.simulation.impl.PolicySolverImpl;
+
+/**
+ * Computes the optimal stay/exit policy of a round offline.
+ * <p>
+ * The round is seen as a Markov decision process for a single player: its
+ * states are the cards left in the deck, the next card is drawn uniformly at
+ * random among them, and after each draw the player either exits with what it
+ * has gathered or stays for the next card. The other players are assumed to
+ * stay until the end of the round.
+ * </p>
+ * 
+ * @see PolicySolverImpl
+ * @see PolicyTable
+ * 
+ * @author Emir Wanes Aouioua
+ */
+public interface PolicySolver {
+
+    /**
+     * Solves the round played by the given number of players.
+     * 
+     * @param activePlayers the number of players in the round.
+     * @return the table of the optimal policy.
+     * 
+     * @throws IllegalArgumentException if {@code activePlayers} is not positive.
+     */
+    PolicyTable solve(int activePlayers);
+}
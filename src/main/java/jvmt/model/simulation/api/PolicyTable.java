@@ -0,0 +1,130 @@
+package jvmt.model.simulation.api;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import jvmt.model.player.api.PlayerChoice;
+import jvmt.model.round.api.RoundState;
+
+/**
+ * The optimal stay/exit policy of a round, as computed by a
+ * {@link PolicySolver}.
+ * <p>
+ * A state of the round is identified by the cards left in the deck, packed in
+ * a {@code long} by {@link #encode(RoundState)}: the gems in the sack, the gems
+ * on the path and the traps drawn all follow from the cards drawn, as long as
+ * the other players stay. For each state reached after a draw, the table holds
+ * the gems a player expects to bring home by staying and by exiting.
+ * </p>
+ * <p>
+ * A table can be written to a file with {@link #writeTo(Path)}. The file
+ * starts with a header of {@code int}s: the magic number {@link #MAGIC}, the
+ * {@link #VERSION} of the format, the number of active players, the number of
+ * card codes and the number of cards of each code in the full deck. It goes on
+ * with the expected value of the round, as a {@code double}, and the number of
+ * states, as an {@code int}. Then it has one record for each state, sorted by
+ * state: the state as a {@code long}, and the values of staying and of
+ * exiting as {@code double}s. All numbers are big-endian.
+ * </p>
+ * 
+ * @see PolicySolver
+ * 
+ * @author Emir Wanes Aouioua
+ */
+public interface PolicyTable {
+
+    /**
+     * The magic number at the beginning of the files of the tables.
+     */
+    int MAGIC = 0x4A564D50;
+
+    /**
+     * The version of the format of the files of the tables.
+     */
+    int VERSION = 1;
+
+    /**
+     * Returns the number of players in the round, all of whom stay.
+     * 
+     * @return the number of active players.
+     */
+    int getActivePlayers();
+
+    /**
+     * Returns the gems a player expects to bring home from the round, before
+     * the first card is drawn, by following the policy.
+     * 
+     * @return the expected value of the round.
+     */
+    double getRoundValue();
+
+    /**
+     * Returns the number of states in the table.
+     * 
+     * @return the number of states.
+     */
+    int size();
+
+    /**
+     * Returns the state of the given round in this table.
+     * 
+     * @param state the round state.
+     * @return the encoded state, or a negative number if the round is not played
+     *         with the deck of this table.
+     * 
+     * @throws NullPointerException if {@code state} is null.
+     */
+    long encode(RoundState state);
+
+    /**
+     * Checks whether the table holds the given state.
+     * 
+     * @param state the encoded state.
+     * @return true if the state is in the table, false otherwise.
+     */
+    boolean contains(long state);
+
+    /**
+     * Returns the gems a player expects to bring home by staying in the given
+     * state and following the policy afterwards.
+     * 
+     * @param state the encoded state.
+     * @return the expected value of staying.
+     * 
+     * @throws java.util.NoSuchElementException if the state is not in the table.
+     */
+    double getStayValue(long state);
+
+    /**
+     * Returns the gems a player brings home by exiting in the given state.
+     * 
+     * @param state the encoded state.
+     * @return the value of exiting.
+     * 
+     * @throws java.util.NoSuchElementException if the state is not in the table.
+     */
+    double getExitValue(long state);
+
+    /**
+     * Returns the optimal choice in the given state. The player exits when
+     * exiting is worth at least as much as staying.
+     * 
+     * @param state the encoded state.
+     * @return the optimal choice.
+     * 
+     * @throws java.util.NoSuchElementException if the state is not in the table.
+     */
+    default PlayerChoice getChoice(final long state) {
+        return getExitValue(state) >= getStayValue(state) ? PlayerChoice.EXIT : PlayerChoice.STAY;
+    }
+
+    /**
+     * Writes the table to the given file, replacing it if it exists.
+     * 
+     * @param file the file to write.
+     * @throws IOException if the file can't be written.
+     * 
+     * @throws NullPointerException if {@code file} is null.
+     */
+    void writeTo(Path file) throws IOException;
+}
@@ -0,0 +1,44 @@
+package jvmt.model.simulation.api;
+
+import java.util.function.Consumer;
+
+import jvmt.model.simulation.impl.QLearningTrainerImpl;
+
+/**
+ * Learns a {@link QTable} by playing rounds in which all the players are
+ * learning CPUs.
+ * 
+ * @see QLearningTrainerImpl
+ * @see QTable
+ * 
+ * @author Emir Wanes Aouioua
+ */
+public interface QLearningTrainer {
+
+    /**
+     * Plays the given number of rounds, going on from the previous ones.
+     * 
+     * @param episodes the number of rounds to play.
+     * @param progress notified with the progress of the training while it
+     *                 runs, on the calling thread.
+     * 
+     * @throws NullPointerException     if {@code progress} is null.
+     * @throws IllegalArgumentException if {@code episodes} is negative.
+     */
+    void train(long episodes, Consumer<TrainingProgress> progress);
+
+    /**
+     * Getter for the number of rounds played so far.
+     * 
+     * @return the number of rounds played.
+     */
+    long getEpisodes();
+
+    /**
+     * Returns the values learned so far. Later training doesn't change the
+     * returned table.
+     * 
+     * @return the learned table.
+     */
+    QTable getTable();
+}
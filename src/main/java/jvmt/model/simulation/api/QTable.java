@@ -0,0 +1,60 @@
+package jvmt.model.simulation.api;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import jvmt.model.player.api.CpuFeatures;
+import jvmt.model.player.api.PlayerChoice;
+import jvmt.model.simulation.impl.QTableImpl;
+
+/**
+ * The values learned by a {@link QLearningTrainer}: the gems a player expects
+ * to bring home by staying or exiting, in each quantized state of a round.
+ * <p>
+ * A state is made of the features a heuristic CPU looks at and of the gems in
+ * the sack of the player, each grouped in a few buckets.
+ * </p>
+ * 
+ * @see QTableImpl
+ * @see QLearningTrainer
+ * 
+ * @author Emir Wanes Aouioua
+ */
+public interface QTable {
+
+    /**
+     * Returns the gems expected by taking the given choice in a state.
+     * 
+     * @param features the features of the round state.
+     * @param sackGems the gems in the sack of the player.
+     * @param choice   the choice of the player.
+     * @return the expected gems, zero if the state was never visited.
+     * 
+     * @throws NullPointerException if {@code features} or {@code choice} is
+     *                              null.
+     */
+    double getValue(CpuFeatures features, int sackGems, PlayerChoice choice);
+
+    /**
+     * Returns the choice with the highest expected gems in a state.
+     * 
+     * @param features the features of the round state.
+     * @param sackGems the gems in the sack of the player.
+     * @return the best choice, or an empty optional if the state was never
+     *         visited during the training.
+     * 
+     * @throws NullPointerException if {@code features} is null.
+     */
+    Optional<PlayerChoice> getBestChoice(CpuFeatures features, int sackGems);
+
+    /**
+     * Writes the table in a file.
+     * 
+     * @param file the file to write, replaced if it exists.
+     * @throws IOException if the file can't be written.
+     * 
+     * @throws NullPointerException if {@code file} is null.
+     */
+    void writeTo(Path file) throws IOException;
+}
@@ -0,0 +1,20 @@
+package jvmt.model.simulation.api;
+
+import java.time.Duration;
+
+/**
+ * Immutable report of the progress of a training.
+ * 
+ * @param episodes          the episodes played so far.
+ * @param elapsed           the time elapsed since the training started.
+ * @param episodesPerSecond the episodes played per second, on average.
+ * 
+ * @see QLearningTrainer
+ * 
+ * @author Emir Wanes Aouioua
+ */
+public record TrainingProgress(
+        long episodes,
+        Duration elapsed,
+        double episodesPerSecond) {
+}
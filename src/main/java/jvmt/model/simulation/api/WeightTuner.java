@@ -0,0 +1,65 @@
+package jvmt.model.simulation.api;
+
+import java.io.IOException;
+
+import jvmt.model.player.api.CpuDifficultyVariables;
+import jvmt.model.simulation.impl.WeightTunerImpl;
+
+/**
+ * Searches the weights of the heuristic CPUs that win the most games against
+ * the CPUs of a difficulty.
+ * <p>
+ * The search goes on in generations: every generation plays a batch of
+ * headless games for each candidate and keeps the best one. After each
+ * generation the tuner saves a checkpoint, so a long search that was stopped
+ * resumes from the last generation.
+ * </p>
+ * 
+ * @see WeightTunerImpl
+ * @see CpuDifficultyVariables
+ * 
+ * @author Emir Wanes Aouioua
+ */
+public interface WeightTuner {
+
+    /**
+     * Runs the search until the given number of generations has been played,
+     * counting the ones played before the last checkpoint.
+     * 
+     * @param generations the total number of generations.
+     * @return the best weights found.
+     * @throws IOException if the checkpoint can't be read or written.
+     * 
+     * @throws IllegalArgumentException if {@code generations} is negative.
+     */
+    CpuDifficultyVariables tune(int generations) throws IOException;
+
+    /**
+     * Plays a batch of games in which one CPU uses the given weights, and the
+     * others the weights of the difficulty.
+     * 
+     * @param variables the weights to evaluate.
+     * @param seed      the seed of the games: the same seed gives the same
+     *                  games.
+     * @return the fraction of the games won by the CPU with the given weights.
+     * 
+     * @throws NullPointerException if {@code variables} is null.
+     */
+    double evaluate(CpuDifficultyVariables variables, long seed);
+
+    /**
+     * Getter for the number of generations played so far.
+     * 
+     * @return the number of generations.
+     */
+    int getGeneration();
+
+    /**
+     * Getter for the win rate of the best weights, in the last generation
+     * played.
+     * 
+     * @return the win rate of the best weights, or zero if no generation has
+     *         been played.
+     */
+    double getBestWinRate();
+}
@@ -0,0 +1,181 @@
+package jvmt.model.simulation.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import jvmt.model.card.api.Deck;
+import jvmt.model.card.api.DeckStatistics;
+import jvmt.model.common.api.RandomSource;
+import jvmt.model.game.api.GameSettings;
+import jvmt.model.player.api.CpuDifficulty;
+import jvmt.model.player.api.CpuDifficultyVariables;
+import jvmt.model.player.api.Player;
+import jvmt.model.player.impl.LogicCpuImpl;
+import jvmt.model.player.impl.PlayerCpu;
+import jvmt.model.round.api.RiskOracle;
+import jvmt.model.round.api.roundeffect.RoundEffect;
+import jvmt.model.round.api.roundeffect.endcondition.EndCondition;
+import jvmt.model.round.api.roundeffect.gemmodifier.GemModifier;
+
+/**
+ * Settings of a game in which one of the CPUs takes its choices with the
+ * weights of a candidate, and the others with the weights of their
+ * difficulty. Everything else comes from the settings it wraps.
+ * <p>
+ * The candidate takes the place of the first CPU of the players, which are
+ * already in random order, and is called {@link #CANDIDATE_NAME}.
+ * </p>
+ * 
+ * @see WeightTunerImpl
+ * 
+ * @author Emir Wanes Aouioua
+ */
+final class CandidateSettings implements GameSettings {
+
+    /**
+     * The name of the CPU that uses the weights of the candidate.
+     */
+    static final String CANDIDATE_NAME = "Candidate";
+
+    private final GameSettings settings;
+    private final List<Player> players;
+
+    /**
+     * Creates the settings of a game with a candidate.
+     * 
+     * @param settings  the settings of the game. At least one player must be a
+     *                  CPU.
+     * @param variables the weights of the candidate.
+     * 
+     * @throws NullPointerException     if {@code settings} or {@code variables}
+     *                                  is null.
+     * @throws IllegalArgumentException if there are no CPUs.
+     */
+    CandidateSettings(final GameSettings settings, final CpuDifficultyVariables variables) {
+        this.settings = Objects.requireNonNull(settings);
+        Objects.requireNonNull(variables);
+        // The game asks for the players more than once, so they are created here
+        this.players = new ArrayList<>(settings.getPlayers());
+        int seat = 0;
+        while (seat < this.players.size() && !(this.players.get(seat) instanceof PlayerCpu)) {
+            seat++;
+        }
+        if (seat == this.players.size()) {
+            throw new IllegalArgumentException("The candidate needs the seat of a CPU.");
+        }
+        this.players.set(seat, new PlayerCpu(CANDIDATE_NAME, new LogicCpuImpl(settings, variables)));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getNumberOfPlayers() {
+        return this.settings.getNumberOfPlayers();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getNumberOfCpu() {
+        return this.settings.getNumberOfCpu();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getNumberOfRealPlayers() {
+        return this.settings.getNumberOfRealPlayers();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Deck getDeck() {
+        return this.settings.getDeck();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public DeckStatistics getDeckStatistics() {
+        return this.settings.getDeckStatistics();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public EndCondition getRoundEndCondition() {
+        return this.settings.getRoundEndCondition();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public GemModifier getRoundGemModifier() {
+        return this.settings.getRoundGemModifier();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public RoundEffect getRoundEffect() {
+        return this.settings.getRoundEffect();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean hasStandardRules() {
+        return this.settings.hasStandardRules();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public RiskOracle getRiskOracle() {
+        return this.settings.getRiskOracle();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CpuDifficulty getCpuDifficulty() {
+        return this.settings.getCpuDifficulty();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public RandomSource getRandomSource() {
+        return this.settings.getRandomSource();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getNumberOfRounds() {
+        return this.settings.getNumberOfRounds();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Player> getPlayers() {
+        return new ArrayList<>(this.players);
+    }
+}
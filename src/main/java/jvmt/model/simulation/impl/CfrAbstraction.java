@@ -0,0 +1,91 @@
+package jvmt.model.simulation.impl;
+
+import java.util.List;
+
+import jvmt.model.card.api.TypeTrapCard;
+import jvmt.model.game.impl.GameSettingsImpl;
+import jvmt.model.player.api.Player;
+import jvmt.model.round.api.RoundState;
+
+/**
+ * The abstraction of the round states used by the counterfactual regret
+ * minimization: states that look alike to a player share an information set.
+ * <p>
+ * All the players still in a round got the same share of every treasure, so
+ * the state of the round is the same for all of them and an information set
+ * is made of public values only: the active players, the trap types drawn,
+ * the gems and relics on the path, the gems in the sacks and the cards left
+ * in the deck. The gems and the cards are grouped in buckets, and every
+ * information set has a dense index from zero to {@link #SIZE}.
+ * </p>
+ * 
+ * @see CfrTrainerImpl
+ * 
+ * @author Emir Wanes Aouioua
+ */
+final class CfrAbstraction {
+
+    private static final int PLAYERS = GameSettingsImpl.MAX_PLAYERS;
+    private static final int TRAPS = TypeTrapCard.values().length + 1;
+    private static final int PATH_BUCKET = 2;
+    private static final int PATH_BUCKETS = 16;
+    private static final int RELICS = 4;
+    private static final int SACK_BUCKET = 2;
+    private static final int SACK_BUCKETS = 32;
+    private static final int REMAINING_BUCKET = 4;
+    private static final int REMAINING_BUCKETS = 9;
+
+    /**
+     * The number of information sets.
+     */
+    static final int SIZE = PLAYERS * TRAPS * PATH_BUCKETS * RELICS * SACK_BUCKETS * REMAINING_BUCKETS;
+
+    private CfrAbstraction() {
+    }
+
+    /**
+     * Returns the information set of the given values.
+     * 
+     * @param activePlayers the players in the round, at least one.
+     * @param drawnTraps    the trap types drawn.
+     * @param pathGems      the gems on the path.
+     * @param relics        the relics on the path.
+     * @param sackGems      the gems in the sack of every active player.
+     * @param remaining     the cards left in the deck.
+     * @return the index of the information set.
+     */
+    static int index(
+            final int activePlayers,
+            final int drawnTraps,
+            final int pathGems,
+            final int relics,
+            final int sackGems,
+            final int remaining) {
+        int index = Math.min(activePlayers, PLAYERS) - 1;
+        index = index * TRAPS + Math.min(drawnTraps, TRAPS - 1);
+        index = index * PATH_BUCKETS + bucket(pathGems, PATH_BUCKET, PATH_BUCKETS);
+        index = index * RELICS + Math.min(relics, RELICS - 1);
+        index = index * SACK_BUCKETS + bucket(sackGems, SACK_BUCKET, SACK_BUCKETS);
+        return index * REMAINING_BUCKETS + bucket(remaining, REMAINING_BUCKET, REMAINING_BUCKETS);
+    }
+
+    /**
+     * Returns the information set of the active players of a round.
+     * 
+     * @param state the round state, with at least one active player.
+     * @return the index of the information set.
+     */
+    static int index(final RoundState state) {
+        final List<Player> active = state.getRoundPlayersManager().getActivePlayers();
+        return index(active.size(),
+                state.getDrawnTrapsCount(),
+                state.getPathGems(),
+                state.getRedeemableRelicsCount(),
+                active.get(0).getSackGems(),
+                state.getDeck().numberOfRemainingCards());
+    }
+
+    private static int bucket(final int value, final int width, final int buckets) {
+        return Math.min(value / width, buckets - 1);
+    }
+}
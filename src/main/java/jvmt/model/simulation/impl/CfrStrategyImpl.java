@@ -0,0 +1,148 @@
+package jvmt.model.simulation.impl;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.Optional;
+
+import jvmt.model.round.api.RoundState;
+import jvmt.model.simulation.api.CfrStrategy;
+
+/**
+ * Implementation of {@link CfrStrategy} that keeps the probability of exiting
+ * of every information set in a byte.
+ * <p>
+ * The file of a strategy starts with the magic number {@link #MAGIC}, the
+ * {@link #VERSION} of the format and the number of information sets, as
+ * big-endian {@code int}s. Then a byte for each information set, from 0 for
+ * always staying to {@value #LEVELS} for always exiting.
+ * </p>
+ * <p>
+ * The strategy trained for the standard deck is shipped in the resources, and
+ * can be trained again by running {@link CfrTrainerImpl}.
+ * </p>
+ * 
+ * @see CfrTrainerImpl
+ * 
+ * @author Emir Wanes Aouioua
+ */
+public final class CfrStrategyImpl implements CfrStrategy {
+
+    /**
+     * The magic number at the beginning of the files of the strategies.
+     */
+    public static final int MAGIC = 0x4A564D43;
+
+    /**
+     * The version of the format of the files of the strategies.
+     */
+    public static final int VERSION = 1;
+
+    /**
+     * The value of the byte of an information set in which the players always
+     * exit.
+     */
+    public static final int LEVELS = 255;
+
+    /**
+     * The resource holding the strategy trained for the standard deck.
+     */
+    public static final String STANDARD_RESOURCE = "/cfr/standard.strategy";
+
+    private final byte[] exitLevels;
+
+    /**
+     * Creates a strategy.
+     * 
+     * @param exitLevels the probabilities of exiting of the information sets,
+     *                   scaled to {@link #LEVELS}. The array is not copied.
+     */
+    CfrStrategyImpl(final byte[] exitLevels) {
+        this.exitLevels = exitLevels;
+    }
+
+    /**
+     * Reads a strategy written by {@link #writeTo(Path)}.
+     * 
+     * @param file the file of the strategy.
+     * @return the strategy.
+     * @throws IOException if the file can't be read or is not a strategy.
+     * 
+     * @throws NullPointerException if {@code file} is null.
+     */
+    public static CfrStrategy read(final Path file) throws IOException {
+        try (InputStream in = Files.newInputStream(Objects.requireNonNull(file))) {
+            return read(in);
+        }
+    }
+
+    /**
+     * Returns the strategy trained for the standard deck shipped in the
+     * resources. It is read the first time it is asked for, and shared by the
+     * whole application.
+     * 
+     * @return the strategy of the standard deck, or an empty optional if it
+     *         can't be read.
+     */
+    public static Optional<CfrStrategy> standard() {
+        return StandardHolder.STRATEGY;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getExitProbability(final RoundState state) {
+        if (Objects.requireNonNull(state).getRoundPlayersManager().getActivePlayersCount() == 0) {
+            throw new IllegalArgumentException("There must be at least one active player.");
+        }
+        return Byte.toUnsignedInt(this.exitLevels[CfrAbstraction.index(state)]) / (double) LEVELS;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void writeTo(final Path file) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(Objects.requireNonNull(file))))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(this.exitLevels.length);
+            out.write(this.exitLevels);
+        }
+    }
+
+    private static CfrStrategy read(final InputStream stream) throws IOException {
+        final DataInputStream in = new DataInputStream(new BufferedInputStream(stream));
+        if (in.readInt() != MAGIC || in.readInt() != VERSION || in.readInt() != CfrAbstraction.SIZE) {
+            throw new IOException("The file is not a strategy of this version of the game.");
+        }
+        final byte[] exitLevels = new byte[CfrAbstraction.SIZE];
+        in.readFully(exitLevels);
+        return new CfrStrategyImpl(exitLevels);
+    }
+
+    /**
+     * Reads the strategy of the standard deck when it is first asked for.
+     */
+    private static final class StandardHolder {
+
+        private static final Optional<CfrStrategy> STRATEGY = load();
+
+        private static Optional<CfrStrategy> load() {
+            try (InputStream in = CfrStrategyImpl.class.getResourceAsStream(STANDARD_RESOURCE)) {
+                return in == null ? Optional.empty() : Optional.of(read(in));
+            } catch (final IOException e) {
+                // The CPUs fall back to their heuristics
+                return Optional.empty();
+            }
+        }
+    }
+}
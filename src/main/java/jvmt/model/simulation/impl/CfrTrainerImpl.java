@@ -0,0 +1,374 @@
+package jvmt.model.simulation.impl;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+import jvmt.model.card.api.Deck;
+import jvmt.model.card.impl.CardCodes;
+import jvmt.model.card.impl.CompositionCodec;
+import jvmt.model.card.impl.DeckFactoryImpl;
+import jvmt.model.card.impl.RelicCard;
+import jvmt.model.common.api.RandomSource;
+import jvmt.model.common.impl.SplittableRandomSource;
+import jvmt.model.game.impl.GameSettingsImpl;
+import jvmt.model.simulation.api.CfrStrategy;
+import jvmt.model.simulation.api.CfrTrainer;
+
+/**
+ * Implementation of {@link CfrTrainer} based on Monte Carlo counterfactual
+ * regret minimization with external sampling, and the regret matching of
+ * CFR+.
+ * <p>
+ * Every training round deals a random order of the cards, following the
+ * standard rules like the {@link PolicySolverImpl}. At each decision of the
+ * trained player both choices are played: exiting ends its round, staying
+ * goes on; the other players sample their choices from the current strategy,
+ * so the gems on the path and the relics are shared as in a real round. All
+ * the players use the same strategy, which is the one trained. A round starts
+ * with a random number of players, from the fewest allowed in a game up to the
+ * given maximum, so the strategy covers games of every size.
+ * </p>
+ * <p>
+ * The regrets and the sums of the strategies of every information set of
+ * {@link CfrAbstraction} are kept in direct buffers of primitive doubles,
+ * outside of the heap. The training rounds are split in tasks of
+ * {@value #ITERATIONS_PER_TASK} rounds, played in parallel in batches of
+ * {@value #TASKS_PER_BATCH}. During a batch the tasks only read the buffers
+ * and log their updates; at the end of the batch the logs are applied in the
+ * order of the tasks. Each task has its own random source, split in order from
+ * the one of the trainer, so a seed gives the same strategy whatever the
+ * number of processors and the order in which the tasks run.
+ * </p>
+ * 
+ * @see CfrAbstraction
+ * @see CfrStrategyImpl
+ * 
+ * @author Emir Wanes Aouioua
+ */
+public final class CfrTrainerImpl implements CfrTrainer {
+
+    private static final int ACTIONS = 2;
+    private static final int STAY = 0;
+    private static final int EXIT = 1;
+    private static final double UNIFORM = 0.5;
+    private static final int ITERATIONS_PER_TASK = 100;
+    private static final int TASKS_PER_BATCH = 8;
+    private static final int INITIAL_LOG_SIZE = 1_024;
+    private static final long DEFAULT_ROUNDS = 50_000_000L;
+
+    private final int[] initialCounts;
+    private final int deckSize;
+    private final int[] relicValues;
+    private final int minPlayers;
+    private final int maxPlayers;
+    private final RandomSource random;
+    private final DoubleBuffer regrets;
+    private final DoubleBuffer strategySums;
+    private long iterations;
+
+    /**
+     * Creates a trainer for the rounds played with the given deck.
+     * 
+     * @param deck    the deck of the game. It is not modified.
+     * @param players the maximum number of players at the start of a round.
+     * 
+     * @throws NullPointerException     if {@code deck} is null.
+     * @throws IllegalArgumentException if the number of players is not allowed
+     *                                  in a game.
+     */
+    public CfrTrainerImpl(final Deck deck, final int players) {
+        this(deck, players, new SplittableRandomSource());
+    }
+
+    /**
+     * Creates a trainer for the rounds played with the given deck, second
+     * constructor that gives in input the seed of the random sources in order
+     * to facilitate testing.
+     * 
+     * @param deck    the deck of the game. It is not modified.
+     * @param players the maximum number of players at the start of a round.
+     * @param seed    the seed of the random sources.
+     * 
+     * @throws NullPointerException     if {@code deck} is null.
+     * @throws IllegalArgumentException if the number of players is not allowed
+     *                                  in a game.
+     */
+    public CfrTrainerImpl(final Deck deck, final int players, final long seed) {
+        this(deck, players, new SplittableRandomSource(seed));
+    }
+
+    private CfrTrainerImpl(final Deck deck, final int players, final RandomSource random) {
+        if (players <= 0 || players > GameSettingsImpl.MAX_PLAYERS) {
+            throw new IllegalArgumentException("The number of players is not allowed in a game.");
+        }
+        this.initialCounts = CompositionCodec.countCodes(Objects.requireNonNull(deck));
+        int cards = 0;
+        for (final int count : this.initialCounts) {
+            cards += count;
+        }
+        this.deckSize = cards;
+        this.relicValues = RelicCard.getPossibleGemValues().stream().mapToInt(Integer::intValue).toArray();
+        this.minPlayers = Math.min(GameSettingsImpl.MIN_PLAYERS, players);
+        this.maxPlayers = players;
+        this.random = random;
+        this.regrets = allocate(CfrAbstraction.SIZE * ACTIONS);
+        this.strategySums = allocate(CfrAbstraction.SIZE * ACTIONS);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void train(final long rounds) {
+        if (rounds < 0) {
+            throw new IllegalArgumentException("The number of rounds can't be negative.");
+        }
+        final long tasks = (rounds + ITERATIONS_PER_TASK - 1) / ITERATIONS_PER_TASK;
+        for (long first = 0; first < tasks; first += TASKS_PER_BATCH) {
+            final int batch = (int) Math.min(TASKS_PER_BATCH, tasks - first);
+            // The sources are split in order, so a seed gives the same tasks
+            final List<Traversal> traversals = new ArrayList<>(batch);
+            for (int i = 0; i < batch; i++) {
+                final long taskRounds = Math.min(ITERATIONS_PER_TASK, rounds - (first + i) * ITERATIONS_PER_TASK);
+                traversals.add(new Traversal(this.random.split(), taskRounds));
+            }
+            traversals.parallelStream().forEach(Traversal::run);
+            for (final Traversal traversal : traversals) {
+                traversal.applyUpdates();
+            }
+        }
+        this.iterations += rounds;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getIterations() {
+        return this.iterations;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CfrStrategy getStrategy() {
+        final byte[] exitLevels = new byte[CfrAbstraction.SIZE];
+        for (int infoSet = 0; infoSet < CfrAbstraction.SIZE; infoSet++) {
+            final double stay = this.strategySums.get(infoSet * ACTIONS + STAY);
+            final double exit = this.strategySums.get(infoSet * ACTIONS + EXIT);
+            final double probability = stay + exit > 0 ? exit / (stay + exit) : UNIFORM;
+            exitLevels[infoSet] = (byte) Math.round(probability * CfrStrategyImpl.LEVELS);
+        }
+        return new CfrStrategyImpl(exitLevels);
+    }
+
+    /**
+     * Trains a strategy with the standard deck and writes it. The arguments
+     * are the file to write, the maximum number of players and the number of
+     * training rounds.
+     * 
+     * @param args the arguments of the training.
+     * @throws IOException if the file can't be written.
+     */
+    public static void main(final String[] args) throws IOException {
+        if (args.length < 1) {
+            throw new IllegalArgumentException("Usage: <strategy file> [players] [rounds]");
+        }
+        final int players = args.length > 1 ? Integer.parseInt(args[1]) : GameSettingsImpl.MAX_PLAYERS;
+        final long rounds = args.length > 2 ? Long.parseLong(args[2]) : DEFAULT_ROUNDS;
+        final CfrTrainer trainer = new CfrTrainerImpl(new DeckFactoryImpl().standardDeck(), players);
+        trainer.train(rounds);
+        trainer.getStrategy().writeTo(Path.of(args[0]));
+    }
+
+    /**
+     * Returns the probability of exiting of the current strategy, by regret
+     * matching.
+     * 
+     * @param infoSet the information set.
+     * @return the probability of exiting.
+     */
+    private double currentExitProbability(final int infoSet) {
+        final double stay = this.regrets.get(infoSet * ACTIONS + STAY);
+        final double exit = this.regrets.get(infoSet * ACTIONS + EXIT);
+        return stay + exit > 0 ? exit / (stay + exit) : UNIFORM;
+    }
+
+    private static DoubleBuffer allocate(final int doubles) {
+        return ByteBuffer.allocateDirect(doubles * Double.BYTES).order(ByteOrder.nativeOrder()).asDoubleBuffer();
+    }
+
+    /**
+     * The state of the training rounds played by a task, and the log of the
+     * updates of the buffers they computed.
+     */
+    private final class Traversal {
+
+        private final RandomSource random;
+        private final long rounds;
+        private final int[] counts = new int[CardCodes.COUNT];
+        private int[] updatedSets = new int[INITIAL_LOG_SIZE];
+        private double[] stayRegrets = new double[INITIAL_LOG_SIZE];
+        private double[] exitRegrets = new double[INITIAL_LOG_SIZE];
+        private double[] exitProbabilities = new double[INITIAL_LOG_SIZE];
+        private int updates;
+        private int remaining;
+        private int activePlayers;
+        private int drawnTraps;
+        private int pathGems;
+        private int relics;
+        private int relicGems;
+        private int sackGems;
+
+        /**
+         * Creates the state of the rounds of a task.
+         * 
+         * @param random the random source of the task.
+         * @param rounds the training rounds to play.
+         */
+        Traversal(final RandomSource random, final long rounds) {
+            this.random = random;
+            this.rounds = rounds;
+        }
+
+        /**
+         * Plays the training rounds of the task, logging the updates.
+         */
+        void run() {
+            for (long i = 0; i < this.rounds; i++) {
+                this.playRound();
+            }
+        }
+
+        /**
+         * Applies the logged updates to the buffers, in the order they were
+         * computed.
+         */
+        void applyUpdates() {
+            for (int i = 0; i < this.updates; i++) {
+                final int stay = this.updatedSets[i] * ACTIONS + STAY;
+                final int exit = this.updatedSets[i] * ACTIONS + EXIT;
+                regrets.put(stay, Math.max(0, regrets.get(stay) + this.stayRegrets[i]));
+                regrets.put(exit, Math.max(0, regrets.get(exit) + this.exitRegrets[i]));
+                strategySums.put(stay, strategySums.get(stay) + 1 - this.exitProbabilities[i]);
+                strategySums.put(exit, strategySums.get(exit) + this.exitProbabilities[i]);
+            }
+        }
+
+        /**
+         * Plays a training round from the full deck.
+         */
+        private void playRound() {
+            System.arraycopy(initialCounts, 0, this.counts, 0, CardCodes.COUNT);
+            this.remaining = deckSize;
+            this.activePlayers = minPlayers + this.random.nextInt(maxPlayers - minPlayers + 1);
+            this.drawnTraps = 0;
+            this.pathGems = 0;
+            this.relics = 0;
+            this.relicGems = 0;
+            this.sackGems = 0;
+            this.traverse();
+        }
+
+        /**
+         * Draws the next card, lets the players choose and updates the regrets
+         * of the trained player.
+         * 
+         * @return the gems the trained player brings home from here.
+         */
+        private double traverse() {
+            if (this.remaining <= 1) {
+                // The last card ends the round
+                return 0;
+            }
+            final int code = this.drawCode();
+            if (CardCodes.isTrap(code)) {
+                if (this.counts[code] + 1 < initialCounts[code]) {
+                    return 0;
+                }
+                this.drawnTraps++;
+            } else if (CardCodes.isTreasure(code)) {
+                final int value = CardCodes.treasureGemValue(code);
+                this.sackGems += value / this.activePlayers;
+                this.pathGems += value % this.activePlayers;
+            } else if (code == CardCodes.RELIC) {
+                this.relics++;
+                this.relicGems += relicValues[this.random.nextInt(relicValues.length)];
+            }
+
+            final int infoSet = CfrAbstraction.index(this.activePlayers, this.drawnTraps, this.pathGems,
+                    this.relics, this.sackGems, this.remaining);
+            final double exitProbability = currentExitProbability(infoSet);
+            int othersExiting = 0;
+            for (int i = 1; i < this.activePlayers; i++) {
+                if (this.random.nextDouble() < exitProbability) {
+                    othersExiting++;
+                }
+            }
+            final double exitValue = this.sackGems + this.pathGems / (othersExiting + 1)
+                    + (othersExiting == 0 ? this.relicGems : 0);
+            if (othersExiting > 0) {
+                this.pathGems %= othersExiting;
+                if (othersExiting == 1) {
+                    this.relics = 0;
+                    this.relicGems = 0;
+                }
+                this.activePlayers -= othersExiting;
+            }
+            final double stayValue = this.traverse();
+            final double value = (1 - exitProbability) * stayValue + exitProbability * exitValue;
+
+            this.log(infoSet, stayValue - value, exitValue - value, exitProbability);
+            return value;
+        }
+
+        /**
+         * Logs an update of the buffers.
+         * 
+         * @param infoSet         the information set.
+         * @param stayRegret      the regret of staying.
+         * @param exitRegret      the regret of exiting.
+         * @param exitProbability the probability of exiting of the strategy.
+         */
+        private void log(final int infoSet, final double stayRegret, final double exitRegret,
+                final double exitProbability) {
+            if (this.updates == this.updatedSets.length) {
+                final int size = this.updates * 2;
+                this.updatedSets = Arrays.copyOf(this.updatedSets, size);
+                this.stayRegrets = Arrays.copyOf(this.stayRegrets, size);
+                this.exitRegrets = Arrays.copyOf(this.exitRegrets, size);
+                this.exitProbabilities = Arrays.copyOf(this.exitProbabilities, size);
+            }
+            this.updatedSets[this.updates] = infoSet;
+            this.stayRegrets[this.updates] = stayRegret;
+            this.exitRegrets[this.updates] = exitRegret;
+            this.exitProbabilities[this.updates] = exitProbability;
+            this.updates++;
+        }
+
+        /**
+         * Draws a random card left in the deck.
+         * 
+         * @return the code of the card drawn.
+         */
+        private int drawCode() {
+            int card = this.random.nextInt(this.remaining);
+            int code = 0;
+            while (card >= this.counts[code]) {
+                card -= this.counts[code];
+                code++;
+            }
+            this.counts[code]--;
+            this.remaining--;
+            return code;
+        }
+    }
+}
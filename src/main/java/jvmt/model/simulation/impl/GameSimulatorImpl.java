@@ -0,0 +1,296 @@
+package jvmt.model.simulation.impl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import jvmt.model.common.api.RandomSource;
+import jvmt.model.common.impl.SplittableRandomSource;
+import jvmt.model.game.api.GameSettings;
+import jvmt.model.simulation.api.GameRecord;
+import jvmt.model.simulation.api.GameSimulator;
+
+/**
+ * Implementation of the {@link GameSimulator} interface that spreads the games
+ * over the workers of a {@link ForkJoinPool}.
+ * <p>
+ * Games are grouped in batches: every batch is played sequentially by a single
+ * worker with its own {@link HeadlessGameRunner} and its own freshly created
+ * {@link GameSettings} for each game, so workers never share mutable state.
+ * At most two batches per worker are in flight at any time, which keeps the
+ * memory used by a simulation independent of the number of games.
+ * </p>
+ * <p>
+ * Every game gets its own {@link RandomSource}, split from a master source in
+ * the order of the games. When the simulator is created with a seed, the same
+ * seed always gives the same games, whatever the batch size, the parallelism
+ * or the order in which the batches complete.
+ * </p>
+ * 
+ * @see GameSimulator
+ * @see HeadlessGameRunner
+ * 
+ * @author Emir Wanes Aouioua
+ */
+public final class GameSimulatorImpl implements GameSimulator {
+
+    /**
+     * The number of games played by a single worker task when no batch size is
+     * specified.
+     */
+    public static final int DEFAULT_BATCH_SIZE = 64;
+
+    private static final int BATCHES_IN_FLIGHT_PER_WORKER = 2;
+
+    private final Function<RandomSource, GameSettings> settingsFactory;
+    private final Supplier<RandomSource> masterSourceFactory;
+    private final int batchSize;
+    private final int parallelism;
+
+    /**
+     * Creates a simulator that uses every available core and the default batch
+     * size.
+     * 
+     * @param settingsFactory creates the settings of each game. It is called
+     *                        concurrently by the workers and must return new
+     *                        settings, with new players, every time.
+     * 
+     * @throws NullPointerException if {@code settingsFactory} is null.
+     */
+    public GameSimulatorImpl(final Supplier<GameSettings> settingsFactory) {
+        this(settingsFactory, DEFAULT_BATCH_SIZE, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates a simulator.
+     * 
+     * @param settingsFactory creates the settings of each game. It is called
+     *                        concurrently by the workers and must return new
+     *                        settings, with new players, every time.
+     * @param batchSize       the number of games played by a single worker task.
+     * @param parallelism     the number of workers.
+     * 
+     * @throws NullPointerException     if {@code settingsFactory} is null.
+     * @throws IllegalArgumentException if {@code batchSize} or
+     *                                  {@code parallelism} is not positive.
+     */
+    public GameSimulatorImpl(
+            final Supplier<GameSettings> settingsFactory,
+            final int batchSize,
+            final int parallelism) {
+        this(ignoreSource(Objects.requireNonNull(settingsFactory)), SplittableRandomSource::new,
+                batchSize, parallelism);
+    }
+
+    /**
+     * Creates a reproducible simulator that uses every available core and the
+     * default batch size.
+     * 
+     * @param settingsFactory creates the settings of each game from the random
+     *                        source of the game. It is called concurrently by
+     *                        the workers and must return new settings, with new
+     *                        players, every time. All the randomness of the game
+     *                        must come from the given source.
+     * @param seed            the master seed of the simulation.
+     * 
+     * @throws NullPointerException if {@code settingsFactory} is null.
+     */
+    public GameSimulatorImpl(final Function<RandomSource, GameSettings> settingsFactory, final long seed) {
+        this(settingsFactory, seed, DEFAULT_BATCH_SIZE, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates a reproducible simulator.
+     * 
+     * @param settingsFactory creates the settings of each game from the random
+     *                        source of the game. It is called concurrently by
+     *                        the workers and must return new settings, with new
+     *                        players, every time. All the randomness of the game
+     *                        must come from the given source.
+     * @param seed            the master seed of the simulation.
+     * @param batchSize       the number of games played by a single worker task.
+     * @param parallelism     the number of workers.
+     * 
+     * @throws NullPointerException     if {@code settingsFactory} is null.
+     * @throws IllegalArgumentException if {@code batchSize} or
+     *                                  {@code parallelism} is not positive.
+     */
+    public GameSimulatorImpl(
+            final Function<RandomSource, GameSettings> settingsFactory,
+            final long seed,
+            final int batchSize,
+            final int parallelism) {
+        this(settingsFactory, () -> new SplittableRandomSource(seed), batchSize, parallelism);
+    }
+
+    private GameSimulatorImpl(
+            final Function<RandomSource, GameSettings> settingsFactory,
+            final Supplier<RandomSource> masterSourceFactory,
+            final int batchSize,
+            final int parallelism) {
+        this.settingsFactory = Objects.requireNonNull(settingsFactory);
+        this.masterSourceFactory = masterSourceFactory;
+        if (batchSize <= 0 || parallelism <= 0) {
+            throw new IllegalArgumentException("Batch size and parallelism must be positive.");
+        }
+        this.batchSize = batchSize;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Adapts a factory of settings that doesn't use the random source of the
+     * game.
+     * 
+     * @param settingsFactory the factory of settings.
+     * @return a factory that ignores the random source.
+     */
+    private static Function<RandomSource, GameSettings> ignoreSource(final Supplier<GameSettings> settingsFactory) {
+        return source -> settingsFactory.get();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Stream<GameRecord> simulate(final long games) {
+        if (games < 0) {
+            throw new IllegalArgumentException("The number of games can't be negative.");
+        }
+        final BatchIterator iterator = new BatchIterator(games);
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(iterator,
+                        Spliterator.NONNULL | Spliterator.IMMUTABLE),
+                false)
+                .onClose(iterator::close);
+    }
+
+    /**
+     * Plays a batch of consecutive games on the calling worker.
+     * 
+     * @param firstGame the index of the first game of the batch.
+     * @param sources   the random sources of the games of the batch.
+     * @return the records of the played games.
+     */
+    private List<GameRecord> playBatch(final long firstGame, final List<RandomSource> sources) {
+        final HeadlessGameRunner runner = new HeadlessGameRunner();
+        final List<GameRecord> records = new ArrayList<>(sources.size());
+        for (int i = 0; i < sources.size(); i++) {
+            records.add(runner.play(this.settingsFactory.apply(sources.get(i)), firstGame + i));
+        }
+        return records;
+    }
+
+    /**
+     * Submits the batches to the pool as the records are consumed and returns
+     * them in completion order.
+     */
+    private final class BatchIterator implements Iterator<GameRecord> {
+
+        private final ForkJoinPool pool = new ForkJoinPool(parallelism);
+        private final CompletionService<List<GameRecord>> completion = new ExecutorCompletionService<>(this.pool);
+        // Only used by the consuming thread, so the games are split in order
+        private final RandomSource masterSource = masterSourceFactory.get();
+        private final long games;
+        private long submitted;
+        private int inFlight;
+        private Iterator<GameRecord> current = Collections.emptyIterator();
+
+        /**
+         * Creates an iterator over the records of {@code games} games.
+         * 
+         * @param games the number of games to play.
+         */
+        BatchIterator(final long games) {
+            this.games = games;
+        }
+
+        /**
+         * {@inheritDoc}
+         * 
+         * @throws IllegalStateException if a game failed or the simulation was
+         *                               interrupted.
+         */
+        @Override
+        public boolean hasNext() {
+            while (!this.current.hasNext()) {
+                this.submitBatches();
+                if (this.inFlight == 0) {
+                    this.close();
+                    return false;
+                }
+                this.current = this.takeBatch().iterator();
+            }
+            return true;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public GameRecord next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException("All the games have been played.");
+            }
+            return this.current.next();
+        }
+
+        /**
+         * Stops the workers, discarding the batches that are still running.
+         */
+        void close() {
+            this.pool.shutdownNow();
+        }
+
+        /**
+         * Submits new batches until the in-flight limit is reached or every game
+         * has been submitted.
+         */
+        private void submitBatches() {
+            final int maxInFlight = parallelism * BATCHES_IN_FLIGHT_PER_WORKER;
+            while (this.inFlight < maxInFlight && this.submitted < this.games) {
+                final long first = this.submitted;
+                final int size = (int) Math.min(batchSize, this.games - first);
+                final List<RandomSource> sources = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    sources.add(this.masterSource.split());
+                }
+                this.submitted += size;
+                this.completion.submit(() -> playBatch(first, sources));
+                this.inFlight++;
+            }
+        }
+
+        /**
+         * Waits for the next completed batch.
+         * 
+         * @return the records of the completed batch.
+         */
+        private List<GameRecord> takeBatch() {
+            try {
+                final List<GameRecord> batch = this.completion.take().get();
+                this.inFlight--;
+                return batch;
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                this.close();
+                throw new IllegalStateException("The simulation was interrupted.", e);
+            } catch (final ExecutionException e) {
+                this.close();
+                throw new IllegalStateException("A simulated game failed.", e.getCause());
+            }
+        }
+    }
+}
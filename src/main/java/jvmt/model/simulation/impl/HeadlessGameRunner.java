@@ -0,0 +1,100 @@
+package jvmt.model.simulation.impl;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import jvmt.model.game.api.Game;
+import jvmt.model.game.api.GameSettings;
+import jvmt.model.game.impl.GameImpl;
+import jvmt.model.player.api.Player;
+import jvmt.model.player.api.PlayerChoice;
+import jvmt.model.player.impl.PlayerCpu;
+import jvmt.model.round.api.Round;
+import jvmt.model.round.api.RoundState;
+import jvmt.model.round.api.turn.Turn;
+import jvmt.model.simulation.api.GameRecord;
+
+/**
+ * Plays a complete game made of CPU players only, following the same sequence
+ * of phases used by the gameplay controller.
+ * <p>
+ * A runner keeps some reusable buffers, so it must not be shared between
+ * threads: every worker of a simulation owns its own runner.
+ * </p>
+ * 
+ * @see GameSimulatorImpl
+ * 
+ * @author Emir Wanes Aouioua
+ */
+public final class HeadlessGameRunner {
+
+    private final Set<Player> exitingThisTurn = new HashSet<>();
+    private final List<PlayerCpu> decidingCpus = new ArrayList<>();
+
+    /**
+     * Plays a whole game with the given settings.
+     * 
+     * @param settings  the settings of the game. All the players must be CPUs.
+     * @param gameIndex the index of the game inside its simulation.
+     * @return the record of the played game.
+     * 
+     * @throws NullPointerException     if {@code settings} is null.
+     * @throws IllegalArgumentException if any of the players is not a CPU.
+     */
+    public GameRecord play(final GameSettings settings, final long gameIndex) {
+        Objects.requireNonNull(settings);
+        if (settings.getPlayers().stream().anyMatch(p -> !(p instanceof PlayerCpu))) {
+            throw new IllegalArgumentException("Headless games can only be played by CPU players.");
+        }
+
+        // Nobody keeps the turns, so every round can reuse the same turn object
+        final Game game = new GameImpl(settings, true);
+        int turns = 0;
+        while (game.hasNext()) {
+            final Round round = game.next();
+            while (round.hasNext()) {
+                final Turn turn = round.next();
+                turn.executeDrawPhase();
+                turns++;
+                // If the drawn card ended the round the decision phase is skipped.
+                if (round.hasNext()) {
+                    this.executeDecisionPhase(round.getState());
+                    turn.endTurn(this.exitingThisTurn);
+                }
+            }
+            round.endRound();
+        }
+
+        final List<Player> ranking = game.getLeaderboard().getPlayersSortedByScore();
+        final List<String> names = new ArrayList<>(ranking.size());
+        final List<Integer> chests = new ArrayList<>(ranking.size());
+        for (final Player player : ranking) {
+            names.add(player.getName());
+            chests.add(player.getChestGems());
+        }
+        return new GameRecord(gameIndex, names, chests, game.getCurrentRoundNumber(), turns);
+    }
+
+    /**
+     * Lets every active CPU make its choice and collects the ones that
+     * decided to leave the round.
+     * 
+     * @param state the state of the current round.
+     */
+    private void executeDecisionPhase(final RoundState state) {
+        this.exitingThisTurn.clear();
+        this.decidingCpus.clear();
+        for (final Player player : state.getRoundPlayersManager().getActivePlayers()) {
+            this.decidingCpus.add((PlayerCpu) player);
+        }
+        PlayerCpu.chooseCpus(state, this.decidingCpus);
+        for (final PlayerCpu cpu : this.decidingCpus) {
+            if (cpu.getChoice() == PlayerChoice.EXIT) {
+                this.exitingThisTurn.add(cpu);
+            }
+        }
+    }
+}
@@ -0,0 +1,342 @@
+package jvmt.model.simulation.impl;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import jvmt.model.card.api.Card;
+import jvmt.model.card.api.Deck;
+import jvmt.model.card.impl.CardCodes;
+import jvmt.model.card.impl.CompositionCodec;
+import jvmt.model.card.impl.DeckFactoryImpl;
+import jvmt.model.game.impl.GameSettingsImpl;
+import jvmt.model.player.api.PlayerChoice;
+
+/**
+ * The optimal choices of a round, one bit for each state, read from a
+ * memory-mapped file.
+ * <p>
+ * The choices come from the {@link PolicyTable}s of a
+ * {@link PolicySolverImpl}, one table for each number of active players. A state
+ * is identified by the number of cards of each code drawn, in mixed radix: a
+ * trap can be drawn at most once before the round ends, every other code at
+ * most as many times as it is in the deck. So the bit of a state is found with
+ * a sum over the drawn cards, and a read of the mapped file, without
+ * allocating anything.
+ * </p>
+ * <p>
+ * The file starts with a header of {@code int}s: the magic number
+ * {@link #MAGIC}, the {@link #VERSION} of the format, the number of card codes,
+ * the number of cards of each code in the deck and the maximum number of active
+ * players. Then the number of bits of each table, as a {@code long}, and the
+ * tables for one to the maximum number of players, as {@code long}s whose bits
+ * are set for the states in which the player exits. All numbers are
+ * big-endian.
+ * </p>
+ * <p>
+ * The policy of the standard deck is shipped in the resources, and can be
+ * computed again by running this class, with the path of the file to write as
+ * its argument.
+ * </p>
+ * 
+ * @see PolicySolverImpl
+ * 
+ * @author Emir Wanes Aouioua
+ */
+public final class PolicyBits {
+
+    /**
+     * The magic number at the beginning of the files of the policies.
+     */
+    public static final int MAGIC = 0x4A564D42;
+
+    /**
+     * The version of the format of the files of the policies.
+     */
+    public static final int VERSION = 1;
+
+    /**
+     * The resource holding the policy of the standard deck.
+     */
+    public static final String STANDARD_RESOURCE = "/policy/standard.policy";
+
+    private static final int HEADER_INTS = 4;
+
+    private final ByteBuffer buffer;
+    private final int[] initialCounts;
+    private final long[] weights;
+    private final int maxPlayers;
+    private final long bitsPerTable;
+    private final long tablesOffset;
+    private final int deckSize;
+
+    private PolicyBits(final ByteBuffer buffer) throws IOException {
+        this.buffer = buffer;
+        if (buffer.getInt(0) != MAGIC || buffer.getInt(Integer.BYTES) != VERSION
+                || buffer.getInt(2 * Integer.BYTES) != CardCodes.COUNT) {
+            throw new IOException("The file is not a policy of this version of the game.");
+        }
+        this.initialCounts = new int[CardCodes.COUNT];
+        int cards = 0;
+        for (int code = 0; code < CardCodes.COUNT; code++) {
+            this.initialCounts[code] = buffer.getInt((HEADER_INTS - 1 + code) * Integer.BYTES);
+            cards += this.initialCounts[code];
+        }
+        this.deckSize = cards;
+        this.weights = computeWeights(this.initialCounts);
+        this.maxPlayers = buffer.getInt((HEADER_INTS - 1 + CardCodes.COUNT) * Integer.BYTES);
+        this.bitsPerTable = buffer.getLong((HEADER_INTS + CardCodes.COUNT) * Integer.BYTES);
+        this.tablesOffset = (HEADER_INTS + CardCodes.COUNT) * Integer.BYTES + Long.BYTES;
+        if (this.bitsPerTable != totalBits(this.initialCounts)
+                || buffer.capacity() != this.tablesOffset + this.maxPlayers * words(this.bitsPerTable) * Long.BYTES) {
+            throw new IOException("The policy file is corrupted.");
+        }
+    }
+
+    /**
+     * Maps the policy in the given file.
+     * 
+     * @param file the file of the policy.
+     * @return the policy.
+     * @throws IOException if the file can't be read or is not a policy.
+     * 
+     * @throws NullPointerException if {@code file} is null.
+     */
+    public static PolicyBits map(final Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(Objects.requireNonNull(file), StandardOpenOption.READ)) {
+            return new PolicyBits(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * Returns the policy of the standard deck shipped in the resources. It is
+     * mapped the first time it is asked for, and shared by the whole
+     * application.
+     * 
+     * @return the policy of the standard deck, or an empty optional if it can't
+     *         be read.
+     */
+    public static Optional<PolicyBits> standard() {
+        return StandardHolder.POLICY;
+    }
+
+    /**
+     * Returns the number of cards of each code in the deck of the policy.
+     * 
+     * @return a copy of the counts.
+     */
+    public int[] getInitialCounts() {
+        return this.initialCounts.clone();
+    }
+
+    /**
+     * Returns the number of cards in the deck of the policy.
+     * 
+     * @return the size of the deck.
+     */
+    public int getDeckSize() {
+        return this.deckSize;
+    }
+
+    /**
+     * Returns the maximum number of active players the policy knows.
+     * 
+     * @return the maximum number of players.
+     */
+    public int getMaxPlayers() {
+        return this.maxPlayers;
+    }
+
+    /**
+     * Returns what a drawn card with the given code adds to the index of a
+     * state.
+     * 
+     * @param code a card code.
+     * @return the weight of the code.
+     */
+    public long weightOf(final int code) {
+        return this.weights[code];
+    }
+
+    /**
+     * Returns the index of the state in which the given cards have been drawn.
+     * 
+     * @param drawn the cards drawn.
+     * @return the index of the state.
+     */
+    public long indexOf(final List<? extends Card> drawn) {
+        long index = 0;
+        for (final Card card : drawn) {
+            index += this.weights[CardCodes.of(card)];
+        }
+        return index;
+    }
+
+    /**
+     * Returns the optimal choice in the given state.
+     * 
+     * @param activePlayers the number of active players, from one to
+     *                      {@link #getMaxPlayers()}.
+     * @param index         the index of the state.
+     * @return the optimal choice.
+     * 
+     * @throws IndexOutOfBoundsException if the number of players or the index
+     *                                   are out of range.
+     */
+    public PlayerChoice getChoice(final int activePlayers, final long index) {
+        if (activePlayers < 1 || activePlayers > this.maxPlayers || index < 0 || index >= this.bitsPerTable) {
+            throw new IndexOutOfBoundsException("No state " + index + " for " + activePlayers + " players.");
+        }
+        final long word = this.buffer.getLong(Math.toIntExact(this.tablesOffset
+                + ((activePlayers - 1) * words(this.bitsPerTable) + (index >>> 6)) * Long.BYTES));
+        return (word >>> (index & 63) & 1) == 1 ? PlayerChoice.EXIT : PlayerChoice.STAY;
+    }
+
+    /**
+     * Solves the rounds played with the given deck and writes their policy.
+     * 
+     * @param file       the file to write, replaced if it exists.
+     * @param deck       the deck of the game. It is not modified.
+     * @param maxPlayers the maximum number of active players.
+     * @throws IOException if the file can't be written.
+     * 
+     * @throws NullPointerException     if {@code file} or {@code deck} is null.
+     * @throws IllegalArgumentException if {@code maxPlayers} is not positive, or
+     *                                  the deck has too many states.
+     */
+    public static void write(final Path file, final Deck deck, final int maxPlayers) throws IOException {
+        Objects.requireNonNull(file);
+        if (maxPlayers <= 0) {
+            throw new IllegalArgumentException("There must be at least one player.");
+        }
+        final int[] initialCounts = CompositionCodec.countCodes(deck);
+        final long bits = totalBits(initialCounts);
+        if (words(bits) > Integer.MAX_VALUE / Long.BYTES / maxPlayers) {
+            throw new IllegalArgumentException("The deck has too many states.");
+        }
+        final long[] weights = computeWeights(initialCounts);
+        final CompositionCodec codec = new CompositionCodec(initialCounts);
+        final PolicySolverImpl solver = new PolicySolverImpl(deck);
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(CardCodes.COUNT);
+            for (final int count : initialCounts) {
+                out.writeInt(count);
+            }
+            out.writeInt(maxPlayers);
+            out.writeLong(bits);
+            final int[] counts = new int[CardCodes.COUNT];
+            for (int players = 1; players <= maxPlayers; players++) {
+                final PolicyTableImpl table = (PolicyTableImpl) solver.solve(players);
+                final long[] words = new long[(int) words(bits)];
+                for (int i = 0; i < table.size(); i++) {
+                    final long state = table.stateAt(i);
+                    if (table.getChoice(state) == PlayerChoice.EXIT) {
+                        codec.unpack(state, counts);
+                        long index = 0;
+                        for (int code = 0; code < CardCodes.COUNT; code++) {
+                            index += (initialCounts[code] - counts[code]) * weights[code];
+                        }
+                        words[(int) (index >>> 6)] |= 1L << (index & 63);
+                    }
+                }
+                for (final long word : words) {
+                    out.writeLong(word);
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes the policy of the standard deck, for all the numbers of players a
+     * game can have.
+     * 
+     * @param args the path of the file to write.
+     * @throws IOException if the file can't be written.
+     */
+    public static void main(final String[] args) throws IOException {
+        if (args.length != 1) {
+            throw new IllegalArgumentException("The path of the file to write is required.");
+        }
+        write(Path.of(args[0]), new DeckFactoryImpl().standardDeck(), GameSettingsImpl.MAX_PLAYERS);
+    }
+
+    /**
+     * Returns the number of values each code can have in a state: a trap is
+     * drawn at most once.
+     * 
+     * @param initialCounts the number of cards of each code in the deck.
+     * @param code          a card code.
+     * @return the radix of the code.
+     */
+    private static int radixOf(final int[] initialCounts, final int code) {
+        return CardCodes.isTrap(code) ? Math.min(initialCounts[code], 1) + 1 : initialCounts[code] + 1;
+    }
+
+    private static long[] computeWeights(final int[] initialCounts) {
+        final long[] weights = new long[CardCodes.COUNT];
+        long weight = 1;
+        for (int code = 0; code < CardCodes.COUNT; code++) {
+            weights[code] = weight;
+            weight = Math.multiplyExact(weight, radixOf(initialCounts, code));
+        }
+        return weights;
+    }
+
+    private static long totalBits(final int[] initialCounts) {
+        try {
+            final long[] weights = computeWeights(initialCounts);
+            final int last = CardCodes.COUNT - 1;
+            return Math.multiplyExact(weights[last], radixOf(initialCounts, last));
+        } catch (final ArithmeticException e) {
+            throw new IllegalArgumentException("The deck has too many states.", e);
+        }
+    }
+
+    private static long words(final long bits) {
+        return (bits + Long.SIZE - 1) / Long.SIZE;
+    }
+
+    /**
+     * Maps the policy of the standard deck when it is first asked for.
+     */
+    private static final class StandardHolder {
+
+        private static final Optional<PolicyBits> POLICY = load();
+
+        private static Optional<PolicyBits> load() {
+            final URL url = PolicyBits.class.getResource(STANDARD_RESOURCE);
+            if (url == null) {
+                return Optional.empty();
+            }
+            try {
+                if ("file".equals(url.getProtocol())) {
+                    return Optional.of(map(Path.of(url.toURI())));
+                }
+                // Resources inside a jar can't be mapped, so they are copied first
+                final Path copy = Files.createTempFile("policy", ".bin");
+                copy.toFile().deleteOnExit();
+                try (InputStream in = url.openStream()) {
+                    Files.copy(in, copy, StandardCopyOption.REPLACE_EXISTING);
+                }
+                return Optional.of(map(copy));
+            } catch (final IOException | URISyntaxException e) {
+                // The CPUs fall back to their heuristics
+                return Optional.empty();
+            }
+        }
+    }
+}
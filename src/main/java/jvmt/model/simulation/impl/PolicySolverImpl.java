@@ -0,0 +1,218 @@
+package jvmt.model.simulation.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.IntStream;
+
+import jvmt.model.card.api.Deck;
+import jvmt.model.card.impl.CardCodes;
+import jvmt.model.card.impl.CompositionCodec;
+import jvmt.model.card.impl.RelicCard;
+import jvmt.model.simulation.api.PolicySolver;
+import jvmt.model.simulation.api.PolicyTable;
+
+/**
+ * Implementation of {@link PolicySolver} by backward induction over the cards
+ * left in the deck.
+ * <p>
+ * The round follows the standard rules: it ends, and the players still in it
+ * lose their sacks, when a second trap of the same type is drawn or when the
+ * deck is over. The gems of each treasure are shared among the players, the
+ * remainder going on the path, and a player who exits alone takes the gems on
+ * the path and the relics drawn. The gem value of a relic is unknown until it
+ * is drawn, so the solver counts each relic as the mean of its possible values.
+ * </p>
+ * <p>
+ * The states are first enumerated level by level, a level holding the states
+ * with the same number of cards drawn, each in a compact {@link StateTable}.
+ * The values are then computed from the last level back to the first, and the
+ * states of a level are evaluated in parallel.
+ * </p>
+ * 
+ * @author Emir Wanes Aouioua
+ */
+public final class PolicySolverImpl implements PolicySolver {
+
+    private final CompositionCodec codec;
+    private final double relicValue;
+
+    /**
+     * Creates a solver for the rounds played with a full copy of the given deck.
+     * 
+     * @param deck the deck of the game. It is not modified.
+     * 
+     * @throws NullPointerException     if {@code deck} is null.
+     * @throws IllegalArgumentException if the deck has too many different
+     *                                  compositions to be solved.
+     */
+    public PolicySolverImpl(final Deck deck) {
+        this.codec = CompositionCodec.of(Objects.requireNonNull(deck));
+        if (!this.codec.isPackable()) {
+            throw new IllegalArgumentException("The deck has too many compositions to be solved.");
+        }
+        this.relicValue = RelicCard.getPossibleGemValues().stream()
+                .mapToInt(Integer::intValue)
+                .average()
+                .orElse(0);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public PolicyTable solve(final int activePlayers) {
+        if (activePlayers <= 0) {
+            throw new IllegalArgumentException("There must be at least one active player.");
+        }
+        final List<StateTable> levels = this.enumerateLevels();
+
+        // Values of the states of the level after the current one
+        StateTable nextLevel = new StateTable();
+        double[] nextValues = new double[0];
+        final StateTable decisions = new StateTable();
+        final List<double[]> stayByLevel = new ArrayList<>();
+        final List<double[]> exitByLevel = new ArrayList<>();
+        for (int depth = levels.size() - 1; depth >= 0; depth--) {
+            final StateTable level = levels.get(depth);
+            final double[] stay = new double[level.size()];
+            final double[] exit = new double[level.size()];
+            final StateTable after = nextLevel;
+            final double[] afterValues = nextValues;
+            IntStream.range(0, level.size()).parallel().forEach(index -> {
+                final int[] counts = new int[CardCodes.COUNT];
+                final long state = level.stateAt(index);
+                this.codec.unpack(state, counts);
+                stay[index] = this.stayValue(state, counts, after, afterValues);
+                exit[index] = this.exitValue(counts, activePlayers);
+            });
+            final double[] values = new double[level.size()];
+            for (int index = 0; index < values.length; index++) {
+                values[index] = Math.max(stay[index], exit[index]);
+            }
+            stayByLevel.add(stay);
+            exitByLevel.add(exit);
+            nextLevel = level;
+            nextValues = values;
+        }
+
+        // The first level is the full deck, where there's nothing to decide
+        final double roundValue = stayByLevel.get(stayByLevel.size() - 1)[0];
+        int size = 0;
+        for (int depth = 1; depth < levels.size(); depth++) {
+            size += levels.get(depth).size();
+        }
+        final double[] stayValues = new double[size];
+        final double[] exitValues = new double[size];
+        for (int depth = 1; depth < levels.size(); depth++) {
+            final StateTable level = levels.get(depth);
+            final double[] stay = stayByLevel.get(levels.size() - 1 - depth);
+            final double[] exit = exitByLevel.get(levels.size() - 1 - depth);
+            for (int index = 0; index < level.size(); index++) {
+                final int merged = decisions.add(level.stateAt(index));
+                stayValues[merged] = stay[index];
+                exitValues[merged] = exit[index];
+            }
+        }
+        return new PolicyTableImpl(this.codec, activePlayers, roundValue, decisions, stayValues, exitValues);
+    }
+
+    /**
+     * Enumerates the states that can be reached before the round ends, level by
+     * level.
+     * 
+     * @return the levels, the first of which holds only the full deck.
+     */
+    private List<StateTable> enumerateLevels() {
+        final int[] counts = new int[CardCodes.COUNT];
+        for (int code = 0; code < CardCodes.COUNT; code++) {
+            counts[code] = this.codec.initialOfCode(code);
+        }
+        final List<StateTable> levels = new ArrayList<>();
+        StateTable level = new StateTable();
+        level.add(this.codec.pack(counts));
+        while (level.size() > 0) {
+            levels.add(level);
+            final StateTable next = new StateTable();
+            for (int index = 0; index < level.size(); index++) {
+                final long state = level.stateAt(index);
+                this.codec.unpack(state, counts);
+                final int remaining = total(counts);
+                for (int code = 0; code < CardCodes.COUNT; code++) {
+                    if (counts[code] > 0 && remaining > 1 && !this.busts(counts, code)) {
+                        next.add(state - this.codec.weightOf(code));
+                    }
+                }
+            }
+            level = next;
+        }
+        return levels;
+    }
+
+    /**
+     * Computes the gems expected by staying in the given state.
+     * 
+     * @param state       the encoded state.
+     * @param counts      the cards of each code left in the deck.
+     * @param after       the states of the next level.
+     * @param afterValues the values of the states of the next level.
+     * @return the expected value of staying.
+     */
+    private double stayValue(
+            final long state,
+            final int[] counts,
+            final StateTable after,
+            final double[] afterValues) {
+        final int remaining = total(counts);
+        if (remaining <= 1) {
+            // The last card ends the round
+            return 0;
+        }
+        double value = 0;
+        for (int code = 0; code < CardCodes.COUNT; code++) {
+            if (counts[code] > 0 && !this.busts(counts, code)) {
+                value += counts[code] * afterValues[after.indexOf(state - this.codec.weightOf(code))];
+            }
+        }
+        return value / remaining;
+    }
+
+    /**
+     * Computes the gems brought home by exiting alone in the given state.
+     * 
+     * @param counts        the cards of each code left in the deck.
+     * @param activePlayers the number of players in the round.
+     * @return the value of exiting.
+     */
+    private double exitValue(final int[] counts, final int activePlayers) {
+        int gems = 0;
+        for (int code = 0; code < CardCodes.COUNT; code++) {
+            if (CardCodes.isTreasure(code)) {
+                final int drawn = this.codec.initialOfCode(code) - counts[code];
+                final int value = CardCodes.treasureGemValue(code);
+                // The share of each player goes in the sacks, the rest on the path
+                gems += drawn * (value / activePlayers + value % activePlayers);
+            }
+        }
+        return gems + (this.codec.initialOfCode(CardCodes.RELIC) - counts[CardCodes.RELIC]) * this.relicValue;
+    }
+
+    /**
+     * Checks whether drawing a card with the given code ends the round.
+     * 
+     * @param counts the cards of each code left in the deck.
+     * @param code   the code of the card drawn.
+     * @return true if the card is a trap of a type already drawn.
+     */
+    private boolean busts(final int[] counts, final int code) {
+        return CardCodes.isTrap(code) && counts[code] < this.codec.initialOfCode(code);
+    }
+
+    private static int total(final int[] counts) {
+        int total = 0;
+        for (final int count : counts) {
+            total += count;
+        }
+        return total;
+    }
+}
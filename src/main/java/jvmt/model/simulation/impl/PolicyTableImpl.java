@@ -0,0 +1,171 @@
+package jvmt.model.simulation.impl;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+import jvmt.model.card.impl.CardCodes;
+import jvmt.model.card.impl.CompositionCodec;
+import jvmt.model.round.api.RoundState;
+import jvmt.model.simulation.api.PolicyTable;
+
+/**
+ * Implementation of {@link PolicyTable} kept in memory, as built by
+ * {@link PolicySolverImpl}.
+ * 
+ * @author Emir Wanes Aouioua
+ */
+public final class PolicyTableImpl implements PolicyTable {
+
+    private final CompositionCodec codec;
+    private final int deckSize;
+    private final int activePlayers;
+    private final double roundValue;
+    private final StateTable states;
+    private final double[] stayValues;
+    private final double[] exitValues;
+
+    /**
+     * Creates a table.
+     * 
+     * @param codec         the codec of the full deck.
+     * @param activePlayers the number of players in the round.
+     * @param roundValue    the expected value of the round.
+     * @param states        the states of the table.
+     * @param stayValues    the value of staying in each state, by index.
+     * @param exitValues    the value of exiting in each state, by index.
+     */
+    PolicyTableImpl(
+            final CompositionCodec codec,
+            final int activePlayers,
+            final double roundValue,
+            final StateTable states,
+            final double[] stayValues,
+            final double[] exitValues) {
+        this.codec = codec;
+        int cards = 0;
+        for (int code = 0; code < CardCodes.COUNT; code++) {
+            cards += codec.initialOfCode(code);
+        }
+        this.deckSize = cards;
+        this.activePlayers = activePlayers;
+        this.roundValue = roundValue;
+        this.states = states;
+        this.stayValues = stayValues;
+        this.exitValues = exitValues;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getActivePlayers() {
+        return this.activePlayers;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getRoundValue() {
+        return this.roundValue;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        return this.states.size();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long encode(final RoundState state) {
+        Objects.requireNonNull(state);
+        if (this.deckSize - state.getDrawnCardsCount() != state.getDeck().numberOfRemainingCards()) {
+            return CompositionCodec.NOT_PACKABLE;
+        }
+        return this.codec.packRemaining(state.getDrawCards());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean contains(final long state) {
+        return this.states.indexOf(state) >= 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getStayValue(final long state) {
+        return this.stayValues[this.indexOf(state)];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getExitValue(final long state) {
+        return this.exitValues[this.indexOf(state)];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void writeTo(final Path file) throws IOException {
+        Objects.requireNonNull(file);
+        final long[] sorted = new long[this.states.size()];
+        for (int index = 0; index < sorted.length; index++) {
+            sorted[index] = this.states.stateAt(index);
+        }
+        Arrays.sort(sorted);
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(this.activePlayers);
+            out.writeInt(CardCodes.COUNT);
+            for (int code = 0; code < CardCodes.COUNT; code++) {
+                out.writeInt(this.codec.initialOfCode(code));
+            }
+            out.writeDouble(this.roundValue);
+            out.writeInt(sorted.length);
+            for (final long state : sorted) {
+                final int index = this.states.indexOf(state);
+                out.writeLong(state);
+                out.writeDouble(this.stayValues[index]);
+                out.writeDouble(this.exitValues[index]);
+            }
+        }
+    }
+
+    /**
+     * Returns the state with the given index, from zero to {@link #size()}
+     * excluded.
+     * 
+     * @param index the index of the state.
+     * @return the encoded state.
+     */
+    long stateAt(final int index) {
+        return this.states.stateAt(index);
+    }
+
+    private int indexOf(final long state) {
+        final int index = this.states.indexOf(state);
+        if (index < 0) {
+            throw new NoSuchElementException("The state " + state + " is not in the table.");
+        }
+        return index;
+    }
+}
@@ -0,0 +1,354 @@
+package jvmt.model.simulation.impl;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import jvmt.model.card.api.Deck;
+import jvmt.model.card.impl.DeckFactoryImpl;
+import jvmt.model.common.api.RandomSource;
+import jvmt.model.common.impl.SplittableRandomSource;
+import jvmt.model.game.api.GameSettings;
+import jvmt.model.game.impl.GameSettingsImpl;
+import jvmt.model.player.api.CpuDifficulty;
+import jvmt.model.player.api.CpuFeatures;
+import jvmt.model.player.api.LogicCpu;
+import jvmt.model.player.api.Player;
+import jvmt.model.player.api.PlayerChoice;
+import jvmt.model.player.impl.LogicCpuImpl;
+import jvmt.model.round.api.Round;
+import jvmt.model.round.api.RoundState;
+import jvmt.model.round.api.turn.Turn;
+import jvmt.model.round.impl.RoundImpl;
+import jvmt.model.round.impl.roundeffect.RoundEffectImpl;
+import jvmt.model.round.impl.roundeffect.endcondition.EndConditionFactoryImpl;
+import jvmt.model.round.impl.roundeffect.gemmodifier.GemModifierFactoryImpl;
+import jvmt.model.simulation.api.QLearningTrainer;
+import jvmt.model.simulation.api.QTable;
+import jvmt.model.simulation.api.TrainingProgress;
+
+/**
+ * Implementation of {@link QLearningTrainer} based on tabular Q-learning with
+ * epsilon-greedy players.
+ * <p>
+ * Every episode is a round played with {@link RoundImpl} and its turns, by
+ * three to eight learning players and the standard rules. A player that stays
+ * moves its value towards the best value of its next state, a player that
+ * exits towards the gems it puts in its chest, and a player still in the
+ * round when it ends towards zero.
+ * </p>
+ * <p>
+ * The episodes are played by parallel workers in epochs. In an epoch every
+ * worker learns on its own copy of the table; at the end of the epoch the
+ * copies are merged into the shared table, each value weighted by the times
+ * it was updated, and the progress is reported. Each worker has its own random
+ * source, split in order from the one of the trainer, so a seed gives the same
+ * table whatever the order in which the workers run.
+ * </p>
+ * 
+ * @see QTableImpl
+ * 
+ * @author Emir Wanes Aouioua
+ */
+public final class QLearningTrainerImpl implements QLearningTrainer {
+
+    /**
+     * The episodes played by each worker in an epoch.
+     */
+    public static final int EPISODES_PER_EPOCH = 2_000;
+
+    private static final double LEARNING_RATE = 0.1;
+    private static final double EXPLORATION = 0.1;
+    private static final int ROUNDS = GameSettingsImpl.MIN_ROUNDS;
+    private static final long DEFAULT_EPISODES = 2_000_000L;
+    private static final double NANOS_PER_SECOND = 1e9;
+
+    private final Function<RandomSource, Deck> deckFactory;
+    private final RandomSource random;
+    private final int parallelism;
+    private final float[] values = new float[QTableImpl.STATES * 2];
+    private long episodes;
+
+    /**
+     * Creates a trainer that uses every available core.
+     * 
+     * @param deckFactory creates the deck of each game from a random source. It
+     *                    is called concurrently by the workers and must return
+     *                    new relics every time, since they are redeemed during
+     *                    the game.
+     * 
+     * @throws NullPointerException if {@code deckFactory} is null.
+     */
+    public QLearningTrainerImpl(final Function<RandomSource, Deck> deckFactory) {
+        this(deckFactory, new SplittableRandomSource(), Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates a reproducible trainer.
+     * 
+     * @param deckFactory creates the deck of each game from a random source. It
+     *                    is called concurrently by the workers and must return
+     *                    new relics every time, since they are redeemed during
+     *                    the game. All the randomness of the deck must come
+     *                    from the given source.
+     * @param seed        the seed of the training.
+     * @param parallelism the number of workers.
+     * 
+     * @throws NullPointerException     if {@code deckFactory} is null.
+     * @throws IllegalArgumentException if {@code parallelism} is not positive.
+     */
+    public QLearningTrainerImpl(
+            final Function<RandomSource, Deck> deckFactory,
+            final long seed,
+            final int parallelism) {
+        this(deckFactory, new SplittableRandomSource(seed), parallelism);
+    }
+
+    private QLearningTrainerImpl(
+            final Function<RandomSource, Deck> deckFactory,
+            final RandomSource random,
+            final int parallelism) {
+        this.deckFactory = Objects.requireNonNull(deckFactory);
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("The number of workers must be positive.");
+        }
+        this.random = random;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void train(final long rounds, final Consumer<TrainingProgress> progress) {
+        Objects.requireNonNull(progress);
+        if (rounds < 0) {
+            throw new IllegalArgumentException("The number of episodes can't be negative.");
+        }
+        final long start = System.nanoTime();
+        long played = 0;
+        while (played < rounds) {
+            final long epoch = Math.min(rounds - played, (long) EPISODES_PER_EPOCH * this.parallelism);
+            final List<Worker> workers = new ArrayList<>(this.parallelism);
+            for (int i = 0; i < this.parallelism; i++) {
+                final long share = epoch / this.parallelism + (i < epoch % this.parallelism ? 1 : 0);
+                workers.add(new Worker(this.random.split(), share));
+            }
+            IntStream.range(0, workers.size()).parallel().forEach(i -> workers.get(i).run());
+            this.merge(workers);
+            played += epoch;
+            this.episodes += epoch;
+            final long elapsed = System.nanoTime() - start;
+            progress.accept(new TrainingProgress(this.episodes, Duration.ofNanos(elapsed),
+                    played * NANOS_PER_SECOND / Math.max(elapsed, 1)));
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getEpisodes() {
+        return this.episodes;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public QTable getTable() {
+        return new QTableImpl(this.values.clone());
+    }
+
+    /**
+     * Learns a table with the standard deck and writes it. The arguments are
+     * the file to write and the number of episodes; the progress is printed as
+     * the training runs.
+     * 
+     * @param args the arguments of the training.
+     * @throws IOException if the file can't be written.
+     */
+    public static void main(final String[] args) throws IOException {
+        if (args.length < 1) {
+            throw new IllegalArgumentException("Usage: <table file> [episodes]");
+        }
+        final long rounds = args.length > 1 ? Long.parseLong(args[1]) : DEFAULT_EPISODES;
+        final QLearningTrainer trainer = new QLearningTrainerImpl(
+                source -> new DeckFactoryImpl(source.split()).standardDeck());
+        // NOPMD: the command line tool reports its throughput on the standard output
+        trainer.train(rounds, p -> System.out.printf("%d episodes, %.0f episodes/s%n", // NOPMD
+                p.episodes(), p.episodesPerSecond()));
+        trainer.getTable().writeTo(Path.of(args[0]));
+    }
+
+    /**
+     * Merges the copies of the workers into the shared seats.
+     * 
+     * @param workers the workers of the epoch.
+     */
+    private void merge(final List<Worker> workers) {
+        for (int i = 0; i < this.values.length; i++) {
+            double sum = 0;
+            long updates = 0;
+            for (final Worker worker : workers) {
+                sum += (double) worker.values[i] * worker.updates[i];
+                updates += worker.updates[i];
+            }
+            if (updates > 0) {
+                this.values[i] = (float) (sum / updates);
+            }
+        }
+    }
+
+    /**
+     * Plays the episodes of an epoch on its own copy of the seats.
+     */
+    private final class Worker {
+
+        private final RandomSource random;
+        private final long rounds;
+        private final float[] values;
+        private final int[] updates;
+        private final Set<Player> exiting = new HashSet<>();
+
+        /**
+         * Creates a worker.
+         * 
+         * @param random the random source of the worker.
+         * @param rounds the episodes to play.
+         */
+        Worker(final RandomSource random, final long rounds) {
+            this.random = random;
+            this.rounds = rounds;
+            this.values = QLearningTrainerImpl.this.values.clone();
+            this.updates = new int[this.values.length];
+        }
+
+        /**
+         * Plays the episodes, as the rounds of games with a random number of
+         * players.
+         */
+        void run() {
+            Seats seats = null;
+            for (long i = 0; i < this.rounds; i++) {
+                if (i % ROUNDS == 0) {
+                    final int players = this.random.nextInt(GameSettingsImpl.MIN_PLAYERS,
+                            GameSettingsImpl.MAX_PLAYERS + 1);
+                    seats = new Seats(players, this.random.split());
+                }
+                this.playRound(seats);
+            }
+        }
+
+        private void playRound(final Seats seats) {
+            final List<Player> players = seats.players;
+            final GameSettings settings = seats.settings;
+            final Round round = new RoundImpl(players, settings.getDeck(),
+                    new RoundEffectImpl(settings.getRoundEndCondition(), settings.getRoundGemModifier()), true);
+            Arrays.fill(seats.staying, -1);
+            Arrays.fill(seats.exited, -1);
+            for (int i = 0; i < players.size(); i++) {
+                seats.chests[i] = players.get(i).getChestGems();
+            }
+            while (round.hasNext()) {
+                final Turn turn = round.next();
+                turn.executeDrawPhase();
+                if (round.hasNext()) {
+                    this.decide(seats, round.getState());
+                    turn.endTurn(this.exiting);
+                }
+            }
+            round.endRound();
+            for (int i = 0; i < players.size(); i++) {
+                if (seats.exited[i] >= 0) {
+                    this.learn(seats.exited[i], PlayerChoice.EXIT,
+                            players.get(i).getChestGems() - seats.chests[i]);
+                }
+                if (seats.staying[i] >= 0) {
+                    this.learn(seats.staying[i], PlayerChoice.STAY, 0);
+                }
+            }
+        }
+
+        private void decide(final Seats seats, final RoundState state) {
+            this.exiting.clear();
+            final CpuFeatures features = seats.logic.computeFeatures(state);
+            for (int i = 0; i < seats.players.size(); i++) {
+                final Player player = seats.players.get(i);
+                if (player.getChoice() != PlayerChoice.STAY) {
+                    continue;
+                }
+                final int current = QTableImpl.stateOf(features, player.getSackGems());
+                final float stay = this.values[QTableImpl.indexOf(current, PlayerChoice.STAY)];
+                final float exit = this.values[QTableImpl.indexOf(current, PlayerChoice.EXIT)];
+                if (seats.staying[i] >= 0) {
+                    this.learn(seats.staying[i], PlayerChoice.STAY, Math.max(stay, exit));
+                }
+                final boolean exits = this.random.nextDouble() < EXPLORATION
+                        ? this.random.nextBoolean()
+                        : exit > stay;
+                if (exits) {
+                    player.choose(PlayerChoice.EXIT);
+                    this.exiting.add(player);
+                    seats.exited[i] = current;
+                    seats.staying[i] = -1;
+                } else {
+                    seats.staying[i] = current;
+                }
+            }
+        }
+
+        private void learn(final int state, final PlayerChoice choice, final double target) {
+            final int index = QTableImpl.indexOf(state, choice);
+            this.values[index] += (float) (LEARNING_RATE * (target - this.values[index]));
+            this.updates[index]++;
+        }
+    }
+
+    /**
+     * The settings and players of the rounds of a game.
+     */
+    private final class Seats {
+
+        private final GameSettings settings;
+        private final List<Player> players;
+        private final LogicCpu logic;
+        private final int[] staying;
+        private final int[] exited;
+        private final int[] chests;
+
+        /**
+         * Creates the seats of a new game.
+         * 
+         * @param players the number of players.
+         * @param random  the random source of the rounds.
+         */
+        Seats(final int players, final RandomSource random) {
+            final List<String> names = new ArrayList<>(players);
+            for (int i = 0; i < players; i++) {
+                names.add("Q-" + i);
+            }
+            this.settings = new GameSettingsImpl(names, 0, deckFactory.apply(random.split()),
+                    new EndConditionFactoryImpl().standard(),
+                    new GemModifierFactoryImpl().standard(),
+                    CpuDifficulty.LEARNED,
+                    ROUNDS,
+                    random);
+            this.players = this.settings.getPlayers();
+            // Computes the features like the learned CPUs, risk included
+            this.logic = new LogicCpuImpl(this.settings);
+            this.staying = new int[players];
+            this.exited = new int[players];
+            this.chests = new int[players];
+        }
+    }
+}
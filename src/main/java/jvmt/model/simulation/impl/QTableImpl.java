@@ -0,0 +1,211 @@
+package jvmt.model.simulation.impl;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.Optional;
+
+import jvmt.model.player.api.CpuFeatures;
+import jvmt.model.player.api.PlayerChoice;
+import jvmt.model.simulation.api.QTable;
+
+/**
+ * Implementation of {@link QTable} that keeps the values in an array of
+ * floats, two for each state.
+ * <p>
+ * Each of the six features is grouped in {@value #FEATURE_BUCKETS} buckets
+ * of the same width, and the gems in the sack in buckets of
+ * {@value #SACK_BUCKET} gems. The file of a table starts with the magic number
+ * {@link #MAGIC}, the {@link #VERSION} of the format and the number of states,
+ * as big-endian {@code int}s, followed by the values of staying and exiting of
+ * every state as {@code float}s.
+ * </p>
+ * <p>
+ * The table learned for the standard deck is shipped in the resources, and can
+ * be learned again by running {@link QLearningTrainerImpl}.
+ * </p>
+ * 
+ * @see QLearningTrainerImpl
+ * 
+ * @author Emir Wanes Aouioua
+ */
+public final class QTableImpl implements QTable {
+
+    /**
+     * The magic number at the beginning of the files of the tables.
+     */
+    public static final int MAGIC = 0x4A564D51;
+
+    /**
+     * The version of the format of the files of the tables.
+     */
+    public static final int VERSION = 1;
+
+    /**
+     * The resource holding the table learned for the standard deck.
+     */
+    public static final String STANDARD_RESOURCE = "/qlearning/standard.qtable";
+
+    /**
+     * The number of buckets of every feature.
+     */
+    public static final int FEATURE_BUCKETS = 4;
+
+    /**
+     * The gems in a bucket of the sack.
+     */
+    public static final int SACK_BUCKET = 3;
+
+    private static final int FEATURES = 6;
+    private static final int SACK_BUCKETS = 12;
+    private static final int CHOICES = 2;
+
+    /**
+     * The number of states of a table.
+     */
+    static final int STATES = (int) Math.pow(FEATURE_BUCKETS, FEATURES) * SACK_BUCKETS;
+
+    private final float[] values;
+
+    /**
+     * Creates a table with the given values.
+     * 
+     * @param values the values of staying and exiting of every state, zero for
+     *               the states never visited. The array is not copied.
+     */
+    QTableImpl(final float[] values) {
+        this.values = values;
+    }
+
+    /**
+     * Reads a table written by {@link #writeTo(Path)}.
+     * 
+     * @param file the file of the table.
+     * @return the table.
+     * @throws IOException if the file can't be read or is not a table.
+     * 
+     * @throws NullPointerException if {@code file} is null.
+     */
+    public static QTable read(final Path file) throws IOException {
+        try (InputStream in = Files.newInputStream(Objects.requireNonNull(file))) {
+            return read(in);
+        }
+    }
+
+    /**
+     * Returns the table learned for the standard deck shipped in the
+     * resources. It is read the first time it is asked for, and shared by the
+     * whole application.
+     * 
+     * @return the table of the standard deck, or an empty optional if it can't
+     *         be read.
+     */
+    public static Optional<QTable> standard() {
+        return StandardHolder.TABLE;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getValue(final CpuFeatures features, final int sackGems, final PlayerChoice choice) {
+        return this.values[indexOf(stateOf(features, sackGems), Objects.requireNonNull(choice))];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<PlayerChoice> getBestChoice(final CpuFeatures features, final int sackGems) {
+        final int state = stateOf(features, sackGems);
+        final float stay = this.values[indexOf(state, PlayerChoice.STAY)];
+        final float exit = this.values[indexOf(state, PlayerChoice.EXIT)];
+        if (stay == 0 && exit == 0) {
+            return Optional.empty();
+        }
+        return Optional.of(exit > stay ? PlayerChoice.EXIT : PlayerChoice.STAY);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void writeTo(final Path file) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(Objects.requireNonNull(file))))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(STATES);
+            for (final float value : this.values) {
+                out.writeFloat(value);
+            }
+        }
+    }
+
+    /**
+     * Returns the quantized state of the given features and sack.
+     * 
+     * @param features the features of the round state.
+     * @param sackGems the gems in the sack of the player.
+     * @return the index of the state.
+     */
+    static int stateOf(final CpuFeatures features, final int sackGems) {
+        int state = bucket(features.normGems());
+        state = state * FEATURE_BUCKETS + bucket(features.normTraps());
+        state = state * FEATURE_BUCKETS + bucket(features.normCards());
+        state = state * FEATURE_BUCKETS + bucket(features.normRelics());
+        state = state * FEATURE_BUCKETS + bucket(features.normPlayers());
+        state = state * FEATURE_BUCKETS + bucket(features.bustRisk());
+        return state * SACK_BUCKETS + Math.min(Math.max(sackGems, 0) / SACK_BUCKET, SACK_BUCKETS - 1);
+    }
+
+    /**
+     * Returns the position of the value of a choice in a state.
+     * 
+     * @param state  the index of the state.
+     * @param choice the choice.
+     * @return the position of the value.
+     */
+    static int indexOf(final int state, final PlayerChoice choice) {
+        return state * CHOICES + (choice == PlayerChoice.EXIT ? 1 : 0);
+    }
+
+    private static int bucket(final double feature) {
+        return Math.min(Math.max((int) (feature * FEATURE_BUCKETS), 0), FEATURE_BUCKETS - 1);
+    }
+
+    private static QTable read(final InputStream stream) throws IOException {
+        final DataInputStream in = new DataInputStream(new BufferedInputStream(stream));
+        if (in.readInt() != MAGIC || in.readInt() != VERSION || in.readInt() != STATES) {
+            throw new IOException("The file is not a table of this version of the game.");
+        }
+        final float[] values = new float[STATES * CHOICES];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = in.readFloat();
+        }
+        return new QTableImpl(values);
+    }
+
+    /**
+     * Reads the table of the standard deck when it is first asked for.
+     */
+    private static final class StandardHolder {
+
+        private static final Optional<QTable> TABLE = load();
+
+        private static Optional<QTable> load() {
+            try (InputStream in = QTableImpl.class.getResourceAsStream(STANDARD_RESOURCE)) {
+                return in == null ? Optional.empty() : Optional.of(read(in));
+            } catch (final IOException e) {
+                // The CPUs fall back to their heuristics
+                return Optional.empty();
+            }
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package jvmt.model.simulation.impl;
+
+import java.util.Arrays;
+
+/**
+ * An open addressing hash table of encoded states, which gives each state the
+ * index it was added with.
+ * <p>
+ * The states are kept in primitive arrays, so the values of the states can be
+ * kept by the caller in arrays of the same indices. Adding states is not
+ * thread-safe, but once all the states are added the table can be read by
+ * many threads.
+ * </p>
+ * 
+ * @author Emir Wanes Aouioua
+ */
+final class StateTable {
+
+    private static final int INITIAL_CAPACITY = 16;
+    // the hash of a state, from the finalizer of MurmurHash3
+    private static final long MIX_1 = 0xff51afd7ed558ccdL;
+    private static final long MIX_2 = 0xc4ceb9fe1a85ec53L;
+    private static final int SHIFT = 33;
+
+    // index of the state of each slot plus one, zero for the empty slots
+    private int[] slots = new int[INITIAL_CAPACITY * 2];
+    private long[] states = new long[INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * Returns the index of the given state.
+     * 
+     * @param state the encoded state.
+     * @return the index of the state, or -1 if it is not in the table.
+     */
+    int indexOf(final long state) {
+        final int mask = this.slots.length - 1;
+        for (int slot = hash(state) & mask; this.slots[slot] != 0; slot = (slot + 1) & mask) {
+            if (this.states[this.slots[slot] - 1] == state) {
+                return this.slots[slot] - 1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Adds the given state, if it is not in the table yet.
+     * 
+     * @param state the encoded state.
+     * @return the index of the state.
+     */
+    int add(final long state) {
+        final int mask = this.slots.length - 1;
+        int slot = hash(state) & mask;
+        for (; this.slots[slot] != 0; slot = (slot + 1) & mask) {
+            if (this.states[this.slots[slot] - 1] == state) {
+                return this.slots[slot] - 1;
+            }
+        }
+        if (this.size == this.states.length) {
+            this.grow();
+            return this.add(state);
+        }
+        this.states[this.size] = state;
+        this.slots[slot] = ++this.size;
+        return this.size - 1;
+    }
+
+    /**
+     * Returns the state with the given index.
+     * 
+     * @param index the index of the state.
+     * @return the encoded state.
+     */
+    long stateAt(final int index) {
+        return this.states[index];
+    }
+
+    /**
+     * Returns the number of states in the table.
+     * 
+     * @return the number of states.
+     */
+    int size() {
+        return this.size;
+    }
+
+    /**
+     * Doubles the capacity of the table. The slots are never more than half
+     * full.
+     */
+    private void grow() {
+        this.states = Arrays.copyOf(this.states, this.states.length * 2);
+        this.slots = new int[this.states.length * 2];
+        final int mask = this.slots.length - 1;
+        for (int index = 0; index < this.size; index++) {
+            int slot = hash(this.states[index]) & mask;
+            while (this.slots[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            this.slots[slot] = index + 1;
+        }
+    }
+
+    private static int hash(final long state) {
+        long h = state;
+        h = (h ^ (h >>> SHIFT)) * MIX_1;
+        h = (h ^ (h >>> SHIFT)) * MIX_2;
+        return (int) (h ^ (h >>> SHIFT));
+    }
+}
@@ -0,0 +1,395 @@
+package jvmt.model.simulation.impl;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.stream.Stream;
+
+import jvmt.model.card.impl.CompactDeck;
+import jvmt.model.card.impl.DeckFactoryImpl;
+import jvmt.model.common.api.RandomSource;
+import jvmt.model.common.impl.SplittableRandomSource;
+import jvmt.model.game.api.GameSettings;
+import jvmt.model.game.impl.GameSettingsImpl;
+import jvmt.model.player.api.CpuDifficulty;
+import jvmt.model.player.api.CpuDifficultyVariables;
+import jvmt.model.player.impl.LogicCpuImpl;
+import jvmt.model.round.impl.roundeffect.endcondition.EndConditionFactoryImpl;
+import jvmt.model.round.impl.roundeffect.gemmodifier.GemModifierFactoryImpl;
+import jvmt.model.simulation.api.GameRecord;
+import jvmt.model.simulation.api.WeightTuner;
+
+/**
+ * Implementation of the {@link WeightTuner} interface based on a parallel hill
+ * climbing.
+ * <p>
+ * Every generation starts from the best weights found so far and tries a few
+ * candidates, each one moved from them by a random gaussian step. All the
+ * candidates and the best weights play the same games, with the standard deck,
+ * so they are compared on the same luck; the games of a candidate are spread
+ * over all the cores by a {@link GameSimulatorImpl}. If a candidate wins more
+ * games than the best weights it takes their place and the steps grow,
+ * otherwise the steps shrink.
+ * </p>
+ * <p>
+ * The state of the search is saved as a properties file after every
+ * generation. The random values of a generation only depend on the seed and
+ * on the number of the generation, so a resumed search goes on exactly as if
+ * it had never been stopped.
+ * </p>
+ * 
+ * @see WeightTuner
+ * @see CandidateSettings
+ * 
+ * @author Emir Wanes Aouioua
+ */
+public final class WeightTunerImpl implements WeightTuner {
+
+    /**
+     * The number of players of the games played by default.
+     */
+    public static final int DEFAULT_PLAYERS = 4;
+
+    /**
+     * The number of games played by default by each candidate of a generation.
+     */
+    public static final int DEFAULT_GAMES = 2_000;
+
+    /**
+     * The number of candidates tried by default in a generation.
+     */
+    public static final int DEFAULT_CANDIDATES = 8;
+
+    /**
+     * The number of rounds of the games played by the candidates.
+     */
+    public static final int ROUNDS = 5;
+
+    private static final double INITIAL_STEP = 0.1;
+    private static final double MIN_STEP = 0.005;
+    private static final double SUCCESS_FACTOR = 1.5;
+    private static final double FAILURE_FACTOR = 0.85;
+    private static final long GENERATION_MIX = 0x9E3779B97F4A7C15L;
+    private static final int DEFAULT_GENERATIONS = 50;
+
+    private static final String[] COMPONENTS = {
+        "weightGems", "weightTraps", "weightCards", "weightRelics", "weightPlayers", "weightRisk", "minBl", "maxBl",
+    };
+    private static final String SEED_KEY = "seed";
+    private static final String BASELINE_KEY = "baseline";
+    private static final String GENERATION_KEY = "generation";
+    private static final String STEP_KEY = "step";
+    private static final String WIN_RATE_KEY = "winRate";
+
+    private final CpuDifficulty baseline;
+    private final Path checkpoint;
+    private final long seed;
+    private final int players;
+    private final int games;
+    private final int candidates;
+
+    private CpuDifficultyVariables best;
+    private double bestWinRate;
+    private double step = INITIAL_STEP;
+    private int generation;
+    private boolean resumed;
+
+    /**
+     * Creates a tuner that plays the default number of games and candidates.
+     * 
+     * @param baseline   the difficulty of the other CPUs. The search starts
+     *                   from its weights.
+     * @param checkpoint the file of the checkpoint. If it exists the search
+     *                   resumes from it.
+     * @param seed       the seed of the search.
+     * 
+     * @throws NullPointerException if {@code baseline} or {@code checkpoint} is
+     *                              null.
+     */
+    public WeightTunerImpl(final CpuDifficulty baseline, final Path checkpoint, final long seed) {
+        this(baseline, checkpoint, seed, DEFAULT_PLAYERS, DEFAULT_GAMES, DEFAULT_CANDIDATES);
+    }
+
+    /**
+     * Creates a tuner.
+     * 
+     * @param baseline   the difficulty of the other CPUs. The search starts
+     *                   from its weights.
+     * @param checkpoint the file of the checkpoint. If it exists the search
+     *                   resumes from it.
+     * @param seed       the seed of the search.
+     * @param players    the number of players of the games, the candidate
+     *                   included.
+     * @param games      the number of games played by each candidate.
+     * @param candidates the number of candidates tried in a generation.
+     * 
+     * @throws NullPointerException     if {@code baseline} or {@code checkpoint}
+     *                                  is null.
+     * @throws IllegalArgumentException if the number of players is not allowed
+     *                                  in a game, or the number of games or
+     *                                  candidates is not positive.
+     */
+    public WeightTunerImpl(
+            final CpuDifficulty baseline,
+            final Path checkpoint,
+            final long seed,
+            final int players,
+            final int games,
+            final int candidates) {
+        this.baseline = Objects.requireNonNull(baseline);
+        this.checkpoint = Objects.requireNonNull(checkpoint);
+        if (players < GameSettingsImpl.MIN_PLAYERS || players > GameSettingsImpl.MAX_PLAYERS) {
+            throw new IllegalArgumentException("The number of players is not allowed in a game.");
+        }
+        if (games <= 0 || candidates <= 0) {
+            throw new IllegalArgumentException("The number of games and candidates must be positive.");
+        }
+        this.seed = seed;
+        this.players = players;
+        this.games = games;
+        this.candidates = candidates;
+        this.best = LogicCpuImpl.getDifficultyVariables(baseline);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CpuDifficultyVariables tune(final int generations) throws IOException {
+        if (generations < 0) {
+            throw new IllegalArgumentException("The number of generations can't be negative.");
+        }
+        if (!this.resumed && Files.exists(this.checkpoint)) {
+            this.readCheckpoint();
+        }
+        this.resumed = true;
+        while (this.generation < generations) {
+            this.playGeneration();
+            this.generation++;
+            this.writeCheckpoint();
+        }
+        return this.best;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double evaluate(final CpuDifficultyVariables variables, final long gamesSeed) {
+        Objects.requireNonNull(variables);
+        final GameSimulatorImpl simulator = new GameSimulatorImpl(
+                source -> new CandidateSettings(this.baselineSettings(source), variables), gamesSeed);
+        try (Stream<GameRecord> records = simulator.simulate(this.games)) {
+            final long wins = records.filter(r -> CandidateSettings.CANDIDATE_NAME.equals(r.winner())).count();
+            return (double) wins / this.games;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getGeneration() {
+        return this.generation;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getBestWinRate() {
+        return this.bestWinRate;
+    }
+
+    /**
+     * Writes the given weights as a properties file, with a key for every
+     * weight of every difficulty, like {@code HARD.weightGems}.
+     * 
+     * @param file    the file to write, replaced if it exists.
+     * @param presets the weights of each difficulty.
+     * @throws IOException if the file can't be written.
+     * 
+     * @throws NullPointerException if {@code file} or {@code presets} is null.
+     */
+    public static void writePresets(final Path file, final Map<CpuDifficulty, CpuDifficultyVariables> presets)
+            throws IOException {
+        Objects.requireNonNull(file);
+        final Properties properties = new Properties();
+        for (final Map.Entry<CpuDifficulty, CpuDifficultyVariables> preset : presets.entrySet()) {
+            putVariables(properties, preset.getKey().name() + ".", preset.getValue());
+        }
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            properties.store(writer, "Tuned weights of the CPU difficulties");
+        }
+    }
+
+    /**
+     * Tunes the weights of some difficulties and writes them as presets.
+     * The arguments are the presets file to write, the directory of the
+     * checkpoints, the number of generations and the difficulties to tune;
+     * if no difficulty is given the easy, normal and hard ones are tuned.
+     * 
+     * @param args the arguments of the tuning.
+     * @throws IOException if a file can't be read or written.
+     */
+    public static void main(final String[] args) throws IOException {
+        if (args.length < 2) {
+            throw new IllegalArgumentException(
+                    "Usage: <presets file> <checkpoint directory> [generations] [difficulties...]");
+        }
+        final Path presetsFile = Path.of(args[0]);
+        final Path checkpoints = Files.createDirectories(Path.of(args[1]));
+        final int generations = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_GENERATIONS;
+        final List<CpuDifficulty> difficulties = new ArrayList<>();
+        for (int i = 3; i < args.length; i++) {
+            difficulties.add(CpuDifficulty.valueOf(args[i]));
+        }
+        if (difficulties.isEmpty()) {
+            difficulties.addAll(List.of(CpuDifficulty.EASY, CpuDifficulty.NORMAL, CpuDifficulty.HARD));
+        }
+        final Map<CpuDifficulty, CpuDifficultyVariables> presets = new EnumMap<>(CpuDifficulty.class);
+        for (final CpuDifficulty difficulty : difficulties) {
+            final WeightTuner tuner = new WeightTunerImpl(difficulty,
+                    checkpoints.resolve(difficulty.name() + ".checkpoint"), difficulty.ordinal());
+            presets.put(difficulty, tuner.tune(generations));
+        }
+        writePresets(presetsFile, presets);
+    }
+
+    /**
+     * Tries the candidates of the current generation against the best weights.
+     */
+    private void playGeneration() {
+        final RandomSource random = new SplittableRandomSource(this.seed ^ (this.generation + 1) * GENERATION_MIX);
+        final long gamesSeed = random.nextLong();
+        // The best weights play again, on the same games as the candidates
+        double generationBestRate = this.evaluate(this.best, gamesSeed);
+        CpuDifficultyVariables generationBest = this.best;
+        for (int i = 0; i < this.candidates; i++) {
+            final CpuDifficultyVariables candidate = this.mutate(random);
+            final double rate = this.evaluate(candidate, gamesSeed);
+            if (rate > generationBestRate) {
+                generationBestRate = rate;
+                generationBest = candidate;
+            }
+        }
+        if (generationBest == this.best) {
+            this.step = Math.max(MIN_STEP, this.step * FAILURE_FACTOR);
+        } else {
+            this.step = Math.min(INITIAL_STEP, this.step * SUCCESS_FACTOR);
+        }
+        this.best = generationBest;
+        this.bestWinRate = generationBestRate;
+    }
+
+    /**
+     * Moves every weight of the best ones by a random step, keeping them
+     * between zero and one and the minimum borderline below the maximum.
+     * 
+     * @param random the random source of the generation.
+     * @return the new candidate.
+     */
+    private CpuDifficultyVariables mutate(final RandomSource random) {
+        final double[] values = toArray(this.best);
+        for (int i = 0; i < values.length; i++) {
+            values[i] = Math.max(0.0, Math.min(1.0, values[i] + random.nextGaussian() * this.step));
+        }
+        final int min = values.length - 2;
+        final int max = values.length - 1;
+        if (values[min] > values[max]) {
+            final double swap = values[min];
+            values[min] = values[max];
+            values[max] = swap;
+        }
+        return fromArray(values);
+    }
+
+    private GameSettings baselineSettings(final RandomSource source) {
+        return new GameSettingsImpl(List.of(), this.players,
+                CompactDeck.of(new DeckFactoryImpl(source.split()).standardDeck(), source.split()),
+                new EndConditionFactoryImpl().standard(),
+                new GemModifierFactoryImpl().standard(),
+                this.baseline,
+                ROUNDS,
+                source);
+    }
+
+    private void readCheckpoint() throws IOException {
+        final Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(this.checkpoint, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        }
+        try {
+            if (Long.parseLong(required(properties, SEED_KEY)) != this.seed
+                    || !this.baseline.name().equals(required(properties, BASELINE_KEY))) {
+                throw new IOException("The checkpoint belongs to another search.");
+            }
+            this.generation = Integer.parseInt(required(properties, GENERATION_KEY));
+            this.step = Double.parseDouble(required(properties, STEP_KEY));
+            this.bestWinRate = Double.parseDouble(required(properties, WIN_RATE_KEY));
+            final double[] values = new double[COMPONENTS.length];
+            for (int i = 0; i < COMPONENTS.length; i++) {
+                values[i] = Double.parseDouble(required(properties, COMPONENTS[i]));
+            }
+            this.best = fromArray(values);
+        } catch (final NumberFormatException e) {
+            throw new IOException("The checkpoint is corrupted.", e);
+        }
+    }
+
+    private static String required(final Properties properties, final String key) throws IOException {
+        final String value = properties.getProperty(key);
+        if (value == null) {
+            throw new IOException("The checkpoint has no " + key + ".");
+        }
+        return value;
+    }
+
+    private void writeCheckpoint() throws IOException {
+        final Properties properties = new Properties();
+        properties.setProperty(SEED_KEY, Long.toString(this.seed));
+        properties.setProperty(BASELINE_KEY, this.baseline.name());
+        properties.setProperty(GENERATION_KEY, Integer.toString(this.generation));
+        properties.setProperty(STEP_KEY, Double.toString(this.step));
+        properties.setProperty(WIN_RATE_KEY, Double.toString(this.bestWinRate));
+        putVariables(properties, "", this.best);
+        // A search stopped while writing keeps its previous checkpoint
+        final Path parent = this.checkpoint.toAbsolutePath().getParent();
+        final Path temp = Files.createTempFile(parent, "tuner", ".tmp");
+        try (Writer writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+            properties.store(writer, "Weight tuner checkpoint");
+        }
+        Files.move(temp, this.checkpoint, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static void putVariables(final Properties properties, final String prefix,
+            final CpuDifficultyVariables variables) {
+        final double[] values = toArray(variables);
+        for (int i = 0; i < COMPONENTS.length; i++) {
+            properties.setProperty(prefix + COMPONENTS[i], Double.toString(values[i]));
+        }
+    }
+
+    private static double[] toArray(final CpuDifficultyVariables variables) {
+        return new double[] {
+            variables.weightGems(), variables.weightTraps(), variables.weightCards(), variables.weightRelics(),
+            variables.weightPlayers(), variables.weightRisk(), variables.minBl(), variables.maxBl(),
+        };
+    }
+
+    private static CpuDifficultyVariables fromArray(final double[] values) {
+        int i = 0;
+        return new CpuDifficultyVariables(values[i++], values[i++], values[i++], values[i++],
+                values[i++], values[i++], values[i++], values[i]);
+    }
+}
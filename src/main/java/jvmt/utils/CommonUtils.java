@@ -3,14 +3,14 @@ package jvmt.utils;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
-import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
 import java.awt.Graphics2D;
 import java.awt.Image;
 import java.awt.image.BufferedImage;
 
 import jvmt.model.player.api.Player;
 import jvmt.model.player.impl.PlayerInRound;
-import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
 /**
  * Utility class containing common helper methods for
@@ -38,13 +38,27 @@ public final class CommonUtils {
      * 
      * @throws IllegalArgumentException if {@code min} is greater than {@code max}.
      */
-    @SuppressFBWarnings(value = "DMI_RANDOM_USED_ONLY_ONCE", justification = "static method")
     public static int randomIntBetweenValues(final int min, final int max) {
+        return randomIntBetweenValues(min, max, ThreadLocalRandom.current());
+    }
+
+    /**
+     * Generates a random integer between the specified {@code min} and {@code max}
+     * values (inclusive), using the given source of randomness.
+     * 
+     * @param min    the lower bound (inclusive).
+     * @param max    the upper bound (inclusive).
+     * @param random the source of randomness.
+     * @return a random integer between {@code min} and {@code max}.
+     * 
+     * @throws IllegalArgumentException if {@code min} is greater than {@code max}.
+     * @throws NullPointerException     if {@code random} is null.
+     */
+    public static int randomIntBetweenValues(final int min, final int max, final RandomGenerator random) {
         if (min > max) {
             throw new IllegalArgumentException("min must be less or equal to max.");
         }
-        final Random r = new Random();
-        return r.nextInt(max - min + 1) + min;
+        return random.nextInt(max - min + 1) + min;
     }
 
     /**
@@ -57,13 +71,28 @@ public final class CommonUtils {
      *         (exclusive)
      * @throws IllegalArgumentException if {@code min} is greater than {@code max}.
      */
-    @SuppressFBWarnings(value = "DMI_RANDOM_USED_ONLY_ONCE", justification = "static method")
     public static double randomDoubleBetweenValues(final double min, final double max) {
+        return randomDoubleBetweenValues(min, max, ThreadLocalRandom.current());
+    }
+
+    /**
+     * Generates a random double between the specified {@code min} (inclusive) and
+     * {@code max} (exclusive), using the given source of randomness.
+     *
+     * @param min    the lower bound (inclusive).
+     * @param max    the upper bound (exclusive).
+     * @param random the source of randomness.
+     * @return a random double between {@code min} (inclusive) and {@code max}.
+     *         (exclusive)
+     * @throws IllegalArgumentException if {@code min} is greater than {@code max}.
+     * @throws NullPointerException     if {@code random} is null.
+     */
+    public static double randomDoubleBetweenValues(final double min, final double max,
+            final RandomGenerator random) {
         if (min > max) {
             throw new IllegalArgumentException("min must be less or equal to max.");
         }
-        final Random r = new Random();
-        return min + (max - min) * r.nextDouble();
+        return min + (max - min) * random.nextDouble();
     }
 
     /**
@@ -99,11 +128,25 @@ public final class CommonUtils {
      * @throws IllegalArgumentException if {@code chances} is less or equal to 0.
      */
     public static boolean chanceOneIn(final int chances) {
-        final Random r = new Random();
+        return chanceOneIn(chances, ThreadLocalRandom.current());
+    }
+
+    /**
+     * Returns {@code true} with a probability of 1 out of {@code chances}, using
+     * the given source of randomness.
+     * 
+     * @param chances the denominator to compute the probability for this function
+     *                to return true ({@code 1/chances}}).
+     * @param random  the source of randomness.
+     * @return true with probability {@code 1/chances}, false otherwise.
+     * @throws IllegalArgumentException if {@code chances} is less or equal to 0.
+     * @throws NullPointerException     if {@code random} is null.
+     */
+    public static boolean chanceOneIn(final int chances, final RandomGenerator random) {
         if (chances <= 0) {
             throw new IllegalArgumentException("The changes must be > 0");
         }
-        return r.nextInt(chances) == 0;
+        return random.nextInt(chances) == 0;
     }
 
     /**
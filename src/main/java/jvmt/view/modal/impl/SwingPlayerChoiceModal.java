@@ -5,12 +5,10 @@ import java.awt.Color;
 import java.awt.Cursor;
 import java.awt.GridLayout;
 import java.awt.Image;
-import java.io.IOException;
 import java.net.URL;
 import java.util.MissingResourceException;
 import java.util.Optional;
 
-import javax.imageio.ImageIO;
 import javax.swing.BorderFactory;
 import javax.swing.JButton;
 import javax.swing.JDialog;
@@ -22,6 +20,7 @@ import jvmt.model.player.api.PlayerChoice;
 import jvmt.utils.CommonUtils;
 import jvmt.view.modal.api.Modal;
 import jvmt.view.window.impl.SwingWindow;
+import jvmt.view.page.utility.CardImageCache;
 import jvmt.view.page.utility.ImageButton;
 
 /**
@@ -138,12 +137,7 @@ public class SwingPlayerChoiceModal extends JDialog implements Modal<PlayerChoic
         final JPanel panel = new JPanel(new BorderLayout());
         panel.setBorder(BorderFactory.createLineBorder(Color.BLACK, 2));
 
-        Optional<Image> image;
-        try {
-            image = Optional.of(ImageIO.read(url));
-        } catch (final IOException e) {
-            image = Optional.empty();
-        }
+        final Optional<Image> image = CardImageCache.getImage(url).map(Image.class::cast);
 
         final JButton button = this.createChoiceButton(
                 image,
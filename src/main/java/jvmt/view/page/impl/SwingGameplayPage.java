@@ -2,21 +2,16 @@ package jvmt.view.page.impl;
 
 import java.awt.BorderLayout;
 import java.awt.Color;
-import java.awt.Component;
 import static java.awt.Component.LEFT_ALIGNMENT;
-import java.awt.Dimension;
-import java.awt.GridBagConstraints;
-import java.awt.GridBagLayout;
-import java.awt.Image;
 import java.awt.event.ActionListener;
-import java.awt.event.ComponentAdapter;
-import java.awt.event.ComponentEvent;
+import java.net.URL;
+import java.time.Duration;
 import java.util.List;
 import java.util.Objects;
-import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 import javax.swing.BorderFactory;
-import javax.swing.Box;
 import javax.swing.BoxLayout;
 import javax.swing.DefaultListModel;
 import javax.swing.JButton;
@@ -25,6 +20,7 @@ import javax.swing.JList;
 import javax.swing.JOptionPane;
 import javax.swing.JPanel;
 import javax.swing.JScrollPane;
+import javax.swing.JToggleButton;
 import javax.swing.SwingUtilities;
 import javax.swing.Timer;
 import javax.swing.border.Border;
@@ -32,9 +28,12 @@ import javax.swing.border.Border;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import jvmt.controller.api.GameplayController;
 import jvmt.controller.impl.GameplayControllerImpl;
+import jvmt.model.round.api.RiskEstimate;
 import jvmt.view.page.api.SwingPage;
+import jvmt.view.page.utility.AssetPreloader;
+import jvmt.view.page.utility.CardImageCache;
+import jvmt.view.page.utility.CardPathBoard;
 import jvmt.view.page.utility.HtmlUtils;
-import jvmt.view.page.utility.ImageLabel;
 import jvmt.view.window.impl.SwingWindow;
 
 /**
@@ -54,16 +53,22 @@ public class SwingGameplayPage extends SwingPage {
     private static final String PATH_CARDS_TEXT = "Cards drawn: ";
     private static final String PATH_GEMS_TEXT = "Gems on path: ";
     private static final String RELICS_TEXT = "Reedemable relics: ";
+    private static final String RISK_TEXT = "Risk of next card: ";
+    private static final String EXPECTED_TREASURE_TEXT = "Expected treasure: ";
+    private static final int PERCENT = 100;
     private static final String PLAYER_NAME_TEXT = "Current player: ";
     private static final String SACK_TEXT = "Sack gems: ";
     private static final String CHEST_TEXT = "Chest gems: ";
 
     private static final int WAIT_TIME_MILLIS = 1000;
+    private static final Duration PRELOAD_TIMEOUT = Duration.ofSeconds(2);
+    private static final int TURBO_FRAMES_PER_SECOND = 30;
+    private static final int TURBO_FRAME_MILLIS = 1000 / TURBO_FRAMES_PER_SECOND;
 
     private static final int CARDS_PER_ROW = 5;
     private static final int SCROLL_PIXELS = 30;
-    private static final int MAX_CARDS = 35;
     private static final int MAX_LINE_LENGTH = 14;
+    private static final int MAX_SCALED_CARD_IMAGES = 64;
     private static final Border BOX_BORDER = BorderFactory.createLineBorder(Color.DARK_GRAY, 2);
 
     /**
@@ -86,6 +91,10 @@ public class SwingGameplayPage extends SwingPage {
      * JLablel containing the number of gems in the path.
      */
     private final JLabel pathGems = new JLabel();
+    /**
+     * JLablel containing the risk of the next card.
+     */
+    private final JLabel nextCardRisk = new JLabel();
     /**
      * JLablel containing the current player's name.
      */
@@ -110,14 +119,40 @@ public class SwingGameplayPage extends SwingPage {
      * JButton for drawing a card.
      */
     private final JButton drawBtn = new JButton("DRAW");
+    /**
+     * JToggleButton for playing a game of only CPUs as fast as possible.
+     */
+    private final JToggleButton turboBtn = new JToggleButton("TURBO");
+    /**
+     * Timer of the next draw of a CPU, if any.
+     */
+    private Timer cpuTimer;
+    /**
+     * Timer that shows the turns played in turbo mode, running while the CPUs
+     * play in turbo mode.
+     */
+    private Timer turboFrames;
+    /**
+     * Turns played in turbo mode and not shown yet.
+     */
+    private final Queue<TurboStep> turboSteps = new ConcurrentLinkedQueue<>();
+    /**
+     * Whether the CPUs must keep playing in turbo mode.
+     */
+    private volatile boolean turboRequested;
+    /**
+     * Whether the CPUs stopped playing in turbo mode.
+     */
+    private volatile boolean turboStopped;
     /**
      * JPanel that contains the path info.
      */
     private final JPanel pathInfo = new JPanel();
     /**
-     * JPanel that contains the cards images.
+     * Board that paints the images of the cards on the path.
      */
-    private JPanel cardsContainer = new JPanel();
+    private final CardPathBoard cardsBoard = new CardPathBoard(CARDS_PER_ROW,
+            new CardImageCache(MAX_SCALED_CARD_IMAGES));
     /**
      * List of PlayerInRound that contain the active players.
      */
@@ -131,22 +166,31 @@ public class SwingGameplayPage extends SwingPage {
      */
     private final SwingWindow toBlockWindow;
     /**
-     * The GridBagContraints that contains the grid's informations.
+     * Preloader of the card images, waited for before the first card is drawn.
+     */
+    private final AssetPreloader preloader;
+    /**
+     * Number of games whose handlers were set, so that a game only starts
+     * after its own wait for the preloader.
      */
-    private GridBagConstraints gbc;
+    private int gamesStarted;
 
     /**
      * Main panel of the gameplay page.
      * 
      * @param toBlockWindow the main application window.
+     * @param preloader     the preloader of the card images.
      * 
-     * @throws NullPointerException if @param toBlockWindow is null.
+     * @throws NullPointerException if @param toBlockWindow or @param preloader
+     *                              is null.
      */
     @SuppressFBWarnings(value = { "EI_EXPOSE_REP",
             "EI_EXPOSE_REP2" }, justification = "The mutable window is part of the view design")
-    public SwingGameplayPage(final SwingWindow toBlockWindow) {
+    public SwingGameplayPage(final SwingWindow toBlockWindow, final AssetPreloader preloader) {
         Objects.requireNonNull(toBlockWindow);
+        Objects.requireNonNull(preloader);
         this.toBlockWindow = toBlockWindow;
+        this.preloader = preloader;
         super.getPanel().setLayout(new BorderLayout());
 
         final JPanel pathCards = new JPanel();
@@ -162,6 +206,7 @@ public class SwingGameplayPage extends SwingPage {
 
         this.pathInfo.add(this.pathGems);
         this.pathInfo.add(this.redeemableRelics);
+        this.pathInfo.add(this.nextCardRisk);
     }
 
     /**
@@ -205,6 +250,8 @@ public class SwingGameplayPage extends SwingPage {
         this.chestGems.setAlignmentX(LEFT_ALIGNMENT);
         playerInfo.add(this.chestGems);
         playerInfo.add(this.drawBtn);
+        this.turboBtn.setToolTipText("Plays a game of only CPUs as fast as possible.");
+        playerInfo.add(this.turboBtn);
 
         // Game conditions panel.
         final JPanel gameConditions = new JPanel();
@@ -231,18 +278,7 @@ public class SwingGameplayPage extends SwingPage {
         final JPanel gameBoard = new JPanel();
         gameBoard.setLayout(new BoxLayout(gameBoard, BoxLayout.Y_AXIS));
 
-        // Cards container.
-        this.cardsContainer = new JPanel();
-        this.cardsContainer.setLayout(new GridBagLayout());
-        this.gbc = new GridBagConstraints();
-
-        gbc.gridx = CARDS_PER_ROW;
-        gbc.gridy = MAX_CARDS / CARDS_PER_ROW;
-        gbc.weightx = 1.0;
-        gbc.weighty = 1.0;
-        this.cardsContainer.add(Box.createGlue(), gbc);
-
-        final JScrollPane scrollableBoard = new JScrollPane(this.cardsContainer);
+        final JScrollPane scrollableBoard = new JScrollPane(this.cardsBoard);
         scrollableBoard.setHorizontalScrollBarPolicy(JScrollPane.HORIZONTAL_SCROLLBAR_NEVER);
         scrollableBoard.getVerticalScrollBar().setUnitIncrement(SCROLL_PIXELS);
         gameBoard.add(scrollableBoard);
@@ -291,19 +327,11 @@ public class SwingGameplayPage extends SwingPage {
      * Method for removing the cards from the game board.
      */
     public void cleanGameboard() {
-        final Component[] components = this.cardsContainer.getComponents();
-        for (final Component comp : components) {
-            // Removes each JLabel inside cards container.
-            if (comp instanceof JLabel) {
-                this.cardsContainer.remove(comp);
-            }
-        }
-        this.cardsContainer.revalidate();
-        this.cardsContainer.repaint();
+        this.cardsBoard.clear();
     }
 
     /**
-     * Method that adds the image of the drawn card in the cards container.
+     * Method that adds the image of the drawn card in the cards board.
      * 
      * @param gameplayCtrl the gameplay controller.
      * 
@@ -311,28 +339,7 @@ public class SwingGameplayPage extends SwingPage {
      */
     private void addCardToPath(final GameplayControllerImpl gameplayCtrl) {
         Objects.requireNonNull(gameplayCtrl);
-        final int cardSize = (this.cardsContainer.getWidth() - 1) / CARDS_PER_ROW;
-        final JLabel labelLogo;
-        final Optional<Image> img = gameplayCtrl.getDrawnCardImage();
-
-        if (img.isPresent()) {
-            final Image scaledImage = img.get().getScaledInstance(cardSize, cardSize, Image.SCALE_SMOOTH);
-            labelLogo = new ImageLabel(scaledImage);
-            labelLogo.setPreferredSize(new Dimension(cardSize, cardSize));
-        } else {
-            labelLogo = new JLabel("Image not found.");
-        }
-
-        labelLogo.setSize(new Dimension(cardSize, cardSize));
-
-        // X position in the grid of the card.
-        this.gbc.gridx = (gameplayCtrl.getDrawnCardsNumber() - 1) % CARDS_PER_ROW;
-        // Y position in the grid of the card.
-        this.gbc.gridy = (gameplayCtrl.getDrawnCardsNumber() - 1) / CARDS_PER_ROW;
-        this.gbc.weightx = 0;
-        this.gbc.weighty = 0;
-
-        this.cardsContainer.add(labelLogo, this.gbc);
+        this.cardsBoard.addCard(gameplayCtrl.getDrawnCardImagePath());
     }
 
     /**
@@ -379,6 +386,10 @@ public class SwingGameplayPage extends SwingPage {
         this.turnNumber.setText(TURN_TEXT + gameplayCtrl.getCurrentTurnNumber());
         this.redeemableRelics.setText(RELICS_TEXT + gameplayCtrl.getRedeemableRelicsNumber());
         this.pathGems.setText(PATH_GEMS_TEXT + gameplayCtrl.getPathGems());
+        final RiskEstimate risk = gameplayCtrl.getNextCardRisk();
+        this.nextCardRisk.setText(String.format("%s%d%%, %s%.1f",
+                RISK_TEXT, Math.round(risk.bustProbability() * PERCENT),
+                EXPECTED_TREASURE_TEXT, risk.expectedTreasureValue()));
         this.pathCardsNumber.setText(PATH_CARDS_TEXT + gameplayCtrl.getDrawnCardsNumber());
         addActivePlayers(gameplayCtrl.getActivePlayersNames());
         addExitedPlayers(gameplayCtrl.getExitedPlayersNames());
@@ -395,26 +406,111 @@ public class SwingGameplayPage extends SwingPage {
      */
     private void cpuAutoplay(final GameplayControllerImpl gameplayCtrl) {
         Objects.requireNonNull(gameplayCtrl);
-        if (gameplayCtrl.isCurrentPlayerACpu()) {
+        if (this.turboBtn.isSelected()) {
+            this.startTurbo(gameplayCtrl);
+        } else if (gameplayCtrl.isCurrentPlayerACpu()) {
             final ActionListener al = this.drawBtn.getActionListeners()[0];
             // Timer for delaying the CPU's draw.
             this.drawBtn.setEnabled(false);
-            final Timer timer = new Timer(WAIT_TIME_MILLIS, ev -> {
+            this.cpuTimer = new Timer(WAIT_TIME_MILLIS, ev -> {
                 al.actionPerformed(ev);
             });
-            timer.setRepeats(false);
-            timer.start();
+            this.cpuTimer.setRepeats(false);
+            this.cpuTimer.start();
         } else {
             this.drawBtn.setEnabled(true);
         }
     }
 
+    /**
+     * Method for making the CPUs play the rest of the game in turbo mode.
+     * The turns are played one after the other on a worker thread, while the
+     * page shows them at most {@value #TURBO_FRAMES_PER_SECOND} times per
+     * second: the game can't be read by the page while a turn is played, so
+     * both hold the lock of the controller.
+     * 
+     * @param gameplayCtrl the gameplay controller.
+     * 
+     * @throws NullPointerException if @param gameplayCtrl is null.
+     */
+    private void startTurbo(final GameplayControllerImpl gameplayCtrl) {
+        Objects.requireNonNull(gameplayCtrl);
+        if (this.turboFrames != null) {
+            return;
+        }
+        if (this.cpuTimer != null) {
+            this.cpuTimer.stop();
+        }
+        this.drawBtn.setEnabled(false);
+        this.turboRequested = true;
+        this.turboStopped = false;
+        final Thread worker = new Thread(() -> {
+            try {
+                boolean gameOver = false;
+                while (this.turboRequested && !gameOver) {
+                    synchronized (gameplayCtrl) {
+                        final int round = gameplayCtrl.getCurrentRoundNumber();
+                        final URL card = gameplayCtrl.playCpuTurn();
+                        gameOver = !gameplayCtrl.canGameContinue();
+                        this.turboSteps.add(new TurboStep(card,
+                                gameOver || gameplayCtrl.getCurrentRoundNumber() != round));
+                    }
+                }
+            } finally {
+                this.turboStopped = true;
+            }
+        }, "turbo-cpus");
+        worker.setDaemon(true);
+        worker.start();
+        this.turboFrames = new Timer(TURBO_FRAME_MILLIS, ev -> this.showTurboSteps(gameplayCtrl));
+        this.turboFrames.start();
+    }
+
+    /**
+     * Method that shows the turns played in turbo mode since the last frame,
+     * refreshing the page once for all of them. When the CPUs stop playing,
+     * it either ends the game or goes back to the normal pace.
+     * 
+     * @param gameplayCtrl the gameplay controller.
+     */
+    private void showTurboSteps(final GameplayControllerImpl gameplayCtrl) {
+        // Read before the queue, so that no turn played before stopping is missed.
+        final boolean stopped = this.turboStopped;
+        for (TurboStep step = this.turboSteps.poll(); step != null; step = this.turboSteps.poll()) {
+            this.cardsBoard.addCard(step.card());
+            if (step.roundOver()) {
+                this.cleanGameboard();
+            }
+        }
+        final boolean gameOver;
+        synchronized (gameplayCtrl) {
+            this.refresh();
+            gameOver = !gameplayCtrl.canGameContinue();
+        }
+        if (stopped) {
+            this.turboFrames.stop();
+            this.turboFrames = null;
+            this.turboBtn.setEnabled(true);
+            if (gameOver) {
+                JOptionPane.showMessageDialog(
+                        this.getPanel(),
+                        "The game is over!",
+                        "Game end info",
+                        JOptionPane.INFORMATION_MESSAGE);
+                gameplayCtrl.goToLeaderboard();
+            } else {
+                this.cpuAutoplay(gameplayCtrl);
+            }
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     protected void setHandlers() {
         final GameplayControllerImpl ctrl = this.getController(GameplayControllerImpl.class);
+        final int game = ++this.gamesStarted;
         this.endConditionDescription
                 .setText(HtmlUtils.wrapTextHTML("END CONDITION: " + ctrl.getEndConditionDescription() + ".",
                         MAX_LINE_LENGTH));
@@ -426,7 +522,22 @@ public class SwingGameplayPage extends SwingPage {
         for (final ActionListener al : this.drawBtn.getActionListeners()) {
             this.drawBtn.removeActionListener(al);
         }
-        this.drawBtn.setEnabled(true);
+        // Nothing is drawn until the images are preloaded.
+        this.drawBtn.setEnabled(false);
+        for (final ActionListener al : this.turboBtn.getActionListeners()) {
+            this.turboBtn.removeActionListener(al);
+        }
+        this.turboBtn.setSelected(false);
+        this.turboBtn.setEnabled(false);
+        this.turboBtn.addActionListener(e -> {
+            if (this.turboBtn.isSelected()) {
+                this.startTurbo(ctrl);
+            } else if (this.turboFrames != null) {
+                // The CPUs finish the current turn, then the game goes on at the normal pace.
+                this.turboRequested = false;
+                this.turboBtn.setEnabled(false);
+            }
+        });
         this.drawBtn.addActionListener(e -> {
             // Execution of the draw phase.
             ctrl.executeDrawPhase();
@@ -467,31 +578,22 @@ public class SwingGameplayPage extends SwingPage {
             this.cpuAutoplay(ctrl);
         });
 
-        // CPU autoclick in case a CPU is the first player in a game.
-        this.cpuAutoplay(ctrl);
-
-        // Resize handler for the cards container
-        this.cardsContainer.addComponentListener(new ComponentAdapter() {
-            @Override
-            public void componentResized(final ComponentEvent e) {
-                SwingUtilities.invokeLater(SwingGameplayPage.this::resizeCards);
+        // The images left to decode are decoded when drawn if the time runs out.
+        this.preloader.whenPreloaded(PRELOAD_TIMEOUT).thenRun(() -> SwingUtilities.invokeLater(() -> {
+            if (game == this.gamesStarted) {
+                this.turboBtn.setEnabled(ctrl.areAllPlayersCpus());
+                // CPU autoclick in case a CPU is the first player in a game.
+                this.cpuAutoplay(ctrl);
             }
-        });
+        }));
     }
 
     /**
-     * Resizes the cards in the card container when the container gets resized.
+     * A turn played in turbo mode.
+     * 
+     * @param card      the image resource of the card drawn in the turn.
+     * @param roundOver whether the round ended with the turn.
      */
-    private void resizeCards() {
-        final int cardSize = (this.cardsContainer.getWidth() - 1) / CARDS_PER_ROW;
-        for (final Component comp : this.cardsContainer.getComponents()) {
-            if (comp instanceof JLabel) {
-                comp.setPreferredSize(new Dimension(cardSize, cardSize));
-                comp.setSize(new Dimension(cardSize, cardSize));
-            }
-        }
-
-        this.cardsContainer.revalidate();
-        this.cardsContainer.repaint();
+    private record TurboStep(URL card, boolean roundOver) {
     }
 }
@@ -0,0 +1,170 @@
+package jvmt.view.page.utility;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Stream;
+
+/**
+ * Decodes all the images under a resource folder in the background, so that
+ * the pages find them already decoded in the {@link CardImageCache}.
+ * <p>
+ * Every image is decoded on its own virtual thread, as soon as the preloader
+ * is started. A page that is about to show the images can wait for the
+ * preloader with a timeout, or be told when the images are ready without
+ * blocking the thread that asks: if the images aren't ready in time, the page
+ * simply decodes the missing ones when it needs them.
+ * </p>
+ * 
+ * @see CardImageCache#getImage(URL)
+ * 
+ * @author Emir Wanes Aouioua
+ */
+public final class AssetPreloader {
+
+    /**
+     * The resource folder holding all the images of the application.
+     */
+    public static final String IMAGES_ROOT = "/imageCard";
+
+    private static final String JAR_SCHEME = "jar";
+    private static final String SEPARATOR = "/";
+
+    private final CompletableFuture<Integer> preloaded;
+
+    private AssetPreloader(final CompletableFuture<Integer> preloaded) {
+        this.preloaded = preloaded;
+    }
+
+    /**
+     * Starts decoding all the images under the given resource folder and
+     * returns immediately.
+     * 
+     * @param root the resource folder, such as {@link #IMAGES_ROOT}.
+     * @return the preloader decoding the images.
+     * 
+     * @throws NullPointerException if {@code root} is null.
+     */
+    public static AssetPreloader start(final String root) {
+        Objects.requireNonNull(root);
+        final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        final CompletableFuture<Integer> preloaded = CompletableFuture
+                .supplyAsync(() -> preload(root, executor), executor);
+        preloaded.whenComplete((count, error) -> executor.shutdown());
+        return new AssetPreloader(preloaded);
+    }
+
+    /**
+     * Waits for all the images to be decoded, up to the given time.
+     * 
+     * @param timeout the longest time to wait.
+     * @return true if all the images were preloaded, false if the time ran
+     *         out or the images couldn't be listed.
+     * 
+     * @throws NullPointerException if {@code timeout} is null.
+     */
+    public boolean await(final Duration timeout) {
+        Objects.requireNonNull(timeout);
+        try {
+            this.preloaded.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+            return true;
+        } catch (final TimeoutException | ExecutionException e) {
+            return false;
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Returns a future completed when all the images are decoded, or when the
+     * given time runs out, without blocking the calling thread.
+     * 
+     * @param timeout the longest time to wait.
+     * @return a future completed with true if all the images were preloaded,
+     *         with false if the time ran out or the images couldn't be listed.
+     * 
+     * @throws NullPointerException if {@code timeout} is null.
+     */
+    public CompletableFuture<Boolean> whenPreloaded(final Duration timeout) {
+        Objects.requireNonNull(timeout);
+        return this.preloaded.handle((count, error) -> error == null)
+                .completeOnTimeout(false, timeout.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Returns the number of images decoded, once the preloading is over.
+     * 
+     * @return the number of images decoded, empty if the preloading isn't
+     *         over or failed.
+     */
+    public Optional<Integer> getPreloadedCount() {
+        return this.preloaded.isDone() && !this.preloaded.isCompletedExceptionally()
+                ? Optional.of(this.preloaded.join())
+                : Optional.empty();
+    }
+
+    private static int preload(final String root, final ExecutorService executor) {
+        final List<CompletableFuture<Optional<BufferedImage>>> decodes = listImages(root).stream()
+                .map(url -> CompletableFuture.supplyAsync(() -> CardImageCache.getImage(url), executor))
+                .toList();
+        return (int) decodes.stream()
+                .map(CompletableFuture::join)
+                .filter(Optional::isPresent)
+                .count();
+    }
+
+    /*
+     * Lists the files under the folder both when running from the classes
+     * directory and from a jar. The URLs are resolved through the class loader,
+     * like the ones of the cards, so that they are the same keys in the cache.
+     */
+    private static List<URL> listImages(final String root) {
+        final URL folder = AssetPreloader.class.getResource(root);
+        if (folder == null) {
+            return List.of();
+        }
+        try {
+            final URI uri = folder.toURI();
+            if (JAR_SCHEME.equals(uri.getScheme())) {
+                try (FileSystem jar = FileSystems.newFileSystem(uri, Map.of())) {
+                    return listFiles(root, jar.getPath(root));
+                }
+            }
+            return listFiles(root, Path.of(uri));
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (final URISyntaxException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static List<URL> listFiles(final String root, final Path folder) throws IOException {
+        final String separator = folder.getFileSystem().getSeparator();
+        try (Stream<Path> files = Files.walk(folder)) {
+            return files.filter(Files::isRegularFile)
+                    .map(file -> root + SEPARATOR + folder.relativize(file).toString().replace(separator, SEPARATOR))
+                    .map(AssetPreloader.class::getResource)
+                    .filter(Objects::nonNull)
+                    .toList();
+        }
+    }
+}
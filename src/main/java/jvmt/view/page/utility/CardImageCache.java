@@ -0,0 +1,137 @@
+package jvmt.view.page.utility;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.net.URL;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.imageio.ImageIO;
+
+/**
+ * A cache of the images of the cards, so that showing a card doesn't decode
+ * and scale its image again.
+ * <p>
+ * The decoded images are shared by the whole application, since they never
+ * change, while each cache keeps the last scaled images it was asked for, up
+ * to a given number. The scaled images must be thrown away with
+ * {@link #invalidate()} when the size of the cards changes.
+ * </p>
+ * <p>
+ * The images returned are shared, so they must not be changed.
+ * </p>
+ * 
+ * @see CardPathBoard
+ * 
+ * @author Emir Wanes Aouioua
+ */
+public final class CardImageCache {
+
+    // Resources are keyed by their string form: URL#equals resolves host names
+    private static final Map<String, Optional<BufferedImage>> DECODED = new ConcurrentHashMap<>();
+
+    private final Map<ScaledKey, BufferedImage> scaled;
+
+    /**
+     * Creates a cache that keeps at most the given number of scaled images,
+     * forgetting the least recently used ones.
+     * 
+     * @param maxScaledImages the maximum number of scaled images kept.
+     * 
+     * @throws IllegalArgumentException if {@code maxScaledImages} is not
+     *                                  positive.
+     */
+    public CardImageCache(final int maxScaledImages) {
+        if (maxScaledImages <= 0) {
+            throw new IllegalArgumentException("The cache must be able to keep at least one image.");
+        }
+        this.scaled = new LinkedHashMap<>(maxScaledImages, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<ScaledKey, BufferedImage> eldest) {
+                return this.size() > maxScaledImages;
+            }
+        };
+    }
+
+    /**
+     * Returns the decoded image of a resource, which is read only the first
+     * time it's asked for, or by each of the threads that first ask for it at
+     * the same time.
+     * 
+     * @param resource the image resource.
+     * @return the decoded image, empty if the resource can't be read.
+     * 
+     * @throws NullPointerException if {@code resource} is null.
+     */
+    public static Optional<BufferedImage> getImage(final URL resource) {
+        Objects.requireNonNull(resource);
+        final String key = resource.toExternalForm();
+        final Optional<BufferedImage> decoded = DECODED.get(key);
+        if (decoded != null) {
+            return decoded;
+        }
+        // Decoded outside the map, which would block the other keys meanwhile:
+        // if two threads decode the same image, the first one stored is kept.
+        final Optional<BufferedImage> image = read(resource);
+        final Optional<BufferedImage> stored = DECODED.putIfAbsent(key, image);
+        return stored == null ? image : stored;
+    }
+
+    /**
+     * Returns the image of a resource scaled to a square of the given side.
+     * 
+     * @param resource the image resource.
+     * @param size     the side of the scaled image, in pixels.
+     * @return the scaled image, empty if the resource can't be read.
+     * 
+     * @throws NullPointerException     if {@code resource} is null.
+     * @throws IllegalArgumentException if {@code size} is not positive.
+     */
+    public Optional<BufferedImage> getScaledImage(final URL resource, final int size) {
+        Objects.requireNonNull(resource);
+        if (size <= 0) {
+            throw new IllegalArgumentException("The size of an image must be positive.");
+        }
+        final ScaledKey key = new ScaledKey(resource.toExternalForm(), size);
+        final BufferedImage cached = this.scaled.get(key);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        final Optional<BufferedImage> image = getImage(resource).map(decoded -> ScaledImage.scale(decoded, size, size, null));
+        image.ifPresent(scaledImage -> this.scaled.put(key, scaledImage));
+        return image;
+    }
+
+    /**
+     * Forgets all the scaled images, which is done when the size of the cards
+     * changes.
+     */
+    public void invalidate() {
+        this.scaled.clear();
+    }
+
+    /**
+     * Returns the number of scaled images kept by this cache.
+     * 
+     * @return the number of scaled images.
+     */
+    public int getScaledImagesCount() {
+        return this.scaled.size();
+    }
+
+    private static Optional<BufferedImage> read(final URL resource) {
+        try {
+            return Optional.ofNullable(ImageIO.read(resource));
+        } catch (final IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    private record ScaledKey(String resource, int size) {
+    }
+}
@@ -0,0 +1,256 @@
+package jvmt.view.page.utility;
+
+import java.awt.Dimension;
+import java.awt.Graphics;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import javax.swing.JComponent;
+import javax.swing.Scrollable;
+import javax.swing.SwingConstants;
+
+/**
+ * Represents the path of the cards drawn in a round, painted as a grid of
+ * square cards that fills the width of the board.
+ * <p>
+ * The board is a single component: the cell of each card is computed from its
+ * position in the path and only the cells inside the area being repainted are
+ * drawn, so adding a card or resizing the board costs the same however long
+ * the path is. The images are taken from a {@link CardImageCache} already
+ * scaled to the size of the cells.
+ * </p>
+ * <p>
+ * The board is meant to be shown in a {@link javax.swing.JScrollPane}: it
+ * follows the width of the viewport and grows downwards with the path.
+ * </p>
+ * 
+ * @see CardImageCache
+ * 
+ * @author Filippo Gaggi
+ */
+public class CardPathBoard extends JComponent implements Scrollable {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final int DEFAULT_CARD_SIZE = 100;
+    private static final int SCROLLS_PER_CARD = 3;
+    private static final String MISSING_IMAGE_TEXT = "Image not found.";
+
+    private final int cardsPerRow;
+    private final transient CardImageCache images;
+    private final transient List<URL> cards = new ArrayList<>();
+    private int cachedCardSize;
+
+    /**
+     * Creates an empty board.
+     * 
+     * @param cardsPerRow the number of cards in each row of the board.
+     * @param images      the cache of the scaled images of the cards.
+     * 
+     * @throws NullPointerException     if {@code images} is null.
+     * @throws IllegalArgumentException if {@code cardsPerRow} is not positive.
+     */
+    public CardPathBoard(final int cardsPerRow, final CardImageCache images) {
+        if (cardsPerRow <= 0) {
+            throw new IllegalArgumentException("A row must hold at least one card.");
+        }
+        this.cardsPerRow = cardsPerRow;
+        this.images = Objects.requireNonNull(images);
+    }
+
+    /**
+     * Adds a card at the end of the path.
+     * 
+     * @param image the image resource of the card.
+     * 
+     * @throws NullPointerException if {@code image} is null.
+     */
+    public void addCard(final URL image) {
+        this.cards.add(Objects.requireNonNull(image));
+        final int index = this.cards.size() - 1;
+        if (index % this.cardsPerRow == 0) {
+            // The card starts a new row, which makes the board taller.
+            this.revalidate();
+        }
+        this.repaint(this.getCardBounds(index));
+    }
+
+    /**
+     * Removes all the cards from the path.
+     */
+    public void clear() {
+        this.cards.clear();
+        this.revalidate();
+        this.repaint();
+    }
+
+    /**
+     * Returns the number of cards on the path.
+     * 
+     * @return the number of cards.
+     */
+    public int getCardsCount() {
+        return this.cards.size();
+    }
+
+    /**
+     * Returns the side of the cards, which split the width of the board.
+     * 
+     * @return the side of the cards, in pixels.
+     */
+    public int getCardSize() {
+        return Math.max(1, (this.getWidth() - 1) / this.cardsPerRow);
+    }
+
+    /**
+     * Returns the area of the board where a card is painted.
+     * 
+     * @param index the position of the card in the path.
+     * @return the bounds of the card on this board.
+     * 
+     * @throws IndexOutOfBoundsException if there is no card at {@code index}.
+     */
+    public Rectangle getCardBounds(final int index) {
+        Objects.checkIndex(index, this.cards.size());
+        final int size = this.getCardSize();
+        return new Rectangle(index % this.cardsPerRow * size, index / this.cardsPerRow * size, size, size);
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * <p>
+     * It paints the cards whose cells intersect the area being repainted.
+     * </p>
+     */
+    @Override
+    protected void paintComponent(final Graphics g) {
+        super.paintComponent(g);
+        final int size = this.getCardSize();
+        final Rectangle clip = Optional.ofNullable(g.getClipBounds())
+                .orElseGet(() -> new Rectangle(this.getSize()));
+        final int firstRow = Math.max(0, clip.y / size);
+        final int lastRow = (clip.y + clip.height - 1) / size;
+        final int firstColumn = Math.max(0, clip.x / size);
+        final int lastColumn = Math.min(this.cardsPerRow - 1, (clip.x + clip.width - 1) / size);
+        for (int row = firstRow; row <= lastRow; row++) {
+            for (int column = firstColumn; column <= lastColumn; column++) {
+                final int index = row * this.cardsPerRow + column;
+                if (index >= this.cards.size()) {
+                    return;
+                }
+                this.paintCard(g, this.cards.get(index), column * size, row * size, size);
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * <p>
+     * When the width changes the size of the cards, the scaled images of the
+     * old size are forgotten and the board is laid out again, since its rows
+     * changed height.
+     * </p>
+     */
+    @Override
+    public void setBounds(final int x, final int y, final int width, final int height) {
+        super.setBounds(x, y, width, height);
+        final int size = this.getCardSize();
+        if (size != this.cachedCardSize) {
+            this.images.invalidate();
+            this.cachedCardSize = size;
+            this.revalidate();
+        }
+    }
+
+    private void paintCard(final Graphics g, final URL card, final int x, final int y, final int size) {
+        final Optional<BufferedImage> image = this.images.getScaledImage(card, size);
+        if (image.isPresent()) {
+            g.drawImage(image.get(), x, y, null);
+        } else {
+            g.setColor(this.getForeground());
+            g.drawString(MISSING_IMAGE_TEXT, x, y + g.getFontMetrics().getAscent());
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * <p>
+     * The preferred height is the one of the rows of the path at the current
+     * width.
+     * </p>
+     */
+    @Override
+    public Dimension getPreferredSize() {
+        if (this.isPreferredSizeSet()) {
+            return super.getPreferredSize();
+        }
+        final int width = this.getWidth() > 0 ? this.getWidth() : this.cardsPerRow * DEFAULT_CARD_SIZE + 1;
+        final int size = Math.max(1, (width - 1) / this.cardsPerRow);
+        final int rows = (this.cards.size() + this.cardsPerRow - 1) / this.cardsPerRow;
+        return new Dimension(width, rows * size);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Dimension getPreferredScrollableViewportSize() {
+        return this.getPreferredSize();
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * <p>
+     * It scrolls by a third of a card.
+     * </p>
+     */
+    @Override
+    public int getScrollableUnitIncrement(final Rectangle visibleRect, final int orientation, final int direction) {
+        return Math.max(1, this.getCardSize() / SCROLLS_PER_CARD);
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * <p>
+     * It scrolls by a whole visible area.
+     * </p>
+     */
+    @Override
+    public int getScrollableBlockIncrement(final Rectangle visibleRect, final int orientation, final int direction) {
+        return orientation == SwingConstants.VERTICAL ? visibleRect.height : visibleRect.width;
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * <p>
+     * The board always has the width of the viewport.
+     * </p>
+     */
+    @Override
+    public boolean getScrollableTracksViewportWidth() {
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * <p>
+     * The board fills the viewport while the path is shorter than it.
+     * </p>
+     */
+    @Override
+    public boolean getScrollableTracksViewportHeight() {
+        return this.getParent() != null && this.getPreferredSize().height < this.getParent().getHeight();
+    }
+}
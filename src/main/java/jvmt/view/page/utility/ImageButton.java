@@ -5,9 +5,7 @@ import javax.swing.JButton;
 import jvmt.utils.CommonUtils;
 
 import java.awt.Graphics;
-import java.awt.Graphics2D;
 import java.awt.Image;
-import java.awt.RenderingHints;
 
 /**
  * Represents a {@link JButton} that contains an adaptable {@link Image}: the
@@ -23,7 +21,7 @@ public class ImageButton extends JButton {
 
     private static final long serialVersionUID = 1L;
 
-    private final transient Image image;
+    private final transient ScaledImage image;
 
     /**
      * Creates a new {@code ImageButton}.
@@ -31,35 +29,21 @@ public class ImageButton extends JButton {
      * @param image the image that must adapt to this button.
      */
     public ImageButton(final Image image) {
-        this.image = CommonUtils.makeImageCopyAsBufferedImage(image);
+        this.image = new ScaledImage(CommonUtils.makeImageCopyAsBufferedImage(image));
     }
 
     /**
      * {@inheritDoc}
      * 
      * <p>
-     * It adjusts the size of the image associated with this button to match that of
-     * the button itself and draws it on top of it.
+     * It draws the image associated with this button with the same size as the
+     * button itself. The image is scaled only when the size of the button or its
+     * screen change, so repainting it just copies the scaled pixels.
      * </p>
      */
     @Override
     protected void paintComponent(final Graphics g) {
         super.paintComponent(g);
-        /*
-         * Enables antialiasing and high quality rendering.
-         * This is done to limit the loss of image quality
-         * if this label is resized.
-         */
-        final Graphics2D g2d = (Graphics2D) g.create();
-        g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION,
-                RenderingHints.VALUE_INTERPOLATION_BICUBIC);
-        g2d.setRenderingHint(RenderingHints.KEY_RENDERING,
-                RenderingHints.VALUE_RENDER_QUALITY);
-        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING,
-                RenderingHints.VALUE_ANTIALIAS_ON);
-
-        g2d.drawImage(this.image, 0, 0, this.getWidth(), this.getHeight(), this);
-
-        g2d.dispose();
+        this.image.draw(g, this.getWidth(), this.getHeight(), this.getGraphicsConfiguration());
     }
 }
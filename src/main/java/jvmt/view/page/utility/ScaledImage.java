@@ -0,0 +1,121 @@
+package jvmt.view.page.utility;
+
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.Image;
+import java.awt.RenderingHints;
+import java.awt.Transparency;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.util.Objects;
+
+/**
+ * An image kept already scaled to the size it's drawn at, so that drawing it
+ * again at the same size is a plain copy of its pixels.
+ * <p>
+ * The scaled copy is compatible with the graphics configuration of the
+ * component it's drawn on, so that Java2D can keep it in video memory, and
+ * it's made again only when the size or the configuration change. On screens
+ * that scale the user interface, the copy has the size of the screen pixels.
+ * </p>
+ * 
+ * @see ImageLabel
+ * @see ImageButton
+ * 
+ * @author Emir Wanes Aouioua
+ */
+final class ScaledImage {
+
+    private final Image source;
+    private BufferedImage scaled;
+    private GraphicsConfiguration configuration;
+
+    /**
+     * Creates a scaled image of the given source.
+     * 
+     * @param source the image to scale, which must not change afterwards.
+     * 
+     * @throws NullPointerException if {@code source} is null.
+     */
+    ScaledImage(final Image source) {
+        this.source = Objects.requireNonNull(source);
+    }
+
+    /**
+     * Draws the image at the origin of the given graphics with the given size,
+     * scaling it again only if the size or the graphics configuration changed
+     * since the last time.
+     * 
+     * @param g             the graphics to draw on.
+     * @param width         the width of the drawn image.
+     * @param height        the height of the drawn image.
+     * @param configuration the graphics configuration of the component, null if
+     *                      it isn't shown on a screen.
+     * 
+     * @throws NullPointerException if {@code g} is null.
+     */
+    void draw(final Graphics g, final int width, final int height, final GraphicsConfiguration configuration) {
+        Objects.requireNonNull(g);
+        if (width <= 0 || height <= 0) {
+            return;
+        }
+        final AffineTransform screen = configuration == null
+                ? new AffineTransform()
+                : configuration.getDefaultTransform();
+        final int pixelWidth = (int) Math.ceil(width * screen.getScaleX());
+        final int pixelHeight = (int) Math.ceil(height * screen.getScaleY());
+        if (this.scaled == null || this.configuration != configuration
+                || this.scaled.getWidth() != pixelWidth || this.scaled.getHeight() != pixelHeight) {
+            this.scaled = scale(this.source, pixelWidth, pixelHeight, configuration);
+            this.configuration = configuration;
+        }
+        g.drawImage(this.scaled, 0, 0, width, height, null);
+    }
+
+    /**
+     * Returns a copy of an image scaled to the given size.
+     * <p>
+     * The image is halved until it's less than twice the size and then drawn
+     * at the size: a single bicubic step would skip most of the pixels of a
+     * large image.
+     * </p>
+     * 
+     * @param image         the image to scale.
+     * @param width         the width of the copy.
+     * @param height        the height of the copy.
+     * @param configuration the graphics configuration the copy must be
+     *                      compatible with, null for a plain image.
+     * @return the scaled copy.
+     * 
+     * @throws NullPointerException if {@code image} is null.
+     */
+    static BufferedImage scale(final Image image, final int width, final int height,
+            final GraphicsConfiguration configuration) {
+        Objects.requireNonNull(image);
+        Image current = image;
+        int currentWidth = image.getWidth(null);
+        int currentHeight = image.getHeight(null);
+        while (currentWidth / 2 >= width && currentHeight / 2 >= height) {
+            currentWidth /= 2;
+            currentHeight /= 2;
+            current = draw(current, currentWidth, currentHeight, null);
+        }
+        return draw(current, width, height, configuration);
+    }
+
+    private static BufferedImage draw(final Image image, final int width, final int height,
+            final GraphicsConfiguration configuration) {
+        final BufferedImage target = configuration == null
+                ? new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB)
+                : configuration.createCompatibleImage(width, height, Transparency.TRANSLUCENT);
+        final Graphics2D g2d = target.createGraphics();
+        g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION,
+                RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+        g2d.setRenderingHint(RenderingHints.KEY_RENDERING,
+                RenderingHints.VALUE_RENDER_QUALITY);
+        g2d.drawImage(image, 0, 0, width, height, null);
+        g2d.dispose();
+        return target;
+    }
+}
@@ -0,0 +1,107 @@
+package jvmt.card;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jvmt.model.card.api.Card;
+import jvmt.model.card.api.Deck;
+import jvmt.model.card.impl.CardCodes;
+import jvmt.model.card.impl.CompactDeck;
+import jvmt.model.card.impl.DeckFactoryImpl;
+
+/**
+ * Compact deck test class.
+ * 
+ * @author Andrea La Tosa
+ */
+class CompactDeckTest {
+
+    private static final long SEED = 42L;
+
+    private Deck standard;
+    private CompactDeck deck;
+
+    @BeforeEach
+    void setUp() {
+        this.standard = new DeckFactoryImpl().standardDeck();
+        this.deck = CompactDeck.of(this.standard);
+    }
+
+    // Verify that the compact deck has the same statistics as the original.
+    @Test
+    void sameStatistics() {
+        assertEquals(this.standard.getStatistics(), this.deck.getStatistics());
+        assertEquals(this.standard.numberOfRemainingCards(), this.deck.numberOfRemainingCards());
+    }
+
+    // Verify that the drawn cards are the cards of the original deck.
+    @Test
+    void drawsSameCards() {
+        final List<Card> expected = drain(this.standard.getShuffledCopy());
+        final List<Card> drawn = drain(this.deck);
+        assertEquals(expected.size(), drawn.size());
+        for (final Card card : expected) {
+            assertEquals(expected.stream().filter(card::equals).count(),
+                    drawn.stream().filter(card::equals).count());
+        }
+        assertFalse(this.deck.hasNext());
+        assertThrows(NoSuchElementException.class, this.deck::next);
+        assertThrows(NoSuchElementException.class, this.deck::nextCode);
+    }
+
+    // Verify that the codes and the remaining counts agree with the cards.
+    @Test
+    void codesMatchCards() {
+        final CompactDeck copy = (CompactDeck) this.deck.getShuffledCopy();
+        while (this.deck.hasNext()) {
+            final int code = this.deck.peekCode();
+            final int before = this.deck.remainingOfCode(code);
+            assertEquals(code, CardCodes.of(this.deck.next()));
+            assertEquals(before - 1, this.deck.remainingOfCode(code));
+            copy.nextCode();
+        }
+        assertFalse(copy.hasNext());
+    }
+
+    // Verify that shuffling and resetting keep the composition of the deck.
+    @Test
+    void shuffleAndReset() {
+        this.deck.nextCode();
+        this.deck.nextCode();
+        this.deck.shuffle(new SplittableRandom(SEED));
+        assertEquals(this.standard.deckSize() - 2, this.deck.numberOfRemainingCards());
+        this.deck.reset();
+        assertEquals(this.standard.deckSize(), this.deck.numberOfRemainingCards());
+        for (int code = 0; code < CardCodes.COUNT; code++) {
+            assertEquals(this.deck.initialOfCode(code), this.deck.remainingOfCode(code));
+        }
+        assertEquals(this.standard.getStatistics(), this.deck.getStatistics());
+    }
+
+    // Verify that the same card object is returned when a slot is drawn again.
+    @Test
+    void cardsAreReused() {
+        final Card peeked = this.deck.peekCard();
+        assertSame(peeked, this.deck.next());
+        this.deck.reset();
+        assertSame(peeked, this.deck.next());
+    }
+
+    private static List<Card> drain(final Deck deck) {
+        final List<Card> cards = new ArrayList<>();
+        while (deck.hasNext()) {
+            cards.add(deck.next());
+        }
+        return cards;
+    }
+}
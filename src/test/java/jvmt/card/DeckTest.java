@@ -5,13 +5,21 @@ import org.junit.jupiter.api.Test;
 
 import jvmt.model.card.api.Card;
 import jvmt.model.card.api.Deck;
+import jvmt.model.card.api.DeckStatistics;
+import jvmt.model.card.api.TypeCard;
 import jvmt.model.card.impl.DeckFactoryImpl;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Set;
 
 /**
  * Deck test class.
@@ -98,4 +106,44 @@ class DeckTest {
         assertThrows(NoSuchElementException.class, deck::next);
         assertThrows(NoSuchElementException.class, deck::peekCard);
     }
+
+    // Check that the statistics snapshot matches the deck
+    // and that it is shared by its shuffled copies.
+    @Test
+    void statisticsSnapshot() {
+        final DeckStatistics statistics = deck.getStatistics();
+        assertEquals(deck.deckSize(), statistics.deckSize());
+        assertEquals(deck.totTrapCardsInDeck(), statistics.trapCards());
+        assertEquals(deck.totTrapCardTypesInDeck(), statistics.trapCardTypes());
+        assertEquals(deck.totRelicCardsInDeck(), statistics.relicCards());
+        assertEquals(deck.totTreasureCardsInDeck(), statistics.treasureCards());
+        assertEquals(deck.totSpecialCardInDeck(), statistics.specialCards());
+        assertSame(statistics, deck.getShuffledCopy().getStatistics());
+
+        // Drawing a card doesn't change the statistics
+        deck.next();
+        assertSame(statistics, deck.getStatistics());
+    }
+
+    // Check that equal traps and treasures share the same instance,
+    // while every relic is a different card.
+    @Test
+    void sharedStatelessCards() {
+        final List<Card> cards = new ArrayList<>();
+        while (deck.hasNext()) {
+            cards.add(deck.next());
+        }
+        for (final Card first : cards) {
+            for (final Card second : cards) {
+                if (first.getType() != TypeCard.RELIC && first.equals(second)) {
+                    assertSame(first, second);
+                }
+            }
+        }
+        final Set<Card> relics = Collections.newSetFromMap(new IdentityHashMap<>());
+        cards.stream()
+                .filter(c -> c.getType() == TypeCard.RELIC)
+                .forEach(relics::add);
+        assertEquals(deck.totRelicCardsInDeck(), relics.size());
+    }
 }
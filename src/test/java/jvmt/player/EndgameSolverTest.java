@@ -0,0 +1,177 @@
+package jvmt.player;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import jvmt.model.card.api.Card;
+import jvmt.model.card.api.Deck;
+import jvmt.model.card.api.TypeTrapCard;
+import jvmt.model.card.impl.CardRegistry;
+import jvmt.model.card.impl.DeckFactoryImpl;
+import jvmt.model.card.impl.DeckImpl;
+import jvmt.model.player.api.EndgameSolver;
+import jvmt.model.player.api.Player;
+import jvmt.model.player.api.PlayerChoice;
+import jvmt.model.player.impl.EndgameSolverImpl;
+import jvmt.model.round.api.Round;
+import jvmt.model.round.api.RoundState;
+import jvmt.model.round.api.turn.Turn;
+import jvmt.model.round.impl.RoundImpl;
+import jvmt.model.round.impl.RoundStateImpl;
+import jvmt.model.round.impl.roundeffect.RoundEffectImpl;
+import jvmt.model.round.impl.roundeffect.endcondition.EndConditionFactoryImpl;
+import jvmt.model.round.impl.roundeffect.gemmodifier.GemModifierFactoryImpl;
+import jvmt.utils.CommonUtils;
+
+/**
+ * Last round solver test class.
+ * 
+ * @author Filippo Gaggi
+ */
+class EndgameSolverTest {
+
+    private static final double DELTA = 1e-9;
+    private static final int SACK_GEMS = 6;
+    private static final int TREASURE_VALUE = 17;
+    private static final int TRAILER_CHEST = 5;
+    private static final int LEADER_CHEST = 20;
+    private static final int EXITED_SACK = 20;
+    private static final int LEADER_EXITED_SACK = 24;
+    private static final double ONE_TREASURE = 0.25;
+    private static final double THREE_TREASURES = 0.75;
+    private static final int STANDARD_PLAYERS = 4;
+    private static final int CHEST_STEP = 7;
+
+    private final EndgameSolver solver = new EndgameSolverImpl();
+
+    /*
+     * Creates the last round of two players: the first one is active with the
+     * given chest, the second one already left the round with the given sack.
+     * A spider is on the path, the rest of the deck is made of the given
+     * cards.
+     */
+    private static RoundState round(final int chest, final int exitedSack, final List<Card> deck) {
+        final List<Player> players = CommonUtils.generatePlayerList(2);
+        players.get(0).addSackGems(chest);
+        players.get(0).addSackToChest();
+        final RoundState state = new RoundStateImpl(players, new DeckImpl(new ArrayList<>(deck)), true);
+        state.addCardToPath(CardRegistry.trap(TypeTrapCard.SPIDER));
+        players.get(0).addSackGems(SACK_GEMS);
+        players.get(1).addSackGems(exitedSack);
+        players.get(1).choose(PlayerChoice.EXIT);
+        return state;
+    }
+
+    private static Player active(final RoundState state) {
+        return state.getRoundPlayersManager().getActivePlayers().get(0);
+    }
+
+    /*
+     * The player can't win by exiting with 11 gems against 20, so it stays even
+     * if three cards out of four end the round: a player that counts the gems
+     * would exit.
+     */
+    @Test
+    void trailingPlayerTakesRisks() {
+        final RoundState state = round(TRAILER_CHEST, EXITED_SACK, List.of(
+                CardRegistry.trap(TypeTrapCard.SPIDER),
+                CardRegistry.trap(TypeTrapCard.SPIDER),
+                CardRegistry.trap(TypeTrapCard.SPIDER),
+                CardRegistry.treasure(TREASURE_VALUE)));
+        final Player player = active(state);
+
+        assertEquals(Optional.of(0.0), this.solver.getWinProbability(state, player, PlayerChoice.EXIT));
+        assertEquals(ONE_TREASURE, this.solver.getWinProbability(state, player, PlayerChoice.STAY).get(), DELTA);
+        assertEquals(Optional.of(PlayerChoice.STAY), this.solver.choose(state, player));
+    }
+
+    /*
+     * Exiting with 26 gems against 24 wins the game, so the player exits even
+     * if three cards out of four are treasures.
+     */
+    @Test
+    void leadingPlayerPlaysSafe() {
+        final RoundState state = round(LEADER_CHEST, LEADER_EXITED_SACK, List.of(
+                CardRegistry.trap(TypeTrapCard.SPIDER),
+                CardRegistry.treasure(TREASURE_VALUE),
+                CardRegistry.treasure(TREASURE_VALUE),
+                CardRegistry.treasure(TREASURE_VALUE)));
+        final Player player = active(state);
+
+        assertEquals(Optional.of(1.0), this.solver.getWinProbability(state, player, PlayerChoice.EXIT));
+        assertEquals(THREE_TREASURES, this.solver.getWinProbability(state, player, PlayerChoice.STAY).get(),
+                DELTA);
+        assertEquals(Optional.of(PlayerChoice.EXIT), this.solver.choose(state, player));
+    }
+
+    @Test
+    void solvesEveryActivePlayer() {
+        final List<Player> players = CommonUtils.generatePlayerList(3);
+        players.get(0).addSackGems(LEADER_CHEST);
+        players.get(0).addSackToChest();
+        final RoundState state = new RoundStateImpl(players, new DeckImpl(new ArrayList<>(List.of(
+                CardRegistry.trap(TypeTrapCard.SPIDER),
+                CardRegistry.trap(TypeTrapCard.SNAKE),
+                CardRegistry.treasure(TREASURE_VALUE)))), true);
+        state.addCardToPath(CardRegistry.trap(TypeTrapCard.SPIDER));
+
+        final Map<Player, PlayerChoice> choices = this.solver.solve(state);
+        assertEquals(players, new ArrayList<>(choices.keySet()));
+        for (final Player player : players) {
+            final double stay = this.solver.getWinProbability(state, player, PlayerChoice.STAY).get();
+            final double exit = this.solver.getWinProbability(state, player, PlayerChoice.EXIT).get();
+            assertTrue(stay >= 0 && stay <= 1 && exit >= 0 && exit <= 1);
+            assertEquals(exit > stay ? PlayerChoice.EXIT : PlayerChoice.STAY, choices.get(player));
+        }
+    }
+
+    /*
+     * A last round of the standard deck where nobody leaves: from the first
+     * card, with all the deck still to draw, until the round ends, every
+     * active player gets a choice.
+     */
+    @Test
+    void choosesWithStandardDeck() {
+        final List<Player> players = CommonUtils.generatePlayerList(STANDARD_PLAYERS);
+        for (int i = 0; i < players.size(); i++) {
+            players.get(i).addSackGems(i * CHEST_STEP);
+            players.get(i).addSackToChest();
+        }
+        final Deck deck = new DeckFactoryImpl().standardDeck();
+        final Round round = new RoundImpl(players, deck, new RoundEffectImpl(
+                new EndConditionFactoryImpl().standard(),
+                new GemModifierFactoryImpl().standard()), false, true);
+        final RoundState state = round.getState();
+        int mostCardsLeft = 0;
+        while (round.hasNext()) {
+            final Turn turn = round.next();
+            turn.executeDrawPhase();
+            if (round.hasNext()) {
+                mostCardsLeft = Math.max(mostCardsLeft, state.getDeck().numberOfRemainingCards());
+                for (final Player player : state.getRoundPlayersManager().getActivePlayers()) {
+                    assertTrue(this.solver.choose(state, player).isPresent());
+                }
+            }
+            turn.endTurn(Set.of());
+        }
+        assertEquals(deck.deckSize() - 1, mostCardsLeft);
+    }
+
+    @Test
+    void onlyActivePlayersChoose() {
+        final RoundState state = round(TRAILER_CHEST, EXITED_SACK, List.of(
+                CardRegistry.treasure(TREASURE_VALUE)));
+        final Player exited = state.getRoundPlayersManager().getExitedPlayers().get(0);
+
+        assertThrows(IllegalArgumentException.class, () -> this.solver.choose(state, exited));
+        assertThrows(NullPointerException.class, () -> this.solver.solve(null));
+    }
+}
@@ -456,4 +456,34 @@ class LogicCpuTest {
         this.logicCpu = new LogicCpuImpl(settings);
         assertThrows(IllegalArgumentException.class, () -> logicCpu.cpuChoice(this.roundState));
     }
+
+    /*
+     * -- Testing batched choices --
+     * The choices taken in a batch must be the same ones taken by each CPU
+     * on its own, since the features are the same.
+     */
+    @Test
+    void cpuChoicesBatch() {
+        this.roundState.setPathGems(PATH_GEMS_1);
+        this.roundState.addCardToPath(new TreasureCard(TREASURE_NAME, TREASURE_VALUE_3));
+        this.roundState.addCardToPath(new TrapCard(TRAP_NAME, TypeTrapCard.LAVA));
+        this.players.get(0).choose(PlayerChoice.EXIT);
+        final List<LogicCpu> batch = new ArrayList<>();
+        final List<PlayerChoice> expected = new ArrayList<>();
+        for (final CpuDifficulty difficulty : CpuDifficulty.values()) {
+            final GameSettings settings = new GameSettingsImpl(List.of(),
+                    N_CPU,
+                    this.deck,
+                    this.endCondition,
+                    this.gemModifier,
+                    difficulty,
+                    N_ROUND);
+            for (final int seed : List.of(HIGH_RAND_SEED, LOW_RAND_SEED)) {
+                batch.add(new LogicCpuImpl(settings, seed));
+                expected.add(new LogicCpuImpl(settings, seed).cpuChoice(this.roundState));
+            }
+        }
+        assertEquals(expected, batch.get(0).cpuChoices(this.roundState, batch));
+        assertEquals(batch.get(0).computeFeatures(this.roundState), batch.get(1).computeFeatures(this.roundState));
+    }
 }
@@ -0,0 +1,139 @@
+package jvmt.player;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jvmt.model.card.api.Deck;
+import jvmt.model.card.impl.DeckBuilderImpl;
+import jvmt.model.game.api.GameSettings;
+import jvmt.model.game.impl.GameSettingsImpl;
+import jvmt.model.player.api.CpuDifficulty;
+import jvmt.model.player.api.Player;
+import jvmt.model.player.api.PlayerChoice;
+import jvmt.model.player.impl.MctsLogicCpu;
+import jvmt.model.round.api.RoundState;
+import jvmt.model.round.api.turn.Turn;
+import jvmt.model.round.impl.RoundStateImpl;
+import jvmt.model.round.impl.roundeffect.RoundEffectImpl;
+import jvmt.model.round.impl.roundeffect.endcondition.EndConditionFactoryImpl;
+import jvmt.model.round.impl.roundeffect.gemmodifier.GemModifierFactoryImpl;
+import jvmt.model.round.impl.turn.TurnImpl;
+import jvmt.utils.CommonUtils;
+
+/**
+ * Monte Carlo tree search CPU logic test class.
+ * 
+ * @author Filippo Gaggi
+ */
+class MctsLogicCpuTest {
+
+    private static final int NUMBER_OF_PLAYERS = 3;
+    private static final int N_CPU = 2;
+    private static final int N_ROUND = 5;
+    private static final int N_CARDS = 20;
+    private static final int TREASURE_VALUE = 11;
+    private static final int MAX_ITERATIONS = 10;
+    private static final int MAX_NODES = 5;
+    private static final int SEARCH_ITERATIONS = 500;
+    private static final int LONG_BUDGET = 10;
+    private final List<Player> players = CommonUtils.generatePlayerList(NUMBER_OF_PLAYERS);
+    private final List<String> playerNames = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        for (final Player player : this.players) {
+            this.playerNames.add(player.getName());
+        }
+    }
+
+    private GameSettings settings(final Deck deck) {
+        return new GameSettingsImpl(this.playerNames,
+                N_CPU,
+                deck,
+                new EndConditionFactoryImpl().standard(),
+                new GemModifierFactoryImpl().standard(),
+                CpuDifficulty.MASTER,
+                N_ROUND);
+    }
+
+    /*
+     * After a turn in which the CPU stayed, the node of what happened becomes
+     * the root: the visits of the previous search are kept, so the root ends
+     * up with more visits than a single search can give it.
+     */
+    @Test
+    void treeReusedAcrossTurns() {
+        final Deck deck = new DeckBuilderImpl().addMultipleTreasure(TREASURE_VALUE, N_CARDS).build();
+        final RoundState state = new RoundStateImpl(this.players, deck);
+        final MctsLogicCpu logicCpu = new MctsLogicCpu(settings(deck),
+                Duration.ofSeconds(LONG_BUDGET), SEARCH_ITERATIONS, MctsLogicCpu.DEFAULT_MAX_NODES);
+        assertEquals(0, logicCpu.getRootVisits());
+        assertEquals(PlayerChoice.STAY, logicCpu.cpuChoice(state));
+        assertEquals(SEARCH_ITERATIONS, logicCpu.getRootVisits());
+        assertTrue(logicCpu.getTreeSize() > 1);
+
+        newTurn(state).executeDrawPhase();
+        assertEquals(PlayerChoice.STAY, logicCpu.cpuChoice(state));
+        assertTrue(logicCpu.getRootVisits() > SEARCH_ITERATIONS);
+    }
+
+    /*
+     * A state that doesn't follow the root by one card starts the search over.
+     */
+    @Test
+    void treeDroppedForUnrelatedState() {
+        final Deck deck = new DeckBuilderImpl().addMultipleTreasure(TREASURE_VALUE, N_CARDS).build();
+        final MctsLogicCpu logicCpu = new MctsLogicCpu(settings(deck),
+                Duration.ofSeconds(LONG_BUDGET), SEARCH_ITERATIONS, MctsLogicCpu.DEFAULT_MAX_NODES);
+        final RoundState state = new RoundStateImpl(this.players, deck);
+        assertEquals(PlayerChoice.STAY, logicCpu.cpuChoice(state));
+
+        final RoundState other = new RoundStateImpl(CommonUtils.generatePlayerList(NUMBER_OF_PLAYERS),
+                new DeckBuilderImpl().addMultipleTreasure(TREASURE_VALUE, N_CARDS).build());
+        assertEquals(PlayerChoice.STAY, logicCpu.cpuChoice(other));
+        assertEquals(SEARCH_ITERATIONS, logicCpu.getRootVisits());
+    }
+
+    /*
+     * The tree is kept between the turns, but never grows beyond the pool.
+     */
+    @Test
+    void treeBoundedAcrossTurns() {
+        final Deck deck = new DeckBuilderImpl().addMultipleTreasure(TREASURE_VALUE, N_CARDS).build();
+        final RoundState state = new RoundStateImpl(this.players, deck);
+        final MctsLogicCpu logicCpu = new MctsLogicCpu(settings(deck),
+                Duration.ofSeconds(LONG_BUDGET), SEARCH_ITERATIONS, MAX_NODES);
+        newTurn(state).executeDrawPhase();
+        assertEquals(PlayerChoice.STAY, logicCpu.cpuChoice(state));
+        assertTrue(logicCpu.getTreeSize() > 1);
+        assertTrue(logicCpu.getTreeSize() <= MAX_NODES);
+        newTurn(state).executeDrawPhase();
+        assertEquals(PlayerChoice.STAY, logicCpu.cpuChoice(state));
+        assertTrue(logicCpu.getTreeSize() <= MAX_NODES);
+    }
+
+    private Turn newTurn(final RoundState state) {
+        return new TurnImpl(this.players.get(0), state, new RoundEffectImpl(
+                new EndConditionFactoryImpl().standard(), new GemModifierFactoryImpl().standard()));
+    }
+
+    @Test
+    void invalidLimits() {
+        final GameSettings settings = settings(new DeckBuilderImpl().addRelic().build());
+        assertThrows(IllegalArgumentException.class,
+                () -> new MctsLogicCpu(settings, Duration.ofMillis(-1), MAX_ITERATIONS, MAX_NODES));
+        assertThrows(IllegalArgumentException.class,
+                () -> new MctsLogicCpu(settings, Duration.ZERO, 0, MAX_NODES));
+        assertThrows(NullPointerException.class,
+                () -> new MctsLogicCpu(settings, null, MAX_ITERATIONS, MAX_NODES));
+        assertThrows(IllegalArgumentException.class,
+                () -> new MctsLogicCpu(settings, Duration.ZERO, MAX_ITERATIONS, 0));
+    }
+}
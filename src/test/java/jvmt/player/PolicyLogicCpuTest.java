@@ -0,0 +1,130 @@
+package jvmt.player;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import jvmt.model.card.api.Card;
+import jvmt.model.card.api.Deck;
+import jvmt.model.card.api.TypeCard;
+import jvmt.model.card.api.TypeTrapCard;
+import jvmt.model.card.impl.CardRegistry;
+import jvmt.model.card.impl.DeckFactoryImpl;
+import jvmt.model.card.impl.DeckImpl;
+import jvmt.model.game.api.GameSettings;
+import jvmt.model.game.impl.GameSettingsImpl;
+import jvmt.model.player.api.CpuDifficulty;
+import jvmt.model.player.api.Player;
+import jvmt.model.player.api.PlayerChoice;
+import jvmt.model.player.impl.PolicyLogicCpu;
+import jvmt.model.round.api.RoundState;
+import jvmt.model.round.impl.RoundStateImpl;
+import jvmt.model.round.impl.roundeffect.endcondition.EndConditionFactoryImpl;
+import jvmt.model.round.impl.roundeffect.gemmodifier.GemModifierFactoryImpl;
+import jvmt.model.simulation.impl.PolicyBits;
+import jvmt.utils.CommonUtils;
+
+/**
+ * Precomputed policy CPU logic test class.
+ * 
+ * @author Filippo Gaggi
+ */
+class PolicyLogicCpuTest {
+
+    private static final int SEED = 42;
+    private static final int NUMBER_OF_PLAYERS = 3;
+    private static final int N_CPU = 2;
+    private static final int N_ROUND = 5;
+    private static final int TREASURE_VALUE = 5;
+    private static final int GEM_MULTIPLIER = 2;
+
+    private final List<Card> cards = List.of(
+            CardRegistry.trap(TypeTrapCard.SPIDER),
+            CardRegistry.trap(TypeTrapCard.SPIDER),
+            CardRegistry.treasure(TREASURE_VALUE));
+
+    private GameSettings settings(final Deck deck) {
+        final List<String> playerNames = new ArrayList<>();
+        for (final Player player : CommonUtils.generatePlayerList(NUMBER_OF_PLAYERS)) {
+            playerNames.add(player.getName());
+        }
+        return new GameSettingsImpl(playerNames,
+                N_CPU,
+                deck,
+                new EndConditionFactoryImpl().standard(),
+                new GemModifierFactoryImpl().standard(),
+                CpuDifficulty.OPTIMAL,
+                N_ROUND);
+    }
+
+    /*
+     * With two spiders and a treasure, a player alone exits once the
+     * treasure is drawn, and stays after the first spider hoping for it.
+     */
+    @Test
+    void choicesFromMappedPolicy() throws IOException {
+        final Path file = Files.createTempFile("policy", ".bin");
+        try {
+            PolicyBits.write(file, new DeckImpl(this.cards), NUMBER_OF_PLAYERS);
+            final PolicyLogicCpu logicCpu = new PolicyLogicCpu(settings(new DeckImpl(this.cards)),
+                    PolicyBits.map(file));
+            assertTrue(logicCpu.hasPolicy());
+
+            final Deck deck = new DeckImpl(this.cards);
+            final RoundState state = new RoundStateImpl(CommonUtils.generatePlayerList(1), deck);
+            assertEquals(PlayerChoice.STAY, logicCpu.cpuChoice(state));
+            final Card first = deck.next();
+            state.addCardToPath(first);
+            if (first.getType() == TypeCard.TRAP) {
+                assertEquals(PlayerChoice.STAY, logicCpu.cpuChoice(state));
+            } else {
+                assertEquals(PlayerChoice.EXIT, logicCpu.cpuChoice(state));
+            }
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    /*
+     * The policy shipped with the game is for the standard deck:
+     * with another deck the CPU uses its heuristics.
+     */
+    @Test
+    void standardPolicy() {
+        final Deck standard = new DeckFactoryImpl().standardDeck();
+        final PolicyLogicCpu logicCpu = new PolicyLogicCpu(settings(standard), SEED);
+        assertTrue(logicCpu.hasPolicy());
+        final RoundState state = new RoundStateImpl(CommonUtils.generatePlayerList(NUMBER_OF_PLAYERS), standard);
+        assertEquals(PlayerChoice.STAY, logicCpu.cpuChoice(state));
+
+        assertFalse(new PolicyLogicCpu(settings(new DeckImpl(this.cards)), SEED).hasPolicy());
+    }
+
+    /*
+     * The policy is computed with the standard rules: with another end
+     * condition or a gem modifier the CPU uses its heuristics.
+     */
+    @Test
+    void noPolicyWithOtherRules() {
+        final Deck standard = new DeckFactoryImpl().standardDeck();
+        final List<String> playerNames = new ArrayList<>();
+        for (final Player player : CommonUtils.generatePlayerList(NUMBER_OF_PLAYERS)) {
+            playerNames.add(player.getName());
+        }
+        final GameSettings firstTrapEnds = new GameSettingsImpl(playerNames, N_CPU, standard,
+                new EndConditionFactoryImpl().firstTrapEnds(), new GemModifierFactoryImpl().standard(),
+                CpuDifficulty.OPTIMAL, N_ROUND);
+        assertFalse(new PolicyLogicCpu(firstTrapEnds, SEED).hasPolicy());
+        final GameSettings doubleGems = new GameSettingsImpl(playerNames, N_CPU, standard,
+                new EndConditionFactoryImpl().standard(), new GemModifierFactoryImpl().gemMultiplier(GEM_MULTIPLIER),
+                CpuDifficulty.OPTIMAL, N_ROUND);
+        assertFalse(new PolicyLogicCpu(doubleGems, SEED).hasPolicy());
+    }
+}
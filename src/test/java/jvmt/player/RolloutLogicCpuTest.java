@@ -0,0 +1,85 @@
+package jvmt.player;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jvmt.model.card.api.Deck;
+import jvmt.model.card.impl.DeckBuilderImpl;
+import jvmt.model.game.api.GameSettings;
+import jvmt.model.game.impl.GameSettingsImpl;
+import jvmt.model.player.api.CpuDifficulty;
+import jvmt.model.player.api.LogicCpu;
+import jvmt.model.player.api.Player;
+import jvmt.model.player.api.PlayerChoice;
+import jvmt.model.player.impl.RolloutLogicCpu;
+import jvmt.model.round.api.RoundState;
+import jvmt.model.round.impl.RoundStateImpl;
+import jvmt.model.round.impl.roundeffect.endcondition.EndConditionFactoryImpl;
+import jvmt.model.round.impl.roundeffect.gemmodifier.GemModifierFactoryImpl;
+import jvmt.utils.CommonUtils;
+
+/**
+ * Monte Carlo rollout CPU logic test class.
+ * 
+ * @author Filippo Gaggi
+ */
+class RolloutLogicCpuTest {
+
+    private static final int NUMBER_OF_PLAYERS = 3;
+    private static final int N_CPU = 2;
+    private static final int N_ROUND = 5;
+    private static final int PATH_GEMS = 7;
+    private static final int LONG_BUDGET = 10;
+    private static final int MAX_ROLLOUTS = 10;
+    private final List<Player> players = CommonUtils.generatePlayerList(NUMBER_OF_PLAYERS);
+    private final List<String> playerNames = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        for (final Player player : this.players) {
+            this.playerNames.add(player.getName());
+        }
+    }
+
+    private GameSettings settings(final Deck deck) {
+        return new GameSettingsImpl(this.playerNames,
+                N_CPU,
+                deck,
+                new EndConditionFactoryImpl().standard(),
+                new GemModifierFactoryImpl().standard(),
+                CpuDifficulty.EXPERT,
+                N_ROUND);
+    }
+
+    /*
+     * The CPU only looks as far as the cards left in the deck: with an empty
+     * deck there is nothing to gain by staying, however many gems are at
+     * stake.
+     */
+    @Test
+    void exitWithEmptyDeck() {
+        final RoundState state = new RoundStateImpl(this.players, new DeckBuilderImpl().build());
+        state.setPathGems(PATH_GEMS);
+        final LogicCpu logicCpu = new RolloutLogicCpu(settings(new DeckBuilderImpl().addRelic().build()),
+                Duration.ofSeconds(LONG_BUDGET),
+                MAX_ROLLOUTS);
+        assertEquals(PlayerChoice.EXIT, logicCpu.cpuChoice(state));
+    }
+
+    @Test
+    void invalidLimits() {
+        final GameSettings settings = settings(new DeckBuilderImpl().addRelic().build());
+        assertThrows(IllegalArgumentException.class,
+                () -> new RolloutLogicCpu(settings, Duration.ofMillis(-1), MAX_ROLLOUTS));
+        assertThrows(IllegalArgumentException.class,
+                () -> new RolloutLogicCpu(settings, Duration.ZERO, 0));
+        assertThrows(NullPointerException.class,
+                () -> new RolloutLogicCpu(settings, null, MAX_ROLLOUTS));
+    }
+}
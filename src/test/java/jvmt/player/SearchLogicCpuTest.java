@@ -0,0 +1,170 @@
+package jvmt.player;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jvmt.model.card.api.Deck;
+import jvmt.model.card.api.TypeTrapCard;
+import jvmt.model.card.impl.DeckBuilderImpl;
+import jvmt.model.card.impl.TrapCard;
+import jvmt.model.common.impl.SplittableRandomSource;
+import jvmt.model.game.api.GameSettings;
+import jvmt.model.game.impl.GameSettingsImpl;
+import jvmt.model.player.api.CpuDifficulty;
+import jvmt.model.player.api.CpuFeatures;
+import jvmt.model.player.api.LogicCpu;
+import jvmt.model.player.api.Player;
+import jvmt.model.player.api.PlayerChoice;
+import jvmt.model.player.impl.LogicCpuImpl;
+import jvmt.model.player.impl.MctsLogicCpu;
+import jvmt.model.player.impl.RolloutLogicCpu;
+import jvmt.model.round.api.RoundState;
+import jvmt.model.round.impl.RoundStateImpl;
+import jvmt.model.round.impl.roundeffect.endcondition.EndConditionFactoryImpl;
+import jvmt.model.round.impl.roundeffect.gemmodifier.GemModifierFactoryImpl;
+import jvmt.utils.CommonUtils;
+
+/**
+ * Test class of what the CPU logics that play the rest of the round on copies
+ * of its state have in common: {@link RolloutLogicCpu} and
+ * {@link MctsLogicCpu}.
+ * 
+ * @author Filippo Gaggi
+ */
+class SearchLogicCpuTest {
+
+    private static final int SEED = 42;
+    private static final int NUMBER_OF_PLAYERS = 3;
+    private static final int N_CPU = 2;
+    private static final int N_ROUND = 5;
+    private static final int N_CARDS = 20;
+    private static final int TREASURE_VALUE = 11;
+    private static final int SACK_GEMS = 10;
+    private static final int PATH_GEMS = 7;
+    private static final int N_SNAKES = 2;
+    private static final int SEARCH_STEPS = 500;
+    private static final int CHOICES = 20;
+    private static final Duration LONG_BUDGET = Duration.ofSeconds(10);
+    private static final int PHASE_CPUS = 7;
+    private static final Duration PHASE_BUDGET = Duration.ofMillis(200);
+    private static final int UNLIMITED_STEPS = Integer.MAX_VALUE;
+    private static final String TRAP_NAME = "Trap card";
+    private final List<Player> players = CommonUtils.generatePlayerList(NUMBER_OF_PLAYERS);
+    private final List<String> playerNames = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        for (final Player player : this.players) {
+            this.playerNames.add(player.getName());
+        }
+    }
+
+    private GameSettings settings(final Deck deck) {
+        return new GameSettingsImpl(this.playerNames,
+                N_CPU,
+                deck,
+                new EndConditionFactoryImpl().standard(),
+                new GemModifierFactoryImpl().standard(),
+                CpuDifficulty.EXPERT,
+                N_ROUND,
+                new SplittableRandomSource(SEED));
+    }
+
+    /*
+     * Both searches, with the given limits for every decision.
+     */
+    private List<Function<GameSettings, LogicCpu>> searches(final Duration budget, final int steps) {
+        return List.of(
+                settings -> new RolloutLogicCpu(settings, budget, steps),
+                settings -> new MctsLogicCpu(settings, budget, steps, MctsLogicCpu.DEFAULT_MAX_NODES));
+    }
+
+    /*
+     * Only spiders are left in the deck and one is already on the path:
+     * the next card ends the round, so the CPUs exit with their gems.
+     */
+    @Test
+    void exitBeforeCertainTrap() {
+        final Deck deck = new DeckBuilderImpl().addMultipleTrap(TypeTrapCard.SPIDER, N_CARDS).build();
+        final RoundState state = new RoundStateImpl(this.players, deck);
+        state.addCardToPath(new TrapCard(TRAP_NAME, TypeTrapCard.SPIDER));
+        for (final Player player : this.players) {
+            player.addSackGems(SACK_GEMS);
+        }
+        for (final Function<GameSettings, LogicCpu> search : searches(LONG_BUDGET, SEARCH_STEPS)) {
+            assertEquals(PlayerChoice.EXIT, search.apply(settings(deck)).cpuChoice(state));
+        }
+    }
+
+    /*
+     * Only treasures are left in the deck: staying can only bring more gems,
+     * whatever the features say.
+     */
+    @Test
+    void stayWithoutRisk() {
+        final Deck deck = new DeckBuilderImpl().addMultipleTreasure(TREASURE_VALUE, N_CARDS).build();
+        final RoundState state = new RoundStateImpl(this.players, deck);
+        for (final Player player : this.players) {
+            player.addSackGems(SACK_GEMS);
+        }
+        final CpuFeatures certainBust = new CpuFeatures(1, 1, 1, 1, 1, 1);
+        for (final Function<GameSettings, LogicCpu> search : searches(LONG_BUDGET, SEARCH_STEPS)) {
+            final LogicCpu logicCpu = search.apply(settings(deck));
+            assertEquals(PlayerChoice.STAY, logicCpu.cpuChoice(state));
+            assertEquals(PlayerChoice.STAY, logicCpu.cpuChoice(state, certainBust));
+        }
+    }
+
+    /*
+     * With no time to play the round the CPUs take the same choices as the
+     * weighted heuristics built from the same settings.
+     */
+    @Test
+    void fallbackWithoutTime() {
+        final Deck deck = new DeckBuilderImpl()
+                .addMultipleTreasure(TREASURE_VALUE, N_CARDS)
+                .addMultipleTrap(TypeTrapCard.SNAKE, N_SNAKES)
+                .build();
+        final RoundState state = new RoundStateImpl(this.players, deck);
+        state.addCardToPath(new TrapCard(TRAP_NAME, TypeTrapCard.SPIDER));
+        state.setPathGems(PATH_GEMS);
+        for (final Function<GameSettings, LogicCpu> search : searches(Duration.ZERO, SEARCH_STEPS)) {
+            final LogicCpu heuristics = new LogicCpuImpl(settings(deck));
+            final LogicCpu logicCpu = search.apply(settings(deck));
+            for (int i = 0; i < CHOICES; i++) {
+                assertEquals(heuristics.cpuChoice(state), logicCpu.cpuChoice(state));
+            }
+        }
+    }
+
+    /*
+     * The CPUs of a decision phase share one time budget, so the phase takes
+     * about as long as a single decision however many CPUs play the round.
+     */
+    @Test
+    void phaseSharesBudget() {
+        final Deck deck = new DeckBuilderImpl()
+                .addMultipleTreasure(TREASURE_VALUE, N_CARDS)
+                .addMultipleTrap(TypeTrapCard.SNAKE, N_SNAKES)
+                .build();
+        final RoundState state = new RoundStateImpl(this.players, deck);
+        for (final Function<GameSettings, LogicCpu> search : searches(PHASE_BUDGET, UNLIMITED_STEPS)) {
+            final List<LogicCpu> cpus = new ArrayList<>();
+            for (int i = 0; i < PHASE_CPUS; i++) {
+                cpus.add(search.apply(settings(deck)));
+            }
+            final long start = System.nanoTime();
+            assertEquals(PHASE_CPUS, cpus.get(0).cpuChoices(state, cpus).size());
+            final long elapsedMillis = Duration.ofNanos(System.nanoTime() - start).toMillis();
+            // One budget per CPU would take the whole product
+            assertTrue(elapsedMillis < PHASE_CPUS * PHASE_BUDGET.toMillis() / 2, elapsedMillis + " ms");
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package jvmt.round;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+import jvmt.model.card.api.Card;
+import jvmt.model.card.api.Deck;
+import jvmt.model.card.api.TypeCard;
+import jvmt.model.card.api.TypeTrapCard;
+import jvmt.model.card.impl.CardRegistry;
+import jvmt.model.card.impl.DeckBuilderImpl;
+import jvmt.model.round.api.RiskEstimate;
+import jvmt.model.round.api.RiskOracle;
+import jvmt.model.round.api.RoundState;
+import jvmt.model.round.impl.RiskOracleImpl;
+import jvmt.model.round.impl.RoundStateImpl;
+import jvmt.model.round.impl.roundeffect.endcondition.EndConditionFactoryImpl;
+import jvmt.utils.CommonUtils;
+
+/**
+ * Tests for {@link RiskOracleImpl} ({@link RiskOracle} implementation).
+ * 
+ * @author Emir Wanes Aouioua
+ */
+class RiskOracleImplTest {
+
+    private static final int NUMBER_OF_PLAYERS = 3;
+    private static final int SPIDERS = 3;
+    private static final int TREASURES = 2;
+    private static final int TREASURE_VALUE = 5;
+    private static final int SEED = 7;
+    private static final int SMALL_SPIDERS = 2;
+    private static final double DELTA = 1e-9;
+
+    private final Deck deck = new DeckBuilderImpl()
+            .addMultipleTrap(TypeTrapCard.SPIDER, SPIDERS)
+            .addMultipleTreasure(TREASURE_VALUE, TREASURES)
+            .build();
+
+    private RoundState newRound() {
+        return new RoundStateImpl(CommonUtils.generatePlayerList(NUMBER_OF_PLAYERS),
+                this.deck.getShuffledCopy(new SplittableRandom(SEED)));
+    }
+
+    /**
+     * With the standard end condition only a second spider ends the round.
+     */
+    @Test
+    void testStandardEndCondition() {
+        final RiskOracle oracle = new RiskOracleImpl(this.deck, new EndConditionFactoryImpl().standard());
+        final RoundState state = newRound();
+        final RiskEstimate first = oracle.estimate(state);
+        assertEquals(0, first.bustProbability(), DELTA);
+        assertEquals(TREASURES * TREASURE_VALUE / (double) (SPIDERS + TREASURES),
+                first.expectedTreasureValue(), DELTA);
+
+        int spiders = 0;
+        int treasures = 0;
+        while (spiders == 0) {
+            final Card card = state.getDeck().next();
+            state.addCardToPath(card);
+            if (card.getType() == TypeCard.TRAP) {
+                spiders++;
+            } else {
+                treasures++;
+            }
+        }
+        final int remaining = SPIDERS + TREASURES - spiders - treasures;
+        final RiskEstimate afterSpider = oracle.estimate(state);
+        assertEquals((SPIDERS - spiders) / (double) remaining, afterSpider.bustProbability(), DELTA);
+        assertEquals((TREASURES - treasures) * TREASURE_VALUE / (double) remaining,
+                afterSpider.expectedTreasureValue(), DELTA);
+        // Same composition, same players: the estimate is memoized
+        assertSame(afterSpider, oracle.estimate(state));
+    }
+
+    /**
+     * With the first trap ending the round, every spider ends it.
+     */
+    @Test
+    void testFirstTrapEnds() {
+        final RiskOracle oracle = new RiskOracleImpl(this.deck, new EndConditionFactoryImpl().firstTrapEnds());
+        final RiskEstimate estimate = oracle.estimate(newRound());
+        assertEquals(SPIDERS / (double) (SPIDERS + TREASURES), estimate.bustProbability(), DELTA);
+    }
+
+    /**
+     * A round not played with the deck of the oracle is estimated from its own
+     * deck.
+     */
+    @Test
+    void testOtherDeck() {
+        final RiskOracle oracle = new RiskOracleImpl(this.deck, new EndConditionFactoryImpl().firstTrapEnds());
+        final Deck treasuresOnly = new DeckBuilderImpl().addMultipleTreasure(TREASURE_VALUE, TREASURES).build();
+        final RoundState state = new RoundStateImpl(CommonUtils.generatePlayerList(NUMBER_OF_PLAYERS),
+                treasuresOnly);
+        final RiskEstimate estimate = oracle.estimate(state);
+        assertEquals(0, estimate.bustProbability(), DELTA);
+        assertEquals(TREASURE_VALUE, estimate.expectedTreasureValue(), DELTA);
+    }
+
+    /**
+     * A deck counted again doesn't tell which traps are on the path, so its
+     * estimate isn't taken from the one of a tracked round with the same
+     * cards left.
+     */
+    @Test
+    void testRecountNotMemoized() {
+        final Deck small = new DeckBuilderImpl()
+                .addMultipleTrap(TypeTrapCard.SPIDER, SMALL_SPIDERS)
+                .addTreasure(TREASURE_VALUE)
+                .build();
+        final RiskOracle oracle = new RiskOracleImpl(small, new EndConditionFactoryImpl().standard());
+        final RoundState tracked = new RoundStateImpl(CommonUtils.generatePlayerList(NUMBER_OF_PLAYERS),
+                new DeckBuilderImpl().addTrap(TypeTrapCard.SPIDER).addTreasure(TREASURE_VALUE).build());
+        tracked.addCardToPath(CardRegistry.trap(TypeTrapCard.SPIDER));
+        assertEquals(1 / (double) SMALL_SPIDERS, oracle.estimate(tracked).bustProbability(), DELTA);
+
+        final RoundState fresh = new RoundStateImpl(CommonUtils.generatePlayerList(NUMBER_OF_PLAYERS),
+                new DeckBuilderImpl().addTrap(TypeTrapCard.SPIDER).addTreasure(TREASURE_VALUE).build());
+        assertEquals(0, oracle.estimate(fresh).bustProbability(), DELTA);
+    }
+}
@@ -0,0 +1,120 @@
+package jvmt.round;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jvmt.model.card.api.TypeTrapCard;
+import jvmt.model.card.impl.DeckFactoryImpl;
+import jvmt.model.card.impl.TrapCard;
+import jvmt.model.card.impl.TreasureCard;
+import jvmt.model.player.api.Player;
+import jvmt.model.round.api.RoundState;
+import jvmt.model.round.api.RoundStateChange;
+import jvmt.model.round.api.roundeffect.RoundEffect;
+import jvmt.model.round.impl.RoundStateImpl;
+import jvmt.model.round.impl.roundeffect.RoundEffectImpl;
+import jvmt.model.round.impl.roundeffect.endcondition.EndConditionImpl;
+import jvmt.model.round.impl.roundeffect.gemmodifier.GemModifierImpl;
+import jvmt.utils.CommonUtils;
+
+/**
+ * Tests that {@link RoundEffectImpl} evaluates its end condition and gem
+ * modifier again only when one of their dependencies changes.
+ * 
+ * @author Emir Wanes Aouioua
+ */
+class RoundEffectImplTest {
+
+    private static final int PLAYERS = 4;
+    private static final int GEMS = 7;
+    private static final int QUERIES = 10;
+
+    private final AtomicInteger endConditionCalls = new AtomicInteger();
+    private final AtomicInteger gemModifierCalls = new AtomicInteger();
+    private List<Player> players;
+    private RoundState state;
+    private RoundEffect effect;
+
+    @BeforeEach
+    void setUp() {
+        this.players = CommonUtils.generatePlayerList(PLAYERS);
+        this.state = new RoundStateImpl(this.players, new DeckFactoryImpl().standardDeck());
+        this.effect = new RoundEffectImpl(
+                new EndConditionImpl(s -> {
+                    this.endConditionCalls.incrementAndGet();
+                    return s.getDrawnTrapsCount() > 0;
+                }, "first trap", EnumSet.of(RoundStateChange.TRAP_DRAWN)),
+                new GemModifierImpl((s, gems) -> {
+                    this.gemModifierCalls.incrementAndGet();
+                    return gems + s.getRoundPlayersManager().getExitedPlayersCount();
+                }, "bonus for exits", EnumSet.of(RoundStateChange.PLAYER_EXITED)));
+    }
+
+    private void queryEndCondition() {
+        for (int i = 0; i < QUERIES; i++) {
+            this.effect.isEndConditionMet(this.state);
+        }
+    }
+
+    @Test
+    void testEndConditionIsCached() {
+        this.queryEndCondition();
+        assertEquals(1, this.endConditionCalls.get());
+
+        // Treasures and path gems are not dependencies of the condition
+        this.state.addCardToPath(new TreasureCard("Treasure", GEMS));
+        this.state.setPathGems(GEMS);
+        this.queryEndCondition();
+        assertFalse(this.effect.isEndConditionMet(this.state));
+        assertEquals(1, this.endConditionCalls.get());
+
+        this.state.addCardToPath(new TrapCard("Snake", TypeTrapCard.SNAKE));
+        this.queryEndCondition();
+        assertTrue(this.effect.isEndConditionMet(this.state));
+        assertEquals(2, this.endConditionCalls.get());
+    }
+
+    @Test
+    void testCardsTakenFromTheDeckAreNoticed() {
+        this.queryEndCondition();
+        this.state.getDeck().next();
+        this.queryEndCondition();
+        assertEquals(2, this.endConditionCalls.get());
+    }
+
+    @Test
+    void testGemModifierIsCached() {
+        for (int i = 0; i < QUERIES; i++) {
+            assertEquals(GEMS, this.effect.applyGemModifier(this.state, GEMS));
+        }
+        assertEquals(1, this.gemModifierCalls.get());
+
+        // A different amount of gems must be modified again
+        assertEquals(GEMS + 1, this.effect.applyGemModifier(this.state, GEMS + 1));
+        assertEquals(2, this.gemModifierCalls.get());
+
+        this.players.get(0).exit();
+        assertEquals(GEMS + 2, this.effect.applyGemModifier(this.state, GEMS + 1));
+        assertEquals(3, this.gemModifierCalls.get());
+    }
+
+    @Test
+    void testDifferentStatesAreNotMixed() {
+        this.queryEndCondition();
+        final RoundState other = new RoundStateImpl(
+                CommonUtils.generatePlayerList(PLAYERS),
+                new DeckFactoryImpl().standardDeck());
+        other.addCardToPath(new TrapCard("Lava", TypeTrapCard.LAVA));
+        assertTrue(this.effect.isEndConditionMet(other));
+        assertFalse(this.effect.isEndConditionMet(this.state));
+        assertEquals(3, this.endConditionCalls.get());
+    }
+}
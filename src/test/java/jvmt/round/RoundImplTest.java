@@ -3,6 +3,7 @@ package jvmt.round;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
@@ -148,6 +149,26 @@ class RoundImplTest {
         assertFalse(this.round.hasNext());
     }
 
+    @Test
+    void testReusedTurns() {
+        final Round reusing = new RoundImpl(this.players, new DeckFactoryImpl().standardDeck(), this.effect, true);
+        final Turn first = reusing.next();
+        final Player firstPlayer = first.getCurrentPlayer();
+        first.executeDrawPhase();
+        first.endTurn(Set.of());
+
+        // the same turn object is restarted for the next player
+        final Turn second = reusing.next();
+        assertSame(first, second);
+        assertFalse(second.getDrawnCard().isPresent());
+        assertFalse(firstPlayer.equals(second.getCurrentPlayer()));
+
+        while (reusing.hasNext()) {
+            this.playTurnAndMakePlayerExit(reusing.next());
+        }
+        reusing.endRound();
+    }
+
     /**
      * Plays the specified {@code turn} and makes only the player that
      * has drawn the card exit.
@@ -2,6 +2,8 @@ package jvmt.round;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -85,6 +87,23 @@ class RoundPlayersManagerImplTest {
         assertEquals(evenPlayers, manager.getExitedPlayers());
     }
 
+    @Test
+    void testSnapshotsUpdatedOnlyOnChange() {
+        final List<Player> active = manager.getActivePlayers();
+        final List<Player> exited = manager.getExitedPlayers();
+        assertSame(active, manager.getActivePlayers());
+        assertSame(exited, manager.getExitedPlayers());
+        assertThrows(UnsupportedOperationException.class, () -> active.remove(0));
+
+        this.players.get(0).exit();
+        final List<Player> newActive = manager.getActivePlayers();
+        assertNotSame(active, newActive);
+        assertEquals(this.players.size() - 1, newActive.size());
+        assertEquals(List.of(this.players.get(0)), manager.getExitedPlayers());
+        // the old snapshot doesn't change
+        assertEquals(this.players, active);
+    }
+
     @Test
     void testExitedPlayersAreSkipped() {
         makeEvenPlayersLeave();
@@ -97,6 +116,21 @@ class RoundPlayersManagerImplTest {
         assertEquals(players.get(1), manager.next());
     }
 
+    @Test
+    void testCountsFollowExits() {
+        assertEquals(this.players.size(), manager.getActivePlayersCount());
+        assertEquals(0, manager.getExitedPlayersCount());
+
+        // the last player of the table leaves: the rotation wraps around
+        this.players.getLast().exit();
+        for (int p = 0; p < this.players.size() - 1; p++) {
+            assertEquals(this.players.get(p), manager.next());
+        }
+        assertEquals(this.players.getFirst(), manager.next());
+        assertEquals(this.players.size() - 1, manager.getActivePlayersCount());
+        assertEquals(1, manager.getExitedPlayersCount());
+    }
+
     @Test
     void testNoMorePlayersException() {
         while (manager.hasNext()) {
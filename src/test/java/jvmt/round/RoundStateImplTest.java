@@ -1,10 +1,14 @@
 package jvmt.round;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 
@@ -13,6 +17,7 @@ import org.junit.jupiter.api.Test;
 
 import jvmt.model.card.api.Card;
 import jvmt.model.card.api.Deck;
+import jvmt.model.card.api.TypeTrapCard;
 import jvmt.model.card.impl.DeckFactoryImpl;
 import jvmt.model.card.impl.RelicCard;
 import jvmt.model.card.impl.TrapCard;
@@ -106,6 +111,66 @@ class RoundStateImplTest {
                 this.state::getDrawnTraps);
     }
 
+    @Test
+    void testDrawnCardsCounters() {
+        final Deck deck = this.state.getDeck();
+        final Map<TypeTrapCard, Integer> occurrences = new EnumMap<>(TypeTrapCard.class);
+        int relics = 0;
+        int traps = 0;
+        int treasures = 0;
+        int cards = 0;
+        while (deck.hasNext()) {
+            final Card card = deck.next();
+            this.state.addCardToPath(card);
+            cards++;
+            if (card instanceof RelicCard) {
+                relics++;
+            } else if (card instanceof final TrapCard trap) {
+                traps++;
+                occurrences.merge(trap.getTypeTrap(), 1, Integer::sum);
+            } else if (card instanceof TreasureCard) {
+                treasures++;
+            }
+
+            assertEquals(cards, this.state.getDrawnCardsCount());
+            assertEquals(relics, this.state.getDrawnRelicsCount());
+            assertEquals(relics, this.state.getRedeemableRelicsCount());
+            assertEquals(traps, this.state.getDrawnTrapsCount());
+            assertEquals(treasures, this.state.getDrawnTreasuresCount());
+            for (final TypeTrapCard type : TypeTrapCard.values()) {
+                assertEquals(occurrences.getOrDefault(type, 0), this.state.getTrapOccurrences(type));
+            }
+            assertEquals(occurrences.values().stream().mapToInt(Integer::intValue).max().orElse(0),
+                    this.state.getMaxTrapOccurrences());
+        }
+    }
+
+    @Test
+    void testRedeemableRelicsCount() {
+        final RelicCard first = new RelicCard("Relic 1");
+        final RelicCard second = new RelicCard("Relic 2");
+        this.state.addCardToPath(first);
+        this.state.addCardToPath(second);
+        assertEquals(2, this.state.getRedeemableRelicsCount());
+
+        first.redeemCard();
+        assertEquals(1, this.state.getRedeemableRelicsCount());
+        assertEquals(List.of(second), this.state.getRedeemableRelics());
+        assertEquals(2, this.state.getDrawnRelicsCount());
+
+        // A relic redeemed before being drawn can't be redeemed again
+        this.state.addCardToPath(first);
+        assertEquals(1, this.state.getRedeemableRelicsCount());
+    }
+
+    @Test
+    void testLastRound() {
+        assertFalse(this.state.isLastRound());
+        final RoundState last = new RoundStateImpl(CommonUtils.generatePlayerList(2),
+                new DeckFactoryImpl().standardDeck(), true);
+        assertTrue(last.isLastRound());
+    }
+
     @Test
     void testSetPathGems() {
         final int delta = 100;
@@ -4,12 +4,18 @@ import java.util.ArrayList;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import jvmt.model.card.api.Card;
+import jvmt.model.card.api.CardWithGem;
 import jvmt.model.card.api.Deck;
+import jvmt.model.common.impl.SplittableRandomSource;
 import jvmt.model.card.impl.DeckFactoryImpl;
+import jvmt.model.game.api.GameSettings;
 import jvmt.model.game.impl.GameSettingsImpl;
 import jvmt.model.game.impl.InvalidGameSettingsException;
 import jvmt.model.player.api.CpuDifficulty;
@@ -60,6 +66,25 @@ class GameSettingsTest {
         assertEquals(3, allPlayers.size());
     }
 
+    @Test
+    void deckStatisticsAreComputedOnce() {
+        final GameSettingsImpl settings = new GameSettingsImpl(List.of("Player"),
+                2,
+                this.deck,
+                this.endCondition,
+                this.gemModifier,
+                this.cpuDifficulty,
+                GameSettingsImpl.MIN_ROUNDS);
+        assertEquals(this.deck.getStatistics(), settings.getDeckStatistics());
+        assertSame(settings.getDeckStatistics(), settings.getDeckStatistics());
+
+        // Every round gets a new full deck, while the chosen one is never drawn from
+        final Deck roundDeck = settings.getDeck();
+        assertNotSame(roundDeck, settings.getDeck());
+        assertEquals(this.deck.deckSize(), roundDeck.numberOfRemainingCards());
+        assertEquals(this.deck.deckSize(), this.deck.numberOfRemainingCards());
+    }
+
     // -- Testing exceptions with invalid settings --
 
     @Test
@@ -128,4 +153,37 @@ class GameSettingsTest {
                 + GameSettingsImpl.MAX_ROUNDS
                 + " rounds.", exception.getErrors().get(0));
     }
+
+    // -- Testing reproducibility --
+
+    @Test
+    void sameSeedGivesSameGame() {
+        final long seed = 7L;
+        final GameSettings first = seededSettings(seed);
+        final GameSettings second = seededSettings(seed);
+
+        assertEquals(first.getPlayers(), second.getPlayers());
+        final Deck firstDeck = first.getDeck();
+        final Deck secondDeck = second.getDeck();
+        while (firstDeck.hasNext()) {
+            final Card expected = firstDeck.next();
+            final Card actual = secondDeck.next();
+            assertEquals(expected, actual);
+            if (expected instanceof final CardWithGem withGem) {
+                assertEquals(withGem.getGemValue(), ((CardWithGem) actual).getGemValue());
+            }
+        }
+    }
+
+    private GameSettings seededSettings(final long seed) {
+        final SplittableRandomSource source = new SplittableRandomSource(seed);
+        return new GameSettingsImpl(List.of("Player-1", "Player-2"),
+                2,
+                new DeckFactoryImpl(source.split()).standardDeck(),
+                this.endCondition,
+                this.gemModifier,
+                this.cpuDifficulty,
+                GameSettingsImpl.MIN_ROUNDS,
+                source);
+    }
 }
@@ -0,0 +1,190 @@
+package jvmt.simulation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import jvmt.model.card.api.Card;
+import jvmt.model.card.api.Deck;
+import jvmt.model.card.api.TypeCard;
+import jvmt.model.card.api.TypeTrapCard;
+import jvmt.model.card.impl.CardRegistry;
+import jvmt.model.card.impl.DeckFactoryImpl;
+import jvmt.model.card.impl.DeckImpl;
+import jvmt.model.game.impl.GameSettingsImpl;
+import jvmt.model.player.api.LogicCpu;
+import jvmt.model.player.api.Player;
+import jvmt.model.player.api.PlayerChoice;
+import jvmt.model.player.impl.CfrLogicCpu;
+import jvmt.model.round.api.RoundState;
+import jvmt.model.round.impl.RoundStateImpl;
+import jvmt.model.round.impl.roundeffect.endcondition.EndConditionFactoryImpl;
+import jvmt.model.round.impl.roundeffect.gemmodifier.GemModifierFactoryImpl;
+import jvmt.model.player.api.CpuDifficulty;
+import jvmt.model.simulation.api.CfrStrategy;
+import jvmt.model.simulation.api.CfrTrainer;
+import jvmt.model.simulation.impl.CfrStrategyImpl;
+import jvmt.model.simulation.impl.CfrTrainerImpl;
+import jvmt.utils.CommonUtils;
+
+/**
+ * Tests the {@link CfrTrainer} of the round strategy.
+ * 
+ * @author Emir Wanes Aouioua
+ */
+class CfrTrainerTest {
+
+    private static final long SEED = 11L;
+    private static final int ROUNDS = 20_000;
+    private static final int STANDARD_ROUNDS = 100_000;
+    private static final int PLAYERS = 3;
+    private static final int TREASURE_VALUE = 17;
+    private static final int CHOICES = 100;
+    private static final double SURE = 0.9;
+
+    // A spider is drawn first, then the treasure, then the other spiders
+    private final List<Card> cards = List.of(
+            CardRegistry.trap(TypeTrapCard.SPIDER),
+            CardRegistry.trap(TypeTrapCard.SPIDER),
+            CardRegistry.treasure(TREASURE_VALUE),
+            CardRegistry.trap(TypeTrapCard.SPIDER));
+
+    private RoundState treasureDrawn() {
+        final Deck deck = new DeckImpl(this.cards);
+        final List<Player> players = CommonUtils.generatePlayerList(1);
+        final RoundState state = new RoundStateImpl(players, deck);
+        state.addCardToPath(deck.next());
+        state.addCardToPath(deck.next());
+        players.get(0).addSackGems(TREASURE_VALUE);
+        return state;
+    }
+
+    /*
+     * Alone with the treasure in the sack and only spiders left, staying can
+     * only lose it: the player learns to exit.
+     */
+    @Test
+    void testExitWithTreasure() {
+        final CfrTrainer trainer = new CfrTrainerImpl(new DeckImpl(this.cards), 1, SEED);
+        trainer.train(ROUNDS);
+        assertEquals(ROUNDS, trainer.getIterations());
+        assertTrue(trainer.getStrategy().getExitProbability(this.treasureDrawn()) > SURE);
+    }
+
+    /*
+     * With nothing to bring home after the first trap, exiting is never
+     * better than staying.
+     */
+    @Test
+    void testStayWithNothing() {
+        final List<Card> standard = new ArrayList<>();
+        final Deck deck = new DeckFactoryImpl().standardDeck();
+        while (deck.hasNext()) {
+            standard.add(deck.next());
+        }
+        // The traps go last, so one of them is drawn first
+        standard.sort(Comparator.comparing(card -> card.getType() == TypeCard.TRAP));
+        final CfrTrainer trainer = new CfrTrainerImpl(new DeckImpl(standard), PLAYERS, SEED);
+        trainer.train(STANDARD_ROUNDS);
+
+        final Deck round = new DeckImpl(standard);
+        final RoundState state = new RoundStateImpl(CommonUtils.generatePlayerList(PLAYERS), round);
+        state.addCardToPath(round.next());
+        assertTrue(trainer.getStrategy().getExitProbability(state) < 1 - SURE);
+    }
+
+    /*
+     * The tasks of a batch don't race on the buffers: a seed always gives the
+     * same strategy.
+     */
+    @Test
+    void testSeedReproducible() throws IOException {
+        final Path first = Files.createTempFile("strategy", ".bin");
+        final Path second = Files.createTempFile("strategy", ".bin");
+        try {
+            for (final Path file : List.of(first, second)) {
+                final CfrTrainer trainer = new CfrTrainerImpl(new DeckFactoryImpl().standardDeck(), PLAYERS, SEED);
+                trainer.train(ROUNDS);
+                trainer.getStrategy().writeTo(file);
+            }
+            assertEquals(-1L, Files.mismatch(first, second));
+        } finally {
+            Files.delete(first);
+            Files.delete(second);
+        }
+    }
+
+    @Test
+    void testWriteAndRead() throws IOException {
+        final CfrTrainer trainer = new CfrTrainerImpl(new DeckImpl(this.cards), 1, SEED);
+        trainer.train(ROUNDS);
+        final CfrStrategy strategy = trainer.getStrategy();
+        final Path file = Files.createTempFile("strategy", ".bin");
+        try {
+            strategy.writeTo(file);
+            final CfrStrategy read = CfrStrategyImpl.read(file);
+            final RoundState state = this.treasureDrawn();
+            assertEquals(strategy.getExitProbability(state), read.getExitProbability(state));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    void testCpuPlaysStrategy() {
+        final CfrTrainer trainer = new CfrTrainerImpl(new DeckImpl(this.cards), 1, SEED);
+        trainer.train(ROUNDS);
+        final List<String> names = new ArrayList<>();
+        for (final Player player : CommonUtils.generatePlayerList(PLAYERS)) {
+            names.add(player.getName());
+        }
+        final LogicCpu logicCpu = new CfrLogicCpu(new GameSettingsImpl(names, 0, new DeckImpl(this.cards),
+                new EndConditionFactoryImpl().standard(), new GemModifierFactoryImpl().standard(),
+                CpuDifficulty.HARD, GameSettingsImpl.MIN_ROUNDS), trainer.getStrategy(), (int) SEED);
+        final RoundState state = this.treasureDrawn();
+        int exits = 0;
+        for (int i = 0; i < CHOICES; i++) {
+            if (logicCpu.cpuChoice(state) == PlayerChoice.EXIT) {
+                exits++;
+            }
+        }
+        assertTrue(exits > CHOICES * SURE);
+    }
+
+    /*
+     * The strategy shipped with the game is played only under the standard
+     * rules.
+     */
+    @Test
+    void testStandardStrategy() {
+        assertTrue(CfrStrategyImpl.standard().isPresent());
+        final List<String> names = new ArrayList<>();
+        for (final Player player : CommonUtils.generatePlayerList(PLAYERS)) {
+            names.add(player.getName());
+        }
+        final Deck deck = new DeckFactoryImpl().standardDeck();
+        assertTrue(new CfrLogicCpu(new GameSettingsImpl(names, 0, deck,
+                new EndConditionFactoryImpl().standard(), new GemModifierFactoryImpl().standard(),
+                CpuDifficulty.STRATEGIC, GameSettingsImpl.MIN_ROUNDS), (int) SEED).hasStrategy());
+        assertFalse(new CfrLogicCpu(new GameSettingsImpl(names, 0, deck,
+                new EndConditionFactoryImpl().firstTrapEnds(), new GemModifierFactoryImpl().standard(),
+                CpuDifficulty.STRATEGIC, GameSettingsImpl.MIN_ROUNDS), (int) SEED).hasStrategy());
+    }
+
+    @Test
+    void testInvalidArguments() {
+        final Deck deck = new DeckImpl(this.cards);
+        assertThrows(IllegalArgumentException.class, () -> new CfrTrainerImpl(deck, 0));
+        assertThrows(IllegalArgumentException.class, () -> new CfrTrainerImpl(deck, 1).train(-1));
+    }
+}
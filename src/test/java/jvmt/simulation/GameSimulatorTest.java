@@ -0,0 +1,138 @@
+package jvmt.simulation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+import jvmt.model.card.impl.DeckFactoryImpl;
+import jvmt.model.common.api.RandomSource;
+import jvmt.model.game.api.GameSettings;
+import jvmt.model.game.impl.GameSettingsImpl;
+import jvmt.model.player.api.CpuDifficulty;
+import jvmt.model.round.impl.roundeffect.endcondition.EndConditionFactoryImpl;
+import jvmt.model.round.impl.roundeffect.gemmodifier.GemModifierFactoryImpl;
+import jvmt.model.simulation.api.GameRecord;
+import jvmt.model.simulation.api.GameSimulator;
+import jvmt.model.simulation.impl.GameSimulatorImpl;
+
+/**
+ * Tests the headless {@link GameSimulator}.
+ * 
+ * @author Emir Wanes Aouioua
+ */
+class GameSimulatorTest {
+
+    private static final int GAMES = 200;
+    private static final int BATCH_SIZE = 16;
+    private static final int PARALLELISM = 4;
+    private static final int CPUS = 5;
+    private static final int ROUNDS = 5;
+    private static final long SEED = 2024L;
+
+    private GameSettings cpuOnlySettings() {
+        return new GameSettingsImpl(List.of(), CPUS,
+                new DeckFactoryImpl().standardDeck(),
+                new EndConditionFactoryImpl().standard(),
+                new GemModifierFactoryImpl().standard(),
+                CpuDifficulty.NORMAL,
+                ROUNDS);
+    }
+
+    private GameSettings seededSettings(final RandomSource source) {
+        return new GameSettingsImpl(List.of(), CPUS,
+                new DeckFactoryImpl(source.split()).standardDeck(),
+                new EndConditionFactoryImpl().standard(),
+                new GemModifierFactoryImpl().standard(),
+                CpuDifficulty.HARD,
+                ROUNDS,
+                source);
+    }
+
+    private List<GameRecord> playSorted(final GameSimulator simulator) {
+        try (Stream<GameRecord> stream = simulator.simulate(GAMES)) {
+            return stream.sorted(Comparator.comparingLong(GameRecord::gameIndex)).toList();
+        }
+    }
+
+    @Test
+    void testEveryGameIsPlayed() {
+        final GameSimulator simulator = new GameSimulatorImpl(this::cpuOnlySettings, BATCH_SIZE, PARALLELISM);
+        final List<GameRecord> records;
+        try (Stream<GameRecord> stream = simulator.simulate(GAMES)) {
+            records = stream.toList();
+        }
+        assertEquals(GAMES, records.size());
+
+        final Set<Long> indexes = records.stream()
+                .map(GameRecord::gameIndex)
+                .collect(Collectors.toSet());
+        assertEquals(LongStream.range(0, GAMES).boxed().collect(Collectors.toSet()), indexes);
+
+        for (final GameRecord record : records) {
+            assertEquals(CPUS, record.playerNames().size());
+            assertEquals(ROUNDS, record.rounds());
+            assertTrue(record.turns() >= ROUNDS);
+            assertEquals(record.playerNames().get(0), record.winner());
+            // The chests are sorted from the richest to the poorest
+            for (int i = 1; i < record.chestGems().size(); i++) {
+                assertTrue(record.chestGems().get(i - 1) >= record.chestGems().get(i));
+            }
+        }
+    }
+
+    @Test
+    void testSameSeedSameGames() {
+        final List<GameRecord> first = playSorted(
+                new GameSimulatorImpl(this::seededSettings, SEED, BATCH_SIZE, PARALLELISM));
+        // Batching and parallelism don't change the games
+        final List<GameRecord> second = playSorted(
+                new GameSimulatorImpl(this::seededSettings, SEED, 1, 1));
+        assertEquals(first, second);
+    }
+
+    @Test
+    void testPartialConsumption() {
+        final GameSimulator simulator = new GameSimulatorImpl(this::cpuOnlySettings, 1, PARALLELISM);
+        try (Stream<GameRecord> stream = simulator.simulate(Long.MAX_VALUE)) {
+            assertEquals(BATCH_SIZE, stream.limit(BATCH_SIZE).count());
+        }
+    }
+
+    @Test
+    void testZeroGames() {
+        assertEquals(0, new GameSimulatorImpl(this::cpuOnlySettings).simulate(0).count());
+    }
+
+    @Test
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new GameSimulatorImpl(this::cpuOnlySettings, 0, PARALLELISM));
+        assertThrows(IllegalArgumentException.class,
+                () -> new GameSimulatorImpl(this::cpuOnlySettings, BATCH_SIZE, 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> new GameSimulatorImpl(this::cpuOnlySettings).simulate(-1));
+    }
+
+    @Test
+    void testRealPlayersAreRejected() {
+        final GameSimulator simulator = new GameSimulatorImpl(() -> new GameSettingsImpl(
+                List.of("Alice"), CPUS,
+                new DeckFactoryImpl().standardDeck(),
+                new EndConditionFactoryImpl().standard(),
+                new GemModifierFactoryImpl().standard(),
+                CpuDifficulty.EASY,
+                ROUNDS));
+        try (Stream<GameRecord> stream = simulator.simulate(1)) {
+            assertThrows(IllegalStateException.class, stream::count);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package jvmt.simulation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import jvmt.model.card.api.Card;
+import jvmt.model.card.api.Deck;
+import jvmt.model.card.api.TypeCard;
+import jvmt.model.card.api.TypeTrapCard;
+import jvmt.model.card.impl.CardCodes;
+import jvmt.model.card.impl.CardRegistry;
+import jvmt.model.card.impl.DeckImpl;
+import jvmt.model.player.api.PlayerChoice;
+import jvmt.model.round.api.RoundState;
+import jvmt.model.round.impl.RoundStateImpl;
+import jvmt.model.simulation.api.PolicySolver;
+import jvmt.model.simulation.api.PolicyTable;
+import jvmt.model.simulation.impl.PolicySolverImpl;
+import jvmt.utils.CommonUtils;
+
+/**
+ * Tests the offline {@link PolicySolver}.
+ * 
+ * @author Emir Wanes Aouioua
+ */
+class PolicySolverTest {
+
+    private static final int TREASURE_VALUE = 5;
+    private static final double DELTA = 1e-9;
+    // header of ints, round value, number of states
+    private static final int HEADER_BYTES = Integer.BYTES * (4 + CardCodes.COUNT) + Double.BYTES + Integer.BYTES;
+    private static final int RECORD_BYTES = Long.BYTES + 2 * Double.BYTES;
+
+    private final List<Card> cards = List.of(
+            CardRegistry.trap(TypeTrapCard.SPIDER),
+            CardRegistry.trap(TypeTrapCard.SPIDER),
+            CardRegistry.treasure(TREASURE_VALUE));
+
+    /*
+     * With two spiders and a treasure, a player alone exits once the
+     * treasure is drawn, and stays after the first spider hoping for it:
+     * the round is worth 2/3 of 2.5 gems plus 1/3 of 5 gems.
+     */
+    @Test
+    void testSmallDeck() {
+        final PolicyTable table = new PolicySolverImpl(new DeckImpl(this.cards)).solve(1);
+        assertEquals(10 / 3.0, table.getRoundValue(), DELTA);
+        // spider and treasure left, two spiders left, one spider left
+        assertEquals(3, table.size());
+
+        final Deck deck = new DeckImpl(this.cards);
+        final RoundState state = new RoundStateImpl(CommonUtils.generatePlayerList(1), deck);
+        final Card first = deck.next();
+        state.addCardToPath(first);
+        final long encoded = table.encode(state);
+        if (first.getType() == TypeCard.TRAP) {
+            assertEquals(PlayerChoice.STAY, table.getChoice(encoded));
+            assertEquals(TREASURE_VALUE / 2.0, table.getStayValue(encoded), DELTA);
+        } else {
+            assertEquals(PlayerChoice.EXIT, table.getChoice(encoded));
+            assertEquals(TREASURE_VALUE, table.getExitValue(encoded), DELTA);
+        }
+    }
+
+    @Test
+    void testWriteTo() throws IOException {
+        final PolicyTable table = new PolicySolverImpl(new DeckImpl(this.cards)).solve(2);
+        final Path file = Files.createTempFile("policy", ".bin");
+        try {
+            table.writeTo(file);
+            assertEquals(HEADER_BYTES + table.size() * RECORD_BYTES, Files.size(file));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    void testInvalidPlayers() {
+        final PolicySolver solver = new PolicySolverImpl(new DeckImpl(this.cards));
+        assertThrows(IllegalArgumentException.class, () -> solver.solve(0));
+    }
+}
@@ -0,0 +1,112 @@
+package jvmt.simulation;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+
+import jvmt.model.card.api.Deck;
+import jvmt.model.card.impl.DeckFactoryImpl;
+import jvmt.model.common.api.RandomSource;
+import jvmt.model.player.api.CpuFeatures;
+import jvmt.model.player.api.PlayerChoice;
+import jvmt.model.simulation.api.QLearningTrainer;
+import jvmt.model.simulation.api.QTable;
+import jvmt.model.simulation.api.TrainingProgress;
+import jvmt.model.simulation.impl.QLearningTrainerImpl;
+import jvmt.model.simulation.impl.QTableImpl;
+
+/**
+ * Tests the {@link QLearningTrainer} of the learned CPU.
+ * 
+ * @author Emir Wanes Aouioua
+ */
+class QLearningTrainerTest {
+
+    private static final long SEED = 3L;
+    private static final int PARALLELISM = 2;
+    private static final int EPOCHS = 2;
+    private static final long EPISODES = (long) QLearningTrainerImpl.EPISODES_PER_EPOCH * PARALLELISM * EPOCHS;
+
+    private final Function<RandomSource, Deck> deckFactory = source -> new DeckFactoryImpl(source.split())
+            .standardDeck();
+
+    private QLearningTrainer trainer() {
+        return new QLearningTrainerImpl(this.deckFactory, SEED, PARALLELISM);
+    }
+
+    private static byte[] bytesOf(final QTable table) throws IOException {
+        final Path file = Files.createTempFile("qtable", ".bin");
+        try {
+            table.writeTo(file);
+            return Files.readAllBytes(file);
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    void testProgressIsReported() {
+        final QLearningTrainer trainer = this.trainer();
+        final List<TrainingProgress> reports = new ArrayList<>();
+        trainer.train(EPISODES, reports::add);
+        assertEquals(EPISODES, trainer.getEpisodes());
+        assertEquals(EPOCHS, reports.size());
+        assertEquals(EPISODES, reports.get(EPOCHS - 1).episodes());
+        assertTrue(reports.get(EPOCHS - 1).episodesPerSecond() > 0);
+    }
+
+    /*
+     * The workers learn on their own tables, so a seed always gives the same
+     * table.
+     */
+    @Test
+    void testSameSeedSameTable() throws IOException {
+        final QLearningTrainer first = this.trainer();
+        final QLearningTrainer second = this.trainer();
+        first.train(EPISODES, p -> { });
+        second.train(EPISODES, p -> { });
+        assertArrayEquals(bytesOf(first.getTable()), bytesOf(second.getTable()));
+    }
+
+    /*
+     * At the start of a round, with nothing in the sacks and no traps drawn,
+     * the players learn that staying is worth more than exiting.
+     */
+    @Test
+    void testStayWithEmptySack() throws IOException {
+        final QLearningTrainer trainer = this.trainer();
+        trainer.train(EPISODES, p -> { });
+        final CpuFeatures start = new CpuFeatures(0, 0, 0, 0, 1, 0);
+        final QTable table = trainer.getTable();
+        assertTrue(table.getValue(start, 0, PlayerChoice.STAY) > table.getValue(start, 0, PlayerChoice.EXIT));
+
+        final Path file = Files.createTempFile("qtable", ".bin");
+        try {
+            table.writeTo(file);
+            assertEquals(table.getBestChoice(start, 0), QTableImpl.read(file).getBestChoice(start, 0));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    void testStandardTableIsShipped() {
+        assertTrue(QTableImpl.standard().isPresent());
+    }
+
+    @Test
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new QLearningTrainerImpl(this.deckFactory, SEED, 0));
+        assertThrows(IllegalArgumentException.class, () -> this.trainer().train(-1, p -> { }));
+    }
+}
@@ -0,0 +1,115 @@
+package jvmt.simulation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Properties;
+
+import org.junit.jupiter.api.Test;
+
+import jvmt.model.player.api.CpuDifficulty;
+import jvmt.model.player.api.CpuDifficultyVariables;
+import jvmt.model.player.impl.LogicCpuImpl;
+import jvmt.model.simulation.api.WeightTuner;
+import jvmt.model.simulation.impl.WeightTunerImpl;
+
+/**
+ * Tests the {@link WeightTuner} of the CPU weights.
+ * 
+ * @author Emir Wanes Aouioua
+ */
+class WeightTunerTest {
+
+    private static final long SEED = 7L;
+    private static final int PLAYERS = 3;
+    private static final int GAMES = 30;
+    private static final int CANDIDATES = 2;
+    private static final int GENERATIONS = 2;
+
+    private WeightTuner tuner(final Path checkpoint) {
+        return new WeightTunerImpl(CpuDifficulty.NORMAL, checkpoint, SEED, PLAYERS, GAMES, CANDIDATES);
+    }
+
+    private static Path missingFile() throws IOException {
+        final Path file = Files.createTempFile("tuner", ".checkpoint");
+        Files.delete(file);
+        return file;
+    }
+
+    /*
+     * A search stopped after the first generation and resumed from its
+     * checkpoint finds the same weights as a search that never stopped.
+     */
+    @Test
+    void testResumeFromCheckpoint() throws IOException {
+        final Path stopped = missingFile();
+        final Path straight = missingFile();
+        try {
+            this.tuner(stopped).tune(1);
+            final WeightTuner resumed = this.tuner(stopped);
+            final CpuDifficultyVariables resumedBest = resumed.tune(GENERATIONS);
+            assertEquals(GENERATIONS, resumed.getGeneration());
+
+            final WeightTuner uninterrupted = this.tuner(straight);
+            assertEquals(uninterrupted.tune(GENERATIONS), resumedBest);
+            assertEquals(uninterrupted.getBestWinRate(), resumed.getBestWinRate());
+        } finally {
+            Files.deleteIfExists(stopped);
+            Files.deleteIfExists(straight);
+        }
+    }
+
+    @Test
+    void testEvaluateIsReproducible() throws IOException {
+        final WeightTuner tuner = this.tuner(missingFile());
+        final CpuDifficultyVariables hard = LogicCpuImpl.getDifficultyVariables(CpuDifficulty.HARD);
+        final double rate = tuner.evaluate(hard, SEED);
+        assertTrue(rate >= 0 && rate <= 1);
+        assertEquals(rate, tuner.evaluate(hard, SEED));
+    }
+
+    @Test
+    void testCheckpointOfAnotherSearch() throws IOException {
+        final Path checkpoint = missingFile();
+        try {
+            this.tuner(checkpoint).tune(1);
+            final WeightTuner other = new WeightTunerImpl(CpuDifficulty.HARD, checkpoint, SEED,
+                    PLAYERS, GAMES, CANDIDATES);
+            assertThrows(IOException.class, () -> other.tune(GENERATIONS));
+        } finally {
+            Files.deleteIfExists(checkpoint);
+        }
+    }
+
+    @Test
+    void testWritePresets() throws IOException {
+        final Path file = Files.createTempFile("presets", ".properties");
+        try {
+            final CpuDifficultyVariables hard = LogicCpuImpl.getDifficultyVariables(CpuDifficulty.HARD);
+            WeightTunerImpl.writePresets(file, Map.of(CpuDifficulty.HARD, hard));
+            final Properties presets = new Properties();
+            try (Reader reader = Files.newBufferedReader(file)) {
+                presets.load(reader);
+            }
+            assertEquals(hard.weightTraps(), Double.parseDouble(presets.getProperty("HARD.weightTraps")));
+            assertEquals(hard.maxBl(), Double.parseDouble(presets.getProperty("HARD.maxBl")));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    void testInvalidArguments() {
+        final Path checkpoint = Path.of("unused.checkpoint");
+        assertThrows(IllegalArgumentException.class,
+                () -> new WeightTunerImpl(CpuDifficulty.HARD, checkpoint, SEED, 2, GAMES, CANDIDATES));
+        assertThrows(IllegalArgumentException.class,
+                () -> new WeightTunerImpl(CpuDifficulty.HARD, checkpoint, SEED, PLAYERS, 0, CANDIDATES));
+    }
+}